@@ -0,0 +1,81 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+import teammates.storage.entity.FeedbackSession;
+
+/**
+ * Script to move the respondents embedded in feedback sessions into the sharded respondent store.
+ *
+ * <p>The embedded respondent sets are cleared after they are copied.</p>
+ */
+public class DataMigrationForFeedbackSessionRespondents extends DataMigrationEntitiesBaseScript<FeedbackSession> {
+
+    private final FeedbackSessionRespondentsDb fsrDb = new FeedbackSessionRespondentsDb();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackSessionRespondents().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackSession> getFilterQuery() {
+        return ofy().load().type(FeedbackSession.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected String getLastPositionOfCursor() {
+        return "";
+    }
+
+    @Override
+    protected int getCursorInformationPrintCycle() {
+        return 100;
+    }
+
+    @Override
+    protected boolean shouldUseTransaction() {
+        // the respondent shards are in different entity groups from the session
+        return false;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(Key<FeedbackSession> entity) {
+        FeedbackSession session = ofy().load().key(entity).now();
+        return !isNullOrEmpty(session.getRespondingStudentList())
+                || !isNullOrEmpty(session.getRespondingInstructorList());
+    }
+
+    @Override
+    protected void migrateEntity(Key<FeedbackSession> entity) {
+        FeedbackSession session = ofy().load().key(entity).now();
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        // one transaction per shard of the session rather than one per respondent
+        if (session.getRespondingStudentList() != null) {
+            fsrDb.addStudentRespondents(session.getRespondingStudentList(), feedbackSessionName, courseId);
+        }
+        if (session.getRespondingInstructorList() != null) {
+            fsrDb.addInstructorRespondents(session.getRespondingInstructorList(), feedbackSessionName, courseId);
+        }
+
+        session.setRespondingStudentList(new HashSet<>());
+        session.setRespondingInstructorList(new HashSet<>());
+        ofy().save().entity(session).now();
+    }
+
+    private boolean isNullOrEmpty(Set<String> respondents) {
+        return respondents == null || respondents.isEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.Config;
+import teammates.common.util.Pseudonymizer;
+import teammates.common.util.StringHelper;
+
+/**
+ * Benchmarks the derivation of anonymous names for the hidden givers and recipients of the responses
+ * of an anonymous peer review session, where every participant appears in many responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnonymousNameBenchmark {
+
+    @Param({"100", "1000"})
+    private int numberOfParticipants;
+
+    @Param("20")
+    private int responsesPerParticipant;
+
+    /** The name of the hidden participant of every response, in the order the responses are processed. */
+    private List<String> hiddenParticipantNames;
+
+    @Setup(Level.Trial)
+    public void setUpNames() {
+        hiddenParticipantNames = new ArrayList<>();
+        for (int i = 0; i < responsesPerParticipant; i++) {
+            for (int j = 0; j < numberOfParticipants; j++) {
+                hiddenParticipantNames.add("Student " + j);
+            }
+        }
+    }
+
+    /**
+     * Derives every pseudonym as it was derived before ciphers were cached, with a new cipher for every name.
+     */
+    @Benchmark
+    public List<String> encryptionWithNewCipher() throws Exception {
+        List<String> pseudonyms = new ArrayList<>(hiddenParticipantNames.size());
+        for (String name : hiddenParticipantNames) {
+            SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
+            String encryptedName = StringHelper.byteArrayToHexString(cipher.doFinal(name.getBytes()));
+            pseudonyms.add(Long.toString(Math.abs((long) encryptedName.hashCode())));
+        }
+        return pseudonyms;
+    }
+
+    @Benchmark
+    public List<String> encryptionWithCachedCipher() {
+        return derivePseudonymsWithoutMemoization(Pseudonymizer.Mode.ENCRYPTION);
+    }
+
+    @Benchmark
+    public List<String> hmacWithCachedMac() {
+        return derivePseudonymsWithoutMemoization(Pseudonymizer.Mode.HMAC);
+    }
+
+    @Benchmark
+    public List<String> encryptionMemoized() {
+        return derivePseudonymsWithMemoization(Pseudonymizer.Mode.ENCRYPTION);
+    }
+
+    @Benchmark
+    public List<String> hmacMemoized() {
+        return derivePseudonymsWithMemoization(Pseudonymizer.Mode.HMAC);
+    }
+
+    private List<String> derivePseudonymsWithoutMemoization(Pseudonymizer.Mode mode) {
+        List<String> pseudonyms = new ArrayList<>(hiddenParticipantNames.size());
+        for (String name : hiddenParticipantNames) {
+            pseudonyms.add(new Pseudonymizer(mode).getPseudonym(name));
+        }
+        return pseudonyms;
+    }
+
+    private List<String> derivePseudonymsWithMemoization(Pseudonymizer.Mode mode) {
+        // one pseudonymizer per results bundle
+        Pseudonymizer pseudonymizer = new Pseudonymizer(mode);
+        List<String> pseudonyms = new ArrayList<>(hiddenParticipantNames.size());
+        for (String name : hiddenParticipantNames) {
+            pseudonyms.add(pseudonymizer.getPseudonym(name));
+        }
+        return pseudonyms;
+    }
+
+}
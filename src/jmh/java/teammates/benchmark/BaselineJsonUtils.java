@@ -0,0 +1,124 @@
+package teammates.benchmark;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+
+/**
+ * The JSON conversion done by {@link teammates.common.util.JsonUtils} before it shared its {@link Gson} instances,
+ * kept as the baseline the current {@link teammates.common.util.JsonUtils} is benchmarked against.
+ *
+ * <p>A new pretty-printing {@link Gson} is built for every call, with synchronized tree-based adapters,
+ * and response details are converted through a {@link com.google.gson.JsonObject} to find their question type.
+ */
+final class BaselineJsonUtils {
+
+    private BaselineJsonUtils() {
+        // utility class
+    }
+
+    private static Gson getTeammatesGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(Instant.class, new InstantAdapter())
+                .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter())
+                .registerTypeAdapter(Duration.class, new DurationMinutesAdapter())
+                .registerTypeAdapter(FeedbackResponseDetails.class, new FeedbackResponseDetailsAdapter())
+                .setPrettyPrinting()
+                .disableHtmlEscaping()
+                .create();
+    }
+
+    static String toJson(Object src) {
+        return getTeammatesGson().toJson(src);
+    }
+
+    static String toJson(Object src, Type typeOfSrc) {
+        return getTeammatesGson().toJson(src, typeOfSrc);
+    }
+
+    static <T> T fromJson(String json, Type typeOfT) {
+        return getTeammatesGson().fromJson(json, typeOfT);
+    }
+
+    private static class InstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+
+        @Override
+        public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
+            synchronized (this) {
+                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
+            }
+        }
+
+        @Override
+        public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+            synchronized (this) {
+                return Instant.parse(element.getAsString());
+            }
+        }
+    }
+
+    private static class ZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
+
+        @Override
+        public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
+            synchronized (this) {
+                return new JsonPrimitive(zoneId.getId());
+            }
+        }
+
+        @Override
+        public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+            synchronized (this) {
+                return ZoneId.of(element.getAsString());
+            }
+        }
+    }
+
+    private static class DurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
+
+        @Override
+        public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
+            synchronized (this) {
+                return new JsonPrimitive(duration.toMinutes());
+            }
+        }
+
+        @Override
+        public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+            synchronized (this) {
+                return Duration.ofMinutes(element.getAsLong());
+            }
+        }
+    }
+
+    private static class FeedbackResponseDetailsAdapter
+            implements JsonSerializer<FeedbackResponseDetails>, JsonDeserializer<FeedbackResponseDetails> {
+
+        @Override
+        public JsonElement serialize(FeedbackResponseDetails src, Type typeOfSrc, JsonSerializationContext context) {
+            return context.serialize(src, src.questionType.getResponseDetailsClass());
+        }
+
+        @Override
+        public FeedbackResponseDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
+            FeedbackQuestionType questionType =
+                    FeedbackQuestionType.valueOf(json.getAsJsonObject().get("questionType").getAsString());
+            return context.deserialize(json, questionType.getResponseDetailsClass());
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Generates synthetic {@link DataBundle}s of configurable size for the benchmarks.
+ *
+ * <p>The generated course has one instructor and one published session containing a question of every
+ * {@link FeedbackQuestionType}. Every student answers every question for all of its recipients.
+ */
+public final class BenchmarkDataBundleGenerator {
+
+    /** ID of the generated course. */
+    public static final String COURSE_ID = "BENCH.course";
+
+    /** Name of the generated feedback session. */
+    public static final String FEEDBACK_SESSION_NAME = "Benchmark Session";
+
+    /** Email of the instructor of the generated course, who can view all responses. */
+    public static final String INSTRUCTOR_EMAIL = "instructor@bench.tmt";
+
+    private BenchmarkDataBundleGenerator() {
+        // utility class
+    }
+
+    /**
+     * Gets the name of the section with the given (1-based) index.
+     */
+    public static String getSectionName(int sectionIndex) {
+        return "Section " + sectionIndex;
+    }
+
+    /**
+     * Generates a data bundle with {@code numberOfSections * teamsPerSection * studentsPerTeam} students.
+     */
+    public static DataBundle generate(int numberOfSections, int teamsPerSection, int studentsPerTeam) {
+        DataBundle dataBundle = new DataBundle();
+
+        dataBundle.courses.put("course", CourseAttributes.builder(COURSE_ID, "Benchmark Course", Const.DEFAULT_TIME_ZONE)
+                .build());
+        dataBundle.instructors.put("instructor", InstructorAttributes
+                .builder("BENCH.instructor", COURSE_ID, "Instructor", INSTRUCTOR_EMAIL)
+                .build());
+        dataBundle.feedbackSessions.put("session", FeedbackSessionAttributes
+                .builder(FEEDBACK_SESSION_NAME, COURSE_ID, INSTRUCTOR_EMAIL)
+                .withCreatedTime(TimeHelper.getInstantDaysOffsetFromNow(-4))
+                .withSessionVisibleFromTime(TimeHelper.getInstantDaysOffsetFromNow(-3))
+                .withStartTime(TimeHelper.getInstantDaysOffsetFromNow(-2))
+                .withEndTime(TimeHelper.getInstantDaysOffsetFromNow(2))
+                .withResultsVisibleFromTime(TimeHelper.getInstantDaysOffsetFromNow(-1))
+                .build());
+
+        List<List<StudentAttributes>> teams = new ArrayList<>();
+        for (int section = 1; section <= numberOfSections; section++) {
+            for (int team = 1; team <= teamsPerSection; team++) {
+                List<StudentAttributes> members = new ArrayList<>();
+                for (int member = 1; member <= studentsPerTeam; member++) {
+                    String id = section + "." + team + "." + member;
+                    StudentAttributes student = StudentAttributes
+                            .builder(COURSE_ID, "Student " + id, "student" + id + "@bench.tmt")
+                            .withGoogleId("BENCH.student" + id)
+                            .withSection(getSectionName(section))
+                            .withTeam("Team " + section + "." + team)
+                            .withComments("")
+                            .build();
+                    dataBundle.students.put("student" + id, student);
+                    members.add(student);
+                }
+                teams.add(members);
+            }
+        }
+
+        FeedbackQuestionType[] questionTypes = FeedbackQuestionType.values();
+        for (int i = 0; i < questionTypes.length; i++) {
+            FeedbackQuestionAttributes question = makeQuestion(i + 1, questionTypes[i]);
+            dataBundle.feedbackQuestions.put("question" + question.questionNumber, question);
+
+            for (List<StudentAttributes> members : teams) {
+                for (StudentAttributes giver : members) {
+                    for (StudentAttributes recipient : getRecipients(question.recipientType, giver, members)) {
+                        FeedbackResponseAttributes response = new FeedbackResponseAttributes(
+                                FEEDBACK_SESSION_NAME, COURSE_ID, String.valueOf(question.questionNumber),
+                                giver.email, giver.section, recipient.email, recipient.section,
+                                makeResponseDetails(question.questionType, dataBundle.feedbackResponses.size()));
+                        dataBundle.feedbackResponses.put("response" + dataBundle.feedbackResponses.size(), response);
+                    }
+                }
+            }
+        }
+
+        return dataBundle;
+    }
+
+    private static FeedbackQuestionAttributes makeQuestion(int questionNumber, FeedbackQuestionType questionType) {
+        return FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName(FEEDBACK_SESSION_NAME)
+                .withCourseId(COURSE_ID)
+                .withQuestionNumber(questionNumber)
+                .withQuestionType(questionType)
+                .withQuestionMetaData(getQuestionMetaData(questionType))
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(getRecipientType(questionType))
+                .withNumOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withShowResponseTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.RECEIVER))
+                .withShowGiverNameTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS))
+                .withShowRecipientNameTo(Arrays.asList(FeedbackParticipantType.INSTRUCTORS,
+                        FeedbackParticipantType.RECEIVER))
+                .build();
+    }
+
+    private static FeedbackParticipantType getRecipientType(FeedbackQuestionType questionType) {
+        switch (questionType) {
+        case TEXT:
+        case RANK_RECIPIENTS:
+            return FeedbackParticipantType.OWN_TEAM_MEMBERS;
+        case CONTRIB:
+        case RUBRIC:
+            return FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
+        default:
+            return FeedbackParticipantType.SELF;
+        }
+    }
+
+    private static List<StudentAttributes> getRecipients(FeedbackParticipantType recipientType, StudentAttributes giver,
+                                                         List<StudentAttributes> teamMembers) {
+        switch (recipientType) {
+        case OWN_TEAM_MEMBERS:
+            List<StudentAttributes> teammates = new ArrayList<>(teamMembers);
+            teammates.remove(giver);
+            return teammates;
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return teamMembers;
+        default:
+            return Collections.singletonList(giver);
+        }
+    }
+
+    private static String getQuestionMetaData(FeedbackQuestionType questionType) {
+        switch (questionType) {
+        case TEXT:
+            return "{\"questionText\":\"What went well?\",\"questionType\":\"TEXT\",\"recommendedLength\":100}";
+        case MCQ:
+            return "{\"numOfMcqChoices\":3,\"mcqChoices\":[\"Good\",\"Average\",\"Poor\"],\"otherEnabled\":false,"
+                    + "\"generateOptionsFor\":\"NONE\",\"questionType\":\"MCQ\",\"questionText\":\"Rate the product.\"}";
+        case MSQ:
+            return "{\"msqChoices\":[\"Grades\",\"Fun\",\"Skills\"],\"otherEnabled\":false,"
+                    + "\"questionType\":\"MSQ\",\"questionText\":\"Why did you take this course?\"}";
+        case NUMSCALE:
+            return "{\"minScale\":1,\"maxScale\":5,\"step\":0.5,"
+                    + "\"questionType\":\"NUMSCALE\",\"questionText\":\"Rate the course.\"}";
+        case CONSTSUM:
+            return "{\"distributeToRecipients\":false,\"pointsPerOption\":false,\"points\":100,"
+                    + "\"numOfConstSumOptions\":2,\"constSumOptions\":[\"Lectures\",\"Tutorials\"],"
+                    + "\"questionType\":\"CONSTSUM\",\"questionText\":\"Distribute points to the activities.\"}";
+        case CONTRIB:
+            return "{\"questionType\":\"CONTRIB\",\"questionText\":\"How much has each team member contributed?\"}";
+        case RUBRIC:
+            return "{\"numOfRubricChoices\":2,\"rubricChoices\":[\"Yes\",\"No\"],"
+                    + "\"numOfRubricSubQuestions\":2,\"rubricSubQuestions\":[\"Was punctual.\",\"Was helpful.\"],"
+                    + "\"rubricDescriptions\":[[\"\",\"\"],[\"\",\"\"]],\"hasAssignedWeights\":false,"
+                    + "\"rubricWeightsForEachCell\":[],\"questionType\":\"RUBRIC\",\"questionText\":\"Rate your peers.\"}";
+        case RANK_OPTIONS:
+            return "{\"areDuplicatesAllowed\":false,\"options\":[\"Quality\",\"Timeliness\",\"Teamwork\"],"
+                    + "\"questionType\":\"RANK_OPTIONS\",\"questionText\":\"Rank the areas of improvement.\"}";
+        case RANK_RECIPIENTS:
+            return "{\"areDuplicatesAllowed\":true,"
+                    + "\"questionType\":\"RANK_RECIPIENTS\",\"questionText\":\"Rank your teammates.\"}";
+        default:
+            throw new IllegalArgumentException("Unknown question type: " + questionType);
+        }
+    }
+
+    private static FeedbackResponseDetails makeResponseDetails(FeedbackQuestionType questionType, int seed) {
+        String json;
+        switch (questionType) {
+        case TEXT:
+            json = "{\"answer\":\"Response number " + seed + ".\",\"questionType\":\"TEXT\"}";
+            break;
+        case MCQ:
+            json = "{\"answer\":\"" + (seed % 2 == 0 ? "Good" : "Average") + "\",\"otherFieldContent\":\"\","
+                    + "\"questionType\":\"MCQ\"}";
+            break;
+        case MSQ:
+            json = "{\"answers\":[\"Grades\"" + (seed % 2 == 0 ? ",\"Fun\"" : "") + "],\"isOther\":false,"
+                    + "\"otherFieldContent\":\"\",\"questionType\":\"MSQ\"}";
+            break;
+        case NUMSCALE:
+            json = "{\"answer\":" + (1 + seed % 9 * 0.5) + ",\"questionType\":\"NUMSCALE\"}";
+            break;
+        case CONSTSUM:
+            json = "{\"answers\":[" + seed % 101 + "," + (100 - seed % 101) + "],\"questionType\":\"CONSTSUM\"}";
+            break;
+        case CONTRIB:
+            json = "{\"answer\":" + (80 + seed % 5 * 10) + ",\"questionType\":\"CONTRIB\"}";
+            break;
+        case RUBRIC:
+            json = "{\"answer\":[" + seed % 2 + "," + (seed + 1) % 2 + "],\"questionType\":\"RUBRIC\"}";
+            break;
+        case RANK_OPTIONS:
+            json = "{\"answers\":[" + (seed % 3 + 1) + "," + ((seed + 1) % 3 + 1) + "," + ((seed + 2) % 3 + 1) + "],"
+                    + "\"questionType\":\"RANK_OPTIONS\"}";
+            break;
+        case RANK_RECIPIENTS:
+            json = "{\"answer\":" + (seed % 3 + 1) + ",\"questionType\":\"RANK_RECIPIENTS\"}";
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown question type: " + questionType);
+        }
+        return JsonUtils.fromJson(json, FeedbackResponseDetails.class);
+    }
+
+}
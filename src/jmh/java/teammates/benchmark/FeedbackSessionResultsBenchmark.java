@@ -0,0 +1,157 @@
+package teammates.benchmark;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.apphosting.api.ApiProxy;
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.util.Closeable;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.SectionDetail;
+import teammates.logic.api.Logic;
+import teammates.storage.api.OfyHelper;
+import teammates.test.driver.GaeSimulation;
+
+/**
+ * Benchmarks the generation of the results of a feedback session of varying size.
+ *
+ * <p>The session is persisted once per trial into the local GAE datastore. The in-memory benchmarks then
+ * operate on a {@link FeedbackSessionResultsBundle} fetched from it, while {@link #generateResultsCsv()}
+ * also includes the datastore reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xss2m")
+public class FeedbackSessionResultsBenchmark {
+
+    private static final Logic logic = new Logic();
+
+    @Param({"2", "10"})
+    private int numberOfSections;
+
+    @Param("5")
+    private int teamsPerSection;
+
+    @Param("4")
+    private int studentsPerTeam;
+
+    private ApiProxy.Environment environment;
+
+    private FeedbackSessionResultsBundle bundle;
+
+    private List<FeedbackResponseAttributes> shuffledResponses;
+
+    @Setup(Level.Trial)
+    public void setUpDatastore() throws Exception {
+        GaeSimulation.inst().setup();
+        environment = ApiProxy.getCurrentEnvironment();
+        OfyHelper.registerEntityClasses();
+
+        Closeable objectifySession = ObjectifyService.begin();
+        try {
+            logic.persistDataBundle(
+                    BenchmarkDataBundleGenerator.generate(numberOfSections, teamsPerSection, studentsPerTeam));
+            bundle = logic.getFeedbackSessionResultsForInstructor(BenchmarkDataBundleGenerator.FEEDBACK_SESSION_NAME,
+                    BenchmarkDataBundleGenerator.COURSE_ID, BenchmarkDataBundleGenerator.INSTRUCTOR_EMAIL);
+        } finally {
+            objectifySession.close();
+        }
+
+        shuffledResponses = new ArrayList<>(bundle.getResponses());
+        Collections.shuffle(shuffledResponses, new Random(0));
+    }
+
+    /**
+     * Restores the GAE environment, which is thread-local, in case JMH runs the iteration in another thread.
+     */
+    @Setup(Level.Iteration)
+    public void setUpEnvironment() {
+        ApiProxy.setEnvironmentForCurrentThread(environment);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatastore() {
+        GaeSimulation.inst().tearDown();
+    }
+
+    @Benchmark
+    public FeedbackSessionResultsBundle constructResultsBundle() {
+        return new FeedbackSessionResultsBundle(bundle.feedbackSession, bundle.getResponses(), bundle.getQuestions(),
+                bundle.getEmailNameTable(), bundle.getEmailLastNameTable(), bundle.getEmailTeamNameTable(),
+                bundle.sectionTeamNameTable, bundle.getVisibilityTable(), bundle.getResponseStatus(),
+                bundle.getRoster(), bundle.getResponseComments());
+    }
+
+    @Benchmark
+    public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> getQuestionResponseMap() {
+        return bundle.getQuestionResponseMap();
+    }
+
+    @Benchmark
+    public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> getQuestionResponseMapSortedByRecipient() {
+        return bundle.getQuestionResponseMapSortedByRecipient();
+    }
+
+    @Benchmark
+    public Map<String, Map<String, List<FeedbackResponseAttributes>>> getResponsesSortedByGiver() {
+        return bundle.getResponsesSortedByGiver();
+    }
+
+    @Benchmark
+    public Map<String, Map<String, List<FeedbackResponseAttributes>>> getResponsesSortedByRecipient() {
+        return bundle.getResponsesSortedByRecipient();
+    }
+
+    /**
+     * Sorts a copy of the responses in a fixed random order, as the bundle sorts its own responses in place.
+     */
+    @Benchmark
+    public List<FeedbackResponseAttributes> sortByGiverRecipientQuestion() {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>(shuffledResponses);
+        responses.sort(bundle.compareByGiverRecipientQuestion);
+        return responses;
+    }
+
+    /**
+     * Generates the CSV of the whole session, one question at a time as the download does.
+     */
+    @Benchmark
+    public String generateResultsCsv() throws Exception {
+        StringWriter writer = new StringWriter();
+        Closeable objectifySession = ObjectifyService.begin();
+        try {
+            logic.writeFeedbackSessionResultSummaryInSectionAsCsv(BenchmarkDataBundleGenerator.COURSE_ID,
+                    BenchmarkDataBundleGenerator.FEEDBACK_SESSION_NAME, BenchmarkDataBundleGenerator.INSTRUCTOR_EMAIL,
+                    null, SectionDetail.NOT_APPLICABLE, null, false, true, writer);
+        } finally {
+            objectifySession.close();
+        }
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,131 @@
+package teammates.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.JsonUtils;
+import teammates.ui.webapi.action.GetCourseEnrollStudentsAction.StudentList;
+import teammates.ui.webapi.output.ApiOutput;
+import teammates.ui.webapi.output.FeedbackResponsesData;
+
+/**
+ * Benchmarks the sending of the largest JSON outputs of the web API, i.e. the responses of a session
+ * and the students of a course, in the ways {@link teammates.ui.webapi.action.JsonResult} can send them.
+ *
+ * <p>Besides the time per output, the number of bytes sent is reported as the {@code bytesSent} counter,
+ * which is to be divided by the number of operations to get the payload size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonResultBenchmark {
+
+    @Param({"2", "10"})
+    private int numberOfSections;
+
+    @Param("5")
+    private int teamsPerSection;
+
+    @Param("4")
+    private int studentsPerTeam;
+
+    @Param({"responses", "students"})
+    private String outputType;
+
+    private ApiOutput output;
+
+    @Setup(Level.Trial)
+    public void setUpOutput() {
+        DataBundle dataBundle =
+                BenchmarkDataBundleGenerator.generate(numberOfSections, teamsPerSection, studentsPerTeam);
+        output = "responses".equals(outputType)
+                ? new FeedbackResponsesData(new ArrayList<>(dataBundle.feedbackResponses.values()))
+                : new StudentList(new ArrayList<>(dataBundle.students.values()));
+    }
+
+    /**
+     * Builds the whole output as a pretty-printed string before writing it.
+     */
+    @Benchmark
+    public void prettyString(PayloadCounter counter) throws IOException {
+        try (Writer writer = new OutputStreamWriter(counter.newStream(), StandardCharsets.UTF_8)) {
+            writer.write(JsonUtils.toJson(output));
+        }
+    }
+
+    /**
+     * Builds the whole output as a compact string before writing it, as done before outputs were streamed.
+     */
+    @Benchmark
+    public void compactString(PayloadCounter counter) throws IOException {
+        try (Writer writer = new OutputStreamWriter(counter.newStream(), StandardCharsets.UTF_8)) {
+            writer.write(JsonUtils.toCompactJson(output));
+        }
+    }
+
+    @Benchmark
+    public void compactStreamed(PayloadCounter counter) throws IOException {
+        try (Writer writer = new OutputStreamWriter(counter.newStream(), StandardCharsets.UTF_8)) {
+            JsonUtils.toCompactJson(output, writer);
+        }
+    }
+
+    @Benchmark
+    public void compactStreamedGzipped(PayloadCounter counter) throws IOException {
+        try (Writer writer = new OutputStreamWriter(
+                new GZIPOutputStream(counter.newStream(), 8192), StandardCharsets.UTF_8)) {
+            JsonUtils.toCompactJson(output, writer);
+        }
+    }
+
+    /**
+     * Counts the bytes that would be sent to the client, discarding them.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounter {
+
+        /** Total number of bytes sent in the iteration. */
+        public long bytesSent;
+
+        OutputStream newStream() {
+            return new OutputStream() {
+                @Override
+                public void write(int b) {
+                    bytesSent++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    bytesSent += len;
+                }
+            };
+        }
+
+    }
+
+}
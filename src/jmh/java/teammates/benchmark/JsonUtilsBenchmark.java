@@ -0,0 +1,154 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Benchmarks the JSON serialization of data bundles and of the response details of every question type.
+ *
+ * <p>Each conversion has a {@code Baseline} counterpart which uses {@link BaselineJsonUtils},
+ * so that the shared {@link com.google.gson.Gson} instances and streaming adapters of {@link JsonUtils}
+ * can be compared with the per-call, tree-based conversion they replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    /**
+     * With 5 teams of 4 students per section, 2, 10 and 132 sections give 760, 3,800 and 50,160 responses.
+     */
+    @Param({"2", "10", "132"})
+    private int numberOfSections;
+
+    @Param("5")
+    private int teamsPerSection;
+
+    @Param("4")
+    private int studentsPerTeam;
+
+    private DataBundle dataBundle;
+
+    private String dataBundleJson;
+
+    private List<FeedbackResponseAttributes> responses;
+
+    private List<FeedbackResponseDetails> responseDetails;
+
+    private List<String> responseDetailsJsons;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        dataBundle = BenchmarkDataBundleGenerator.generate(numberOfSections, teamsPerSection, studentsPerTeam);
+        dataBundleJson = JsonUtils.toJson(dataBundle);
+        responses = new ArrayList<>(dataBundle.feedbackResponses.values());
+        responseDetails = new ArrayList<>(responses.size());
+        responseDetailsJsons = new ArrayList<>(responses.size());
+        for (FeedbackResponseAttributes response : responses) {
+            // copied here, as the getter copies the details every time
+            FeedbackResponseDetails details = response.getResponseDetails();
+            responseDetails.add(details);
+            responseDetailsJsons.add(JsonUtils.toCompactJson(details, FeedbackResponseDetails.class));
+        }
+    }
+
+    @Benchmark
+    public String serializeDataBundle() {
+        return JsonUtils.toJson(dataBundle);
+    }
+
+    @Benchmark
+    public String serializeDataBundleBaseline() {
+        return BaselineJsonUtils.toJson(dataBundle);
+    }
+
+    @Benchmark
+    public String serializeDataBundleCompact() {
+        return JsonUtils.toCompactJson(dataBundle);
+    }
+
+    @Benchmark
+    public DataBundle deserializeDataBundle() {
+        return JsonUtils.fromJson(dataBundleJson, DataBundle.class);
+    }
+
+    @Benchmark
+    public DataBundle deserializeDataBundleBaseline() {
+        return BaselineJsonUtils.fromJson(dataBundleJson, DataBundle.class);
+    }
+
+    @Benchmark
+    public List<String> serializeResponseDetails() {
+        List<String> jsons = new ArrayList<>(responseDetails.size());
+        for (FeedbackResponseDetails details : responseDetails) {
+            jsons.add(JsonUtils.toCompactJson(details, details.questionType.getResponseDetailsClass()));
+        }
+        return jsons;
+    }
+
+    @Benchmark
+    public List<String> serializeResponseDetailsBaseline() {
+        List<String> jsons = new ArrayList<>(responseDetails.size());
+        for (FeedbackResponseDetails details : responseDetails) {
+            jsons.add(BaselineJsonUtils.toJson(details, details.questionType.getResponseDetailsClass()));
+        }
+        return jsons;
+    }
+
+    /**
+     * Deserializes response details without knowing their question type in advance,
+     * which the baseline does by parsing each of them into a {@link com.google.gson.JsonObject} first.
+     */
+    @Benchmark
+    public List<FeedbackResponseDetails> deserializeResponseDetails() {
+        List<FeedbackResponseDetails> details = new ArrayList<>(responseDetailsJsons.size());
+        for (String json : responseDetailsJsons) {
+            details.add(JsonUtils.fromJson(json, FeedbackResponseDetails.class));
+        }
+        return details;
+    }
+
+    @Benchmark
+    public List<FeedbackResponseDetails> deserializeResponseDetailsBaseline() {
+        List<FeedbackResponseDetails> details = new ArrayList<>(responseDetailsJsons.size());
+        for (String json : responseDetailsJsons) {
+            details.add(BaselineJsonUtils.fromJson(json, FeedbackResponseDetails.class));
+        }
+        return details;
+    }
+
+    /**
+     * Converts every response to its entity and back, which serializes and deserializes its details.
+     */
+    @Benchmark
+    public List<FeedbackResponseAttributes> roundTripResponses() {
+        List<FeedbackResponseAttributes> roundTripped = new ArrayList<>(responses.size());
+        for (FeedbackResponseAttributes response : responses) {
+            roundTripped.add(new FeedbackResponseAttributes(response.toEntity()));
+        }
+        return roundTripped;
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH micro-benchmarks for the performance-critical code paths, run with {@code ./gradlew jmh}.
+ */
+package teammates.benchmark;
@@ -0,0 +1,178 @@
+package teammates.common.datatransfer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Immutable, compiled form of {@link InstructorPrivileges} for checking privileges in bulk.
+ *
+ * <p>Each privilege is a bit of a {@code long}. The privileges of the course, of every section with special
+ * privileges and of every session in such a section are stored as bitmasks, with sections and sessions
+ * identified by their index in arrays. The fallback from session to section to course level is resolved
+ * when compiling, so that checking a privilege is a bit test once the section and session ids are known.
+ *
+ * <p>Callers that check the same privilege for many responses or students should get the bit of the privilege
+ * with {@link #getPrivilegeBit(String)} and the id of the session with {@link #getSessionId(String)} once.
+ */
+public final class CompiledInstructorPrivileges {
+
+    /**
+     * Id of sections and sessions without special privileges, whose privileges are those of the level above.
+     */
+    public static final int NOT_SPECIAL = -1;
+
+    private static final List<String> PRIVILEGE_NAMES = Arrays.asList(
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS,
+            Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS);
+
+    private static final Map<String, Long> PRIVILEGE_BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PRIVILEGE_NAMES.size(); i++) {
+            PRIVILEGE_BITS.put(PRIVILEGE_NAMES.get(i), 1L << i);
+        }
+    }
+
+    private final long courseLevel;
+
+    private final Map<String, Integer> sectionIds;
+    private final Map<String, Integer> sessionIds;
+
+    /** Privileges of every special section, indexed by section id. */
+    private final long[] sectionLevel;
+
+    /** Privileges of every session in every special section, indexed by section id and then by session id. */
+    private final long[][] sessionLevel;
+
+    CompiledInstructorPrivileges(Map<String, Boolean> courseLevelPrivileges,
+                                 Map<String, Map<String, Boolean>> sectionLevelPrivileges,
+                                 Map<String, Map<String, Map<String, Boolean>>> sessionLevelPrivileges) {
+        this.courseLevel = toBits(courseLevelPrivileges);
+
+        Set<String> sectionNames = new LinkedHashSet<>(sectionLevelPrivileges.keySet());
+        sectionNames.addAll(sessionLevelPrivileges.keySet());
+        this.sectionIds = toIds(sectionNames);
+
+        Set<String> sessionNames = new LinkedHashSet<>();
+        sessionLevelPrivileges.values().forEach(sessions -> sessionNames.addAll(sessions.keySet()));
+        this.sessionIds = toIds(sessionNames);
+
+        this.sectionLevel = new long[sectionIds.size()];
+        this.sessionLevel = new long[sectionIds.size()][sessionIds.size()];
+        sectionIds.forEach((sectionName, sectionId) -> {
+            Map<String, Boolean> sectionPrivileges = sectionLevelPrivileges.get(sectionName);
+            sectionLevel[sectionId] = sectionPrivileges == null ? courseLevel : toBits(sectionPrivileges);
+
+            Map<String, Map<String, Boolean>> sessionsInSection =
+                    sessionLevelPrivileges.getOrDefault(sectionName, Collections.emptyMap());
+            sessionIds.forEach((sessionName, sessionId) -> {
+                Map<String, Boolean> sessionPrivileges = sessionsInSection.get(sessionName);
+                sessionLevel[sectionId][sessionId] =
+                        sessionPrivileges == null ? sectionLevel[sectionId] : toBits(sessionPrivileges);
+            });
+        });
+    }
+
+    private static long toBits(Map<String, Boolean> privileges) {
+        long bits = 0;
+        for (Map.Entry<String, Boolean> privilege : privileges.entrySet()) {
+            Long bit = PRIVILEGE_BITS.get(privilege.getKey());
+            if (bit != null && Boolean.TRUE.equals(privilege.getValue())) {
+                bits |= bit;
+            }
+        }
+        return bits;
+    }
+
+    private static Map<String, Integer> toIds(Set<String> names) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (String name : names) {
+            ids.put(name, ids.size());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the bit of the privilege specified by privilegeName.
+     */
+    public static long getPrivilegeBit(String privilegeName) {
+        Long bit = PRIVILEGE_BITS.get(privilegeName);
+        Assumption.assertNotNull("Invalid privilege name " + privilegeName, bit);
+        return bit;
+    }
+
+    /**
+     * Returns the id of sectionName, or {@link #NOT_SPECIAL} if there are no special privileges for it.
+     */
+    public int getSectionId(String sectionName) {
+        return sectionIds.getOrDefault(sectionName, NOT_SPECIAL);
+    }
+
+    /**
+     * Returns the id of sessionName, or {@link #NOT_SPECIAL} if there are no special privileges for it
+     * in any section.
+     */
+    public int getSessionId(String sessionName) {
+        return sessionIds.getOrDefault(sessionName, NOT_SPECIAL);
+    }
+
+    /**
+     * Returns true if the privilege is allowed in course level.
+     */
+    public boolean isAllowed(long privilegeBit) {
+        return (courseLevel & privilegeBit) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed in the section.
+     */
+    public boolean isAllowed(int sectionId, long privilegeBit) {
+        return sectionId == NOT_SPECIAL ? isAllowed(privilegeBit) : (sectionLevel[sectionId] & privilegeBit) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed for the session in the section.
+     */
+    public boolean isAllowed(int sectionId, int sessionId, long privilegeBit) {
+        return sessionId == NOT_SPECIAL || sectionId == NOT_SPECIAL
+                ? isAllowed(sectionId, privilegeBit)
+                : (sessionLevel[sectionId][sessionId] & privilegeBit) != 0;
+    }
+
+    /**
+     * Returns true if the privilege is allowed for the session in the section with the given name.
+     */
+    public boolean isAllowed(String sectionName, int sessionId, long privilegeBit) {
+        if (sectionIds.isEmpty()) {
+            return isAllowed(privilegeBit);
+        }
+        return isAllowed(getSectionId(sectionName), sessionId, privilegeBit);
+    }
+
+    /**
+     * Returns true if the privilege is allowed for the session in any section with special privileges.
+     */
+    public boolean isAllowedInAnySpecialSection(int sessionId, long privilegeBit) {
+        for (int sectionId = 0; sectionId < sectionLevel.length; sectionId++) {
+            if (isAllowed(sectionId, sessionId, privilegeBit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
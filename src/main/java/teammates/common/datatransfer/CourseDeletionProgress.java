@@ -0,0 +1,142 @@
+package teammates.common.datatransfer;
+
+/**
+ * Immutable checkpoint of the permanent deletion of a course, which is done in pages across many tasks.
+ *
+ * <p>The entities of the course are deleted one kind at a time, in the order of {@link Stage}, so that no entity
+ * is left without the entity it belongs to being deleted later. Within a stage, the cursor marks where the next
+ * page of entities starts.
+ */
+public final class CourseDeletionProgress {
+
+    /**
+     * The stages of the deletion of a course, in the order they are done.
+     */
+    public enum Stage {
+        /** Deleting the comments of the responses of the course. */
+        COMMENTS,
+
+        /** Deleting the responses of the course. */
+        RESPONSES,
+
+        /** Deleting the questions of the course. */
+        QUESTIONS,
+
+        /** Deleting the sessions of the course. */
+        SESSIONS,
+
+        /** Deleting the course itself, with its students, instructors and any remaining feedback data. */
+        COURSE,
+
+        /** The course has been deleted. */
+        DONE,
+
+        /** The deletion was stopped before the course was deleted, as the course was no longer in the Recycle Bin. */
+        CANCELLED
+    }
+
+    private final String courseId;
+    private final String requesterId;
+    private final Stage stage;
+    private final String cursor;
+    private final int numberOfSteps;
+
+    private CourseDeletionProgress(String courseId, String requesterId, Stage stage, String cursor, int numberOfSteps) {
+        this.courseId = courseId;
+        this.requesterId = requesterId;
+        this.stage = stage;
+        this.cursor = cursor;
+        this.numberOfSteps = numberOfSteps;
+    }
+
+    /**
+     * Returns the progress of a deletion of the course that has not done any step yet.
+     *
+     * @param requesterId the Google ID of the instructor who requested the deletion
+     */
+    public static CourseDeletionProgress start(String courseId, String requesterId) {
+        return new CourseDeletionProgress(courseId, requesterId, Stage.values()[0], null, 0);
+    }
+
+    /**
+     * Returns the progress of a deletion of the course as it was saved.
+     */
+    public static CourseDeletionProgress valueOf(String courseId, String requesterId, Stage stage, String cursor,
+                                                 int numberOfSteps) {
+        return new CourseDeletionProgress(courseId, requesterId, stage, cursor, numberOfSteps);
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the Google ID of the instructor who requested the deletion, who can still see its progress
+     * after the instructors of the course are deleted.
+     */
+    public String getRequesterId() {
+        return requesterId;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the cursor of the next page to delete in the current stage, or null to start from the first page.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns the number of pages deleted so far, which only increases as the deletion goes on.
+     */
+    public int getNumberOfSteps() {
+        return numberOfSteps;
+    }
+
+    public boolean isDone() {
+        return stage == Stage.DONE;
+    }
+
+    public boolean isCancelled() {
+        return stage == Stage.CANCELLED;
+    }
+
+    /**
+     * Returns true if there are no more pages to delete, either because the course has been deleted
+     * or because the deletion was cancelled.
+     */
+    public boolean isFinished() {
+        return isDone() || isCancelled();
+    }
+
+    /**
+     * Returns the progress after a page of the current stage is deleted.
+     *
+     * @param nextCursor the cursor of the next page, or null if the current stage is finished
+     */
+    public CourseDeletionProgress afterPage(String nextCursor) {
+        if (nextCursor != null) {
+            return new CourseDeletionProgress(courseId, requesterId, stage, nextCursor, numberOfSteps + 1);
+        }
+        Stage nextStage = Stage.values()[stage.ordinal() + 1];
+        return new CourseDeletionProgress(courseId, requesterId, nextStage, null, numberOfSteps + 1);
+    }
+
+    /**
+     * Returns the progress after the deletion is cancelled, which has no more pages to delete.
+     */
+    public CourseDeletionProgress cancel() {
+        return new CourseDeletionProgress(courseId, requesterId, Stage.CANCELLED, null, numberOfSteps + 1);
+    }
+
+    /**
+     * Returns true if this progress is further than {@code other}, which is for the same course.
+     */
+    public boolean isAfter(CourseDeletionProgress other) {
+        return other == null || numberOfSteps > other.numberOfSteps;
+    }
+
+}
@@ -1,12 +1,17 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 
 /**
  * Contains a list of students and instructors in a course. Useful for caching
@@ -17,6 +22,9 @@ public class CourseRoster {
 
     Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
     Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    Map<String, List<StudentAttributes>> teamToMembersTable = new HashMap<>();
+    Map<String, Set<String>> teamToMemberEmailsTable = new HashMap<>();
+    Map<String, Set<String>> sectionToTeamsTable = new HashMap<>();
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
@@ -31,6 +39,14 @@ public class CourseRoster {
         return new ArrayList<>(instructorListByEmail.values());
     }
 
+    public int getNumberOfStudents() {
+        return studentListByEmail.size();
+    }
+
+    public int getNumberOfInstructors() {
+        return instructorListByEmail.size();
+    }
+
     /**
      * Checks if an instructor is the instructor of a course by providing an email address.
      * @param instructorEmail email of the instructor to be checked.
@@ -64,6 +80,46 @@ public class CourseRoster {
         return instructorListByEmail.get(email);
     }
 
+    /**
+     * Returns a map of team name mapped to the students in the team.
+     */
+    public Map<String, List<StudentAttributes>> getTeamToMembersTable() {
+        return teamToMembersTable;
+    }
+
+    /**
+     * Returns a map of team name mapped to the emails of the students in the team, sorted.
+     *
+     * <p>The map is built once with the roster and must not be modified.
+     */
+    public Map<String, Set<String>> getTeamToMemberEmailsTable() {
+        return Collections.unmodifiableMap(teamToMemberEmailsTable);
+    }
+
+    /**
+     * Returns a map of section name mapped to the names of the teams in the section.
+     *
+     * <p>The map is built once with the roster and must not be modified.
+     */
+    public Map<String, Set<String>> getSectionToTeamsTable() {
+        return Collections.unmodifiableMap(sectionToTeamsTable);
+    }
+
+    /**
+     * Returns the students in the team, or an empty list if there is no such team.
+     */
+    public List<StudentAttributes> getTeamMembers(String teamName) {
+        return teamToMembersTable.getOrDefault(teamName, Collections.emptyList());
+    }
+
+    /**
+     * Returns the section of the team, or {@link Const#DEFAULT_SECTION} if there is no such team.
+     */
+    public String getSectionForTeam(String teamName) {
+        List<StudentAttributes> teamMembers = getTeamMembers(teamName);
+        return teamMembers.isEmpty() ? Const.DEFAULT_SECTION : teamMembers.get(0).section;
+    }
+
     /**
      * Returns a map of email mapped to name of instructors and students of the course.
      *
@@ -91,6 +147,9 @@ public class CourseRoster {
 
         for (StudentAttributes s : students) {
             studentListByEmail.put(s.email, s);
+            teamToMembersTable.computeIfAbsent(s.team, key -> new ArrayList<>()).add(s);
+            teamToMemberEmailsTable.computeIfAbsent(s.team, key -> new TreeSet<>()).add(s.email);
+            sectionToTeamsTable.computeIfAbsent(s.section, key -> new HashSet<>()).add(s.team);
         }
     }
 
@@ -0,0 +1,38 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents whether the giver and the recipient of a response are visible to the user viewing it.
+ *
+ * <p>As there are only four possible values, all responses of a {@link FeedbackSessionResultsBundle}
+ * share them instead of having one each.
+ */
+public enum FeedbackResponseVisibility {
+    NONE(false, false),
+    RECIPIENT_ONLY(false, true),
+    GIVER_ONLY(true, false),
+    GIVER_AND_RECIPIENT(true, true);
+
+    private final boolean isGiverVisible;
+    private final boolean isRecipientVisible;
+
+    FeedbackResponseVisibility(boolean isGiverVisible, boolean isRecipientVisible) {
+        this.isGiverVisible = isGiverVisible;
+        this.isRecipientVisible = isRecipientVisible;
+    }
+
+    /**
+     * Returns the visibility with the given values.
+     */
+    public static FeedbackResponseVisibility valueOf(boolean isGiverVisible, boolean isRecipientVisible) {
+        return values()[(isGiverVisible ? 2 : 0) + (isRecipientVisible ? 1 : 0)];
+    }
+
+    public boolean isGiverVisible() {
+        return isGiverVisible;
+    }
+
+    public boolean isRecipientVisible() {
+        return isRecipientVisible;
+    }
+
+}
@@ -0,0 +1,167 @@
+package teammates.common.datatransfer;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Filters of a query for feedback responses.
+ *
+ * <p>A response is matched if it matches all the filters that are set. Every filter is an equality filter,
+ * so that the query can be resumed from a cursor. To get the responses in a section as either the giver or
+ * the recipient, query the responses from the section and to the section separately.
+ */
+public class FeedbackResponsesQuery {
+
+    private String courseId;
+    private String feedbackSessionName;
+    private String feedbackQuestionId;
+    private String giver;
+    private String recipient;
+    private String giverSection;
+    private String recipientSection;
+
+    private FeedbackResponsesQuery() {
+        // use the builder instead
+    }
+
+    /**
+     * Returns a builder for a query of the responses in a session.
+     */
+    public static Builder forSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+
+        Builder builder = new Builder();
+        builder.query.feedbackSessionName = feedbackSessionName;
+        builder.query.courseId = courseId;
+        return builder;
+    }
+
+    /**
+     * Returns a builder for a query of the responses to a question.
+     */
+    public static Builder forQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackQuestionId);
+
+        Builder builder = new Builder();
+        builder.query.feedbackQuestionId = feedbackQuestionId;
+        return builder;
+    }
+
+    /**
+     * Returns a builder for a query of the responses in a course.
+     */
+    public static Builder forCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+
+        Builder builder = new Builder();
+        builder.query.courseId = courseId;
+        return builder;
+    }
+
+    /**
+     * Returns the course of the responses, or null if not filtered by course.
+     */
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the session of the responses, or null if not filtered by session.
+     */
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    /**
+     * Returns the question of the responses, or null if not filtered by question.
+     */
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    /**
+     * Returns the giver of the responses, or null if not filtered by giver.
+     */
+    public String getGiver() {
+        return giver;
+    }
+
+    /**
+     * Returns the recipient of the responses, or null if not filtered by recipient.
+     */
+    public String getRecipient() {
+        return recipient;
+    }
+
+    /**
+     * Returns the section of the givers of the responses, or null if not filtered by giver section.
+     */
+    public String getGiverSection() {
+        return giverSection;
+    }
+
+    /**
+     * Returns the section of the recipients of the responses, or null if not filtered by recipient section.
+     */
+    public String getRecipientSection() {
+        return recipientSection;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackResponsesQuery ["
+                + "courseId = " + courseId
+                + ", feedbackSessionName = " + feedbackSessionName
+                + ", feedbackQuestionId = " + feedbackQuestionId
+                + ", giver = " + giver
+                + ", recipient = " + recipient
+                + ", giverSection = " + giverSection
+                + ", recipientSection = " + recipientSection
+                + "]";
+    }
+
+    /**
+     * Builder class to build {@link FeedbackResponsesQuery}.
+     */
+    public static class Builder {
+        private FeedbackResponsesQuery query = new FeedbackResponsesQuery();
+
+        private Builder() {
+            // use the static factory methods of FeedbackResponsesQuery instead
+        }
+
+        public Builder withGiver(String giver) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, giver);
+
+            query.giver = giver;
+            return this;
+        }
+
+        public Builder withRecipient(String recipient) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, recipient);
+
+            query.recipient = recipient;
+            return this;
+        }
+
+        public Builder withGiverSection(String giverSection) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, giverSection);
+
+            query.giverSection = giverSection;
+            return this;
+        }
+
+        public Builder withRecipientSection(String recipientSection) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, recipientSection);
+
+            query.recipientSection = recipientSection;
+            return this;
+        }
+
+        public FeedbackResponsesQuery build() {
+            return query;
+        }
+    }
+
+}
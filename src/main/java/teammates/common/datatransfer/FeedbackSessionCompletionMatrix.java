@@ -0,0 +1,80 @@
+package teammates.common.datatransfer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Contains, for every participant of a feedback session and every question the participant can answer,
+ * the number of responses needed to fully answer the question and the number of responses given.
+ *
+ * <p>This allows the completion of the session to be checked for all participants at once,
+ * from a single read of the responses of the session.
+ */
+public class FeedbackSessionCompletionMatrix {
+
+    private final String feedbackSessionName;
+    private final String courseId;
+
+    /** Participant mapped to question ID mapped to the number of responses still needed. */
+    private final Map<String, Map<String, Integer>> responsesNeeded = new LinkedHashMap<>();
+
+    public FeedbackSessionCompletionMatrix(String feedbackSessionName, String courseId) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Records that {@code participant} needs to give {@code numberOfResponses} responses to fully answer
+     * the question. Must be called before the responses of the participant to the question are recorded.
+     */
+    public void addResponsesNeeded(String participant, String feedbackQuestionId, int numberOfResponses) {
+        responsesNeeded.computeIfAbsent(participant, key -> new HashMap<>())
+                .put(feedbackQuestionId, numberOfResponses);
+    }
+
+    /**
+     * Records a response given by {@code giver} to the question.
+     * Responses to questions that the giver does not need to answer are ignored.
+     */
+    public void addResponseGiven(String giver, String feedbackQuestionId) {
+        Map<String, Integer> responsesNeededOfGiver = responsesNeeded.get(giver);
+        if (responsesNeededOfGiver != null) {
+            responsesNeededOfGiver.computeIfPresent(feedbackQuestionId, (questionId, number) -> number - 1);
+        }
+    }
+
+    /**
+     * Returns true if {@code participant} has given all the responses needed for every question.
+     */
+    public boolean isFullyCompletedBy(String participant) {
+        Map<String, Integer> responsesNeededOfParticipant = responsesNeeded.get(participant);
+        return responsesNeededOfParticipant == null
+                || responsesNeededOfParticipant.values().stream().allMatch(number -> number <= 0);
+    }
+
+    /**
+     * Returns the participants who have not given all the responses needed for some question,
+     * in the order they were first recorded.
+     */
+    public Set<String> getParticipantsNotFullyCompleted() {
+        Set<String> participants = new LinkedHashSet<>();
+        for (String participant : responsesNeeded.keySet()) {
+            if (!isFullyCompletedBy(participant)) {
+                participants.add(participant);
+            }
+        }
+        return participants;
+    }
+
+}
@@ -0,0 +1,48 @@
+package teammates.common.datatransfer;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Contains the emails of the students and instructors who have responded to a feedback session.
+ */
+public class FeedbackSessionRespondents {
+
+    private final String feedbackSessionName;
+    private final String courseId;
+    private final Set<String> studentRespondents;
+    private final Set<String> instructorRespondents;
+
+    public FeedbackSessionRespondents(String feedbackSessionName, String courseId) {
+        this(feedbackSessionName, courseId, new HashSet<>(), new HashSet<>());
+    }
+
+    public FeedbackSessionRespondents(String feedbackSessionName, String courseId,
+                                      Set<String> studentRespondents, Set<String> instructorRespondents) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.studentRespondents = studentRespondents;
+        this.instructorRespondents = instructorRespondents;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public Set<String> getStudentRespondents() {
+        return studentRespondents;
+    }
+
+    public Set<String> getInstructorRespondents() {
+        return instructorRespondents;
+    }
+
+    public int getNumberOfRespondents() {
+        return studentRespondents.size() + instructorRespondents.size();
+    }
+
+}
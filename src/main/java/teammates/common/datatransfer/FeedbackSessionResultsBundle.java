@@ -9,7 +9,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -21,8 +20,8 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.Pseudonymizer;
 import teammates.common.util.SanitizationHelper;
-import teammates.common.util.StringHelper;
 
 /**
  * Represents detailed results for an feedback session.
@@ -43,7 +42,7 @@ public class FeedbackSessionResultsBundle {
     public Map<String, String> commentGiverEmailToNameTable;
     public Map<String, Set<String>> rosterTeamNameMembersTable;
     public Map<String, Set<String>> rosterSectionTeamNameTable;
-    public Map<String, boolean[]> visibilityTable;
+    public Map<String, FeedbackResponseVisibility> visibilityTable;
     public FeedbackSessionResponseStatus responseStatus;
     public CourseRoster roster;
     public Map<String, List<FeedbackResponseCommentAttributes>> responseComments;
@@ -72,6 +71,13 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Set<String>> sectionTeamNameTable;
 
+    // Hidden participants appear in many responses, so their pseudonyms are derived once per bundle
+    private final Pseudonymizer pseudonymizer = new Pseudonymizer();
+
+    // Anonymous email of each hidden participant, keyed by participant type and name,
+    // so that all responses of the participant share the same strings
+    private final Map<String, String> anonEmailTable = new HashMap<>();
+
     private Comparator<FeedbackResponseAttributes> compareByGiverSection =
             Comparator.comparing(fra -> fra.giverSection);
 
@@ -254,7 +260,7 @@ public class FeedbackSessionResultsBundle {
                                         Map<String, FeedbackQuestionAttributes> questions, CourseRoster roster) {
         this(feedbackSession, new ArrayList<FeedbackResponseAttributes>(), questions, new HashMap<String, String>(),
                 new HashMap<String, String>(), new HashMap<String, String>(), new HashMap<String, Set<String>>(),
-                new HashMap<String, boolean[]>(), new FeedbackSessionResponseStatus(), roster,
+                new HashMap<String, FeedbackResponseVisibility>(), new FeedbackSessionResponseStatus(), roster,
                 new HashMap<String, List<FeedbackResponseCommentAttributes>>());
     }
 
@@ -265,7 +271,7 @@ public class FeedbackSessionResultsBundle {
                                         Map<String, String> emailLastNameTable,
                                         Map<String, String> emailTeamNameTable,
                                         Map<String, Set<String>> sectionTeamNameTable,
-                                        Map<String, boolean[]> visibilityTable,
+                                        Map<String, FeedbackResponseVisibility> visibilityTable,
                                         FeedbackSessionResponseStatus responseStatus,
                                         CourseRoster roster,
                                         Map<String, List<FeedbackResponseCommentAttributes>> responseComments) {
@@ -280,7 +286,7 @@ public class FeedbackSessionResultsBundle {
                                         Map<String, String> emailLastNameTable,
                                         Map<String, String> emailTeamNameTable,
                                         Map<String, Set<String>> sectionTeamNameTable,
-                                        Map<String, boolean[]> visibilityTable,
+                                        Map<String, FeedbackResponseVisibility> visibilityTable,
                                         FeedbackSessionResponseStatus responseStatus,
                                         CourseRoster roster,
                                         Map<String, List<FeedbackResponseCommentAttributes>> responseComments,
@@ -308,9 +314,16 @@ public class FeedbackSessionResultsBundle {
                 // so we convert it to the team name for use in FeedbackSessionResultsBundle
                 response.giver = emailNameTable.get(response.giver + Const.TEAM_OF_EMAIL_OWNER);
             }
-            // Copy the data before hiding response recipient and giver.
-            FeedbackResponseAttributes fraCopy = new FeedbackResponseAttributes(response);
-            actualResponses.add(fraCopy);
+            if (isGiverVisible(response) && isRecipientVisible(response)) {
+                // Nothing will be hidden, so the response itself holds the actual data.
+                actualResponses.add(response);
+            } else {
+                // Copy the data before hiding response recipient and giver.
+                // The details are shared with the response as neither is modified.
+                FeedbackResponseAttributes fraCopy = new FeedbackResponseAttributes(response);
+                fraCopy.responseDetails = response.responseDetails;
+                actualResponses.add(fraCopy);
+            }
         }
         this.isComplete = isComplete;
 
@@ -318,7 +331,7 @@ public class FeedbackSessionResultsBundle {
         // unlike emailTeamNameTable, emailLastNameTable and emailTeamNameTable,
         // roster.*Table is populated using the CourseRoster data directly
         this.rosterTeamNameMembersTable = getTeamNameToEmailsTableFromRoster(roster);
-        this.rosterSectionTeamNameTable = getSectionToTeamNamesFromRoster(roster);
+        this.rosterSectionTeamNameTable = roster.getSectionToTeamsTable();
     }
 
     /**
@@ -338,8 +351,8 @@ public class FeedbackSessionResultsBundle {
             }
 
             if (!isRecipientVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                String anonEmail = getAnonEmailOfHiddenParticipant(participantType, name);
+                name = getAnonNameFromPseudonym(participantType, pseudonymizer.getPseudonym(name));
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -352,8 +365,8 @@ public class FeedbackSessionResultsBundle {
             participantType = question.giverType;
 
             if (!isGiverVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                String anonEmail = getAnonEmailOfHiddenParticipant(participantType, name);
+                name = getAnonNameFromPseudonym(participantType, pseudonymizer.getPseudonym(name));
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -365,6 +378,11 @@ public class FeedbackSessionResultsBundle {
         }
     }
 
+    private String getAnonEmailOfHiddenParticipant(FeedbackParticipantType participantType, String name) {
+        return anonEmailTable.computeIfAbsent(participantType + "%" + name, key -> getAnonEmailFromAnonName(
+                getAnonNameFromPseudonym(participantType, pseudonymizer.getPseudonym(name))));
+    }
+
     /**
      * Checks if the giver/recipient for a response is visible/hidden from the current user.
      */
@@ -375,10 +393,10 @@ public class FeedbackSessionResultsBundle {
 
         boolean isVisible;
         if (isGiver) {
-            isVisible = visibilityTable.get(responseId)[Const.VISIBILITY_TABLE_GIVER];
+            isVisible = visibilityTable.get(responseId).isGiverVisible();
             participantType = question.giverType;
         } else {
-            isVisible = visibilityTable.get(responseId)[Const.VISIBILITY_TABLE_RECIPIENT];
+            isVisible = visibilityTable.get(responseId).isRecipientVisible();
             participantType = question.recipientType;
         }
         boolean isTypeNone = participantType == FeedbackParticipantType.NONE;
@@ -403,28 +421,27 @@ public class FeedbackSessionResultsBundle {
     }
 
     public static String getAnonEmail(FeedbackParticipantType type, String name) {
-        String anonName = getAnonName(type, name);
-        return anonName + "@@" + anonName + ".com";
+        return getAnonEmailFromAnonName(getAnonName(type, name));
     }
 
     public String getAnonEmailFromStudentEmail(String studentEmail) {
         String name = roster.getStudentForEmail(studentEmail).name;
-        return getAnonEmail(FeedbackParticipantType.STUDENTS, name);
+        return getAnonEmailFromAnonName(
+                getAnonNameFromPseudonym(FeedbackParticipantType.STUDENTS, pseudonymizer.getPseudonym(name)));
     }
 
     public static String getAnonName(FeedbackParticipantType type, String name) {
-        String hashedEncryptedName = getHashOfName(getEncryptedName(name));
-        String participantType = type.toSingularFormString();
-        return String.format(
-                Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " %s %s", participantType, hashedEncryptedName);
+        return getAnonNameFromPseudonym(type, Pseudonymizer.derivePseudonym(name));
     }
 
-    private static String getEncryptedName(String name) {
-        return StringHelper.encrypt(name);
+    private static String getAnonNameFromPseudonym(FeedbackParticipantType type, String pseudonym) {
+        String participantType = type.toSingularFormString();
+        return String.format(
+                Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " %s %s", participantType, pseudonym);
     }
 
-    private static String getHashOfName(String name) {
-        return Long.toString(Math.abs((long) name.hashCode()));
+    private static String getAnonEmailFromAnonName(String anonName) {
+        return anonName + "@@" + anonName + ".com";
     }
 
     private String getNameFromRoster(String participantIdentifier, boolean isFullName) {
@@ -1534,45 +1551,20 @@ public class FeedbackSessionResultsBundle {
     }
 
     private Map<String, Set<String>> getTeamNameToEmailsTableFromRoster(CourseRoster courseroster) {
-        List<StudentAttributes> students = courseroster.getStudents();
-        Map<String, Set<String>> teamNameToEmails = new HashMap<>();
-
-        for (StudentAttributes student : students) {
-            String studentTeam = student.team;
-            Set<String> studentEmails = teamNameToEmails.getOrDefault(studentTeam, new TreeSet<>());
-
-            studentEmails.add(student.email);
-            teamNameToEmails.put(studentTeam, studentEmails);
-        }
+        Map<String, Set<String>> teamNameToEmails = new HashMap<>(courseroster.getTeamToMemberEmailsTable());
 
         List<InstructorAttributes> instructors = courseroster.getInstructors();
-        String instructorsTeam = Const.USER_TEAM_FOR_INSTRUCTOR;
-        Set<String> instructorEmails = new HashSet<>();
-
-        for (InstructorAttributes instructor : instructors) {
-            instructorEmails.add(instructor.email);
-            teamNameToEmails.put(instructorsTeam, instructorEmails);
+        if (!instructors.isEmpty()) {
+            Set<String> instructorEmails = new HashSet<>();
+            for (InstructorAttributes instructor : instructors) {
+                instructorEmails.add(instructor.email);
+            }
+            teamNameToEmails.put(Const.USER_TEAM_FOR_INSTRUCTOR, instructorEmails);
         }
 
         return teamNameToEmails;
     }
 
-    private Map<String, Set<String>> getSectionToTeamNamesFromRoster(CourseRoster courseroster) {
-        List<StudentAttributes> students = courseroster.getStudents();
-        Map<String, Set<String>> sectionToTeam = new HashMap<>();
-
-        for (StudentAttributes student : students) {
-            String studentSection = student.section;
-            String studentTeam = student.team;
-            Set<String> teamNames = sectionToTeam.getOrDefault(studentSection, new HashSet<>());
-
-            teamNames.add(studentTeam);
-            sectionToTeam.put(studentSection, teamNames);
-        }
-
-        return sectionToTeam;
-    }
-
     /**
      * Compares the values of {@code name1} and {@code name2}.
      * Anonymous names are ordered later than non-anonymous names.
@@ -1645,7 +1637,7 @@ public class FeedbackSessionResultsBundle {
         return rosterSectionTeamNameTable;
     }
 
-    public Map<String, boolean[]> getVisibilityTable() {
+    public Map<String, FeedbackResponseVisibility> getVisibilityTable() {
         return visibilityTable;
     }
 
@@ -6,7 +6,6 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
-import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 
 /**
@@ -95,6 +94,9 @@ public final class InstructorPrivileges {
     private Map<String, Map<String, Boolean>> sectionLevel;
     private Map<String, Map<String, Map<String, Boolean>>> sessionLevel;
 
+    /** Compiled form of the privileges, discarded after every change to them. Not serialized. */
+    private transient CompiledInstructorPrivileges compiledPrivileges;
+
     public InstructorPrivileges() {
         this.courseLevel = new LinkedHashMap<>();
         this.sectionLevel = new LinkedHashMap<>();
@@ -162,6 +164,7 @@ public final class InstructorPrivileges {
 
     private void setDefaultPrivileges(Map<String, Boolean> defaultPrivileges) {
         defaultPrivileges.forEach((key, value) -> courseLevel.put(key, value));
+        discardCompiledPrivileges();
     }
 
     public Map<String, Boolean> getOverallPrivilegesForSections() {
@@ -220,6 +223,7 @@ public final class InstructorPrivileges {
             return;
         }
         this.courseLevel.put(privilegeName, isAllowed);
+        discardCompiledPrivileges();
     }
 
     private void updatePrivilegeInSectionLevel(String sectionName, String privilegeName, boolean isAllowed) {
@@ -228,6 +232,7 @@ public final class InstructorPrivileges {
         }
         this.sectionLevel.computeIfAbsent(sectionName, key -> new LinkedHashMap<>())
                          .put(privilegeName, isAllowed);
+        discardCompiledPrivileges();
     }
 
     private void updatePrivilegeInSessionLevel(String sectionName, String sessionName,
@@ -238,6 +243,7 @@ public final class InstructorPrivileges {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).computeIfAbsent(sessionName, key -> new LinkedHashMap<>())
                                           .put(privilegeName, isAllowed);
+        discardCompiledPrivileges();
     }
 
     public void updatePrivileges(String sectionName, Map<String, Boolean> privileges) {
@@ -255,6 +261,7 @@ public final class InstructorPrivileges {
             }
         }
         sectionLevel.put(sectionName, new LinkedHashMap<>(privileges));
+        discardCompiledPrivileges();
     }
 
     private void updatePrivilegesInSessionLevel(String sectionName, String sessionName,
@@ -266,6 +273,7 @@ public final class InstructorPrivileges {
         }
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).put(sessionName, new LinkedHashMap<>(privileges));
+        discardCompiledPrivileges();
     }
 
     private void verifyExistenceOfsectionName(String sectionName) {
@@ -273,16 +281,19 @@ public final class InstructorPrivileges {
             addSectionWithDefaultPrivileges(sectionName);
             return new LinkedHashMap<>();
         });
+        discardCompiledPrivileges();
     }
 
     public void addSectionWithDefaultPrivileges(String sectionName) {
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
+        discardCompiledPrivileges();
     }
 
     public void addSessionWithDefaultPrivileges(String sectionName, String sessionName) {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName)
                 .putIfAbsent(sessionName, getOverallPrivilegesForSessionsInSection(sectionName));
+        discardCompiledPrivileges();
     }
 
     /**
@@ -371,6 +382,7 @@ public final class InstructorPrivileges {
             this.sectionLevel.remove(sectionName);
         }
         this.removeSessionsPrivilegesForSection(sectionName);
+        discardCompiledPrivileges();
     }
 
     /**
@@ -380,6 +392,7 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName)) {
             this.sessionLevel.remove(sectionName);
         }
+        discardCompiledPrivileges();
     }
 
     /**
@@ -389,50 +402,45 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName) && this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).remove(sessionName);
         }
+        discardCompiledPrivileges();
     }
 
     private boolean isAllowedInCourseLevel(String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        return this.courseLevel.getOrDefault(privilegeName, false);
+        return getCompiledPrivileges().isAllowed(CompiledInstructorPrivileges.getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
-        }
-
-        return this.sectionLevel.get(sectionName).getOrDefault(privilegeName, false);
+        CompiledInstructorPrivileges compiled = getCompiledPrivileges();
+        return compiled.isAllowed(compiled.getSectionId(sectionName),
+                CompiledInstructorPrivileges.getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-
-        return this.sessionLevel.get(sectionName).get(sessionName).getOrDefault(privilegeName, false);
+        CompiledInstructorPrivileges compiled = getCompiledPrivileges();
+        return compiled.isAllowed(compiled.getSectionId(sectionName), compiled.getSessionId(sessionName),
+                CompiledInstructorPrivileges.getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
+        CompiledInstructorPrivileges compiled = getCompiledPrivileges();
+        return compiled.isAllowedInAnySpecialSection(compiled.getSessionId(sessionName),
+                CompiledInstructorPrivileges.getPrivilegeBit(privilegeName));
+    }
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
-            }
+    /**
+     * Returns the compiled form of the privileges, compiling them only once until they change.
+     */
+    public CompiledInstructorPrivileges getCompiledPrivileges() {
+        CompiledInstructorPrivileges compiled = compiledPrivileges;
+        if (compiled == null) {
+            compiled = new CompiledInstructorPrivileges(courseLevel, sectionLevel, sessionLevel);
+            compiledPrivileges = compiled;
         }
-        return false;
+        return compiled;
+    }
+
+    private void discardCompiledPrivileges() {
+        compiledPrivileges = null;
     }
 
     /**
@@ -460,6 +468,7 @@ public final class InstructorPrivileges {
                 }
             }
         }
+        discardCompiledPrivileges();
     }
 
     public Map<String, Boolean> getCourseLevelPrivileges() {
@@ -541,7 +541,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
      * Converts the given Feedback*QuestionDetails object to JSON for storing.
      */
     public void setQuestionDetails(FeedbackQuestionDetails questionDetails) {
-        questionMetaData = JsonUtils.toJson(questionDetails, getFeedbackQuestionDetailsClass());
+        questionMetaData = JsonUtils.toCompactJson(questionDetails, getFeedbackQuestionDetailsClass());
     }
 
     /**
@@ -660,7 +660,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     public void update(FeedbackQuestionAttributes.UpdateOptions updateOptions) {
         updateOptions.questionNumberOption.ifPresent(s -> questionNumber = s);
         updateOptions.questionDetailsOption.ifPresent(
-                s -> questionMetaData = JsonUtils.toJson(s, getFeedbackQuestionDetailsClass()));
+                s -> questionMetaData = JsonUtils.toCompactJson(s, getFeedbackQuestionDetailsClass()));
         updateOptions.questionDescriptionOption.ifPresent(s -> questionDescription = s);
         updateOptions.giverTypeOption.ifPresent(s -> giverType = s);
         updateOptions.recipientTypeOption.ifPresent(s -> recipientType = s);
@@ -6,9 +6,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
@@ -75,15 +73,11 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     private boolean isOpeningEmailEnabled;
     private boolean isClosingEmailEnabled;
     private boolean isPublishedEmailEnabled;
-    private transient Set<String> respondingInstructorList;
-    private transient Set<String> respondingStudentList;
 
     FeedbackSessionAttributes() {
         isOpeningEmailEnabled = true;
         isClosingEmailEnabled = true;
         isPublishedEmailEnabled = true;
-        respondingInstructorList = new HashSet<>();
-        respondingStudentList = new HashSet<>();
 
         timeZone = Const.DEFAULT_TIME_ZONE;
         gracePeriod = Duration.ZERO;
@@ -108,8 +102,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 .withSentPublishedEmail(fs.isSentPublishedEmail())
                 .withOpeningEmailEnabled(fs.isOpeningEmailEnabled())
                 .withPublishedEmailEnabled(fs.isPublishedEmailEnabled())
-                .withRespondingInstructorList(fs.getRespondingInstructorList())
-                .withRespondingStudentList(fs.getRespondingStudentList())
                 .withClosingEmailEnabled(fs.isClosingEmailEnabled())
                 .build();
     }
@@ -122,8 +114,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
      * <li>{@code isOpeningEmailEnabled = true}</li>
      * <li>{@code isClosingEmailEnabled = true}</li>
      * <li>{@code isPublishedEmailEnabled = true}</li>
-     * <li>{@code respondingInstructorList = new HashSet<>()}</li>
-     * <li>{@code respondingStudentList = new HashSet<>()}</li>
      * </ul>
      */
     public static Builder builder(String feedbackSessionName, String courseId, String creatorEmail) {
@@ -172,8 +162,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 createdTime, deletedTime, startTime, endTime, sessionVisibleFromTime, resultsVisibleFromTime,
                 timeZone.getId(), getGracePeriodMinutes(),
                 sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail,
-                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled,
-                respondingInstructorList, respondingStudentList);
+                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled);
     }
 
     @Override
@@ -626,22 +615,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
     }
 
-    public Set<String> getRespondingInstructorList() {
-        return respondingInstructorList;
-    }
-
-    public void setRespondingInstructorList(Set<String> respondingInstructorList) {
-        this.respondingInstructorList = respondingInstructorList;
-    }
-
-    public Set<String> getRespondingStudentList() {
-        return respondingStudentList;
-    }
-
-    public void setRespondingStudentList(Set<String> respondingStudentList) {
-        this.respondingStudentList = respondingStudentList;
-    }
-
     /**
      * Updates with {@link UpdateOptions}.
      */
@@ -660,25 +633,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         updateOptions.sentPublishedEmailOption.ifPresent(s -> sentPublishedEmail = s);
         updateOptions.isClosingEmailEnabledOption.ifPresent(s -> isClosingEmailEnabled = s);
         updateOptions.isPublishedEmailEnabledOption.ifPresent(s -> isPublishedEmailEnabled = s);
-
-        updateOptions.addingStudentRespondentOption.ifPresent(s -> respondingStudentList.add(s));
-        updateOptions.removingStudentRespondentOption.ifPresent(s -> respondingStudentList.remove(s));
-        updateOptions.addingInstructorRespondentOption.ifPresent(s -> respondingInstructorList.add(s));
-        updateOptions.removingInstructorRespondentOption.ifPresent(s -> respondingInstructorList.remove(s));
-
-        updateOptions.updatingStudentRespondentOption.ifPresent(s -> {
-            if (respondingStudentList.contains(s.getOldEmail())) {
-                respondingStudentList.remove(s.getOldEmail());
-                respondingStudentList.add(s.getNewEmail());
-            }
-        });
-
-        updateOptions.updatingInstructorRespondentOption.ifPresent(s -> {
-            if (respondingInstructorList.contains(s.getOldEmail())) {
-                respondingInstructorList.remove(s.getOldEmail());
-                respondingInstructorList.add(s.getNewEmail());
-            }
-        });
     }
 
     /**
@@ -801,22 +755,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
             return this;
         }
 
-        public Builder withRespondingInstructorList(Set<String> respondingInstructorList) {
-            Set<String> respondingList = respondingInstructorList == null
-                    ? new HashSet<String>()
-                    : respondingInstructorList;
-            feedbackSessionAttributes.setRespondingInstructorList(respondingList);
-            return this;
-        }
-
-        public Builder withRespondingStudentList(Set<String> respondingStudentList) {
-            Set<String> respondingList = respondingStudentList == null
-                    ? new HashSet<String>()
-                    : respondingStudentList;
-            feedbackSessionAttributes.setRespondingStudentList(respondingList);
-            return this;
-        }
-
         public FeedbackSessionAttributes build() {
             return feedbackSessionAttributes;
         }
@@ -844,13 +782,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         private UpdateOption<Boolean> isClosingEmailEnabledOption = UpdateOption.empty();
         private UpdateOption<Boolean> isPublishedEmailEnabledOption = UpdateOption.empty();
 
-        private UpdateOption<String> addingStudentRespondentOption = UpdateOption.empty();
-        private UpdateOption<String> removingStudentRespondentOption = UpdateOption.empty();
-        private UpdateOption<String> addingInstructorRespondentOption = UpdateOption.empty();
-        private UpdateOption<String> removingInstructorRespondentOption = UpdateOption.empty();
-        private UpdateOption<EmailChange> updatingStudentRespondentOption = UpdateOption.empty();
-        private UpdateOption<EmailChange> updatingInstructorRespondentOption = UpdateOption.empty();
-
         private UpdateOptions(String feedbackSessionName, String courseId) {
             Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, feedbackSessionName);
             Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, courseId);
@@ -885,37 +816,9 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                     + ", sentPublishedEmail = " + sentPublishedEmailOption
                     + ", isClosingEmailEnabled = " + isClosingEmailEnabledOption
                     + ", isPublishedEmailEnabled = " + isPublishedEmailEnabledOption
-                    + ", addingStudentRespondent = " + addingStudentRespondentOption
-                    + ", removingStudentRespondent = " + removingStudentRespondentOption
-                    + ", addingInstructorRespondent = " + addingInstructorRespondentOption
-                    + ", removingInstructorRespondent = " + removingInstructorRespondentOption
-                    + ", updatingStudentRespondent = " + updatingStudentRespondentOption
-                    + ", updatingInstructorRespondent = " + updatingInstructorRespondentOption
                     + "]";
         }
 
-        /**
-         * Represents the change of email for an(a) instructor/student.
-         */
-        private static class EmailChange {
-
-            private String oldEmail;
-            private String newEmail;
-
-            private EmailChange(String oldEmail, String newEmail) {
-                this.oldEmail = oldEmail;
-                this.newEmail = newEmail;
-            }
-
-            private String getOldEmail() {
-                return oldEmail;
-            }
-
-            private String getNewEmail() {
-                return newEmail;
-            }
-        }
-
         /**
          * Builder class to build {@link UpdateOptions}.
          */
@@ -1014,50 +917,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 return this;
             }
 
-            public Builder withAddingStudentRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, email);
-
-                updateOptions.addingStudentRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withRemovingStudentRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, email);
-
-                updateOptions.removingStudentRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withAddingInstructorRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, email);
-
-                updateOptions.addingInstructorRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withRemovingInstructorRespondent(String email) {
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, email);
-
-                updateOptions.removingInstructorRespondentOption = UpdateOption.of(email);
-                return this;
-            }
-
-            public Builder withUpdatingStudentRespondent(String oldEmail, String newEmail) {
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, oldEmail);
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, newEmail);
-
-                updateOptions.updatingStudentRespondentOption = UpdateOption.of(new EmailChange(oldEmail, newEmail));
-                return this;
-            }
-
-            public Builder withUpdatingInstructorRespondent(String oldEmail, String newEmail) {
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, oldEmail);
-                Assumption.assertNotNull(Const.StatusCodes.UPDATE_OPTIONS_NULL_INPUT, newEmail);
-
-                updateOptions.updatingInstructorRespondentOption = UpdateOption.of(new EmailChange(oldEmail, newEmail));
-                return this;
-            }
-
             public UpdateOptions build() {
                 return updateOptions;
             }
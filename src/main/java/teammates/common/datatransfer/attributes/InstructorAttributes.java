@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import teammates.common.datatransfer.CompiledInstructorPrivileges;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
@@ -213,6 +214,18 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
         return privileges.isAllowedForPrivilegeAnySection(sessionName, privilegeName);
     }
 
+    /**
+     * Returns the compiled form of the privileges, for checking privileges in bulk.
+     *
+     * @see InstructorPrivileges#getCompiledPrivileges()
+     */
+    public CompiledInstructorPrivileges getCompiledPrivileges() {
+        if (privileges == null) {
+            privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        }
+        return privileges.getCompiledPrivileges();
+    }
+
     public boolean hasCoownerPrivileges() {
         return privileges.hasCoownerPrivileges();
     }
@@ -272,7 +272,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         boolean hideRecipient = false;
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : actualResponses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
+            if (!bundle.visibilityTable.get(response.getId()).isRecipientVisible()
                     && type != FeedbackParticipantType.SELF
                     && type != FeedbackParticipantType.NONE) {
                 hideRecipient = true;
@@ -362,7 +362,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : actualResponses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
+            if (!bundle.visibilityTable.get(response.getId()).isRecipientVisible()
                     && type != FeedbackParticipantType.SELF
                     && type != FeedbackParticipantType.NONE) {
                 hideRecipient = true;
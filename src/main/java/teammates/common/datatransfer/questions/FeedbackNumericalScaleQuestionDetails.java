@@ -593,7 +593,7 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         List<String> hiddenRecipients = new ArrayList<>(); // List of recipients to hide
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : responses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
+            if (!bundle.visibilityTable.get(response.getId()).isRecipientVisible()
                     && type != FeedbackParticipantType.SELF
                     && type != FeedbackParticipantType.NONE) {
 
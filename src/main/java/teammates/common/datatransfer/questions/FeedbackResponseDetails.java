@@ -50,7 +50,7 @@ public abstract class FeedbackResponseDetails {
             // This is due to legacy data in the data store before there were multiple question types
             return getAnswerString();
         }
-        return JsonUtils.toJson(this, questionType.getResponseDetailsClass());
+        return JsonUtils.toCompactJson(this, questionType.getResponseDetailsClass());
     }
 
     public FeedbackResponseDetails getDeepCopy() {
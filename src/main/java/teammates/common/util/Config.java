@@ -75,6 +75,15 @@ public final class Config {
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
+    /** The value of the "app.anonymization.mode" in build.properties file. */
+    public static final String ANONYMIZATION_MODE;
+
+    /** The value of the "app.search.service" in build.properties file. */
+    public static final String SEARCH_SERVICE;
+
+    /** The value of the "app.search.snapshot.path" in build.properties file. */
+    public static final String SEARCH_SNAPSHOT_PATH;
+
     static {
         APP_URL = readAppUrl();
         Properties properties = new Properties();
@@ -102,6 +111,9 @@ public final class Config {
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(properties.getProperty("app.enable.datastore.backup", "false"));
+        ANONYMIZATION_MODE = properties.getProperty("app.anonymization.mode");
+        SEARCH_SERVICE = properties.getProperty("app.search.service");
+        SEARCH_SNAPSHOT_PATH = properties.getProperty("app.search.snapshot.path");
     }
 
     private Config() {
@@ -180,4 +192,12 @@ public final class Config {
                 && MAILJET_SECRETKEY != null && !MAILJET_SECRETKEY.isEmpty();
     }
 
+    public static boolean isUsingHmacAnonymization() {
+        return "hmac".equalsIgnoreCase(ANONYMIZATION_MODE);
+    }
+
+    public static boolean isUsingInMemorySearch() {
+        return "inmemory".equalsIgnoreCase(SEARCH_SERVICE);
+    }
+
 }
@@ -1,7 +1,12 @@
 package teammates.common.util;
 
+import java.util.Map;
+
 /**
  * Represents an email message and its important metadata.
+ *
+ * <p>Emails generated for many recipients from the same template also keep that template
+ * and the values filled into it for their recipient, so that they can be sent in one batch.
  */
 public class EmailWrapper {
 
@@ -12,6 +17,8 @@ public class EmailWrapper {
     private String bcc;
     private String subject;
     private String content;
+    private String template;
+    private Map<String, String> substitutions;
 
     public String getSenderName() {
         return senderName;
@@ -65,8 +72,39 @@ public class EmailWrapper {
         return content;
     }
 
+    /**
+     * Sets the content of the email. The email is then no longer considered generated from a shared template.
+     */
     public void setContent(String content) {
         this.content = content;
+        this.template = null;
+        this.substitutions = null;
+    }
+
+    /**
+     * Returns the content of the email with the parts specific to the recipient left as variables,
+     * e.g. {@code ${userName}}, or null if the content is not generated from a shared template.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Returns the values of the variables in the {@link #getTemplate() template} for the recipient,
+     * keyed by variable, or null if the content is not generated from a shared template.
+     */
+    public Map<String, String> getSubstitutions() {
+        return substitutions;
+    }
+
+    /**
+     * Sets the content of the email to the {@code template} populated with the {@code substitutions}
+     * for the recipient, and keeps both for sending the email in a batch.
+     */
+    public void setContentFromTemplate(String template, Map<String, String> substitutions) {
+        this.template = template;
+        this.substitutions = substitutions;
+        this.content = Templates.populateTemplate(template, substitutions);
     }
 
     public String getInfoForLogging() {
@@ -1,7 +1,9 @@
 package teammates.common.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
@@ -9,6 +11,7 @@ import com.google.appengine.api.blobstore.UploadOptions;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
+import com.google.appengine.tools.cloudstorage.GcsService;
 import com.google.appengine.tools.cloudstorage.GcsServiceFactory;
 import com.google.appengine.tools.cloudstorage.RetryParams;
 
@@ -66,6 +69,34 @@ public final class GoogleCloudStorageHelper {
                 .createGsBlobKey("/gs/" + Config.PRODUCTION_GCS_BUCKETNAME + "/" + googleId).getKeyString();
     }
 
+    /**
+     * Writes {@code data} to the object {@code objectName} in the Google Cloud Storage bucket {@code bucketName},
+     * replacing the object if it exists.
+     */
+    public static void writeDataToGcs(String bucketName, String objectName, byte[] data) throws IOException {
+        GcsFilename gcsFilename = new GcsFilename(bucketName, objectName);
+        try (GcsOutputChannel outputChannel =
+                GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
+                .createOrReplace(gcsFilename, GcsFileOptions.getDefaultInstance())) {
+
+            outputChannel.write(ByteBuffer.wrap(data));
+        }
+    }
+
+    /**
+     * Opens the object {@code objectName} in the Google Cloud Storage bucket {@code bucketName} for reading.
+     *
+     * @return null if there is no such object
+     */
+    public static InputStream readDataFromGcs(String bucketName, String objectName) throws IOException {
+        GcsService gcsService = GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance());
+        GcsFilename gcsFilename = new GcsFilename(bucketName, objectName);
+        if (gcsService.getMetadata(gcsFilename) == null) {
+            return null;
+        }
+        return Channels.newInputStream(gcsService.openPrefetchingReadChannel(gcsFilename, 0, 1024 * 1024));
+    }
+
     /**
      * Creates and invokes a URL for uploading a large blob to Google Cloud Storage.
      * Upon completion of the upload, a callback is made to the specified {@code callbackUrl}.<br>
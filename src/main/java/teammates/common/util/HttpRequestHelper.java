@@ -60,6 +60,26 @@ public final class HttpRequestHelper {
                 .replaceAll(",\r?\n *", ", ");
     }
 
+    /**
+     * Returns true if the client accepts responses compressed with gzip, according to the Accept-Encoding header
+     * of the HTTP request.
+     */
+    public static boolean isGzipAccepted(HttpServletRequest req) {
+        String acceptEncoding = req.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] codingAndParams = coding.split(";");
+            if ("gzip".equalsIgnoreCase(codingAndParams[0].trim())) {
+                // a quality value of 0 means "not acceptable"
+                return Arrays.stream(codingAndParams).skip(1).map(String::trim)
+                        .noneMatch(param -> param.matches("q=0(\\.0*)?"));
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns the URL used for the HTTP request but without the domain, e.g. "/page/studentHome?user=james"
      */
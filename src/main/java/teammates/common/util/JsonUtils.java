@@ -1,65 +1,109 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 
 /**
  * Provides means to handle, manipulate, and convert JSON objects to/from strings.
+ *
+ * <p>The underlying {@link Gson} instances are thread-safe and are shared by all callers,
+ * so that the reflective type adapters are only built once per type.
  */
 public final class JsonUtils {
 
+    private static final Gson TEAMMATES_GSON = createTeammatesGsonBuilder().setPrettyPrinting().create();
+
+    private static final Gson TEAMMATES_COMPACT_GSON = createTeammatesGsonBuilder().create();
+
     private JsonUtils() {
         // utility class
     }
 
     /**
-     * This creates a Gson object that can handle the Date format we use in the
-     * Json file and also reformat the Json string in pretty-print format.
+     * This creates a GsonBuilder that can handle the Date format we use in the Json file.
      */
-    private static Gson getTeammatesGson() {
+    private static GsonBuilder createTeammatesGsonBuilder() {
         return new GsonBuilder()
-                .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
-                .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
-                .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
-                .registerTypeAdapter(FeedbackResponseDetails.class, new TeammatesFeedbackResponseDetailsAdapter())
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create();
+                .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter().nullSafe())
+                .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter().nullSafe())
+                .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter().nullSafe())
+                .registerTypeAdapterFactory(new FeedbackDetailsAdapterFactory())
+                .disableHtmlEscaping();
     }
 
     /**
-     * Serializes the specified object into its equivalent JSON string.
+     * Serializes the specified object into its equivalent JSON string in pretty-print format.
      *
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return TEAMMATES_GSON.toJson(src, typeOfSrc);
     }
 
     /**
-     * Serializes the specified object into its equivalent JSON string.
+     * Serializes the specified object into its equivalent JSON string in pretty-print format.
      *
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return TEAMMATES_GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON string without any whitespace.
+     *
+     * <p>This is the preferred format for JSON that is stored or sent over the wire.
+     *
+     * @see Gson#toJson(Object, Type)
+     */
+    public static String toCompactJson(Object src, Type typeOfSrc) {
+        return TEAMMATES_COMPACT_GSON.toJson(src, typeOfSrc);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON string without any whitespace.
+     *
+     * @see #toCompactJson(Object, Type)
+     */
+    public static String toCompactJson(Object src) {
+        return TEAMMATES_COMPACT_GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON without any whitespace, streaming it to
+     * {@code writer} instead of building the whole JSON string in memory.
+     *
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toCompactJson(Object src, Writer writer) throws IOException {
+        JsonWriter jsonWriter = TEAMMATES_COMPACT_GSON.newJsonWriter(writer);
+        TEAMMATES_COMPACT_GSON.toJson(src, src.getClass(), jsonWriter);
+        jsonWriter.flush();
     }
 
     /**
@@ -68,7 +112,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getTeammatesGson().fromJson(json, typeOfT);
+        return TEAMMATES_GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -81,73 +125,117 @@ public final class JsonUtils {
         return parser.parse(json);
     }
 
-    private static class TeammatesInstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+    private static class TeammatesInstantAdapter extends TypeAdapter<Instant> {
 
         @Override
-        public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+        public void write(JsonWriter out, Instant instant) throws IOException {
+            out.value(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
-        public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+        public Instant read(JsonReader in) throws IOException {
+            return Instant.parse(in.nextString());
         }
     }
 
-    private static class TeammatesZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
+    private static class TeammatesZoneIdAdapter extends TypeAdapter<ZoneId> {
 
         @Override
-        public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+        public void write(JsonWriter out, ZoneId zoneId) throws IOException {
+            out.value(zoneId.getId());
         }
 
         @Override
-        public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+        public ZoneId read(JsonReader in) throws IOException {
+            return ZoneId.of(in.nextString());
         }
     }
 
-    private static class TeammatesDurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
+    private static class TeammatesDurationMinutesAdapter extends TypeAdapter<Duration> {
 
         @Override
-        public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+        public void write(JsonWriter out, Duration duration) throws IOException {
+            out.value(duration.toMinutes());
         }
 
         @Override
-        public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+        public Duration read(JsonReader in) throws IOException {
+            return Duration.ofMinutes(in.nextLong());
         }
     }
 
-    private static class TeammatesFeedbackResponseDetailsAdapter implements JsonSerializer<FeedbackResponseDetails>,
-            JsonDeserializer<FeedbackResponseDetails> {
+    /**
+     * Handles fields declared as {@link FeedbackResponseDetails} or {@link FeedbackQuestionDetails}
+     * by dispatching to the adapter of the concrete class for the question type.
+     *
+     * <p>The concrete adapters are resolved once per {@link Gson} instance.
+     */
+    private static class FeedbackDetailsAdapterFactory implements TypeAdapterFactory {
 
         @Override
-        public JsonElement serialize(FeedbackResponseDetails src, Type typeOfSrc, JsonSerializationContext context)
-                throws JsonParseException {
-            return context.serialize(src, src.questionType.getResponseDetailsClass());
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<? super T> rawType = type.getRawType();
+            if (rawType == FeedbackResponseDetails.class) {
+                Map<FeedbackQuestionType, TypeAdapter<FeedbackResponseDetails>> adapters =
+                        new EnumMap<>(FeedbackQuestionType.class);
+                for (FeedbackQuestionType questionType : FeedbackQuestionType.values()) {
+                    adapters.put(questionType, (TypeAdapter<FeedbackResponseDetails>)
+                            gson.getDelegateAdapter(this, TypeToken.get(questionType.getResponseDetailsClass())));
+                }
+                return (TypeAdapter<T>) new FeedbackDetailsAdapter<>(adapters, details -> details.questionType);
+            }
+            if (rawType == FeedbackQuestionDetails.class) {
+                Map<FeedbackQuestionType, TypeAdapter<FeedbackQuestionDetails>> adapters =
+                        new EnumMap<>(FeedbackQuestionType.class);
+                for (FeedbackQuestionType questionType : FeedbackQuestionType.values()) {
+                    adapters.put(questionType, (TypeAdapter<FeedbackQuestionDetails>)
+                            gson.getDelegateAdapter(this, TypeToken.get(questionType.getQuestionDetailsClass())));
+                }
+                return (TypeAdapter<T>) new FeedbackDetailsAdapter<>(adapters,
+                        FeedbackQuestionDetails::getQuestionType);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Polymorphic adapter for question/response details keyed by {@link FeedbackQuestionType}.
+     */
+    private static class FeedbackDetailsAdapter<T> extends TypeAdapter<T> {
+
+        private final Map<FeedbackQuestionType, TypeAdapter<T>> adapters;
+        private final Function<T, FeedbackQuestionType> questionTypeExtractor;
+
+        FeedbackDetailsAdapter(Map<FeedbackQuestionType, TypeAdapter<T>> adapters,
+                               Function<T, FeedbackQuestionType> questionTypeExtractor) {
+            this.adapters = adapters;
+            this.questionTypeExtractor = questionTypeExtractor;
         }
 
         @Override
-        public FeedbackResponseDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            FeedbackQuestionType questionType =
-                    FeedbackQuestionType.valueOf(json.getAsJsonObject().get("questionType").getAsString());
-            return context.deserialize(json, questionType.getResponseDetailsClass());
+        public void write(JsonWriter out, T details) throws IOException {
+            if (details == null) {
+                out.nullValue();
+                return;
+            }
+            adapters.get(questionTypeExtractor.apply(details)).write(out, details);
         }
 
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            // the question type is not guaranteed to come before the other fields,
+            // so the object has to be buffered before the concrete class is known
+            JsonObject json = new JsonParser().parse(in).getAsJsonObject();
+            JsonElement questionType = json.get("questionType");
+            if (questionType == null) {
+                throw new JsonParseException("Missing questionType in " + json);
+            }
+            return adapters.get(FeedbackQuestionType.valueOf(questionType.getAsString())).fromJsonTree(json);
+        }
     }
 }
@@ -0,0 +1,70 @@
+package teammates.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Derives stable pseudonyms from participant names, for use in anonymous names.
+ *
+ * <p>A pseudonym is derived either by hashing the name encrypted with the application key, or by taking an HMAC
+ * of the name keyed with the application key. Deriving a pseudonym is the costly part of anonymizing a name,
+ * so each instance memoizes the pseudonyms it derives. An instance is meant to be used by one thread for the
+ * duration of one task, e.g. building the results of a session; it is not thread-safe.
+ */
+public class Pseudonymizer {
+
+    /**
+     * How pseudonyms are derived.
+     */
+    public enum Mode {
+        /** Hash code of the name encrypted with {@link StringHelper#encrypt(String)}. */
+        ENCRYPTION,
+
+        /** Leading 60 bits of the HMAC of the name from {@link StringHelper#computeHmac(String)}. */
+        HMAC
+    }
+
+    private final Mode mode;
+
+    private final Map<String, String> pseudonyms = new HashMap<>();
+
+    /**
+     * Creates a pseudonymizer using the mode configured in {@link Config#ANONYMIZATION_MODE}.
+     */
+    public Pseudonymizer() {
+        this(getConfiguredMode());
+    }
+
+    public Pseudonymizer(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Returns the mode configured in {@link Config#ANONYMIZATION_MODE}.
+     */
+    public static Mode getConfiguredMode() {
+        return Config.isUsingHmacAnonymization() ? Mode.HMAC : Mode.ENCRYPTION;
+    }
+
+    /**
+     * Returns the pseudonym of {@code name}, derived in the configured mode without memoization.
+     */
+    public static String derivePseudonym(String name) {
+        return derivePseudonym(getConfiguredMode(), name);
+    }
+
+    private static String derivePseudonym(Mode mode, String name) {
+        if (mode == Mode.HMAC) {
+            return Long.toString(Long.parseLong(StringHelper.computeHmac(name).substring(0, 15), 16));
+        }
+        return Long.toString(Math.abs((long) StringHelper.encrypt(name).hashCode()));
+    }
+
+    /**
+     * Returns the pseudonym of {@code name}, deriving it only the first time it is requested from this instance.
+     */
+    public String getPseudonym(String name) {
+        return pseudonyms.computeIfAbsent(name, key -> derivePseudonym(mode, key));
+    }
+
+}
@@ -0,0 +1,91 @@
+package teammates.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches the results of datastore queries for the duration of a single request.
+ *
+ * <p>A request often runs the same query more than once, e.g. fetching the instructors of a course
+ * both in access control and in the action itself. While a cache is bound to the current thread by
+ * {@link #begin()}, the first result of each query is kept and returned for the subsequent identical
+ * queries, until an entity of the same kind is written. Outside of a request, e.g. in tests and
+ * client scripts, every query is run against the datastore as usual.
+ *
+ * <p>Entities fetched by key are not cached here, as they are already cached by the Objectify session.
+ */
+public final class RequestCache {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final ThreadLocal<RequestCache> CURRENT_CACHE = new ThreadLocal<>();
+
+    private final Map<String, Map<String, Object>> results = new HashMap<>();
+    private int hits;
+    private int misses;
+
+    private RequestCache() {
+        // bound to a thread via begin()
+    }
+
+    /**
+     * Binds an empty cache to the current thread. To be called at the start of a request.
+     */
+    public static void begin() {
+        CURRENT_CACHE.set(new RequestCache());
+    }
+
+    /**
+     * Unbinds the cache from the current thread and logs its hit and miss counts.
+     * To be called at the end of a request.
+     */
+    public static void end() {
+        RequestCache cache = CURRENT_CACHE.get();
+        if (cache == null) {
+            return;
+        }
+        CURRENT_CACHE.remove();
+
+        if (cache.hits + cache.misses > 0) {
+            log.info("Request cache: " + cache.hits + " hits, " + cache.misses + " misses");
+        }
+    }
+
+    /**
+     * Gets the result of a query, running it only if there is no cached result.
+     *
+     * @param kind the kind of entity the query is for
+     * @param queryKey identifies the query and its parameters among the queries for {@code kind}
+     * @param query runs the query against the datastore
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String kind, String queryKey, Supplier<T> query) {
+        RequestCache cache = CURRENT_CACHE.get();
+        if (cache == null) {
+            return query.get();
+        }
+
+        Map<String, Object> resultsOfKind = cache.results.computeIfAbsent(kind, k -> new HashMap<>());
+        if (resultsOfKind.containsKey(queryKey)) {
+            cache.hits++;
+            return (T) resultsOfKind.get(queryKey);
+        }
+
+        cache.misses++;
+        T result = query.get();
+        resultsOfKind.put(queryKey, result);
+        return result;
+    }
+
+    /**
+     * Discards the cached results of all queries for {@code kind}. To be called whenever an entity of that kind is written.
+     */
+    public static void invalidate(String kind) {
+        RequestCache cache = CURRENT_CACHE.get();
+        if (cache != null) {
+            cache.results.remove(kind);
+        }
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,6 +15,7 @@ import java.util.stream.IntStream;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
 import com.google.common.base.CharMatcher;
@@ -27,6 +30,11 @@ import teammates.common.exception.TeammatesException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    // Initializing a cipher is much more expensive than using it, so each thread keeps its own initialized ones
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHER = new ThreadLocal<>();
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHER = new ThreadLocal<>();
+    private static final ThreadLocal<Mac> HMAC = new ThreadLocal<>();
+
     private StringHelper() {
         // utility class
     }
@@ -124,12 +132,10 @@ public final class StringHelper {
 
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes());
+            byte[] encrypted = getEncryptionCipher().doFinal(value.getBytes());
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
+            ENCRYPTION_CIPHER.remove();
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
             return null;
         }
@@ -145,20 +151,66 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = getDecryptionCipher().doFinal(hexStringToByteArray(message));
             return new String(decrypted);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            // the cipher may be left in an unusable state by a failed decryption
+            DECRYPTION_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
+            DECRYPTION_CIPHER.remove();
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            return null;
+        }
+    }
+
+    /**
+     * Computes the HMAC-SHA256 of the supplied string, keyed with the encryption key of the application.
+     *
+     * <p>Unlike {@link #encrypt(String)}, the result cannot be reverted to the supplied string,
+     * even with the key.
+     *
+     * @return the HMAC as a hexadecimal string
+     */
+    public static String computeHmac(String value) {
+        try {
+            Mac mac = HMAC.get();
+            if (mac == null) {
+                mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "HmacSHA256"));
+                HMAC.set(mac);
+            }
+            return byteArrayToHexString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            HMAC.remove();
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
             return null;
         }
     }
 
+    private static Cipher getEncryptionCipher() throws GeneralSecurityException {
+        Cipher cipher = ENCRYPTION_CIPHER.get();
+        if (cipher == null) {
+            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
+            ENCRYPTION_CIPHER.set(cipher);
+        }
+        return cipher;
+    }
+
+    private static Cipher getDecryptionCipher() throws GeneralSecurityException {
+        Cipher cipher = DECRYPTION_CIPHER.get();
+        if (cipher == null) {
+            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.DECRYPT_MODE, sks);
+            DECRYPTION_CIPHER.set(cipher);
+        }
+        return cipher;
+    }
+
     /**
      * Converts and concatenates a list of objects to a single string, separated by line breaks.
      * The conversion is done by using the {@link Object#toString()} method.
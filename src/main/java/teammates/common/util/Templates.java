@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.util.Map;
+
 public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
@@ -26,6 +28,21 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    /**
+     * Populates the HTML templates by replacing variables in the template string
+     * with the given value strings.
+     * @param template The template html to be populated
+     * @param variables The value of each variable, keyed by variable
+     * @return The populated template
+     */
+    public static String populateTemplate(String template, Map<String, String> variables) {
+        String populatedTemplate = template;
+        for (Map.Entry<String, String> variable : variables.entrySet()) {
+            populatedTemplate = populatedTemplate.replace(variable.getKey(), variable.getValue());
+        }
+        return populatedTemplate;
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
@@ -2,10 +2,13 @@ package teammates.logic.api;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.appengine.api.log.AppLogLine;
 
+import teammates.common.datatransfer.FeedbackSessionCompletionMatrix;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -13,6 +16,7 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.AppUrl;
+import teammates.common.util.Assumption;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
@@ -61,7 +65,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPENING);
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
@@ -72,12 +76,8 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<StudentAttributes>();
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
+                                                 EmailType.FEEDBACK_OPENING.getSubject());
     }
 
     /**
@@ -264,8 +264,7 @@ public class EmailGenerator {
                 .withSessionName(session.getFeedbackSessionName())
                 .toAbsoluteString();
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
+        String emailTemplate = Templates.populateTemplate(template,
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
@@ -277,9 +276,12 @@ public class EmailGenerator {
                 "${feedbackAction}", FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW,
                 "${additionalContactInformation}", additionalContactInformation);
 
+        Map<String, String> substitutions = new LinkedHashMap<>();
+        substitutions.put("${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
+
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
+        email.setContentFromTemplate(emailTemplate, substitutions);
         return email;
     }
 
@@ -292,21 +294,17 @@ public class EmailGenerator {
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
 
         if (isEmailNeeded) {
-            List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
-
-            for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
+            try {
+                FeedbackSessionCompletionMatrix completionMatrix = fsLogic.getFeedbackSessionCompletionMatrixForStudents(
+                        session.getFeedbackSessionName(), session.getCourseId());
+                for (StudentAttributes student : studentsLogic.getStudentsForCourse(session.getCourseId())) {
+                    if (!completionMatrix.isFullyCompletedBy(student.email)) {
                         students.add(student);
                     }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
                 }
+            } catch (EntityDoesNotExistException e) {
+                log.severe("Course " + session.getCourseId() + " does not exist or "
+                           + "session " + session.getFeedbackSessionName() + " does not exist");
             }
         }
 
@@ -347,21 +345,6 @@ public class EmailGenerator {
                 EmailType.FEEDBACK_CLOSED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
     }
 
-    /**
-     * Generates the feedback session published emails for the given {@code session}.
-     */
-    public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSessionAttributes session) {
-
-        boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
-        List<InstructorAttributes> instructors = isEmailNeeded
-                                                 ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
-                                                 : new ArrayList<>();
-        List<StudentAttributes> students = isEmailNeeded
-                                           ? studentsLogic.getStudentsForCourse(session.getCourseId())
-                                           : new ArrayList<>();
-        return generateFeedbackSessionPublishedEmails(session, students, instructors);
-    }
-
     /**
      * Generates the feedback session published emails for the given {@code students} and
      * {@code instructors} in {@code session}.
@@ -379,23 +362,46 @@ public class EmailGenerator {
     }
 
     /**
-     * Generates the feedback session published emails for the given {@code session}.
+     * Generates the email of {@code emailType} for {@code session} to a single student or instructor.
+     *
+     * <p>Only the published and unpublished emails, which are sent to everyone in the course, are supported.
+     *
+     * @return null if the recipient is no longer in the course.
      */
-    public List<EmailWrapper> generateFeedbackSessionUnpublishedEmails(FeedbackSessionAttributes session) {
-
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+    public EmailWrapper generateFeedbackSessionEmailForRecipient(FeedbackSessionAttributes session,
+            EmailType emailType, String recipientEmail, boolean isRecipientInstructor) {
+
+        String template;
+        String feedbackAction;
+        switch (emailType) {
+        case FEEDBACK_PUBLISHED:
+            template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+            feedbackAction = FEEDBACK_ACTION_VIEW;
+            break;
+        case FEEDBACK_UNPUBLISHED:
+            template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+            feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
+            break;
+        default:
+            Assumption.fail("Email of type " + emailType + " cannot be generated for a single recipient");
+            return null;
+        }
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
-        List<InstructorAttributes> instructors = isEmailNeeded
-                                                 ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
-                                                 : new ArrayList<InstructorAttributes>();
-        List<StudentAttributes> students = isEmailNeeded
-                                           ? studentsLogic.getStudentsForCourse(session.getCourseId())
-                                           : new ArrayList<StudentAttributes>();
+        String additionalContactInformation = getAdditionalContactInformationFragment(course);
 
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                EmailType.FEEDBACK_UNPUBLISHED.getSubject());
+        if (isRecipientInstructor) {
+            InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(course.getId(), recipientEmail);
+            return instructor == null
+                    ? null
+                    : generateFeedbackSessionEmailBaseForInstructors(course, session, instructor, template,
+                            emailType.getSubject(), feedbackAction, additionalContactInformation);
+        }
+        StudentAttributes student = studentsLogic.getStudentForEmail(course.getId(), recipientEmail);
+        return student == null
+                ? null
+                : generateFeedbackSessionEmailBaseForStudents(course, session, student, template,
+                        emailType.getSubject(), feedbackAction, additionalContactInformation);
     }
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
@@ -441,22 +447,25 @@ public class EmailGenerator {
                 .withStudentEmail(student.email)
                 .toAbsoluteString();
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
+        // the parts specific to the student are left as variables, so that the emails can be sent in a batch
+        String emailTemplate = Templates.populateTemplate(template,
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
                 "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
                 "${instructorFragment}", "",
                 "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
                 "${feedbackAction}", feedbackAction,
                 "${additionalContactInformation}", additionalContactInformation);
 
+        Map<String, String> substitutions = new LinkedHashMap<>();
+        substitutions.put("${userName}", SanitizationHelper.sanitizeForHtml(student.name));
+        substitutions.put("${submitUrl}", submitUrl);
+        substitutions.put("${reportUrl}", reportUrl);
+
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
+        email.setContentFromTemplate(emailTemplate, substitutions);
         return email;
     }
 
@@ -481,8 +490,7 @@ public class EmailGenerator {
 
         String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
+        String emailTemplate = Templates.populateTemplate(template,
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
@@ -494,9 +502,12 @@ public class EmailGenerator {
                 "${feedbackAction}", feedbackAction,
                 "${additionalContactInformation}", additionalContactInformation);
 
+        Map<String, String> substitutions = new LinkedHashMap<>();
+        substitutions.put("${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
+
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
+        email.setContentFromTemplate(emailTemplate, substitutions);
         return email;
     }
 
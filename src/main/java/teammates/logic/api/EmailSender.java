@@ -39,7 +39,24 @@ public class EmailSender {
      */
     public void sendEmail(EmailWrapper message) throws EmailSendingException {
         service.sendEmail(message);
+        logSentEmail(message);
+    }
+
+    /**
+     * Sends the given {@code messages} and generates a log report for each of them.
+     *
+     * <p>Messages generated from the same template are sent together where the email service allows it,
+     * which takes fewer calls to the service than sending the messages one by one.
+     */
+    public void sendEmails(List<EmailWrapper> messages) throws EmailSendingException {
+        service.sendEmails(messages);
+
+        for (EmailWrapper message : messages) {
+            logSentEmail(message);
+        }
+    }
 
+    private void logSentEmail(EmailWrapper message) {
         String emailLogInfo = String.join("|||", "TEAMMATESEMAILLOG",
                 message.getRecipient(), message.getSubject(), message.getContent());
         log.info(emailLogInfo);
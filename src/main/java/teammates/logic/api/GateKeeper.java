@@ -17,9 +17,9 @@ import teammates.common.exception.FeedbackSessionNotVisibleException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
-import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
+import teammates.logic.core.UserRolesLogic;
 
 /**
  * Provides access control mechanisms.
@@ -28,9 +28,9 @@ public class GateKeeper {
 
     private static UserService userService = UserServiceFactory.getUserService();
 
-    private static final AccountsLogic accountsLogic = AccountsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final UserRolesLogic userRolesLogic = UserRolesLogic.inst();
 
     public boolean isUserLoggedOn() {
         return userService.getCurrentUser() != null;
@@ -43,28 +43,14 @@ public class GateKeeper {
             return null;
         }
 
-        UserInfo userInfo = new UserInfo(user);
-
-        if (isAdministrator()) {
-            userInfo.isAdmin = true;
-        }
-
-        if (isInstructor()) {
-            userInfo.isInstructor = true;
-        }
-
-        if (isStudent()) {
-            userInfo.isStudent = true;
-        }
-
+        UserInfo userInfo = userRolesLogic.getUserRoles(user.getNickname());
+        userInfo.isAdmin = isAdministrator();
         return userInfo;
     }
 
     public UserInfo getMasqueradeUser(String googleId) {
-        UserInfo userInfo = new UserInfo(googleId);
+        UserInfo userInfo = userRolesLogic.getUserRoles(googleId);
         userInfo.isAdmin = false;
-        userInfo.isInstructor = accountsLogic.isAccountAnInstructor(googleId);
-        userInfo.isStudent = studentsLogic.isStudentInAnyCourse(googleId);
         return userInfo;
     }
 
@@ -366,19 +352,6 @@ public class GateKeeper {
         return userService.isUserAdmin();
     }
 
-    private boolean isInstructor() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-        return accountsLogic.isAccountAnInstructor(user.getNickname());
-    }
-
-    private boolean isStudent() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-
-        return studentsLogic.isStudentInAnyCourse(user.getNickname());
-    }
-
     public void verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(AccountAttributes account, String courseId,
             String section, String email) {
         if (isAdministrator()) {
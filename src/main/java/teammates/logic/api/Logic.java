@@ -1,24 +1,33 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.google.appengine.api.blobstore.BlobKey;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.FeedbackResponsesQuery;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
+import teammates.common.datatransfer.FeedbackSessionRespondents;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
+import teammates.common.datatransfer.Page;
 import teammates.common.datatransfer.SectionDetailsBundle;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -39,6 +48,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.SectionDetail;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.CourseDeletionsLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.DataBundleLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
@@ -47,6 +57,7 @@ import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.SearchIndexesLogic;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -60,12 +71,14 @@ public class Logic {
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final CourseDeletionsLogic courseDeletionsLogic = CourseDeletionsLogic.inst();
     private static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     private static final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic =
             FeedbackResponseCommentsLogic.inst();
     private static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    private static final SearchIndexesLogic searchIndexesLogic = SearchIndexesLogic.inst();
     private static final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
 
     /**
@@ -617,6 +630,55 @@ public class Logic {
         coursesLogic.deleteAllCoursesCascade(instructorList);
     }
 
+    /**
+     * Starts the permanent deletion of a course and all data related to the course from Recycle Bin,
+     * as requested by the instructor with the Google ID {@code requesterId}.
+     * The deletion is to be continued with {@link #continueCourseDeletion(CourseDeletionProgress)}
+     * until it is done. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the progress to continue the deletion from
+     */
+    public CourseDeletionProgress startCourseDeletion(String courseId, String requesterId) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(requesterId);
+        return courseDeletionsLogic.startCourseDeletion(courseId, requesterId);
+    }
+
+    /**
+     * Continues the permanent deletion of a course for a bounded number of pages of data. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the progress after the pages deleted
+     */
+    public CourseDeletionProgress continueCourseDeletion(CourseDeletionProgress checkpoint) {
+        Assumption.assertNotNull(checkpoint);
+        return courseDeletionsLogic.continueCourseDeletion(checkpoint);
+    }
+
+    /**
+     * Returns true if the course is being permanently deleted, in which case it is no longer in Recycle Bin. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public boolean isCourseBeingDeleted(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return courseDeletionsLogic.isCourseBeingDeleted(courseId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the last saved progress of the permanent deletion of the course, or null if it has never been deleted
+     */
+    public CourseDeletionProgress getCourseDeletionProgress(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return courseDeletionsLogic.getCourseDeletionProgress(courseId);
+    }
+
     /**
      * Checks if the course is present in the system based on its courseid.
      */
@@ -795,6 +857,28 @@ public class Logic {
         return coursesLogic.getSectionsForCourseWithoutStats(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see CoursesLogic#getCourseRoster(String)
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return coursesLogic.getCourseRoster(courseId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see CoursesLogic#getCourseRosterVersion(String)
+     */
+    public Long getCourseRosterVersion(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return coursesLogic.getCourseRosterVersion(courseId);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -905,7 +989,7 @@ public class Logic {
      *         course that were not touched by the operation.
      */
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
-            throws EnrollException, EntityDoesNotExistException, InvalidParametersException, EntityAlreadyExistsException {
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException {
 
         Assumption.assertNotNull(courseId);
         Assumption.assertNotNull(enrollLines);
@@ -914,6 +998,21 @@ public class Logic {
 
     }
 
+    /**
+     * Adjusts the responses of students whose team or section were changed by an enrollment.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#adjustFeedbackResponsesForEnrollment(List)
+     */
+    public void adjustFeedbackResponsesForEnrollment(List<StudentEnrollDetails> enrollmentList)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(enrollmentList);
+
+        studentsLogic.adjustFeedbackResponsesForEnrollment(enrollmentList);
+    }
+
     public List<StudentAttributes> getUnregisteredStudentsForCourse(String courseId) {
         Assumption.assertNotNull(courseId);
         return studentsLogic.getUnregisteredStudentsForCourse(courseId);
@@ -932,6 +1031,14 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Checks whether students can view the feedback session, i.e. whether the emails of the session are sent to them.
+     */
+    public boolean isFeedbackSessionViewableToStudents(FeedbackSessionAttributes fsa) {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.isFeedbackSessionViewableToStudents(fsa);
+    }
+
     /**
      * Deletes the student from the course including any submissions to/from
      * for this student in this course.
@@ -1197,27 +1304,37 @@ public class Logic {
     /**
      * Gets the recipients of a feedback question for student.
      *
-     * @see FeedbackQuestionsLogic#getRecipientsOfQuestionForStudent(FeedbackQuestionAttributes, String, String)
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestionForStudent(FeedbackQuestionAttributes, String, String,
+     *      CourseRoster)
      */
     public Map<String, String> getRecipientsOfQuestionForStudent(
-            FeedbackQuestionAttributes question, String giverEmail, String giverTeam) {
+            FeedbackQuestionAttributes question, String giverEmail, String giverTeam, CourseRoster roster) {
         Assumption.assertNotNull(question);
         Assumption.assertNotNull(giverEmail);
         Assumption.assertNotNull(giverTeam);
+        Assumption.assertNotNull(roster);
 
-        return feedbackQuestionsLogic.getRecipientsOfQuestionForStudent(question, giverEmail, giverTeam);
+        return feedbackQuestionsLogic.getRecipientsOfQuestionForStudent(question, giverEmail, giverTeam, roster);
     }
 
     /**
      * Gets the recipients of a feedback question for instructor.
      *
-     * @see FeedbackQuestionsLogic#getRecipientsOfQuestionForInstructor(FeedbackQuestionAttributes, String)
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestionForInstructor(FeedbackQuestionAttributes, String, CourseRoster)
      */
-    public Map<String, String> getRecipientsOfQuestionForInstructor(FeedbackQuestionAttributes question, String giverEmail) {
+    public Map<String, String> getRecipientsOfQuestionForInstructor(
+            FeedbackQuestionAttributes question, String giverEmail, CourseRoster roster) {
         Assumption.assertNotNull(question);
         Assumption.assertNotNull(giverEmail);
+        Assumption.assertNotNull(roster);
 
-        return feedbackQuestionsLogic.getRecipientsOfQuestionForInstructor(question, giverEmail);
+        return feedbackQuestionsLogic.getRecipientsOfQuestionForInstructor(question, giverEmail, roster);
     }
 
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackSessionName,
@@ -1305,6 +1422,30 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) in CSV format to {@code writer},
+     * one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters (except section and questionId) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String,
+     *      String, SectionDetail, String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryInSectionAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail, String section,
+            SectionDetail sectionDetail, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(sectionDetail);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section, sectionDetail,
+                questionId, isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1349,12 +1490,25 @@ public class Logic {
         return feedbackSessionsLogic.updateFeedbackSession(updateOptions);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the students and instructors who have responded to the feedback session
+     */
+    public FeedbackSessionRespondents getFeedbackSessionRespondents(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return feedbackSessionsLogic.getFeedbackSessionRespondents(feedbackSessionName, courseId);
+    }
+
     /**
      * Adds an instructor with {@code email} in the instructor respondent set
      * in feedback session {@code feedbackSessionName} in {@code courseId}.
      */
     public void addInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1368,7 +1522,7 @@ public class Logic {
      * in feedback session {@code feedbackSessionName} in {@code courseId}.
      */
     public void addStudentRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1382,7 +1536,7 @@ public class Logic {
      * in session {@code feedbackSessionName} of course {@code courseId}.
      */
     public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1396,7 +1550,7 @@ public class Logic {
      * in session {@code feedbackSessionName} of course {@code courseId}.
      */
     public void deleteStudentRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(email);
         Assumption.assertNotNull(feedbackSessionName);
@@ -1797,29 +1951,6 @@ public class Logic {
                                                                                      userEmail, section, sectionDetail);
     }
 
-    /**
-     * Get existing feedback responses from student or his team for the given question.
-     */
-    public List<FeedbackResponseAttributes> getFeedbackResponsesFromStudentOrTeamForQuestion(
-            FeedbackQuestionAttributes question, StudentAttributes student) {
-        Assumption.assertNotNull(question);
-        Assumption.assertNotNull(student);
-
-        return feedbackResponsesLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(question, student);
-    }
-
-    /**
-     * Get existing feedback responses from instructor for the given question.
-     */
-    public List<FeedbackResponseAttributes> getFeedbackResponsesFromInstructorForQuestion(
-            FeedbackQuestionAttributes question, InstructorAttributes instructorAttributes) {
-        Assumption.assertNotNull(question);
-        Assumption.assertNotNull(instructorAttributes);
-
-        return feedbackResponsesLogic.getFeedbackResponsesFromGiverForQuestion(
-                question.getFeedbackQuestionId(), instructorAttributes.getEmail());
-    }
-
     public FeedbackResponseAttributes getFeedbackResponse(String feedbackResponseId) {
         Assumption.assertNotNull(feedbackResponseId);
         return feedbackResponsesLogic.getFeedbackResponse(feedbackResponseId);
@@ -1855,6 +1986,32 @@ public class Logic {
         return feedbackResponsesLogic.hasResponsesForCourse(courseId);
     }
 
+    /**
+     * Gets a page of the responses matched by the query.
+     *
+     * <p>Preconditions: <br>
+     * * {@code query} is non-null and {@code pageSize} is positive.
+     *
+     * @param cursor the cursor of the previous page, or null to get the first page
+     * @return at most {@code pageSize} responses, with the cursor of the next page if there are more responses
+     */
+    public Page<FeedbackResponseAttributes> getFeedbackResponsesPage(
+            FeedbackResponsesQuery query, String cursor, int pageSize) {
+        Assumption.assertNotNull(query);
+        return feedbackResponsesLogic.getFeedbackResponsesPage(query, cursor, pageSize);
+    }
+
+    /**
+     * Gets the responses matched by the query as a stream which fetches the responses lazily in batches.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponses(FeedbackResponsesQuery query) {
+        Assumption.assertNotNull(query);
+        return feedbackResponsesLogic.streamFeedbackResponses(query);
+    }
+
     public boolean isOpenOrPublishedEmailSentForTheCourse(String courseId) {
         Assumption.assertNotNull(courseId);
         return feedbackSessionsLogic.isOpenOrPublishedEmailSentForTheCourse(courseId);
@@ -2082,4 +2239,14 @@ public class Logic {
         dataBundleLogic.putDocuments(dataBundle);
     }
 
+    /**
+     * Saves the snapshot of the in-memory search indexes if they have changed since the last save.
+     *
+     * @return true if the snapshot was saved
+     * @see SearchIndexesLogic#saveSearchIndexSnapshotIfChanged()
+     */
+    public boolean saveSearchIndexSnapshotIfChanged() {
+        return searchIndexesLogic.saveSearchIndexSnapshotIfChanged();
+    }
+
 }
@@ -1,14 +1,24 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.Logger;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.TaskWrapper;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.TaskQueuesLogic;
 
 /**
@@ -16,7 +26,10 @@ import teammates.logic.core.TaskQueuesLogic;
  */
 public class TaskQueuer {
 
-    private static final Logger log = Logger.getLogger();
+    /**
+     * Maximum number of emails sent by one task, which keeps the task within the size limit of the task queue.
+     */
+    private static final int MAX_EMAILS_PER_TASK = 50;
 
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
@@ -37,6 +50,17 @@ public class TaskQueuer {
         new TaskQueuesLogic().addDeferredTask(task, countdownTime);
     }
 
+    protected void addDeferredTasks(String queueName, String workerUrl, List<Map<String, String>> paramMaps,
+                                    List<Long> countdownTimes) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (Map<String, String> paramMap : paramMaps) {
+            Map<String, String[]> multisetParamMap = new HashMap<>();
+            paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
+            tasks.add(new TaskWrapper(queueName, workerUrl, multisetParamMap));
+        }
+        new TaskQueuesLogic().addDeferredTasks(tasks, countdownTimes);
+    }
+
     protected void addTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap) {
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);
         new TaskQueuesLogic().addTask(task);
@@ -192,6 +216,36 @@ public class TaskQueuer {
                 TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the responses of the students whose team or section were changed by an enrollment
+     * to be adjusted.
+     *
+     * @param courseId the course ID of the enrollment
+     * @param enrollmentList the enrollment details of the students
+     */
+    public void scheduleFeedbackResponseAdjustmentForEnrollment(String courseId,
+                                                                List<StudentEnrollDetails> enrollmentList) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toCompactJson(enrollmentList));
+
+        addTask(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
+                TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules for the permanent deletion of a course to be continued from the given progress.
+     *
+     * @param checkpoint the progress of the deletion to continue from
+     */
+    public void scheduleCourseDeletion(CourseDeletionProgress checkpoint) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, checkpoint.getCourseId());
+        paramMap.put(ParamsNames.COURSE_DELETION_CHECKPOINT, JsonUtils.toCompactJson(checkpoint));
+
+        addTask(TaskQueue.COURSE_DELETION_QUEUE_NAME, TaskQueue.COURSE_DELETION_WORKER_URL, paramMap);
+    }
+
     public void scheduleUpdateRespondentForSession(
             String courseId, String feedbackSessionName, String email, boolean isInstructor, boolean isToBeRemoved) {
         Map<String, String> paramMap = new HashMap<>();
@@ -208,6 +262,10 @@ public class TaskQueuer {
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>Emails generated from the same template are sent in batches, one batch per task,
+     * with only the template and the values for each recipient queued.
+     * The tasks are equally spread out over one hour, with at most 5 seconds between two tasks.
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -215,46 +273,89 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
-        // Sets interval to a maximum of 5 seconds if the interval is too large
-        int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        List<Map<String, String>> paramMaps = new ArrayList<>();
+        for (List<EmailWrapper> batch : EmailSenderService.groupByTemplate(emails, MAX_EMAILS_PER_TASK)) {
+            EmailWrapper email = batch.get(0);
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.EMAIL_SUBJECT, email.getSubject());
+            paramMap.put(ParamsNames.EMAIL_SENDER, email.getSenderEmail());
+            if (email.getSenderName() != null && !email.getSenderName().isEmpty()) {
+                paramMap.put(ParamsNames.EMAIL_SENDERNAME, email.getSenderName());
+            }
+            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, email.getReplyTo());
+            if (batch.size() == 1) {
+                paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
+                paramMap.put(ParamsNames.EMAIL_RECEIVER, email.getRecipient());
+            } else {
+                Map<String, Map<String, String>> substitutionsByRecipient = new LinkedHashMap<>();
+                for (EmailWrapper emailInBatch : batch) {
+                    substitutionsByRecipient.put(emailInBatch.getRecipient(), emailInBatch.getSubstitutions());
+                }
+                paramMap.put(ParamsNames.EMAIL_CONTENT, email.getTemplate());
+                paramMap.put(ParamsNames.EMAIL_SUBSTITUTIONS, JsonUtils.toCompactJson(substitutionsByRecipient));
+            }
+            paramMaps.add(paramMap);
+        }
+
+        addDeferredTasks(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                paramMaps, getEmailCountdownTimes(paramMaps.size()));
+    }
 
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+    /**
+     * Schedules for the emails of {@code emailType} for {@code session} to be sent to the given students and instructors.
+     *
+     * <p>Only the recipients of the emails are queued, in batches of students or instructors, one batch per task;
+     * the emails themselves are generated when they are sent.
+     * The tasks are spread out in the same way as {@link #scheduleEmailsForSending(List)}.
+     *
+     * @see EmailGenerator#generateFeedbackSessionEmailForRecipient(FeedbackSessionAttributes, EmailType, String, boolean)
+     */
+    public void scheduleFeedbackSessionEmailsForSending(FeedbackSessionAttributes session, EmailType emailType,
+            List<StudentAttributes> students, List<InstructorAttributes> instructors) {
+        List<String> studentEmails = students.stream().map(student -> student.email).collect(Collectors.toList());
+        List<String> instructorEmails =
+                instructors.stream().map(instructor -> instructor.email).collect(Collectors.toList());
+
+        List<Map<String, String>> paramMaps = new ArrayList<>();
+        for (int i = 0; i < studentEmails.size(); i += MAX_EMAILS_PER_TASK) {
+            List<String> receivers = studentEmails.subList(i, Math.min(i + MAX_EMAILS_PER_TASK, studentEmails.size()));
+            paramMaps.add(getFeedbackSessionEmailParamMap(session, emailType, receivers, false));
+        }
+        for (int i = 0; i < instructorEmails.size(); i += MAX_EMAILS_PER_TASK) {
+            List<String> receivers =
+                    instructorEmails.subList(i, Math.min(i + MAX_EMAILS_PER_TASK, instructorEmails.size()));
+            paramMaps.add(getFeedbackSessionEmailParamMap(session, emailType, receivers, true));
         }
+        if (paramMaps.isEmpty()) {
+            return;
+        }
+
+        addDeferredTasks(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_FEEDBACK_SESSION_EMAIL_WORKER_URL,
+                paramMaps, getEmailCountdownTimes(paramMaps.size()));
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
-        try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
-            }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
-
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
-        } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+    private Map<String, String> getFeedbackSessionEmailParamMap(FeedbackSessionAttributes session, EmailType emailType,
+                                                                List<String> receivers, boolean isReceiverInstructor) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_COURSE, session.getCourseId());
+        paramMap.put(ParamsNames.EMAIL_FEEDBACK, session.getFeedbackSessionName());
+        paramMap.put(ParamsNames.EMAIL_TYPE, emailType.name());
+        paramMap.put(ParamsNames.EMAIL_RECEIVERS, JsonUtils.toCompactJson(receivers));
+        paramMap.put(ParamsNames.EMAIL_RECEIVER_IS_INSTRUCTOR, String.valueOf(isReceiverInstructor));
+        return paramMap;
+    }
+
+    private List<Long> getEmailCountdownTimes(int numberOfTasks) {
+        // Equally spread out the tasks sending the emails over 1 hour
+        // Sets interval to a maximum of 5 seconds if the interval is too large
+        int oneHourInMillis = 60 * 60 * 1000;
+        int taskIntervalMillis = Math.min(5000, oneHourInMillis / numberOfTasks);
+
+        List<Long> countdownTimes = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            countdownTimes.add((long) i * taskIntervalMillis);
         }
+        return countdownTimes;
     }
 
 }
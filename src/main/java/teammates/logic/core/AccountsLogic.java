@@ -32,6 +32,7 @@ public final class AccountsLogic {
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final UserRolesLogic userRolesLogic = UserRolesLogic.inst();
 
     private AccountsLogic() {
         // prevent initialization
@@ -52,6 +53,7 @@ public final class AccountsLogic {
         log.info("going to create account :\n" + accountData.toString());
 
         accountsDb.createAccount(accountData);
+        userRolesLogic.invalidateUserRoles(accountData.googleId);
     }
 
     public AccountAttributes getAccount(String googleId) {
@@ -244,6 +246,7 @@ public final class AccountsLogic {
             Assumption.fail("Invalid account data detected unexpectedly "
                     + "while removing instruction privileges from account :" + googleId + e.getMessage());
         }
+        userRolesLogic.invalidateUserRoles(googleId);
     }
 
     /**
@@ -255,6 +258,7 @@ public final class AccountsLogic {
                         .withIsInstructor(true)
                         .build()
         );
+        userRolesLogic.invalidateUserRoles(googleId);
     }
 
     /**
@@ -270,6 +274,7 @@ public final class AccountsLogic {
         instructorsLogic.deleteInstructorsForGoogleIdAndCascade(googleId);
         studentsLogic.deleteStudentsForGoogleIdAndCascade(googleId);
         accountsDb.deleteAccount(googleId);
+        userRolesLogic.invalidateUserRoles(googleId);
         //TODO: deal with orphan courses, submissions etc.
     }
 
@@ -285,6 +290,7 @@ public final class AccountsLogic {
                 .build();
 
         accountsDb.createAccount(account);
+        userRolesLogic.invalidateUserRoles(account.googleId);
     }
 
 }
@@ -0,0 +1,176 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Logger;
+import teammates.storage.api.CourseDeletionsDb;
+
+/**
+ * Handles the permanent deletion of courses, which is done in pages across many tasks
+ * so that no request has to delete all the data of a course.
+ *
+ * <p>Each task deletes at most {@link #PAGES_PER_TASK} pages of at most {@link #PAGE_SIZE} entities,
+ * saving the progress after every page, and is followed by another task until the deletion is done.
+ *
+ * <p>A course being deleted is hidden from the Recycle Bin and cannot be restored. A deletion whose progress
+ * has not been saved for {@link #STALLED_DELETION_TIMEOUT} has run out of task retries; its course is shown in the
+ * Recycle Bin again, so that it can be deleted again or restored. Should a restored course still be deleted by a late
+ * task, the deletion is cancelled instead.
+ *
+ * @see CourseDeletionProgress
+ * @see CourseDeletionsDb
+ */
+public final class CourseDeletionsLogic {
+
+    /**
+     * Maximum number of entities deleted in one page, which is the maximum number of entities
+     * that can be deleted in one batch.
+     */
+    public static final int PAGE_SIZE = 500;
+
+    /**
+     * Maximum number of pages deleted in one task.
+     */
+    public static final int PAGES_PER_TASK = 10;
+
+    /**
+     * Time after which a deletion whose progress has not been saved is no longer retried.
+     * This is the {@code task-age-limit} of the course deletion queue in queue.xml.
+     */
+    public static final Duration STALLED_DELETION_TIMEOUT = Duration.ofDays(1);
+
+    private static final Logger log = Logger.getLogger();
+
+    private static CourseDeletionsLogic instance = new CourseDeletionsLogic();
+
+    private static final CourseDeletionsDb courseDeletionsDb = new CourseDeletionsDb();
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private CourseDeletionsLogic() {
+        // prevent initialization
+    }
+
+    public static CourseDeletionsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Starts the permanent deletion of a course, discarding the progress of any previous deletion of it.
+     *
+     * @param requesterId the Google ID of the instructor who requested the deletion
+     * @return the progress to continue the deletion from
+     */
+    public CourseDeletionProgress startCourseDeletion(String courseId, String requesterId) {
+        CourseDeletionProgress progress = CourseDeletionProgress.start(courseId, requesterId);
+        courseDeletionsDb.putCourseDeletionProgress(progress);
+        return progress;
+    }
+
+    /**
+     * Continues the permanent deletion of a course for at most {@link #PAGES_PER_TASK} pages.
+     *
+     * <p>The deletion resumes from the saved progress of the course if it is further than {@code checkpoint},
+     * e.g. when the task which continued from {@code checkpoint} before is being retried.
+     *
+     * <p>The deletion is cancelled instead if the course is no longer in the Recycle Bin.
+     *
+     * @return the progress after the pages deleted, which is finished if the whole course has been deleted
+     *         or the deletion has been cancelled
+     */
+    public CourseDeletionProgress continueCourseDeletion(CourseDeletionProgress checkpoint) {
+        CourseDeletionProgress progress = checkpoint;
+        CourseDeletionProgress savedProgress = courseDeletionsDb.getCourseDeletionProgress(checkpoint.getCourseId());
+        if (savedProgress != null && savedProgress.isAfter(checkpoint)) {
+            progress = savedProgress;
+        }
+
+        if (!progress.isFinished() && isCourseRestored(progress.getCourseId())) {
+            return cancelCourseDeletion(progress);
+        }
+
+        for (int i = 0; i < PAGES_PER_TASK && !progress.isFinished(); i++) {
+            // the course is checked again right before it is deleted, as it may have been restored during the task
+            if (progress.getStage() == CourseDeletionProgress.Stage.COURSE && isCourseRestored(progress.getCourseId())) {
+                return cancelCourseDeletion(progress);
+            }
+            progress = progress.afterPage(deletePage(progress));
+            courseDeletionsDb.putCourseDeletionProgress(progress);
+        }
+
+        log.info("Deletion of course " + progress.getCourseId() + " is at stage " + progress.getStage()
+                + " after " + progress.getNumberOfSteps() + " pages");
+        return progress;
+    }
+
+    /**
+     * Returns true if the course still exists but is no longer in the Recycle Bin.
+     */
+    private boolean isCourseRestored(String courseId) {
+        CourseAttributes course = coursesLogic.getCourse(courseId);
+        return course != null && !course.isCourseDeleted();
+    }
+
+    private CourseDeletionProgress cancelCourseDeletion(CourseDeletionProgress progress) {
+        log.warning("Deletion of course " + progress.getCourseId() + " is cancelled at stage " + progress.getStage()
+                + " as the course is no longer in the Recycle Bin");
+        CourseDeletionProgress cancelledProgress = progress.cancel();
+        courseDeletionsDb.putCourseDeletionProgress(cancelledProgress);
+        return cancelledProgress;
+    }
+
+    /**
+     * Deletes the page of the course at {@code progress}.
+     *
+     * @return the cursor of the next page in the same stage, or null if the stage is finished
+     */
+    private String deletePage(CourseDeletionProgress progress) {
+        String courseId = progress.getCourseId();
+        String cursor = progress.getCursor();
+        switch (progress.getStage()) {
+        case COMMENTS:
+            return frcLogic.deletePageOfFeedbackResponseCommentsForCourse(courseId, cursor, PAGE_SIZE);
+        case RESPONSES:
+            return frLogic.deletePageOfFeedbackResponsesForCourse(courseId, cursor, PAGE_SIZE);
+        case QUESTIONS:
+            return fqLogic.deletePageOfFeedbackQuestionsForCourse(courseId, cursor, PAGE_SIZE);
+        case SESSIONS:
+            return fsLogic.deletePageOfFeedbackSessionsForCourse(courseId, cursor, PAGE_SIZE);
+        case COURSE:
+            // also sweeps up the students, instructors, respondents of the course, as well as
+            // any feedback data created in the course while it was being deleted
+            coursesLogic.deleteCourseCascade(courseId);
+            return null;
+        default:
+            Assumption.fail("Unexpected stage " + progress.getStage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the course is being permanently deleted, i.e. its deletion is neither finished nor stalled.
+     */
+    public boolean isCourseBeingDeleted(String courseId) {
+        CourseDeletionProgress progress = courseDeletionsDb.getCourseDeletionProgressSavedSince(courseId,
+                Instant.now().minus(STALLED_DELETION_TIMEOUT));
+        return progress != null && !progress.isFinished();
+    }
+
+    /**
+     * Gets the last saved progress of the permanent deletion of a course.
+     *
+     * @return null if the course has never been deleted.
+     */
+    public CourseDeletionProgress getCourseDeletionProgress(String courseId) {
+        return courseDeletionsDb.getCourseDeletionProgress(courseId);
+    }
+
+}
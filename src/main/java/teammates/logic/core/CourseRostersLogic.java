@@ -0,0 +1,72 @@
+package teammates.logic.core;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.storage.api.CourseRostersDb;
+
+/**
+ * Handles operations related to course rosters.
+ *
+ * <p>Rosters are cached across requests. Any change to the students or instructors of a course
+ * must be followed by {@link #invalidateCourseRoster(String)}.
+ *
+ * @see CourseRoster
+ * @see CourseRostersDb
+ */
+public final class CourseRostersLogic {
+
+    private static CourseRostersLogic instance = new CourseRostersLogic();
+
+    private static final CourseRostersDb courseRostersDb = new CourseRostersDb();
+
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private CourseRostersLogic() {
+        // prevent initialization
+    }
+
+    public static CourseRostersLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Returns a snapshot of the students and instructors of the course.
+     *
+     * <p>The roster is served from the cache if possible. Otherwise, it is read with one query for students
+     * and one query for instructors, regardless of the size of the course, and then cached.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        Long version = courseRostersDb.getRosterVersion(courseId);
+        if (version != null) {
+            CourseRoster cachedRoster = courseRostersDb.getCourseRoster(courseId, version);
+            if (cachedRoster != null) {
+                return cachedRoster;
+            }
+        }
+
+        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+        if (version != null) {
+            courseRostersDb.putCourseRoster(courseId, version, roster);
+        }
+        return roster;
+    }
+
+    /**
+     * Returns the current roster version of the course, which changes whenever the students or instructors
+     * of the course change.
+     *
+     * @return null if the version cannot be tracked, i.e. Memcache is not available.
+     */
+    public Long getCourseRosterVersion(String courseId) {
+        return courseRostersDb.getRosterVersion(courseId);
+    }
+
+    /**
+     * Discards the cached roster of the course, if any.
+     */
+    public void invalidateCourseRoster(String courseId) {
+        courseRostersDb.invalidateCourseRoster(courseId);
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
@@ -56,6 +57,8 @@ public final class CoursesLogic {
     private static final CoursesDb coursesDb = new CoursesDb();
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final CourseDeletionsLogic courseDeletionsLogic = CourseDeletionsLogic.inst();
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -343,6 +346,24 @@ public final class CoursesLogic {
         return sections;
     }
 
+    /**
+     * Returns a snapshot of the students and instructors of the course.
+     *
+     * @see CourseRostersLogic#getCourseRoster(String)
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        return courseRostersLogic.getCourseRoster(courseId);
+    }
+
+    /**
+     * Returns the current roster version of the course.
+     *
+     * @see CourseRostersLogic#getCourseRosterVersion(String)
+     */
+    public Long getCourseRosterVersion(String courseId) {
+        return courseRostersLogic.getCourseRosterVersion(courseId);
+    }
+
     /**
      * Returns Teams for a particular courseId.<br>
      * <b>Note:</b><br>
@@ -519,22 +540,26 @@ public final class CoursesLogic {
     public List<CourseAttributes> getSoftDeletedCoursesForInstructors(List<InstructorAttributes> instructorList) {
         Assumption.assertNotNull("Supplied parameter was null", instructorList);
 
-        List<String> softDeletedCourseIdList = instructorList.stream()
-                .filter(instructor -> coursesDb.getCourse(instructor.courseId).isCourseDeleted())
+        List<String> courseIdList = instructorList.stream()
                 .map(InstructorAttributes::getCourseId)
                 .collect(Collectors.toList());
 
-        List<CourseAttributes> softDeletedCourseList = coursesDb.getCourses(softDeletedCourseIdList);
+        // the courses are read in one batch, as an instructor can have many courses
+        List<CourseAttributes> courseList = coursesDb.getCourses(courseIdList);
 
-        if (softDeletedCourseIdList.size() > softDeletedCourseList.size()) {
-            for (CourseAttributes ca : softDeletedCourseList) {
-                softDeletedCourseIdList.remove(ca.getId());
+        if (courseIdList.size() > courseList.size()) {
+            for (CourseAttributes ca : courseList) {
+                courseIdList.remove(ca.getId());
             }
             log.severe("Course(s) was deleted but the instructor still exists: " + System.lineSeparator()
-                    + softDeletedCourseIdList.toString());
+                    + courseIdList.toString());
         }
 
-        return softDeletedCourseList;
+        // courses being permanently deleted are no longer shown in the Recycle Bin
+        return courseList.stream()
+                .filter(CourseAttributes::isCourseDeleted)
+                .filter(course -> !courseDeletionsLogic.isCourseBeingDeleted(course.getId()))
+                .collect(Collectors.toList());
     }
 
     public CourseAttributes getSoftDeletedCourseForInstructor(InstructorAttributes instructor) {
@@ -542,7 +567,7 @@ public final class CoursesLogic {
 
         CourseAttributes softDeletedCourse = coursesDb.getCourse(instructor.courseId);
 
-        if (!softDeletedCourse.isCourseDeleted()) {
+        if (!softDeletedCourse.isCourseDeleted() || courseDeletionsLogic.isCourseBeingDeleted(instructor.courseId)) {
             return null;
         }
         return softDeletedCourse;
@@ -655,13 +680,8 @@ public final class CoursesLogic {
     public void deleteAllCoursesCascade(List<InstructorAttributes> instructorList) {
         Assumption.assertNotNull("Supplied parameter was null", instructorList);
 
-        List<String> softDeletedCourseIdList = instructorList.stream()
-                .filter(instructor -> coursesDb.getCourse(instructor.courseId).isCourseDeleted())
-                .map(InstructorAttributes::getCourseId)
-                .collect(Collectors.toList());
-
-        for (String courseId : softDeletedCourseIdList) {
-            deleteCourseCascade(courseId);
+        for (CourseAttributes course : getSoftDeletedCoursesForInstructors(instructorList)) {
+            deleteCourseCascade(course.getId());
         }
     }
 
@@ -676,8 +696,14 @@ public final class CoursesLogic {
 
     /**
      * Restores a course from Recycle Bin by its given corresponding ID.
+     *
+     * @throws EntityDoesNotExistException if the course does not exist or is being permanently deleted
      */
     public void restoreCourseFromRecycleBin(String courseId) throws EntityDoesNotExistException {
+        if (courseDeletionsLogic.isCourseBeingDeleted(courseId)) {
+            throw new EntityDoesNotExistException(
+                    "The course " + courseId + " is being permanently deleted and can no longer be restored.");
+        }
         coursesDb.restoreDeletedCourse(courseId);
     }
 
@@ -691,6 +717,7 @@ public final class CoursesLogic {
         List<String> softDeletedCourseIdList = instructorList.stream()
                 .filter(instructor -> coursesDb.getCourse(instructor.courseId).isCourseDeleted())
                 .map(InstructorAttributes::getCourseId)
+                .filter(courseId -> !courseDeletionsLogic.isCourseBeingDeleted(courseId))
                 .collect(Collectors.toList());
 
         for (String courseId : softDeletedCourseIdList) {
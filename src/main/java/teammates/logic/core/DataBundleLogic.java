@@ -12,6 +12,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionRespondents;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -27,15 +28,18 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.AccountsDb;
+import teammates.storage.api.CourseRostersDb;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.EntitiesDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.ProfilesDb;
 import teammates.storage.api.StudentsDb;
+import teammates.storage.api.UserRolesDb;
 
 /**
  * Handles operations related to data bundles.
@@ -47,12 +51,15 @@ public final class DataBundleLogic {
     private static final AccountsDb accountsDb = new AccountsDb();
     private static final ProfilesDb profilesDb = new ProfilesDb();
     private static final CoursesDb coursesDb = new CoursesDb();
+    private static final CourseRostersDb courseRostersDb = new CourseRostersDb();
     private static final StudentsDb studentsDb = new StudentsDb();
     private static final InstructorsDb instructorsDb = new InstructorsDb();
     private static final FeedbackSessionsDb fbDb = new FeedbackSessionsDb();
+    private static final FeedbackSessionRespondentsDb fsrDb = new FeedbackSessionRespondentsDb();
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
     private static final FeedbackResponseCommentsDb fcDb = new FeedbackResponseCommentsDb();
+    private static final UserRolesDb userRolesDb = new UserRolesDb();
 
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
 
@@ -97,7 +104,7 @@ public final class DataBundleLogic {
         // For ensuring only one account per Google ID is created
         Map<String, AccountAttributes> googleIdAccountMap = new HashMap<>();
 
-        // For updating the student and instructor respondent lists in sessions before they are persisted
+        // For computing the student and instructor respondents of sessions
         SetMultimap<String, InstructorAttributes> courseInstructorsMap = HashMultimap.create();
         SetMultimap<String, FeedbackQuestionAttributes> sessionQuestionsMap = HashMultimap.create();
         SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap = HashMultimap.create();
@@ -107,7 +114,8 @@ public final class DataBundleLogic {
         processStudentsAndPopulateAccounts(students, googleIdAccountMap);
         processQuestionsAndPopulateMap(questions, sessionQuestionsMap);
         processResponsesAndPopulateMap(responses, sessionResponsesMap);
-        processSessionsAndUpdateRespondents(sessions, courseInstructorsMap, sessionQuestionsMap, sessionResponsesMap);
+        List<FeedbackSessionRespondents> sessionRespondents =
+                processSessionsAndGetRespondents(sessions, courseInstructorsMap, sessionQuestionsMap, sessionResponsesMap);
 
         accountsDb.createEntitiesDeferred(googleIdAccountMap.values());
         profilesDb.createEntitiesDeferred(profiles);
@@ -115,6 +123,7 @@ public final class DataBundleLogic {
         instructorsDb.createEntitiesDeferred(instructors);
         studentsDb.createEntitiesDeferred(students);
         fbDb.createEntitiesDeferred(sessions);
+        sessionRespondents.forEach(fsrDb::putRespondentsDeferred);
 
         // This also flushes all previously deferred operations
         List<FeedbackQuestionAttributes> createdQuestions = fqDb.createFeedbackQuestionsWithoutExistenceCheck(questions);
@@ -125,6 +134,11 @@ public final class DataBundleLogic {
         fcDb.createEntitiesDeferred(responseComments);
 
         EntitiesDb.flush();
+
+        Set<String> courseIdsWithRosterChanges = new HashSet<>(courseInstructorsMap.keySet());
+        students.forEach(student -> courseIdsWithRosterChanges.add(student.course));
+        courseIdsWithRosterChanges.forEach(courseRostersDb::invalidateCourseRoster);
+        invalidateUserRoles(dataBundle);
     }
 
     /**
@@ -147,11 +161,13 @@ public final class DataBundleLogic {
         }
 
         Map<String, FeedbackResponseCommentAttributes> responseComments = dataBundle.feedbackResponseComments;
+        List<FeedbackResponseCommentAttributes> responseCommentsInDb = new ArrayList<>();
         for (FeedbackResponseCommentAttributes responseComment : responseComments.values()) {
             FeedbackResponseCommentAttributes fcInDb = fcDb.getFeedbackResponseComment(
                     responseComment.courseId, responseComment.createdAt, responseComment.commentGiver);
-            fcDb.putDocument(fcInDb);
+            responseCommentsInDb.add(fcInDb);
         }
+        fcDb.putDocuments(responseCommentsInDb);
     }
 
     private void processAccountsAndPopulateAccountsMap(Collection<AccountAttributes> accounts,
@@ -204,10 +220,12 @@ public final class DataBundleLogic {
         }
     }
 
-    private void processSessionsAndUpdateRespondents(Collection<FeedbackSessionAttributes> sessions,
+    private List<FeedbackSessionRespondents> processSessionsAndGetRespondents(
+            Collection<FeedbackSessionAttributes> sessions,
             SetMultimap<String, InstructorAttributes> courseInstructorsMap,
             SetMultimap<String, FeedbackQuestionAttributes> sessionQuestionsMap,
             SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap) {
+        List<FeedbackSessionRespondents> sessionRespondents = new ArrayList<>();
         for (FeedbackSessionAttributes session : sessions) {
             String sessionKey = makeSessionKey(session.getFeedbackSessionName(), session.getCourseId());
 
@@ -215,11 +233,12 @@ public final class DataBundleLogic {
             Set<FeedbackQuestionAttributes> sessionQuestions = sessionQuestionsMap.get(sessionKey);
             Set<FeedbackResponseAttributes> sessionResponses = sessionResponsesMap.get(sessionKey);
 
-            updateRespondents(session, courseInstructors, sessionQuestions, sessionResponses);
+            sessionRespondents.add(getRespondents(session, courseInstructors, sessionQuestions, sessionResponses));
         }
+        return sessionRespondents;
     }
 
-    private void updateRespondents(FeedbackSessionAttributes session,
+    private FeedbackSessionRespondents getRespondents(FeedbackSessionAttributes session,
             Set<InstructorAttributes> courseInstructors,
             Set<FeedbackQuestionAttributes> sessionQuestions,
             Set<FeedbackResponseAttributes> sessionResponses) {
@@ -251,8 +270,8 @@ public final class DataBundleLogic {
             }
         }
 
-        session.setRespondingInstructorList(respondingInstructors);
-        session.setRespondingStudentList(respondingStudents);
+        return new FeedbackSessionRespondents(session.getFeedbackSessionName(), session.getCourseId(),
+                respondingStudents, respondingInstructors);
     }
 
     private void injectRealIds(
@@ -427,6 +446,15 @@ public final class DataBundleLogic {
         // TODO: Remove the following line after tests have been run against LIVE server
         dataBundle.accounts.values().forEach(account -> profilesDb.deleteStudentProfile(account.googleId));
         profilesDb.deleteEntities(dataBundle.profiles.values());
+        invalidateUserRoles(dataBundle);
+    }
+
+    private void invalidateUserRoles(DataBundle dataBundle) {
+        Set<String> googleIds = new HashSet<>();
+        dataBundle.accounts.values().forEach(account -> googleIds.add(account.googleId));
+        dataBundle.students.values().forEach(student -> googleIds.add(student.googleId));
+        googleIds.removeIf(StringHelper::isEmpty);
+        googleIds.forEach(userRolesDb::invalidateUserRoles);
     }
 
     private void deleteCourses(Collection<CourseAttributes> courses) {
@@ -438,7 +466,9 @@ public final class DataBundleLogic {
             coursesDb.deleteEntities(courses);
             instructorsDb.deleteInstructorsForCourses(courseIds);
             studentsDb.deleteStudentsForCourses(courseIds);
+            courseIds.forEach(courseRostersDb::invalidateCourseRoster);
             fbDb.deleteFeedbackSessionsForCourses(courseIds);
+            fsrDb.deleteRespondentsForCourses(courseIds);
             fqDb.deleteFeedbackQuestionsForCourses(courseIds);
             frDb.deleteFeedbackResponsesForCourses(courseIds);
             fcDb.deleteFeedbackResponseCommentsForCourses(courseIds);
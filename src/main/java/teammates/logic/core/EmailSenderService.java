@@ -1,5 +1,16 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jsoup.Jsoup;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailWrapper;
 
@@ -8,6 +19,16 @@ import teammates.common.util.EmailWrapper;
  */
 public abstract class EmailSenderService {
 
+    private static final int PLAIN_TEXT_CACHE_SIZE = 100;
+
+    private static final Map<String, String> PLAIN_TEXT_CACHE =
+            Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > PLAIN_TEXT_CACHE_SIZE;
+                }
+            });
+
     /**
      * Parses the {@code wrapper} email object to specific implementations of email object
      * used by the service.
@@ -27,10 +48,97 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends the emails packaged as {@code wrappers}.
+     *
+     * <p>Emails generated from the same template are sent together in as few calls to the service
+     * as the service allows, with the values for each recipient filled in by the service.
+     * Each recipient still receives a separate email addressed to them only.
+     */
+    public void sendEmails(List<EmailWrapper> wrappers) throws EmailSendingException {
+        try {
+            for (List<EmailWrapper> batch : groupByTemplate(wrappers, getMaxRecipientsPerBatch())) {
+                if (batch.size() == 1) {
+                    sendEmailWithService(batch.get(0));
+                } else {
+                    sendEmailsWithService(batch);
+                }
+            }
+        } catch (Exception e) {
+            throw new EmailSendingException(e);
+        }
+    }
+
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Sends emails generated from the same template to different recipients.
+     * Services that support filling in the template for each recipient in one call override this.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected void sendEmailsWithService(List<EmailWrapper> batch) throws Exception {
+        for (EmailWrapper wrapper : batch) {
+            sendEmailWithService(wrapper);
+        }
+    }
+
+    /**
+     * Returns the maximum number of recipients the service accepts in one call.
+     */
+    protected int getMaxRecipientsPerBatch() {
+        return 1;
+    }
+
+    /**
+     * Groups emails generated from the same template into batches of at most {@code maxBatchSize}
+     * distinct recipients, keeping the order in which each template first appears.
+     * Emails not generated from a template are each in a batch of their own.
+     */
+    public static List<List<EmailWrapper>> groupByTemplate(List<EmailWrapper> wrappers, int maxBatchSize) {
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        Map<List<String>, List<Integer>> batchIndexesByTemplate = new LinkedHashMap<>();
+        List<Set<String>> recipientsOfBatches = new ArrayList<>();
+
+        for (EmailWrapper wrapper : wrappers) {
+            if (wrapper.getTemplate() == null) {
+                batches.add(new ArrayList<>(Collections.singletonList(wrapper)));
+                recipientsOfBatches.add(Collections.singleton(wrapper.getRecipient()));
+                continue;
+            }
+
+            List<String> key = Arrays.asList(wrapper.getSenderName(), wrapper.getSenderEmail(), wrapper.getReplyTo(),
+                    wrapper.getBcc(), wrapper.getSubject(), wrapper.getTemplate());
+            List<Integer> batchIndexes = batchIndexesByTemplate.computeIfAbsent(key, k -> new ArrayList<>());
+
+            // a recipient can appear only once in a batch, as the values for each recipient are keyed by recipient
+            Integer batchIndex = batchIndexes.stream()
+                    .filter(index -> batches.get(index).size() < maxBatchSize
+                            && !recipientsOfBatches.get(index).contains(wrapper.getRecipient()))
+                    .findFirst()
+                    .orElse(null);
+            if (batchIndex == null) {
+                batchIndex = batches.size();
+                batchIndexes.add(batchIndex);
+                batches.add(new ArrayList<>());
+                recipientsOfBatches.add(new HashSet<>());
+            }
+            batches.get(batchIndex).add(wrapper);
+            recipientsOfBatches.get(batchIndex).add(wrapper.getRecipient());
+        }
+        return batches;
+    }
+
+    /**
+     * Gets the plain text rendering of the HTML {@code template} of an email.
+     * Renderings of recently sent templates are cached, as the same template is sent to many recipients.
+     */
+    static String getPlainTextTemplate(String template) {
+        return PLAIN_TEXT_CACHE.computeIfAbsent(template, html -> Jsoup.parse(html).text());
+    }
+
     static boolean isNotSuccessStatus(int statusCode) {
         return statusCode < 200 || statusCode > 299;
     }
@@ -8,11 +8,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.gson.reflect.TypeToken;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -45,7 +46,6 @@ public final class FeedbackQuestionsLogic {
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
-    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     private FeedbackQuestionsLogic() {
         // prevent initialization
@@ -131,17 +131,30 @@ public final class FeedbackQuestionsLogic {
      */
     public List<FeedbackQuestionAttributes> getFeedbackQuestionsForSession(
             String feedbackSessionName, String courseId) {
+        return getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId).get();
+    }
 
-        List<FeedbackQuestionAttributes> questions =
-                fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-        questions.sort(null);
+    /**
+     * Starts getting every FeedbackQuestion in the given session, without waiting for them.
+     * The questions are waited for when the returned supplier is called.
+     */
+    public Supplier<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
 
-        // check whether the question numbers are consistent
-        if (questions.size() > 1 && !areQuestionNumbersConsistent(questions)) {
-            log.severe(courseId + ": " + feedbackSessionName + " has invalid question numbers");
-        }
+        Supplier<List<FeedbackQuestionAttributes>> questionsResult =
+                fqDb.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId);
 
-        return questions;
+        return () -> {
+            List<FeedbackQuestionAttributes> questions = questionsResult.get();
+            questions.sort(null);
+
+            // check whether the question numbers are consistent
+            if (questions.size() > 1 && !areQuestionNumbersConsistent(questions)) {
+                log.severe(courseId + ": " + feedbackSessionName + " has invalid question numbers");
+            }
+
+            return questions;
+        };
     }
 
     // TODO can be removed once we are sure that question numbers will be consistent
@@ -329,87 +342,29 @@ public final class FeedbackQuestionsLogic {
         return questions;
     }
 
-    public Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver)
-            throws EntityDoesNotExistException {
-
-        InstructorAttributes instructorGiver = instructorsLogic.getInstructorForEmail(question.courseId, giver);
-        StudentAttributes studentGiver = studentsLogic.getStudentForEmail(question.courseId, giver);
+    /**
+     * Gets the recipients of a feedback question for the giver with email {@code giver}.
+     *
+     * <p>The roster of the course is fetched to resolve the recipients.
+     */
+    public Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver) {
+        CourseRoster roster = coursesLogic.getCourseRoster(question.courseId);
+        InstructorAttributes instructorGiver = roster.getInstructorForEmail(giver);
+        StudentAttributes studentGiver = roster.getStudentForEmail(giver);
 
-        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver);
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster);
     }
 
+    /**
+     * Gets the recipients of a feedback question for the giver with email {@code giver},
+     * resolving the recipients against {@code roster}.
+     */
     public Map<String, String> getRecipientsForQuestion(
             FeedbackQuestionAttributes question, String giver,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
-
-        Map<String, String> recipients = new HashMap<>();
-
-        FeedbackParticipantType recipientType = question.recipientType;
-
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
         String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
 
-        switch (recipientType) {
-        case SELF:
-            if (question.giverType == FeedbackParticipantType.TEAMS) {
-                recipients.put(studentGiver.team, studentGiver.team);
-            } else {
-                recipients.put(giver, Const.USER_NAME_FOR_SELF);
-            }
-            break;
-        case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
-                // Ensure student does not evaluate himself
-                if (!giver.equals(student.email)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
-                // Ensure instructor does not evaluate himself
-                if (!giver.equals(instr.email)) {
-                    recipients.put(instr.email, instr.name);
-                }
-            }
-            break;
-        case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
-                // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
-                    // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
-                }
-            }
-            break;
-        case OWN_TEAM:
-            recipients.put(giverTeam, giverTeam);
-            break;
-        case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
-                if (!student.email.equals(giver)) {
-                    recipients.put(student.email, student.name);
-                }
-            }
-            break;
-        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
-                // accepts self feedback too
-                recipients.put(student.email, student.name);
-            }
-            break;
-        case NONE:
-            recipients.put(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION);
-            break;
-        default:
-            break;
-        }
-        return recipients;
+        return getRecipientsOfQuestion(question, giver, giverTeam, roster);
     }
 
     /**
@@ -418,22 +373,16 @@ public final class FeedbackQuestionsLogic {
      * <p>Filter out some recipients based on the setting of the course.
      */
     public Map<String, String> getRecipientsOfQuestionForStudent(
-            FeedbackQuestionAttributes question, String giverEmail, String giverTeam) {
-        Map<String, String> recipients = getRecipientsOfQuestion(question, giverEmail, giverTeam);
+            FeedbackQuestionAttributes question, String giverEmail, String giverTeam, CourseRoster roster) {
+        Map<String, String> recipients = getRecipientsOfQuestion(question, giverEmail, giverTeam, roster);
 
         // remove hidden instructors
         if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-            List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(question.getCourseId());
-            Set<String> hiddenInstructorEmails = new HashSet<>();
-            for (InstructorAttributes instructorAttributes : instructors) {
+            for (InstructorAttributes instructorAttributes : roster.getInstructors()) {
                 if (!instructorAttributes.isDisplayedToStudents()) {
-                    hiddenInstructorEmails.add(instructorAttributes.email);
+                    recipients.remove(instructorAttributes.email);
                 }
             }
-
-            for (String instructorEmail : hiddenInstructorEmails) {
-                recipients.remove(instructorEmail);
-            }
         }
 
         return recipients;
@@ -444,43 +393,54 @@ public final class FeedbackQuestionsLogic {
      *
      * <p>Filter out some recipients based on the privileges of the instructor.
      */
-    public Map<String, String> getRecipientsOfQuestionForInstructor(FeedbackQuestionAttributes question, String giverEmail) {
-        Map<String, String> recipients = getRecipientsOfQuestion(question, giverEmail, Const.USER_TEAM_FOR_INSTRUCTOR);
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(question.getCourseId(), giverEmail);
-
-        // TODO the below will cause slow queries when recipients are large, find a better way
+    public Map<String, String> getRecipientsOfQuestionForInstructor(
+            FeedbackQuestionAttributes question, String giverEmail, CourseRoster roster) {
+        Map<String, String> recipients =
+                getRecipientsOfQuestion(question, giverEmail, Const.USER_TEAM_FOR_INSTRUCTOR, roster);
+        InstructorAttributes instructor = roster.getInstructorForEmail(giverEmail);
 
         // instructor can only see students in allowed sections for him/her
         if (question.getRecipientType().equals(FeedbackParticipantType.STUDENTS)) {
+            Map<String, Boolean> isAllowedForSection = new HashMap<>();
             recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(question.getCourseId(), studentEntry.getKey());
-                return !instructor.isAllowedForPrivilege(student.section, question.getFeedbackSessionName(),
-                        Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
+                String studentSection = roster.getStudentForEmail(studentEntry.getKey()).section;
+                return !isAllowedForSection.computeIfAbsent(studentSection,
+                        section -> isAllowedToSubmitForSection(instructor, question, section));
             });
         }
         // instructor can only see teams in allowed sections for him/her
         if (question.getRecipientType().equals(FeedbackParticipantType.TEAMS)) {
+            Map<String, Boolean> isAllowedForSection = new HashMap<>();
             recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(question.getCourseId(), teamEntry.getKey());
-                return !instructor.isAllowedForPrivilege(teamSection, question.getFeedbackSessionName(),
-                        Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
+                String teamSection = roster.getSectionForTeam(teamEntry.getKey());
+                return !isAllowedForSection.computeIfAbsent(teamSection,
+                        section -> isAllowedToSubmitForSection(instructor, question, section));
             });
         }
 
         return recipients;
     }
 
+    private boolean isAllowedToSubmitForSection(
+            InstructorAttributes instructor, FeedbackQuestionAttributes question, String section) {
+        return instructor.isAllowedForPrivilege(section, question.getFeedbackSessionName(),
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
+    }
+
     /**
      * Gets the recipients of a feedback question.
      *
+     * <p>All recipients are resolved against {@code roster}; no further database reads are made.
+     *
      * @param question the feedback question
      * @param giverEmail the email of the giver of the feedback question; In the case where the giver is a team,
      *                   this parameter can be anything as long as {@code giverTeam} is the name of the team.
      * @param giverTeam the team name of the giver of the feedback question
+     * @param roster the roster of the course of the feedback question
      * @return a map which keys are the identifiers of the recipients and values are the names of the recipients
      */
     private Map<String, String> getRecipientsOfQuestion(
-            FeedbackQuestionAttributes question, String giverEmail, String giverTeam) {
+            FeedbackQuestionAttributes question, String giverEmail, String giverTeam, CourseRoster roster) {
         Map<String, String> recipients = new HashMap<>();
 
         FeedbackParticipantType recipientType = question.recipientType;
@@ -494,8 +454,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
+            for (StudentAttributes student : roster.getStudents()) {
                 // Ensure student does not evaluate himself
                 if (!giverEmail.equals(student.email)) {
                     recipients.put(student.email, student.name);
@@ -503,8 +462,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
+            for (InstructorAttributes instr : roster.getInstructors()) {
                 // Ensure instructor does not evaluate himself
                 if (!giverEmail.equals(instr.email)) {
                     recipients.put(instr.email, instr.name);
@@ -512,17 +470,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = null;
-            try {
-                teams = coursesLogic.getTeamsForCourse(question.courseId);
-            } catch (EntityDoesNotExistException e) {
-                Assumption.fail(e.getMessage());
-            }
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : roster.getTeamToMembersTable().keySet()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -530,16 +482,14 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
+            for (StudentAttributes student : roster.getTeamMembers(giverTeam)) {
                 if (!student.email.equals(giverEmail)) {
                     recipients.put(student.email, student.name);
                 }
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
+            for (StudentAttributes student : roster.getTeamMembers(giverTeam)) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
             }
@@ -576,16 +526,52 @@ public final class FeedbackQuestionsLogic {
 
         int numberOfResponsesGiven =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
-        int numberOfResponsesNeeded =
-                question.numberOfEntitiesToGiveFeedbackTo;
+        int numberOfResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
 
         if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
-            numberOfResponsesNeeded = getRecipientsForQuestion(question, email).size();
+            CourseRoster roster = coursesLogic.getCourseRoster(question.courseId);
+            String giverTeam = getGiverTeam(email, roster.getInstructorForEmail(email), roster.getStudentForEmail(email));
+            numberOfResponsesNeeded = getNumberOfResponsesNeeded(question, email, giverTeam, roster);
         }
 
         return numberOfResponsesGiven >= numberOfResponsesNeeded;
     }
 
+    /**
+     * Gets the number of responses the giver needs to give to fully answer the question.
+     *
+     * <p>This is the number of entities to give feedback to of the question or, if that is unlimited,
+     * the number of recipients as given by {@link #getRecipientsForQuestion(FeedbackQuestionAttributes, String)}.
+     * The recipients are counted against {@code roster} without being listed.
+     */
+    public int getNumberOfResponsesNeeded(
+            FeedbackQuestionAttributes question, String giverEmail, String giverTeam, CourseRoster roster) {
+        if (question.numberOfEntitiesToGiveFeedbackTo != Const.MAX_POSSIBLE_RECIPIENTS) {
+            return question.numberOfEntitiesToGiveFeedbackTo;
+        }
+
+        switch (question.recipientType) {
+        case SELF:
+        case OWN_TEAM:
+        case NONE:
+            return 1;
+        case STUDENTS:
+            return roster.getNumberOfStudents() - (roster.isStudentInCourse(giverEmail) ? 1 : 0);
+        case INSTRUCTORS:
+            return roster.getNumberOfInstructors() - (roster.isInstructorOfCourse(giverEmail) ? 1 : 0);
+        case TEAMS:
+            return roster.getTeamToMembersTable().size()
+                    - (roster.getTeamToMembersTable().containsKey(giverTeam) ? 1 : 0);
+        case OWN_TEAM_MEMBERS:
+            List<StudentAttributes> teamMembers = roster.getTeamMembers(giverTeam);
+            return teamMembers.size() - (int) teamMembers.stream().filter(s -> s.email.equals(giverEmail)).count();
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return roster.getTeamMembers(giverTeam).size();
+        default:
+            return 0;
+        }
+    }
+
     /**
      * Updates a feedback question by {@code FeedbackQuestionAttributes.UpdateOptions}.
      *
@@ -637,30 +623,24 @@ public final class FeedbackQuestionsLogic {
      * Adjust questions between the old and new number,
      * if the new number is smaller, then shift up (increase qn#) all questions in between.
      * if the new number is bigger, then shift down(decrease qn#) all questions in between.
+     *
+     * <p>The new numbers are computed from {@code questions} and saved in a single batch.
      */
     private void adjustQuestionNumbers(int oldQuestionNumber,
             int newQuestionNumber, List<FeedbackQuestionAttributes> questions) {
-        try {
-            if (oldQuestionNumber > newQuestionNumber && oldQuestionNumber >= 1) {
-                for (int i = oldQuestionNumber - 1; i >= newQuestionNumber; i--) {
-                    FeedbackQuestionAttributes question = questions.get(i - 1);
-                    fqDb.updateFeedbackQuestion(
-                            FeedbackQuestionAttributes.updateOptionsBuilder(question.getId())
-                                    .withQuestionNumber(question.questionNumber + 1)
-                                    .build());
-                }
-            } else if (oldQuestionNumber < newQuestionNumber && oldQuestionNumber < questions.size()) {
-                for (int i = oldQuestionNumber + 1; i <= newQuestionNumber; i++) {
-                    FeedbackQuestionAttributes question = questions.get(i - 1);
-                    fqDb.updateFeedbackQuestion(
-                            FeedbackQuestionAttributes.updateOptionsBuilder(question.getId())
-                                    .withQuestionNumber(question.questionNumber - 1)
-                                    .build());
-                }
+        Map<String, Integer> newQuestionNumbers = new HashMap<>();
+        if (oldQuestionNumber > newQuestionNumber && oldQuestionNumber >= 1) {
+            for (int i = oldQuestionNumber - 1; i >= newQuestionNumber; i--) {
+                FeedbackQuestionAttributes question = questions.get(i - 1);
+                newQuestionNumbers.put(question.getId(), question.questionNumber + 1);
+            }
+        } else if (oldQuestionNumber < newQuestionNumber && oldQuestionNumber < questions.size()) {
+            for (int i = oldQuestionNumber + 1; i <= newQuestionNumber; i++) {
+                FeedbackQuestionAttributes question = questions.get(i - 1);
+                newQuestionNumbers.put(question.getId(), question.questionNumber - 1);
             }
-        } catch (InvalidParametersException | EntityDoesNotExistException e) {
-            Assumption.fail("Adjusting question number should not cause: " + e.getMessage());
         }
+        fqDb.updateFeedbackQuestionNumbers(newQuestionNumbers);
     }
 
     /**
@@ -714,8 +694,13 @@ public final class FeedbackQuestionsLogic {
     private void deleteFeedbackQuestionCascade(
             String feedbackSessionName, String courseId, int questionNumber) {
 
-        FeedbackQuestionAttributes questionToDelete =
-                getFeedbackQuestion(feedbackSessionName, courseId, questionNumber);
+        // the questions of the session are read once, both to find the question and to shift the others
+        List<FeedbackQuestionAttributes> questionsToShiftQnNumber =
+                getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        FeedbackQuestionAttributes questionToDelete = questionsToShiftQnNumber.stream()
+                .filter(question -> question.questionNumber == questionNumber)
+                .findFirst()
+                .orElse(null);
 
         if (questionToDelete == null) {
             return; // Silently fail if question does not exist.
@@ -725,8 +710,6 @@ public final class FeedbackQuestionsLogic {
         if (fsLogic.getFeedbackSession(feedbackSessionName, courseId) == null) {
             Assumption.fail("Session disappeared.");
         }
-        List<FeedbackQuestionAttributes> questionsToShiftQnNumber =
-                getFeedbackQuestionsForSession(feedbackSessionName, courseId);
         fqDb.deleteEntity(questionToDelete);
 
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
@@ -744,21 +727,26 @@ public final class FeedbackQuestionsLogic {
         fqDb.deleteFeedbackQuestionsForCourse(courseId);
     }
 
-    // Shifts all question numbers after questionNumberToShiftFrom down by one.
+    /**
+     * Deletes a page of the questions of the course.
+     * The responses of the questions are not deleted, and should be handled.
+     *
+     * @return the cursor of the next page, or null if all questions of the course have been deleted
+     */
+    public String deletePageOfFeedbackQuestionsForCourse(String courseId, String cursor, int pageSize) {
+        return fqDb.deletePageOfFeedbackQuestionsForCourse(courseId, cursor, pageSize);
+    }
+
+    // Shifts all question numbers after questionNumberToShiftFrom down by one, in a single batch.
     private void shiftQuestionNumbersDown(int questionNumberToShiftFrom,
             List<FeedbackQuestionAttributes> questionsToShift) {
+        Map<String, Integer> newQuestionNumbers = new HashMap<>();
         for (FeedbackQuestionAttributes question : questionsToShift) {
             if (question.questionNumber > questionNumberToShiftFrom) {
-                try {
-                    fqDb.updateFeedbackQuestion(
-                            FeedbackQuestionAttributes.updateOptionsBuilder(question.getId())
-                            .withQuestionNumber(question.questionNumber - 1)
-                            .build());
-                } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                    Assumption.fail("Shifting question number should not cause: " + e.getMessage());
-                }
+                newQuestionNumbers.put(question.getId(), question.questionNumber - 1);
             }
         }
+        fqDb.updateFeedbackQuestionNumbers(newQuestionNumbers);
     }
 
 }
@@ -1,8 +1,11 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -75,6 +78,19 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForResponse(feedbackResponseId);
     }
 
+    /**
+     * Gets the comments on the responses to a question with the giver or the receiver in a section,
+     * or all the comments on the responses to the question if {@code section} is null.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForQuestionInSection(
+            String feedbackQuestionId, String section) {
+        List<FeedbackResponseCommentAttributes> comments = frcDb.getFeedbackResponseCommentsForQuestion(feedbackQuestionId);
+        if (section != null) {
+            comments.removeIf(comment -> !section.equals(comment.giverSection) && !section.equals(comment.receiverSection));
+        }
+        return comments;
+    }
+
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForSession(String courseId,
                                                                                         String feedbackSessionName) {
         return frcDb.getFeedbackResponseCommentsForSession(courseId, feedbackSessionName);
@@ -82,10 +98,19 @@ public final class FeedbackResponseCommentsLogic {
 
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForSessionInSection(String courseId,
                                                            String feedbackSessionName, String section) {
+        return getFeedbackResponseCommentForSessionInSectionAsync(courseId, feedbackSessionName, section).get();
+    }
+
+    /**
+     * Starts getting the comments of a session in a section, or in the whole session if {@code section} is null,
+     * without waiting for them. The comments are waited for when the returned supplier is called.
+     */
+    public Supplier<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentForSessionInSectionAsync(
+            String courseId, String feedbackSessionName, String section) {
         if (section == null) {
-            return getFeedbackResponseCommentForSession(courseId, feedbackSessionName);
+            return frcDb.getFeedbackResponseCommentsForSessionAsync(courseId, feedbackSessionName);
         }
-        return frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, section);
+        return frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, section);
     }
 
     /*
@@ -111,6 +136,16 @@ public final class FeedbackResponseCommentsLogic {
         }
     }
 
+    /**
+     * Moves the comments of the given responses in a course to the updated responses.
+     *
+     * @param updatedResponses map of the original ID of each response to the updated response
+     */
+    public void updateFeedbackResponseCommentsForResponses(
+            String courseId, Map<String, FeedbackResponseAttributes> updatedResponses) {
+        frcDb.updateFeedbackResponseCommentsForResponses(courseId, updatedResponses);
+    }
+
     /**
      * Updates a feedback response comment by {@link FeedbackResponseCommentAttributes.UpdateOptions}.
      *
@@ -153,10 +188,30 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of the response comments of the course.
+     *
+     * @return the cursor of the next page, or null if all response comments of the course have been deleted
+     */
+    public String deletePageOfFeedbackResponseCommentsForCourse(String courseId, String cursor, int pageSize) {
+        return frcDb.deletePageOfFeedbackResponseCommentsForCourse(courseId, cursor, pageSize);
+    }
+
+    /**
+     * Deletes all comments on the responses to a feedback question, without loading them.
+     */
+    public void deleteFeedbackResponseCommentsForQuestion(String feedbackQuestionId) {
+        frcDb.deleteFeedbackResponseCommentsForQuestion(feedbackQuestionId);
+    }
+
     public void deleteFeedbackResponseCommentsForResponse(String responseId) {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
 
+    public void deleteFeedbackResponseCommentsForResponses(String courseId, Collection<String> responseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(courseId, responseIds);
+    }
+
     public void deleteFeedbackResponseCommentById(Long commentId) {
         frcDb.deleteCommentById(commentId);
     }
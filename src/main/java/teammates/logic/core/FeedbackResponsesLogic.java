@@ -1,13 +1,19 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesQuery;
+import teammates.common.datatransfer.Page;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -138,6 +144,26 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range);
     }
 
+    /**
+     * Gets a page of the responses matched by the query.
+     *
+     * @param cursor the cursor of the previous page, or null to get the first page
+     * @see FeedbackResponsesDb#getFeedbackResponsesPage(FeedbackResponsesQuery, String, int)
+     */
+    public Page<FeedbackResponseAttributes> getFeedbackResponsesPage(
+            FeedbackResponsesQuery query, String cursor, int pageSize) {
+        return frDb.getFeedbackResponsesPage(query, cursor, pageSize);
+    }
+
+    /**
+     * Gets the responses matched by the query as a stream which fetches the responses lazily.
+     *
+     * @see FeedbackResponsesDb#streamFeedbackResponses(FeedbackResponsesQuery)
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponses(FeedbackResponsesQuery query) {
+        return frDb.streamFeedbackResponses(query);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestion(String feedbackQuestionId) {
         return frDb.getFeedbackResponsesForQuestion(feedbackQuestionId);
     }
@@ -149,10 +175,19 @@ public final class FeedbackResponsesLogic {
 
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInSection(
             String feedbackQuestionId, String section, SectionDetail sectionDetail) {
+        FeedbackResponsesQuery.Builder query = FeedbackResponsesQuery.forQuestion(feedbackQuestionId);
         if (section == null) {
-            return getFeedbackResponsesForQuestion(feedbackQuestionId);
+            return streamFeedbackResponses(query.build()).collect(Collectors.toList());
+        }
+        switch (sectionDetail) {
+        case GIVER:
+            return streamFeedbackResponses(query.withGiverSection(section).build()).collect(Collectors.toList());
+        case EVALUEE:
+            return streamFeedbackResponses(query.withRecipientSection(section).build()).collect(Collectors.toList());
+        default:
+            // the responses in the section as either the giver or the recipient are the union of several queries
+            return frDb.getFeedbackResponsesForQuestionInSection(feedbackQuestionId, section, sectionDetail);
         }
-        return frDb.getFeedbackResponsesForQuestionInSection(feedbackQuestionId, section, sectionDetail);
     }
 
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForQuestion(
@@ -429,112 +464,154 @@ public final class FeedbackResponsesLogic {
     /**
      * Updates responses for a student when his team changes. This is done by
      * deleting responses that are no longer relevant to him in his new team.
+     *
+     * <p>The questions of the affected sessions are loaded once per session, and the responses
+     * and their comments are deleted in batch.
      */
     public void updateFeedbackResponsesForChangingTeam(
             String courseId, String userEmail, String oldTeam, String newTeam) {
 
-        deleteResponsesFromUserToTeam(courseId, userEmail);
-        deleteResponsesFromTeamToUser(courseId, userEmail);
+        List<FeedbackResponseAttributes> responsesFromUser =
+                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+        List<FeedbackResponseAttributes> responsesToUser =
+                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+        Map<String, FeedbackQuestionAttributes> questions =
+                getFeedbackQuestionsForResponses(courseId, responsesFromUser, responsesToUser);
+
+        Map<String, FeedbackResponseAttributes> responsesToDelete = new HashMap<>();
 
+        // responses given by the user to team members or given by the user as a representative of a team
+        for (FeedbackResponseAttributes response : responsesFromUser) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
+            if (question.giverType == FeedbackParticipantType.TEAMS
+                    || isRecipientTypeTeamMembers(question)) {
+                responsesToDelete.put(response.getId(), response);
+            }
+        }
+
+        // responses given by other team members to the user
+        for (FeedbackResponseAttributes response : responsesToUser) {
+            if (isRecipientTypeTeamMembers(questions.get(response.feedbackQuestionId))) {
+                responsesToDelete.put(response.getId(), response);
+            }
+        }
+
+        List<FeedbackResponseAttributes> responsesAffectingResponseRate = new ArrayList<>(responsesToDelete.values());
+
+        // responses given to the old team, if the user was the last member
         boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
         if (isOldTeamEmpty) {
-            deleteTeamResponses(courseId, oldTeam);
+            for (FeedbackResponseAttributes response : getFeedbackResponsesForReceiverForCourse(courseId, oldTeam)) {
+                responsesToDelete.put(response.getId(), response);
+            }
         }
+
+        deleteFeedbackResponsesAndCascade(courseId, responsesToDelete.values());
+        updateSessionResponseRateForDeletingStudentResponses(courseId, responsesAffectingResponseRate);
     }
 
     /**
-     * Deletes all responses given by a team.
+     * Updates responses for a student when his section changes.
+     *
+     * <p>The responses and their comments are updated in batch.
      */
-    private void deleteTeamResponses(String courseId, String oldTeam) {
-        List<FeedbackResponseAttributes> responsesToOldTeam =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldTeam);
-        for (FeedbackResponseAttributes response : responsesToOldTeam) {
-            deleteFeedbackResponseAndCascade(response);
+    public void updateFeedbackResponsesForChangingSection(
+            String courseId, String userEmail, String oldSection, String newSection)
+            throws InvalidParametersException {
+
+        Map<String, FeedbackResponseAttributes> responsesToUpdate = new HashMap<>();
+        for (FeedbackResponseAttributes response : getFeedbackResponsesFromGiverForCourse(courseId, userEmail)) {
+            response.giverSection = newSection;
+            responsesToUpdate.put(response.getId(), response);
+        }
+        for (FeedbackResponseAttributes response : getFeedbackResponsesForReceiverForCourse(courseId, userEmail)) {
+            responsesToUpdate.computeIfAbsent(response.getId(), id -> response).recipientSection = newSection;
         }
+
+        updateFeedbackResponsesAndCascade(courseId, responsesToUpdate.values());
     }
 
     /**
-     * Deletes all responses given other team members to the user.
+     * Updates responses for a student when his email changes.
+     *
+     * <p>The responses are recreated and their comments moved in batch.
      */
-    private void deleteResponsesFromTeamToUser(String courseId, String userEmail) {
-        FeedbackQuestionAttributes question;
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+    public void updateFeedbackResponsesForChangingEmail(
+            String courseId, String oldEmail, String newEmail)
+            throws InvalidParametersException {
 
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
-            if (isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseAndCascade(response);
-                updateSessionResponseRateForDeletingStudentResponse(response.giver,
-                        response.feedbackSessionName, response.courseId);
-            }
+        Map<String, FeedbackResponseAttributes> responsesToUpdate = new HashMap<>();
+        for (FeedbackResponseAttributes response : getFeedbackResponsesFromGiverForCourse(courseId, oldEmail)) {
+            response.giver = newEmail;
+            responsesToUpdate.put(response.getId(), response);
+        }
+        for (FeedbackResponseAttributes response : getFeedbackResponsesForReceiverForCourse(courseId, oldEmail)) {
+            responsesToUpdate.computeIfAbsent(response.getId(), id -> response).recipient = newEmail;
         }
+
+        updateFeedbackResponsesAndCascade(courseId, responsesToUpdate.values());
+        frcLogic.updateFeedbackResponseCommentsEmails(courseId, oldEmail, newEmail);
     }
 
     /**
-     * Deletes all responses given by the user to team members or given by the user as a representative of a team.
+     * Gets the questions of all sessions that the responses belong to, keyed by question ID.
      */
-    private void deleteResponsesFromUserToTeam(String courseId, String userEmail) {
-        FeedbackQuestionAttributes question;
-
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+    @SafeVarargs
+    private final Map<String, FeedbackQuestionAttributes> getFeedbackQuestionsForResponses(
+            String courseId, List<FeedbackResponseAttributes>... responseLists) {
+        Set<String> sessionNames = new HashSet<>();
+        for (List<FeedbackResponseAttributes> responses : responseLists) {
+            for (FeedbackResponseAttributes response : responses) {
+                sessionNames.add(response.feedbackSessionName);
+            }
+        }
 
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
-            if (question.giverType == FeedbackParticipantType.TEAMS
-                    || isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseAndCascade(response);
-                updateSessionResponseRateForDeletingStudentResponse(response.giver,
-                        response.feedbackSessionName, response.courseId);
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (String sessionName : sessionNames) {
+            for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(sessionName, courseId)) {
+                questions.put(question.getId(), question);
             }
         }
+        return questions;
     }
 
-    /**
-     * Updates responses for a student when his section changes.
-     */
-    public void updateFeedbackResponsesForChangingSection(
-            String courseId, String userEmail, String oldSection, String newSection)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        updateSectionOfResponsesFromUser(courseId, userEmail, newSection);
-        updateSectionOfResponsesToUser(courseId, userEmail, newSection);
+    private void updateFeedbackResponsesAndCascade(
+            String courseId, Collection<FeedbackResponseAttributes> responsesToUpdate)
+            throws InvalidParametersException {
+        Map<String, FeedbackResponseAttributes> updatedResponses = new HashMap<>();
+        try {
+            updatedResponses = frDb.updateFeedbackResponses(responsesToUpdate);
+        } catch (EntityAlreadyExistsException e) {
+            Assumption.fail("Feedback response failed to update successfully as email was already in use.");
+        }
+        frcLogic.updateFeedbackResponseCommentsForResponses(courseId, updatedResponses);
     }
 
-    private void updateSectionOfResponsesToUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
-
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withRecipientSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption.fail("Not possible to trigger recreating of response");
-            }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
-        }
+    private void deleteFeedbackResponsesAndCascade(
+            String courseId, Collection<FeedbackResponseAttributes> responsesToDelete) {
+        List<String> responseIds = responsesToDelete.stream()
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toList());
+        frcLogic.deleteFeedbackResponseCommentsForResponses(courseId, responseIds);
+        frDb.deleteFeedbackResponses(responsesToDelete);
     }
 
-    private void updateSectionOfResponsesFromUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+    /**
+     * Removes the givers of the deleted responses from the respondents of the sessions they no longer
+     * have responses in. Each giver is checked once per session.
+     */
+    private void updateSessionResponseRateForDeletingStudentResponses(
+            String courseId, List<FeedbackResponseAttributes> deletedResponses) {
+        Map<String, Set<String>> giversInSession = new HashMap<>();
+        for (FeedbackResponseAttributes response : deletedResponses) {
+            giversInSession.computeIfAbsent(response.feedbackSessionName, name -> new HashSet<>()).add(response.giver);
+        }
 
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withGiverSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption.fail("Not possible to trigger recreating of response");
+        giversInSession.forEach((sessionName, givers) -> {
+            for (String giver : givers) {
+                updateSessionResponseRateForDeletingStudentResponse(giver, sessionName, courseId);
             }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
-        }
+        });
     }
 
     private void updateSessionResponseRateForDeletingStudentResponse(String studentEmail, String sessionName,
@@ -543,7 +620,7 @@ public final class FeedbackResponsesLogic {
             if (!hasGiverRespondedForSession(studentEmail, sessionName, courseId)) {
                 fsLogic.deleteStudentFromRespondentList(studentEmail, sessionName, courseId);
             }
-        } catch (EntityDoesNotExistException | InvalidParametersException e) {
+        } catch (EntityDoesNotExistException e) {
             log.warning(String.format(
                     "Cannot adjust response rate when for student %s course %s feedbackSession %s because of %s",
                     studentEmail, courseId, sessionName, TeammatesException.toStringWithStackTrace(e)));
@@ -555,65 +632,35 @@ public final class FeedbackResponsesLogic {
                || question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
     }
 
-    /**
-     * Updates responses for a student when his email changes.
-     */
-    public void updateFeedbackResponsesForChangingEmail(
-            String courseId, String oldEmail, String newEmail)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
-
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            try {
-                updateFeedbackResponseCascade(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withGiver(newEmail)
-                                .build());
-                frcLogic.updateFeedbackResponseCommentsEmails(courseId, oldEmail, newEmail);
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully"
-                            + "as email was already in use.");
-            }
-        }
-
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
-
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            try {
-                updateFeedbackResponseCascade(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withRecipient(newEmail)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully"
-                            + "as email was already in use.");
-            }
-        }
-    }
-
     public void deleteFeedbackResponseAndCascade(FeedbackResponseAttributes responseToDelete) {
         frcLogic.deleteFeedbackResponseCommentsForResponse(responseToDelete.getId());
         frDb.deleteEntity(responseToDelete);
     }
 
+    /**
+     * Deletes all responses to a feedback question, with their comments.
+     *
+     * <p>The responses and comments are deleted by keys in batches. If {@code hasResponseRateUpdate} is true,
+     * the givers who no longer have any response in the session are then removed from its respondents at once.
+     */
     public void deleteFeedbackResponsesForQuestionAndCascade(
             String feedbackQuestionId, boolean hasResponseRateUpdate) {
-        List<FeedbackResponseAttributes> responsesForQuestion =
-                getFeedbackResponsesForQuestion(feedbackQuestionId);
+        frcLogic.deleteFeedbackResponseCommentsForQuestion(feedbackQuestionId);
 
-        Set<String> emails = new HashSet<>();
-
-        for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
-            emails.add(response.giver);
+        if (!hasResponseRateUpdate) {
+            frDb.deleteFeedbackResponsesForQuestion(feedbackQuestionId);
+            return;
         }
 
-        if (!hasResponseRateUpdate) {
+        // the responses are loaded only to know their givers
+        List<FeedbackResponseAttributes> responsesForQuestion =
+                getFeedbackResponsesForQuestion(feedbackQuestionId);
+        frDb.deleteFeedbackResponses(responsesForQuestion);
+
+        Set<String> emails = responsesForQuestion.stream()
+                .map(response -> response.giver)
+                .collect(Collectors.toCollection(HashSet::new));
+        if (emails.isEmpty()) {
             return;
         }
 
@@ -622,21 +669,14 @@ public final class FeedbackResponsesLogic {
                     .getFeedbackQuestion(feedbackQuestionId);
             boolean isInstructor = question.giverType == FeedbackParticipantType.SELF
                                    || question.giverType == FeedbackParticipantType.INSTRUCTORS;
-            for (String email : emails) {
-                boolean hasResponses = hasGiverRespondedForSession(email, question.feedbackSessionName, question.courseId);
-                if (!hasResponses) {
-                    if (isInstructor) {
-                        fsLogic.deleteInstructorRespondent(email,
-                                question.feedbackSessionName,
-                                question.courseId);
-                    } else {
-                        fsLogic.deleteStudentFromRespondentList(email,
-                                question.feedbackSessionName,
-                                question.courseId);
-                    }
-                }
+            emails.removeAll(frDb.getGiversWithResponsesForSession(
+                    emails, question.feedbackSessionName, question.courseId));
+            if (isInstructor) {
+                fsLogic.deleteInstructorRespondents(emails, question.feedbackSessionName, question.courseId);
+            } else {
+                fsLogic.deleteStudentRespondents(emails, question.feedbackSessionName, question.courseId);
             }
-        } catch (InvalidParametersException | EntityDoesNotExistException e) {
+        } catch (EntityDoesNotExistException e) {
             Assumption.fail("Fail to delete respondent");
         }
     }
@@ -661,9 +701,11 @@ public final class FeedbackResponsesLogic {
             responses.addAll(getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
         }
 
+        Map<String, FeedbackResponseAttributes> responsesToDelete = new HashMap<>();
         for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
+            responsesToDelete.put(response.getId(), response);
         }
+        deleteFeedbackResponsesAndCascade(courseId, responsesToDelete.values());
     }
 
     /**
@@ -675,6 +717,16 @@ public final class FeedbackResponsesLogic {
         frDb.deleteFeedbackResponsesForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of the responses of the course.
+     * The comments of the responses are not deleted, and should be handled.
+     *
+     * @return the cursor of the next page, or null if all responses of the course have been deleted
+     */
+    public String deletePageOfFeedbackResponsesForCourse(String courseId, String cursor, int pageSize) {
+        return frDb.deletePageOfFeedbackResponsesForCourse(courseId, cursor, pageSize);
+    }
+
     /**
      * Adds {@link FeedbackResponseAttributes} in {@code newResponses} that are
      * not already in to {@code existingResponses} to {@code existingResponses}.
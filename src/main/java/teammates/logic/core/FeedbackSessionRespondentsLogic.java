@@ -0,0 +1,97 @@
+package teammates.logic.core;
+
+import java.util.Collection;
+import java.util.List;
+
+import teammates.common.datatransfer.FeedbackSessionRespondents;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+
+/**
+ * Handles operations related to the respondents of feedback sessions.
+ *
+ * @see FeedbackSessionRespondents
+ * @see FeedbackSessionRespondentsDb
+ */
+public final class FeedbackSessionRespondentsLogic {
+
+    private static FeedbackSessionRespondentsLogic instance = new FeedbackSessionRespondentsLogic();
+
+    private static final FeedbackSessionRespondentsDb fsrDb = new FeedbackSessionRespondentsDb();
+
+    private FeedbackSessionRespondentsLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionRespondentsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets all student and instructor respondents of a feedback session.
+     */
+    public FeedbackSessionRespondents getRespondents(String feedbackSessionName, String courseId) {
+        return fsrDb.getRespondents(feedbackSessionName, courseId);
+    }
+
+    public boolean isStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        return fsrDb.isStudentRespondent(email, feedbackSessionName, courseId);
+    }
+
+    public boolean isInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        return fsrDb.isInstructorRespondent(email, feedbackSessionName, courseId);
+    }
+
+    public void addStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        fsrDb.addStudentRespondent(email, feedbackSessionName, courseId);
+    }
+
+    public void addInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        fsrDb.addInstructorRespondent(email, feedbackSessionName, courseId);
+    }
+
+    public void deleteStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        fsrDb.deleteStudentRespondent(email, feedbackSessionName, courseId);
+    }
+
+    public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        fsrDb.deleteInstructorRespondent(email, feedbackSessionName, courseId);
+    }
+
+    public void deleteStudentRespondents(Collection<String> emails, String feedbackSessionName, String courseId) {
+        fsrDb.deleteStudentRespondents(emails, feedbackSessionName, courseId);
+    }
+
+    public void deleteInstructorRespondents(Collection<String> emails, String feedbackSessionName, String courseId) {
+        fsrDb.deleteInstructorRespondents(emails, feedbackSessionName, courseId);
+    }
+
+    /**
+     * Replaces the student respondent with {@code oldEmail} by {@code newEmail}, if the student has responded.
+     */
+    public void updateStudentRespondent(String oldEmail, String newEmail, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, newEmail);
+
+        fsrDb.replaceStudentRespondent(oldEmail, newEmail, feedbackSessionName, courseId);
+    }
+
+    /**
+     * Replaces the instructor respondent with {@code oldEmail} by {@code newEmail}, if the instructor has responded.
+     */
+    public void updateInstructorRespondent(String oldEmail, String newEmail, String feedbackSessionName,
+                                           String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, newEmail);
+
+        fsrDb.replaceInstructorRespondent(oldEmail, newEmail, feedbackSessionName, courseId);
+    }
+
+    public void deleteRespondentsForSession(String feedbackSessionName, String courseId) {
+        fsrDb.deleteRespondentsForSession(feedbackSessionName, courseId);
+    }
+
+    public void deleteRespondentsForCourses(List<String> courseIds) {
+        fsrDb.deleteRespondentsForCourses(courseIds);
+    }
+
+}
@@ -1,8 +1,12 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -10,12 +14,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CompiledInstructorPrivileges;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponseVisibility;
+import teammates.common.datatransfer.FeedbackSessionCompletionMatrix;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
+import teammates.common.datatransfer.FeedbackSessionRespondents;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.UserRole;
@@ -55,6 +64,9 @@ public final class FeedbackSessionsLogic {
     private static final int EMAIL_LASTNAME_PAIR = 1;
     private static final int EMAIL_TEAMNAME_PAIR = 2;
 
+    private static final long VIEW_SESSION_IN_SECTIONS =
+            CompiledInstructorPrivileges.getPrivilegeBit(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+
     private static final String PARAM_FROM_SECTION = "fromSection";
     private static final String PARAM_IN_SECTION = "inSection";
     private static final String PARAM_IS_INCLUDE_RESPONSE_STATUS = "isIncludeResponseStatus";
@@ -64,7 +76,6 @@ public final class FeedbackSessionsLogic {
     private static final String PARAM_TO_SECTION = "toSection";
     private static final String PARAM_VIEW_TYPE = "viewType";
 
-    private static final String ASSUMPTION_FAIL_DELETE_INSTRUCTOR = "Fail to delete instructor respondent for ";
     private static final String ASSUMPTION_FAIL_RESPONSE_ORIGIN = "Client did not indicate the origin of the response(s)";
     private static final String ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE = "Number of responses exceeds the limited range";
     private static final String ERROR_NON_EXISTENT_COURSE = "Error getting feedback session(s): Course does not exist.";
@@ -87,6 +98,7 @@ public final class FeedbackSessionsLogic {
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackSessionRespondentsLogic fsrLogic = FeedbackSessionRespondentsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
@@ -142,8 +154,6 @@ public final class FeedbackSessionsLogic {
         copiedFeedbackSession.setCourseId(newCourseId);
         copiedFeedbackSession.setTimeZone(newTimeZone);
         copiedFeedbackSession.setCreatedTime(Instant.now());
-        copiedFeedbackSession.setRespondingInstructorList(new HashSet<String>());
-        copiedFeedbackSession.setRespondingStudentList(new HashSet<String>());
         fsDb.createEntity(copiedFeedbackSession);
 
         List<FeedbackQuestionAttributes> feedbackQuestions =
@@ -342,7 +352,6 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
 
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle = new HashMap<>();
         Map<String, Map<String, String>> recipientList = new HashMap<>();
 
@@ -351,14 +360,11 @@ public final class FeedbackSessionsLogic {
                         courseId, userEmail);
 
         Map<String, List<FeedbackResponseCommentAttributes>> commentsForResponses = new HashMap<>();
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
-                    userEmail, fsa, instructor, bundle, recipientList,
-                    question, instructor, null);
+            updateBundleAndRecipientListWithResponsesForInstructor(userEmail, bundle, recipientList, question, roster);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
         }
 
@@ -366,36 +372,16 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
             String userEmail,
-            FeedbackSessionAttributes fsa,
-            InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
+            CourseRoster roster) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
                         question.getId(), userEmail);
-        Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
-        // instructor can only see students in allowed sections for him/her
-        if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
-            recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
-                return !instructor.isAllowedForPrivilege(student.section,
-                        fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
-        // instructor can only see teams in allowed sections for him/her
-        if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
-            recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
-                return !instructor.isAllowedForPrivilege(teamSection,
-                        fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
-            });
-        }
+        // instructor can only see students and teams in allowed sections for him/her
+        Map<String, String> recipients = fqLogic.getRecipientsOfQuestionForInstructor(question, userEmail, roster);
         normalizeMaximumResponseEntities(question, recipients);
 
         bundle.put(question, responses);
@@ -431,12 +417,11 @@ public final class FeedbackSessionsLogic {
         Set<String> hiddenInstructorEmails = null;
         Map<String, List<FeedbackResponseCommentAttributes>> commentsForResponses =
                 new HashMap<>();
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
 
         for (FeedbackQuestionAttributes question : questions) {
             if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-                hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
+                hiddenInstructorEmails = getHiddenInstructorEmails(roster);
                 break;
             }
         }
@@ -444,7 +429,7 @@ public final class FeedbackSessionsLogic {
         for (FeedbackQuestionAttributes question : questions) {
 
             updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                    bundle, recipientList, question, hiddenInstructorEmails);
+                    bundle, recipientList, question, hiddenInstructorEmails, roster);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
 
         }
@@ -467,13 +452,13 @@ public final class FeedbackSessionsLogic {
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            Set<String> hiddenInstructorEmails)
-            throws EntityDoesNotExistException {
+            Set<String> hiddenInstructorEmails,
+            CourseRoster roster) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
+                fqLogic.getRecipientsForQuestion(question, userEmail, null, student, roster);
 
         removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
 
@@ -530,11 +515,10 @@ public final class FeedbackSessionsLogic {
      * @param courseId
      *            the ID of the course
      */
-    private Set<String> getHiddenInstructorEmails(String courseId) {
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+    private Set<String> getHiddenInstructorEmails(CourseRoster roster) {
         Set<String> hiddenInstructorEmails = new HashSet<>();
 
-        for (InstructorAttributes instructor : instructors) {
+        for (InstructorAttributes instructor : roster.getInstructors()) {
             if (!instructor.isDisplayedToStudents()) {
                 hiddenInstructorEmails.add(instructor.email);
             }
@@ -559,8 +543,7 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName,
                         courseId);
 
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                                               instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         return getFeedbackSessionResponseStatus(session, roster, allQuestions);
     }
 
@@ -586,8 +569,10 @@ public final class FeedbackSessionsLogic {
                 responseStatus.emailTeamNameTable.put(student.email, student.team);
             }
         }
-        studentNoResponses.removeAll(fsa.getRespondingStudentList());
-        studentResponded.addAll(fsa.getRespondingStudentList());
+        FeedbackSessionRespondents respondents =
+                fsrLogic.getRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        studentNoResponses.removeAll(respondents.getStudentRespondents());
+        studentResponded.addAll(respondents.getStudentRespondents());
 
         for (InstructorAttributes instructor : instructors) {
             List<FeedbackQuestionAttributes> instructorQns = fqLogic
@@ -598,7 +583,7 @@ public final class FeedbackSessionsLogic {
                 responseStatus.emailNameTable.put(instructor.email, instructor.name);
             }
         }
-        instructorNoResponses.removeAll(fsa.getRespondingInstructorList());
+        instructorNoResponses.removeAll(respondents.getInstructorRespondents());
 
         responseStatus.studentsWhoDidNotRespond.addAll(studentNoResponses);
         responseStatus.studentsWhoResponded.addAll(studentResponded);
@@ -618,9 +603,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -642,9 +625,7 @@ public final class FeedbackSessionsLogic {
             String selectedSection, SectionDetail selectedSectionDetail)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = initializeParamsWithSelectedSectionDetail(selectedSectionDetail);
 
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
@@ -675,9 +656,7 @@ public final class FeedbackSessionsLogic {
             int range, String viewType)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
 
         Map<String, String> params = initializeParamsWithSelectedSectionDetail(sectionDetail);
 
@@ -700,9 +679,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -724,9 +701,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -760,9 +735,7 @@ public final class FeedbackSessionsLogic {
             String section, SectionDetail sectionDetail)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = initializeParamsWithSelectedSectionDetail(sectionDetail);
 
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
@@ -816,16 +789,64 @@ public final class FeedbackSessionsLogic {
         if (!results.isComplete) {
             throw new ExceedingRangeException(ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE);
         }
-        // sort responses by giver > recipient > qnNumber
-        results.responses.sort(results.compareByGiverRecipientQuestion);
+        StringBuilder exportBuilder = getFeedbackSessionResultsCsvHeader(results.feedbackSession, section, sectionDetail);
+        exportBuilder.append(getFeedbackSessionResultsCsvBody(results, isMissingResponsesShown, isStatsShown, section));
 
+        return exportBuilder.toString();
+    }
+
+    /**
+     * Writes the summary results of a feedback session (within a section if {@code section} is not null)
+     * in CSV format to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryInSectionAsCsv}, the results are retrieved and written
+     * one question at a time, so only the responses of a single question are held in memory at any point
+     * and there is no limit on the number of responses in the session.
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            SectionDetail sectionDetail, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+
+        // looked up once here rather than once per question
+        InstructorAttributes instructor = getInstructor(courseId, userEmail, UserRole.INSTRUCTOR);
+
+        writer.append(getFeedbackSessionResultsCsvHeader(session, section, sectionDetail));
+
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            if (questionId != null && !questionId.equals(question.getId())) {
+                continue;
+            }
+
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForQuestionId(
+                    feedbackSessionName, courseId, userEmail, UserRole.INSTRUCTOR, roster, session, instructor,
+                    allQuestions, new HashMap<>(), false, section, sectionDetail, question.getId());
+
+            writer.append(getFeedbackSessionResultsCsvBody(results, isMissingResponsesShown, isStatsShown, section));
+            writer.flush();
+        }
+    }
+
+    private StringBuilder getFeedbackSessionResultsCsvHeader(
+            FeedbackSessionAttributes session, String section, SectionDetail sectionDetail) {
         StringBuilder exportBuilder = new StringBuilder(100);
 
         exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
                      .append(System.lineSeparator())
                      .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
                      .append(System.lineSeparator());
 
         if (section != null) {
@@ -838,6 +859,16 @@ public final class FeedbackSessionsLogic {
         }
 
         exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
+        return exportBuilder;
+    }
+
+    private StringBuilder getFeedbackSessionResultsCsvBody(
+            FeedbackSessionResultsBundle results, boolean isMissingResponsesShown, boolean isStatsShown,
+            String section) {
+        // sort responses by giver > recipient > qnNumber
+        results.responses.sort(results.compareByGiverRecipientQuestion);
+
+        StringBuilder exportBuilder = new StringBuilder();
 
         Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
                 results.getQuestionResponseMap().entrySet();
@@ -847,7 +878,7 @@ public final class FeedbackSessionsLogic {
                     results, entry, isMissingResponsesShown, isStatsShown, section));
         }
 
-        return exportBuilder.toString();
+        return exportBuilder;
     }
 
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
@@ -1091,12 +1122,12 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        if (fsrLogic.isStudentRespondent(userEmail, feedbackSessionName, courseId)) {
             return true;
         }
 
-        String feedbackSessionName = fsa.getFeedbackSessionName();
-        String courseId = fsa.getCourseId();
         List<FeedbackQuestionAttributes> allQuestions =
                 fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName, courseId);
         // if there is no question for students, session is complete
@@ -1105,12 +1136,12 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        if (fsrLogic.isInstructorRespondent(userEmail, feedbackSessionName, courseId)) {
             return true;
         }
 
-        String feedbackSessionName = fsa.getFeedbackSessionName();
-        String courseId = fsa.getCourseId();
         List<FeedbackQuestionAttributes> allQuestions =
                 fqLogic.getFeedbackQuestionsForInstructor(feedbackSessionName, courseId, userEmail);
         // if there is no question for instructor, session is complete
@@ -1189,19 +1220,21 @@ public final class FeedbackSessionsLogic {
         });
     }
 
+    /**
+     * Gets the students and instructors who have responded to a feedback session.
+     */
+    public FeedbackSessionRespondents getFeedbackSessionRespondents(String feedbackSessionName, String courseId) {
+        return fsrLogic.getRespondents(feedbackSessionName, courseId);
+    }
+
     /**
      * Updates the instructor with {@code oldEmail} to {@code newEmail} in the instructor respondent list
      * in all feedback session of course {@code courseId}.
      */
-    public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
+    public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId) {
         List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
         for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateFeedbackSession(
-                    FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                            .withUpdatingInstructorRespondent(oldEmail, newEmail)
-                            .build());
+            fsrLogic.updateInstructorRespondent(oldEmail, newEmail, session.getFeedbackSessionName(), courseId);
         }
     }
 
@@ -1209,15 +1242,10 @@ public final class FeedbackSessionsLogic {
      * Updates the student with {@code oldEmail} to {@code newEmail} in the student respondent list
      * in all feedback session of course {@code courseId}.
      */
-    public void updateRespondentsForStudent(String oldEmail, String newEmail, String courseId)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
+    public void updateRespondentsForStudent(String oldEmail, String newEmail, String courseId) {
         List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
         for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateFeedbackSession(
-                    FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                            .withUpdatingStudentRespondent(oldEmail, newEmail)
-                            .build());
+            fsrLogic.updateStudentRespondent(oldEmail, newEmail, session.getFeedbackSessionName(), courseId);
         }
     }
 
@@ -1233,11 +1261,7 @@ public final class FeedbackSessionsLogic {
                 fsDb.getFeedbackSessionsForCourse(instructor.courseId);
 
         for (FeedbackSessionAttributes session : sessionsToUpdate) {
-            try {
-                deleteInstructorRespondent(instructor.email, session.getFeedbackSessionName(), session.getCourseId());
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                Assumption.fail(ASSUMPTION_FAIL_DELETE_INSTRUCTOR + session.getFeedbackSessionName());
-            }
+            fsrLogic.deleteInstructorRespondent(instructor.email, session.getFeedbackSessionName(), session.getCourseId());
         }
     }
 
@@ -1253,11 +1277,7 @@ public final class FeedbackSessionsLogic {
                 fsDb.getFeedbackSessionsForCourse(student.course);
 
         for (FeedbackSessionAttributes session : sessionsToUpdate) {
-            try {
-                deleteStudentFromRespondentList(student.email, session.getFeedbackSessionName(), session.getCourseId());
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                Assumption.fail(ASSUMPTION_FAIL_DELETE_INSTRUCTOR + session.getFeedbackSessionName());
-            }
+            fsrLogic.deleteStudentRespondent(student.email, session.getFeedbackSessionName(), session.getCourseId());
         }
     }
 
@@ -1265,64 +1285,91 @@ public final class FeedbackSessionsLogic {
      * Adds an instructor in the instructor respondent set of a feedback session.
      */
     public void addInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingInstructorRespondent(email)
-                        .build());
+        verifyFeedbackSessionExistsForRespondentUpdate(feedbackSessionName, courseId);
+        fsrLogic.addInstructorRespondent(email, feedbackSessionName, courseId);
     }
 
     /**
-     * Adds a student in the instructor respondent set of a feedback session.
+     * Adds a student in the student respondent set of a feedback session.
      */
     public void addStudentRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingStudentRespondent(email)
-                        .build());
+        verifyFeedbackSessionExistsForRespondentUpdate(feedbackSessionName, courseId);
+        fsrLogic.addStudentRespondent(email, feedbackSessionName, courseId);
     }
 
     /**
      * Deletes an instructor in the instructor respondent set of a feedback session.
      */
     public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingInstructorRespondent(email)
-                        .build());
+        verifyFeedbackSessionExistsForRespondentUpdate(feedbackSessionName, courseId);
+        fsrLogic.deleteInstructorRespondent(email, feedbackSessionName, courseId);
     }
 
     /**
-     * Deletes a student in the instructor respondent set of a feedback session.
+     * Deletes a student in the student respondent set of a feedback session.
      */
     public void deleteStudentFromRespondentList(String email, String feedbackSessionName, String courseId)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingStudentRespondent(email)
-                        .build());
+        verifyFeedbackSessionExistsForRespondentUpdate(feedbackSessionName, courseId);
+        fsrLogic.deleteStudentRespondent(email, feedbackSessionName, courseId);
+    }
+
+    /**
+     * Deletes instructors in the instructor respondent set of a feedback session.
+     */
+    public void deleteInstructorRespondents(Collection<String> emails, String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, emails);
+
+        verifyFeedbackSessionExistsForRespondentUpdate(feedbackSessionName, courseId);
+        fsrLogic.deleteInstructorRespondents(emails, feedbackSessionName, courseId);
+    }
+
+    /**
+     * Deletes students in the student respondent set of a feedback session.
+     */
+    public void deleteStudentRespondents(Collection<String> emails, String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, emails);
+
+        verifyFeedbackSessionExistsForRespondentUpdate(feedbackSessionName, courseId);
+        fsrLogic.deleteStudentRespondents(emails, feedbackSessionName, courseId);
+    }
+
+    private void verifyFeedbackSessionExistsForRespondentUpdate(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        if (!isFeedbackSessionExists(feedbackSessionName, courseId)) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
     }
 
     /**
@@ -1412,9 +1459,21 @@ public final class FeedbackSessionsLogic {
      * should be handled.
      */
     public void deleteFeedbackSessionsForCourse(String courseId) {
+        fsrLogic.deleteRespondentsForCourses(Arrays.asList(courseId));
         fsDb.deleteFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Deletes a page of the feedback sessions of the course. This is a non-cascade delete.
+     *
+     * <p>The respondents, responses, questions and the comments of the responses should be handled.
+     *
+     * @return the cursor of the next page, or null if all sessions of the course have been deleted
+     */
+    public String deletePageOfFeedbackSessionsForCourse(String courseId, String cursor, int pageSize) {
+        return fsDb.deletePageOfFeedbackSessionsForCourse(courseId, cursor, pageSize);
+    }
+
     /**
      * Permanently deletes a specific feedback session in Recycle Bin, and all its questions and responses.
      */
@@ -1426,6 +1485,7 @@ public final class FeedbackSessionsLogic {
                 .builder(feedbackSessionName, courseId, "").build();
 
         fsDb.deleteEntity(sessionToDelete);
+        fsrLogic.deleteRespondentsForSession(feedbackSessionName, courseId);
     }
 
     /**
@@ -1509,7 +1569,9 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
+        FeedbackSessionRespondents respondents =
+                fsrLogic.getRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        details.stats.submittedTotal += respondents.getNumberOfRespondents();
 
         return details;
     }
@@ -1522,9 +1584,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
 
         return getFeedbackSessionResultsForUserInSectionByQuestions(
                 feedbackSessionName, courseId, userEmail, role, section, roster);
@@ -1550,7 +1610,7 @@ public final class FeedbackSessionsLogic {
         Map<String, String> emailLastNameTable = new HashMap<>();
         Map<String, String> emailTeamNameTable = new HashMap<>();
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        Map<String, FeedbackResponseVisibility> visibilityTable = new HashMap<>();
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
 
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
@@ -1662,38 +1722,52 @@ public final class FeedbackSessionsLogic {
         return params;
     }
 
+    @SuppressWarnings("PMD.PrematureDeclaration") // queries are started early so that they run in parallel
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForUserWithParams(
             String feedbackSessionName, String courseId, String userEmail,
             UserRole role, CourseRoster roster, Map<String, String> params, SectionDetail sectionDetail)
             throws EntityDoesNotExistException {
 
-        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        long startTime = System.currentTimeMillis();
+        String section = params.get(PARAM_SECTION);
+        String questionId = params.get(PARAM_QUESTION_ID);
+
+        // the independent queries are all started before any of them is waited for, so that they run in parallel
+        Supplier<FeedbackSessionAttributes> sessionResult = fsDb.getFeedbackSessionAsync(courseId, feedbackSessionName);
+        Supplier<List<FeedbackQuestionAttributes>> questionsResult =
+                fqLogic.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId);
+        Supplier<List<FeedbackResponseCommentAttributes>> commentsResult = questionId == null
+                ? frcLogic.getFeedbackResponseCommentForSessionInSectionAsync(courseId, feedbackSessionName, section)
+                : null;
+
+        FeedbackSessionAttributes session = sessionResult.get();
 
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
         }
 
-        List<FeedbackQuestionAttributes> allQuestions =
-                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        // the responses are read while the questions and comments are still being read
+        List<FeedbackResponseAttributes> allResponses = questionId == null
+                ? getAllResponses(feedbackSessionName, courseId, params, section)
+                : null;
+        long responsesReadTime = System.currentTimeMillis();
+
+        List<FeedbackQuestionAttributes> allQuestions = questionsResult.get();
 
         //Show all questions even if no responses, unless is an ajax request for a specific question.
         Map<String, FeedbackQuestionAttributes> relevantQuestions = getAllQuestions(role, params, allQuestions);
 
         boolean isIncludeResponseStatus = Boolean.parseBoolean(params.get(PARAM_IS_INCLUDE_RESPONSE_STATUS));
 
-        String section = params.get(PARAM_SECTION);
-        String questionId = params.get(PARAM_QUESTION_ID);
-
         if (questionId != null) {
             return getFeedbackSessionResultsForQuestionId(feedbackSessionName, courseId, userEmail, role, roster, session,
-                    allQuestions, relevantQuestions, isIncludeResponseStatus, section, sectionDetail, questionId);
+                    getInstructor(courseId, userEmail, role), allQuestions, relevantQuestions, isIncludeResponseStatus,
+                    section, sectionDetail, questionId);
         }
 
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         putQuestionsIntoMap(allQuestions, allQuestionsMap);
 
-        List<FeedbackResponseAttributes> allResponses = getAllResponses(feedbackSessionName, courseId, params, section);
-
         String rangeString = params.get(PARAM_RANGE);
         boolean isComplete = rangeString == null || allResponses.size() <= Integer.parseInt(rangeString);
 
@@ -1707,7 +1781,7 @@ public final class FeedbackSessionsLogic {
         Map<String, String> emailLastNameTable = new HashMap<>();
         Map<String, String> emailTeamNameTable = new HashMap<>();
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        Map<String, FeedbackResponseVisibility> visibilityTable = new HashMap<>();
         FeedbackSessionResponseStatus responseStatus = section == null && isIncludeResponseStatus
                                                      ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
                                                      : null;
@@ -1716,13 +1790,18 @@ public final class FeedbackSessionsLogic {
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        CompiledInstructorPrivileges instructorPrivileges =
+                instructor == null ? null : instructor.getCompiledPrivileges();
+        int sessionId = instructorPrivileges == null
+                ? CompiledInstructorPrivileges.NOT_SPECIAL
+                : instructorPrivileges.getSessionId(feedbackSessionName);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackResponseAttributes response : allResponses) {
             FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
             if (relatedQuestion != null) {
-                boolean isVisibleResponse = isResponseVisibleForUser(
-                        userEmail, role, student, studentsEmailInTeam, response, relatedQuestion, instructor);
+                boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, student, studentsEmailInTeam,
+                        response, relatedQuestion, instructorPrivileges, sessionId);
                 if (isVisibleResponse) {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
@@ -1734,12 +1813,21 @@ public final class FeedbackSessionsLogic {
                 }
             }
         }
+        long responsesProcessedTime = System.currentTimeMillis();
+
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
-                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
+                commentsResult.get(), userEmail, role, roster, relevantQuestions, student,
                 studentsEmailInTeam, relevantResponse);
+        long commentsProcessedTime = System.currentTimeMillis();
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
+        log.info("Results of " + courseId + "/" + feedbackSessionName + " in section " + section + " built in "
+                + (System.currentTimeMillis() - startTime) + " ms: session and responses read in "
+                + (responsesReadTime - startTime) + " ms, questions joined and responses processed in "
+                + (responsesProcessedTime - responsesReadTime) + " ms, comments joined and processed in "
+                + (commentsProcessedTime - responsesProcessedTime) + " ms");
+
         return new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
@@ -1747,13 +1835,11 @@ public final class FeedbackSessionsLogic {
     }
 
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
-            String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
-            Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1815,17 +1901,27 @@ public final class FeedbackSessionsLogic {
         return null;
     }
 
+    /**
+     * Gets the results of a single question, or the response status of the session
+     * if {@code questionId} is {@link #QUESTION_ID_FOR_RESPONSE_RATE}.
+     *
+     * <p>Only the comments on the responses to the question are read, so that results can be retrieved
+     * question by question without reading the comments of the whole session each time.
+     *
+     * @param instructor the instructor viewing the results, or null if the user is not an instructor
+     */
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForQuestionId(String feedbackSessionName,
                 String courseId, String userEmail, UserRole role, CourseRoster roster, FeedbackSessionAttributes session,
-                List<FeedbackQuestionAttributes> allQuestions, Map<String, FeedbackQuestionAttributes> relevantQuestions,
-                boolean isIncludeResponseStatus, String section, SectionDetail sectionDetail, String questionId) {
+                InstructorAttributes instructor, List<FeedbackQuestionAttributes> allQuestions,
+                Map<String, FeedbackQuestionAttributes> relevantQuestions, boolean isIncludeResponseStatus,
+                String section, SectionDetail sectionDetail, String questionId) {
 
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
         Map<String, String> emailNameTable = new HashMap<>();
         Map<String, String> emailLastNameTable = new HashMap<>();
         Map<String, String> emailTeamNameTable = new HashMap<>();
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        Map<String, FeedbackResponseVisibility> visibilityTable = new HashMap<>();
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
         boolean isQueryingResponseRateStatus = questionId.equals(QUESTION_ID_FOR_RESPONSE_RATE);
@@ -1847,11 +1943,15 @@ public final class FeedbackSessionsLogic {
                 Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
+                    CompiledInstructorPrivileges instructorPrivileges =
+                            instructor == null ? null : instructor.getCompiledPrivileges();
+                    int sessionId = instructorPrivileges == null
+                            ? CompiledInstructorPrivileges.NOT_SPECIAL
+                            : instructorPrivileges.getSessionId(feedbackSessionName);
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
                         boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
+                                                                             question, instructorPrivileges, sessionId);
                         if (isVisibleResponse) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
@@ -1862,14 +1962,15 @@ public final class FeedbackSessionsLogic {
                             addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
                         }
                     }
+                    List<FeedbackResponseCommentAttributes> commentsForQuestion =
+                            frcLogic.getFeedbackResponseCommentsForQuestionInSection(question.getId(), section);
                     responseComments = getResponseComments(
-                            feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
+                            commentsForQuestion, userEmail, role, roster, relevantQuestions, student,
                             studentsEmailInTeam, relevantResponse);
                 }
             }
         }
-        addSectionTeamNamesToTable(
-                sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, instructor, feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
@@ -1935,14 +2036,17 @@ public final class FeedbackSessionsLogic {
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
                                     CourseRoster roster, String courseId, String userEmail, UserRole role,
                                     String feedbackSessionName, String sectionToView) {
-        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, getInstructor(courseId, userEmail, role),
+                feedbackSessionName, sectionToView);
+    }
+
+    private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable, CourseRoster roster,
+                                    InstructorAttributes instructor, String feedbackSessionName, String sectionToView) {
         if (instructor != null) {
+            CompiledInstructorPrivileges privileges = instructor.getCompiledPrivileges();
+            int sessionId = privileges.getSessionId(feedbackSessionName);
             for (StudentAttributes student : roster.getStudents()) {
-                boolean isVisibleResponse =
-                        instructor.isAllowedForPrivilege(
-                                           student.section,
-                                           feedbackSessionName,
-                                           Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+                boolean isVisibleResponse = privileges.isAllowed(student.section, sessionId, VIEW_SESSION_IN_SECTIONS);
                 boolean isStudentInSelectedSection = student.section.equals(sectionToView);
                 boolean isViewingAllSections = sectionToView == null;
 
@@ -1962,7 +2066,8 @@ public final class FeedbackSessionsLogic {
             UserRole role, StudentAttributes student,
             Set<String> studentsEmailInTeam,
             FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
+            FeedbackQuestionAttributes relatedQuestion, CompiledInstructorPrivileges instructorPrivileges,
+            int sessionId) {
 
         boolean isVisibleResponse = false;
         if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
@@ -1987,18 +2092,14 @@ public final class FeedbackSessionsLogic {
                 isVisibleResponse = true;
             }
         }
-        if (isVisibleResponse && instructor != null) {
+        if (isVisibleResponse && instructorPrivileges != null) {
             boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+                    !instructorPrivileges.isAllowed(response.giverSection, sessionId, VIEW_SESSION_IN_SECTIONS);
             // If instructors are not restricted to view the giver's section,
             // they are allowed to view responses to GENERAL, subject to visibility options
             boolean isRecipientSectionRestricted =
                     relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+                    && !instructorPrivileges.isAllowed(response.recipientSection, sessionId, VIEW_SESSION_IN_SECTIONS);
 
             boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
             if (isNotAllowedForInstructor) {
@@ -2012,18 +2113,15 @@ public final class FeedbackSessionsLogic {
         responseCommentList.sort(Comparator.comparing(responseComment -> responseComment.createdAt));
     }
 
-    private void addVisibilityToTable(Map<String, boolean[]> visibilityTable,
+    private void addVisibilityToTable(Map<String, FeedbackResponseVisibility> visibilityTable,
             FeedbackQuestionAttributes question,
             FeedbackResponseAttributes response,
             String userEmail,
             UserRole role,
             CourseRoster roster) {
-        boolean[] visibility = new boolean[2];
-        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
-        visibilityTable.put(response.getId(), visibility);
+        boolean isGiverVisible = frLogic.isNameVisibleToUser(question, response, userEmail, role, true, roster);
+        boolean isRecipientVisible = frLogic.isNameVisibleToUser(question, response, userEmail, role, false, roster);
+        visibilityTable.put(response.getId(), FeedbackResponseVisibility.valueOf(isGiverVisible, isRecipientVisible));
     }
 
     private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
@@ -2191,6 +2289,43 @@ public final class FeedbackSessionsLogic {
         return true;
     }
 
+    /**
+     * Gets the completion of the feedback session by all students of the course.
+     *
+     * <p>The responses of the session are read once and the numbers of responses needed are counted against
+     * one snapshot of the course roster, regardless of the numbers of students and questions.
+     *
+     * @see #isFeedbackSessionFullyCompletedByStudent(String, String, String)
+     */
+    public FeedbackSessionCompletionMatrix getFeedbackSessionCompletionMatrixForStudents(
+            String feedbackSessionName, String courseId) throws EntityDoesNotExistException {
+
+        if (!isFeedbackSessionExists(feedbackSessionName, courseId)) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_CHECK + courseId + "/" + feedbackSessionName);
+        }
+
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName, courseId);
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+
+        FeedbackSessionCompletionMatrix matrix = new FeedbackSessionCompletionMatrix(feedbackSessionName, courseId);
+        for (StudentAttributes student : roster.getStudents()) {
+            for (FeedbackQuestionAttributes question : questions) {
+                matrix.addResponsesNeeded(student.email, question.getId(),
+                        fqLogic.getNumberOfResponsesNeeded(question, student.email, student.team, roster));
+            }
+        }
+
+        if (!questions.isEmpty()) {
+            List<FeedbackResponseAttributes> responses =
+                    frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+            for (FeedbackResponseAttributes response : responses) {
+                matrix.addResponseGiven(response.giver, response.feedbackQuestionId);
+            }
+        }
+        return matrix;
+    }
+
     /**
      * Checks whether the feedback session is viewable to the specified user.
      */
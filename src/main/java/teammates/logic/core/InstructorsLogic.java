@@ -32,6 +32,7 @@ public final class InstructorsLogic {
     private static final InstructorsDb instructorsDb = new InstructorsDb();
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -80,7 +81,9 @@ public final class InstructorsLogic {
 
         log.info("going to create instructor :\n" + instructorToAdd.toString());
 
-        return instructorsDb.createInstructor(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createInstructor(instructorToAdd);
+        courseRostersLogic.invalidateCourseRoster(createdInstructor.courseId);
+        return createdInstructor;
     }
 
     /**
@@ -94,6 +97,7 @@ public final class InstructorsLogic {
                         .withIsArchived(archiveStatus)
                         .build()
         );
+        courseRostersLogic.invalidateCourseRoster(courseId);
     }
 
     public InstructorAttributes getInstructorForEmail(String courseId, String email) {
@@ -199,6 +203,7 @@ public final class InstructorsLogic {
         InstructorAttributes originalInstructor =
                 instructorsDb.getInstructorForGoogleId(updateOptions.getCourseId(), updateOptions.getGoogleId());
         InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByGoogleId(updateOptions);
+        courseRostersLogic.invalidateCourseRoster(updatedInstructor.courseId);
 
         if (!originalInstructor.email.equals(updatedInstructor.email)) {
             // cascade responses
@@ -259,7 +264,9 @@ public final class InstructorsLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull("Supplied parameter was null", updateOptions);
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        courseRostersLogic.invalidateCourseRoster(updatedInstructor.courseId);
+        return updatedInstructor;
     }
 
     public List<String> getInvalidityInfoForNewInstructorData(String name,
@@ -291,6 +298,7 @@ public final class InstructorsLogic {
     public void deleteInstructorCascade(String courseId, String email) {
         fsLogic.deleteInstructorFromRespondentsList(getInstructorForEmail(courseId, email));
         instructorsDb.deleteInstructor(courseId, email);
+        courseRostersLogic.invalidateCourseRoster(courseId);
     }
 
     public void deleteInstructorsForGoogleIdAndCascade(String googleId) {
@@ -307,6 +315,7 @@ public final class InstructorsLogic {
     public void deleteInstructorsForCourse(String courseId) {
 
         instructorsDb.deleteInstructorsForCourse(courseId);
+        courseRostersLogic.invalidateCourseRoster(courseId);
     }
 
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
@@ -330,6 +339,7 @@ public final class InstructorsLogic {
                     InstructorAttributes.updateOptionsWithEmailBuilder(originalEmail, originalEmail)
                             .withGoogleId(null)
                             .build());
+            courseRostersLogic.invalidateCourseRoster(courseId);
         } catch (InvalidParametersException e) {
             Assumption.fail("Unexpected invalid parameter.");
         }
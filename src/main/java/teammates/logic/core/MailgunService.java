@@ -1,9 +1,12 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.core.MediaType;
 
+import com.google.gson.JsonObject;
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
@@ -18,13 +21,49 @@ import teammates.common.util.Logger;
 /**
  * Email sender service provided by Mailgun.
  *
+ * <p>Emails generated from the same template are sent in one call as a batch message,
+ * with recipient variables holding the values to fill into the template for each recipient.
+ *
  * @see <a href="https://cloud.google.com/appengine/docs/java/mail/mailgun">https://cloud.google.com/appengine/docs/java/mail/mailgun</a>
+ * @see <a href="https://documentation.mailgun.com/en/latest/user_manual.html#batch-sending">https://documentation.mailgun.com/en/latest/user_manual.html#batch-sending</a>
  * @see FormDataMultiPart
  */
 public class MailgunService extends EmailSenderService {
 
+    /**
+     * Maximum number of recipients Mailgun accepts in one batch message.
+     */
+    public static final int MAX_RECIPIENTS_PER_CALL = 1000;
+
     private static final Logger log = Logger.getLogger();
 
+    private static Client sharedClient;
+
+    private final WebResource messagesResource;
+
+    public MailgunService() {
+        this(getSharedClient(), "https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+    }
+
+    /**
+     * Creates a service which posts emails with the given {@code client} to {@code messagesUrl},
+     * e.g. that of a stub server in tests.
+     */
+    public MailgunService(Client client, String messagesUrl) {
+        this.messagesResource = client.resource(messagesUrl);
+    }
+
+    private static Client getSharedClient() {
+        synchronized (MailgunService.class) {
+            if (sharedClient == null) {
+                // Jersey clients are expensive to create and are thread-safe once configured
+                sharedClient = Client.create();
+                sharedClient.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+            }
+            return sharedClient;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -50,23 +89,87 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
-    @Override
-    protected void sendEmailWithService(EmailWrapper wrapper) {
-        try (FormDataMultiPart email = parseToEmail(wrapper)) {
-            Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-            WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+    /**
+     * Parses emails generated from the same template to one Mailgun batch message.
+     */
+    public FormDataMultiPart parseToEmail(List<EmailWrapper> batch) {
+        EmailWrapper template = batch.get(0);
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        String sender = template.getSenderName() == null || template.getSenderName().isEmpty()
+                        ? template.getSenderEmail()
+                        : template.getSenderName() + " <" + template.getSenderEmail() + ">";
+        formData.field("from", sender);
 
-            ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
-                    .post(ClientResponse.class, email);
+        String html = template.getTemplate();
+        for (String variable : template.getSubstitutions().keySet()) {
+            html = html.replace(variable, "%recipient." + getVariableName(variable) + "%");
+        }
+
+        // the recipient variables also keep every recipient from seeing all the other recipients
+        JsonObject recipientVariables = new JsonObject();
+        for (EmailWrapper wrapper : batch) {
+            formData.field("to", wrapper.getRecipient());
 
-            if (isNotSuccessStatus(response.getStatus())) {
-                log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+            JsonObject variables = new JsonObject();
+            for (Map.Entry<String, String> substitution : wrapper.getSubstitutions().entrySet()) {
+                variables.addProperty(getVariableName(substitution.getKey()), substitution.getValue());
             }
+            recipientVariables.add(wrapper.getRecipient(), variables);
+        }
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        if (template.getBcc() != null && !template.getBcc().isEmpty()) {
+            formData.field("bcc", template.getBcc());
+        }
+
+        formData.field("h:Reply-To", template.getReplyTo());
+        formData.field("subject", template.getSubject());
+        formData.field("html", html);
+
+        return formData;
+    }
+
+    /**
+     * Gets the name of a template variable such as {@code ${userName}}, which Mailgun allows in recipient variables.
+     */
+    private static String getVariableName(String variable) {
+        return variable.replaceAll("[^A-Za-z0-9_]", "");
+    }
+
+    @Override
+    protected void sendEmailWithService(EmailWrapper wrapper) {
+        try (FormDataMultiPart email = parseToEmail(wrapper)) {
+            post(email);
         } catch (IOException e) {
             log.warning("Could not clean up resources after sending email: " + TeammatesException.toStringWithStackTrace(e));
         }
     }
 
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> batch) {
+        try (FormDataMultiPart email = parseToEmail(batch)) {
+            post(email);
+        } catch (IOException e) {
+            log.warning("Could not clean up resources after sending emails: "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    @Override
+    protected int getMaxRecipientsPerBatch() {
+        return MAX_RECIPIENTS_PER_CALL;
+    }
+
+    private void post(FormDataMultiPart email) {
+        ClientResponse response = messagesResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
+                .post(ClientResponse.class, email);
+
+        if (isNotSuccessStatus(response.getStatus())) {
+            log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+        }
+        // releases the connection for reuse by the next call
+        response.close();
+    }
+
 }
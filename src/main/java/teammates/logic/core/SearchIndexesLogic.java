@@ -0,0 +1,33 @@
+package teammates.logic.core;
+
+import teammates.storage.api.SearchIndexesDb;
+
+/**
+ * Handles operations related to the search indexes as a whole.
+ *
+ * @see SearchIndexesDb
+ */
+public final class SearchIndexesLogic {
+
+    private static SearchIndexesLogic instance = new SearchIndexesLogic();
+
+    private static final SearchIndexesDb searchIndexesDb = new SearchIndexesDb();
+
+    private SearchIndexesLogic() {
+        // prevent initialization
+    }
+
+    public static SearchIndexesLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Saves the snapshot of the in-memory search indexes if they have changed since the last save.
+     *
+     * @return true if the snapshot was saved
+     */
+    public boolean saveSearchIndexSnapshotIfChanged() {
+        return searchIndexesDb.saveSnapshotIfChanged();
+    }
+
+}
@@ -1,9 +1,13 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
+import org.apache.http.impl.client.HttpClients;
 import org.jsoup.Jsoup;
 
+import com.sendgrid.Client;
 import com.sendgrid.Content;
 import com.sendgrid.Email;
 import com.sendgrid.Mail;
@@ -20,13 +24,53 @@ import teammates.common.util.Logger;
 /**
  * Email sender service provided by SendGrid.
  *
+ * <p>Emails generated from the same template are sent in one call, with one personalization per recipient
+ * which holds the values to fill into the template for that recipient.
+ *
  * @see <a href="https://cloud.google.com/appengine/docs/flexible/java/sending-emails-with-sendgrid">https://cloud.google.com/appengine/docs/flexible/java/sending-emails-with-sendgrid</a>
  * @see SendGrid
  */
 public class SendgridService extends EmailSenderService {
 
+    /**
+     * Maximum number of personalizations SendGrid accepts in one call.
+     */
+    public static final int MAX_PERSONALIZATIONS_PER_CALL = 1000;
+
+    private static final int MAX_CONNECTIONS = 20;
+
     private static final Logger log = Logger.getLogger();
 
+    private static SendGrid sharedSendgrid;
+
+    private final SendGrid sendgrid;
+
+    public SendgridService() {
+        this(getSharedSendgrid());
+    }
+
+    /**
+     * Creates a service which sends emails with the given {@code sendgrid} client,
+     * e.g. one pointed to a stub server in tests.
+     */
+    public SendgridService(SendGrid sendgrid) {
+        this.sendgrid = sendgrid;
+    }
+
+    private static SendGrid getSharedSendgrid() {
+        synchronized (SendgridService.class) {
+            if (sharedSendgrid == null) {
+                // the pooled connections are reused by all emails sent from this instance
+                Client client = new Client(HttpClients.custom()
+                        .setMaxConnTotal(MAX_CONNECTIONS)
+                        .setMaxConnPerRoute(MAX_CONNECTIONS)
+                        .build());
+                sharedSendgrid = new SendGrid(Config.SENDGRID_APIKEY, client);
+            }
+            return sharedSendgrid;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -53,10 +97,54 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses emails generated from the same template to one SendGrid email
+     * with one personalization per recipient.
+     */
+    public Mail parseToEmail(List<EmailWrapper> batch) {
+        EmailWrapper template = batch.get(0);
+        Mail email = new Mail();
+        Email sender;
+        if (template.getSenderName() == null || template.getSenderName().isEmpty()) {
+            sender = new Email(template.getSenderEmail());
+        } else {
+            sender = new Email(template.getSenderEmail(), template.getSenderName());
+        }
+        email.setFrom(sender);
+        email.setReplyTo(new Email(template.getReplyTo()));
+        for (EmailWrapper wrapper : batch) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(wrapper.getRecipient()));
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                personalization.addBcc(new Email(wrapper.getBcc()));
+            }
+            for (Map.Entry<String, String> substitution : wrapper.getSubstitutions().entrySet()) {
+                personalization.addSubstitution(substitution.getKey(), substitution.getValue());
+            }
+            email.addPersonalization(personalization);
+        }
+        email.setSubject(template.getSubject());
+        email.addContent(new Content("text/plain", getPlainTextTemplate(template.getTemplate())));
+        email.addContent(new Content("text/html", template.getTemplate()));
+        return email;
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
-        SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> batch) throws IOException {
+        send(parseToEmail(batch));
+    }
+
+    @Override
+    protected int getMaxRecipientsPerBatch() {
+        return MAX_PERSONALIZATIONS_PER_CALL;
+    }
+
+    private void send(Mail email) throws IOException {
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
@@ -1,7 +1,10 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.StudentAttributesFactory;
@@ -35,9 +38,11 @@ public final class StudentsLogic {
 
     private static final StudentsDb studentsDb = new StudentsDb();
 
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final UserRolesLogic userRolesLogic = UserRolesLogic.inst();
 
     private StudentsLogic() {
         // prevent initialization
@@ -50,6 +55,8 @@ public final class StudentsLogic {
     public void createStudentCascade(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
         studentsDb.createStudent(studentData);
+        courseRostersLogic.invalidateCourseRoster(studentData.course);
+        userRolesLogic.invalidateUserRoles(studentData.googleId);
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
@@ -169,6 +176,11 @@ public final class StudentsLogic {
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudent = getStudentForEmail(updateOptions.getCourseId(), updateOptions.getEmail());
         StudentAttributes updatedStudent = studentsDb.updateStudent(updateOptions);
+        courseRostersLogic.invalidateCourseRoster(updatedStudent.course);
+        if (!Objects.equals(originalStudent.googleId, updatedStudent.googleId)) {
+            userRolesLogic.invalidateUserRoles(originalStudent.googleId);
+            userRolesLogic.invalidateUserRoles(updatedStudent.googleId);
+        }
 
         // cascade email change, if any
         if (!originalStudent.email.equals(updatedStudent.email)) {
@@ -210,7 +222,7 @@ public final class StudentsLogic {
     }
 
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
-            throws EntityDoesNotExistException, EnrollException, InvalidParametersException, EntityAlreadyExistsException {
+            throws EntityDoesNotExistException, EnrollException, InvalidParametersException {
 
         if (!coursesLogic.isCoursePresent(courseId)) {
             throw new EntityDoesNotExistException("Course does not exist :"
@@ -226,22 +238,32 @@ public final class StudentsLogic {
         ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
 
         verifyIsWithinSizeLimitPerEnrollment(studentList);
-        validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
-        for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
+        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        validateSectionsAndTeams(getMergedList(studentList, studentsInCourse));
 
-            enrollmentDetails = enrollStudent(student);
+        Map<String, StudentAttributes> studentsInCourseByEmail = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            studentsInCourseByEmail.put(student.email, student);
+        }
+
+        List<StudentAttributes> studentsToSave = new ArrayList<>();
+        for (StudentAttributes student : studentList) {
+            StudentEnrollDetails enrollmentDetails =
+                    getEnrollmentDetails(student, studentsInCourseByEmail.get(student.email));
             student.updateStatus = enrollmentDetails.updateStatus;
+            if (enrollmentDetails.updateStatus != StudentUpdateStatus.UNMODIFIED) {
+                studentsToSave.add(student);
+            }
 
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
         }
 
+        studentsDb.putStudents(studentsToSave);
+        courseRostersLogic.invalidateCourseRoster(courseId);
+
         // add to return list students not included in the enroll list.
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
         for (StudentAttributes student : studentsInCourse) {
             if (!isInEnrollList(student, returnList)) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
@@ -262,9 +284,10 @@ public final class StudentsLogic {
      * Validates sections for any limit violations and teams for any team name violations.
      */
     public void validateSectionsAndTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
+        validateSectionsAndTeams(getMergedList(studentList, getStudentsForCourse(courseId)));
+    }
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
-
+    private void validateSectionsAndTeams(List<StudentAttributes> mergedList) throws EnrollException {
         if (mergedList.size() < 2) { // no conflicts
             return;
         }
@@ -282,7 +305,7 @@ public final class StudentsLogic {
      */
     public void validateTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, getStudentsForCourse(courseId));
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -296,10 +319,10 @@ public final class StudentsLogic {
 
     }
 
-    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
+    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList,
+                                                  List<StudentAttributes> studentsInCourse) {
 
         List<StudentAttributes> mergedList = new ArrayList<>();
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
 
         for (StudentAttributes student : studentList) {
             mergedList.add(student);
@@ -391,8 +414,13 @@ public final class StudentsLogic {
     public void deleteStudentCascade(String courseId, String studentEmail) {
         // delete responses before deleting the student as we need to know the student's team.
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
-        fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
+        StudentAttributes student = getStudentForEmail(courseId, studentEmail);
+        fsLogic.deleteStudentFromRespondentsList(student);
         studentsDb.deleteStudent(courseId, studentEmail);
+        courseRostersLogic.invalidateCourseRoster(courseId);
+        if (student != null) {
+            userRolesLogic.invalidateUserRoles(student.googleId);
+        }
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
@@ -401,6 +429,10 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
+        for (StudentAttributes student : students) {
+            courseRostersLogic.invalidateCourseRoster(student.course);
+        }
+        userRolesLogic.invalidateUserRoles(googleId);
     }
 
     public void deleteStudentsForGoogleIdAndCascade(String googleId) {
@@ -413,7 +445,12 @@ public final class StudentsLogic {
     }
 
     public void deleteStudentsForCourse(String courseId) {
+        List<StudentAttributes> students = getStudentsForCourse(courseId);
         studentsDb.deleteStudentsForCourse(courseId);
+        courseRostersLogic.invalidateCourseRoster(courseId);
+        for (StudentAttributes student : students) {
+            userRolesLogic.invalidateUserRoles(student.googleId);
+        }
     }
 
     /**
@@ -423,11 +460,35 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
+    /**
+     * Adjusts the responses of students whose team or section were changed by an enrollment.
+     *
+     * <p>This is deferred from {@link #enrollStudents(String, String)} so that the enrollment itself
+     * only needs a constant number of datastore operations.
+     */
+    public void adjustFeedbackResponsesForEnrollment(List<StudentEnrollDetails> enrollmentList)
+            throws InvalidParametersException {
+        for (StudentEnrollDetails enrollmentDetails : enrollmentList) {
+            if (enrollmentDetails.updateStatus != StudentUpdateStatus.MODIFIED) {
+                continue;
+            }
 
+            // adjust submissions if moving to a different team
+            if (isTeamChanged(enrollmentDetails.oldTeam, enrollmentDetails.newTeam)) {
+                frLogic.updateFeedbackResponsesForChangingTeam(enrollmentDetails.course, enrollmentDetails.email,
+                        enrollmentDetails.oldTeam, enrollmentDetails.newTeam);
+            }
+
+            // update the new section name in responses
+            if (isSectionChanged(enrollmentDetails.oldSection, enrollmentDetails.newSection)) {
+                frLogic.updateFeedbackResponsesForChangingSection(enrollmentDetails.course, enrollmentDetails.email,
+                        enrollmentDetails.oldSection, enrollmentDetails.newSection);
+            }
+        }
+    }
+
+    private StudentEnrollDetails getEnrollmentDetails(StudentAttributes validStudentAttributes,
+                                                      StudentAttributes originalStudentAttributes) {
         StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
         enrollmentDetails.course = validStudentAttributes.course;
         enrollmentDetails.email = validStudentAttributes.email;
@@ -438,13 +499,6 @@ public final class StudentsLogic {
         if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
             enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
         } else if (isModifyingExistingStudent) {
-            updateStudentCascade(
-                    StudentAttributes.updateOptionsBuilder(originalStudentAttributes.course, originalStudentAttributes.email)
-                            .withName(validStudentAttributes.name)
-                            .withTeamName(validStudentAttributes.team)
-                            .withSectionName(validStudentAttributes.section)
-                            .withComment(validStudentAttributes.comments)
-                            .build());
             enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
             if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
@@ -454,7 +508,6 @@ public final class StudentsLogic {
                 enrollmentDetails.oldSection = originalStudentAttributes.section;
             }
         } else {
-            createStudentCascade(validStudentAttributes);
             enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
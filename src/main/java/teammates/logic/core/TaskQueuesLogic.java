@@ -1,11 +1,18 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.google.appengine.api.taskqueue.Queue;
+import com.google.appengine.api.taskqueue.QueueConstants;
 import com.google.appengine.api.taskqueue.QueueFactory;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -13,6 +20,8 @@ import teammates.common.util.TaskWrapper;
  */
 public class TaskQueuesLogic {
 
+    private static final Logger log = Logger.getLogger();
+
     /**
      * Adds the given task to the specified queue.
      *
@@ -30,6 +39,46 @@ public class TaskQueuesLogic {
      */
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         Queue requiredQueue = QueueFactory.getQueue(task.getQueueName());
+        requiredQueue.add(toTaskOptions(task, countdownTime));
+    }
+
+    /**
+     * Adds the given tasks, each to be run after its own time, to their specified queues.
+     *
+     * <p>The tasks are added to each queue in batches of up to {@link QueueConstants#maxTasksPerAdd()} tasks,
+     * so that adding many tasks only takes a few calls to the task queue service.
+     * A batch that fails to be added is logged and does not prevent the other batches from being added.
+     *
+     * @param tasks the task objects containing the details of tasks to be added
+     * @param countdownTimes the time delay for each of {@code tasks} to be executed
+     */
+    public void addDeferredTasks(List<TaskWrapper> tasks, List<Long> countdownTimes) {
+        Assumption.assertEquals(tasks.size(), countdownTimes.size());
+
+        Map<String, List<TaskOptions>> tasksByQueue = new LinkedHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskWrapper task = tasks.get(i);
+            tasksByQueue.computeIfAbsent(task.getQueueName(), queueName -> new ArrayList<>())
+                    .add(toTaskOptions(task, countdownTimes.get(i)));
+        }
+
+        int batchSize = QueueConstants.maxTasksPerAdd();
+        for (Map.Entry<String, List<TaskOptions>> entry : tasksByQueue.entrySet()) {
+            Queue requiredQueue = QueueFactory.getQueue(entry.getKey());
+            List<TaskOptions> tasksToBeAdded = entry.getValue();
+            for (int from = 0; from < tasksToBeAdded.size(); from += batchSize) {
+                List<TaskOptions> batch = tasksToBeAdded.subList(from, Math.min(from + batchSize, tasksToBeAdded.size()));
+                try {
+                    requiredQueue.add(batch);
+                } catch (Exception e) {
+                    log.severe("Error when adding " + batch.size() + " tasks to queue " + entry.getKey() + ": "
+                            + TeammatesException.toStringWithStackTrace(e));
+                }
+            }
+        }
+    }
+
+    private TaskOptions toTaskOptions(TaskWrapper task, long countdownTime) {
         TaskOptions taskToBeAdded = TaskOptions.Builder.withUrl(task.getWorkerUrl());
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
@@ -43,8 +92,7 @@ public class TaskQueuesLogic {
                 taskToBeAdded = taskToBeAdded.param(name, value);
             }
         }
-
-        requiredQueue.add(taskToBeAdded);
+        return taskToBeAdded;
     }
 
 }
@@ -0,0 +1,101 @@
+package teammates.logic.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import teammates.common.datatransfer.UserInfo;
+import teammates.common.util.Logger;
+import teammates.common.util.StringHelper;
+import teammates.storage.api.UserRolesDb;
+
+/**
+ * Handles operations related to the roles of users, i.e. whether they are instructors or students.
+ *
+ * <p>Roles are needed by every request of a logged in user, so they are cached across requests.
+ * Any change to the account of a user or to the students linked to a user must be followed by
+ * {@link #invalidateUserRoles(String)}.
+ *
+ * @see UserRolesDb
+ */
+public final class UserRolesLogic {
+
+    /**
+     * The number of lookups of this instance after which the hit rate of the cache is logged.
+     */
+    private static final long LOOKUPS_PER_HIT_RATE_LOG = 1000;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static UserRolesLogic instance = new UserRolesLogic();
+
+    private static final UserRolesDb userRolesDb = new UserRolesDb();
+
+    private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+
+    private UserRolesLogic() {
+        // prevent initialization
+    }
+
+    public static UserRolesLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Returns the roles of the user with the given Google ID.
+     * Only the instructor and student flags of the returned {@link UserInfo} are set.
+     *
+     * <p>The roles are served from the cache if possible. Otherwise, they are read from the account of the user
+     * and the students linked to the user, and then cached if the user is a student.
+     */
+    public UserInfo getUserRoles(String googleId) {
+        Long version = userRolesDb.getRolesVersion(googleId);
+        if (version != null) {
+            UserInfo cachedRoles = userRolesDb.getUserRoles(googleId, version);
+            if (cachedRoles != null) {
+                cacheHits.incrementAndGet();
+                logHitRateIfDue();
+                return cachedRoles;
+            }
+        }
+
+        cacheMisses.incrementAndGet();
+        logHitRateIfDue();
+        UserInfo roles = new UserInfo(googleId);
+        roles.isInstructor = accountsLogic.isAccountAnInstructor(googleId);
+        roles.isStudent = studentsLogic.isStudentInAnyCourse(googleId);
+        // the students of a user are found by an eventually consistent query, which may not yet include
+        // a student who has just joined, so a user found not to be a student is looked up again next time
+        if (version != null && roles.isStudent) {
+            userRolesDb.putUserRoles(version, roles);
+        }
+        return roles;
+    }
+
+    /**
+     * Discards the cached roles of the user, if any. Does nothing if {@code googleId} is null or empty,
+     * e.g. for students who have not joined their course.
+     */
+    public void invalidateUserRoles(String googleId) {
+        if (!StringHelper.isEmpty(googleId)) {
+            userRolesDb.invalidateUserRoles(googleId);
+        }
+    }
+
+    /**
+     * Logs the hit rate of the cache once every {@link #LOOKUPS_PER_HIT_RATE_LOG} lookups of this instance.
+     */
+    private void logHitRateIfDue() {
+        if (lookups.incrementAndGet() % LOOKUPS_PER_HIT_RATE_LOG != 0) {
+            return;
+        }
+        long hits = cacheHits.get();
+        long misses = cacheMisses.get();
+        log.info("User roles cache: " + hits + " hits and " + misses + " misses since this instance started ("
+                + hits * 100 / Math.max(1, hits + misses) + "% hit rate)");
+    }
+
+}
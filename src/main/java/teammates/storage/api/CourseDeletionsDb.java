@@ -0,0 +1,72 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.CourseDeletion;
+
+/**
+ * Handles the storage of the progress of course deletions in the Datastore.
+ *
+ * <p>The progress is saved after every page deleted, so that a retried deletion task can resume from the
+ * last page deleted and the instructor can be shown how far the deletion has gone. The progress is read by key,
+ * so it is always the last one saved.
+ *
+ * @see CourseDeletion
+ */
+public class CourseDeletionsDb {
+
+    /**
+     * Gets the last saved progress of the deletion of a course.
+     *
+     * @return null if the course has never been deleted.
+     */
+    public CourseDeletionProgress getCourseDeletionProgress(String courseId) {
+        return makeProgress(getCourseDeletionEntity(courseId));
+    }
+
+    /**
+     * Gets the last saved progress of the deletion of a course if it was saved at or after {@code savedSince}.
+     *
+     * @return null if the course has never been deleted or its progress has not been saved since then.
+     */
+    public CourseDeletionProgress getCourseDeletionProgressSavedSince(String courseId, Instant savedSince) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, savedSince);
+
+        CourseDeletion entity = getCourseDeletionEntity(courseId);
+        if (entity == null || entity.getUpdatedAt().isBefore(savedSince)) {
+            return null;
+        }
+        return makeProgress(entity);
+    }
+
+    /**
+     * Saves the progress of the deletion of a course, replacing any previously saved progress.
+     */
+    public void putCourseDeletionProgress(CourseDeletionProgress progress) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, progress);
+
+        CourseDeletion entity = new CourseDeletion(progress.getCourseId(), progress.getRequesterId(),
+                progress.getStage().name(), progress.getCursor(), progress.getNumberOfSteps(), Instant.now());
+        ofy().save().entity(entity).now();
+    }
+
+    private CourseDeletion getCourseDeletionEntity(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return ofy().load().type(CourseDeletion.class).id(courseId).now();
+    }
+
+    private CourseDeletionProgress makeProgress(CourseDeletion entity) {
+        if (entity == null) {
+            return null;
+        }
+        return CourseDeletionProgress.valueOf(entity.getCourseId(), entity.getRequesterId(),
+                CourseDeletionProgress.Stage.valueOf(entity.getStage()), entity.getCursor(), entity.getNumberOfSteps());
+    }
+
+}
@@ -0,0 +1,121 @@
+package teammates.storage.api;
+
+import java.util.List;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Handles the caching of course rosters in Memcache, which is shared by all instances of the application.
+ *
+ * <p>Each course has a roster version number, which is bumped whenever its students or instructors change.
+ * A roster is cached under the version it was read at, so a roster read before a change can never be
+ * served after it, even when the read finishes after the change. Rosters also expire after
+ * {@link #ROSTER_EXPIRATION_SECONDS}, which bounds the staleness of one read from an eventually
+ * consistent query right after a change.
+ *
+ * @see CourseRoster
+ */
+public class CourseRostersDb {
+
+    /**
+     * Number of seconds a roster is kept in Memcache after it is cached.
+     */
+    public static final int ROSTER_EXPIRATION_SECONDS = 10 * 60;
+
+    private static final String NAMESPACE = "CourseRoster";
+
+    private MemcacheService getMemcache() {
+        return MemcacheServiceFactory.getMemcacheService(NAMESPACE);
+    }
+
+    /**
+     * Gets the current roster version of a course.
+     *
+     * @return null if Memcache is not available.
+     */
+    public Long getRosterVersion(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        MemcacheService memcache = getMemcache();
+        String versionKey = getVersionKey(courseId);
+        Object version = memcache.get(versionKey);
+        if (version == null) {
+            // start from the current time so that rosters cached before the version was evicted are not reused
+            memcache.put(versionKey, System.currentTimeMillis(), null,
+                    MemcacheService.SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+            version = memcache.get(versionKey);
+        }
+        return (Long) version;
+    }
+
+    /**
+     * Gets the roster of a course cached at the given version.
+     *
+     * @return null if there is no such roster in the cache.
+     */
+    public CourseRoster getCourseRoster(String courseId, long version) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Object json = getMemcache().get(getRosterKey(courseId, version));
+        if (json == null) {
+            return null;
+        }
+        CachedCourseRoster cachedRoster = JsonUtils.fromJson((String) json, CachedCourseRoster.class);
+        return new CourseRoster(cachedRoster.students, cachedRoster.instructors);
+    }
+
+    /**
+     * Caches the roster of a course read at the given version.
+     */
+    public void putCourseRoster(String courseId, long version, CourseRoster roster) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, roster);
+
+        String json = JsonUtils.toCompactJson(new CachedCourseRoster(roster.getStudents(), roster.getInstructors()));
+        getMemcache().put(getRosterKey(courseId, version), json,
+                Expiration.byDeltaSeconds(ROSTER_EXPIRATION_SECONDS));
+    }
+
+    /**
+     * Invalidates the cached roster of a course by bumping its roster version.
+     */
+    public void invalidateCourseRoster(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        getMemcache().increment(getVersionKey(courseId), 1, System.currentTimeMillis());
+    }
+
+    private String getVersionKey(String courseId) {
+        return "version%" + courseId;
+    }
+
+    private String getRosterKey(String courseId, long version) {
+        return "roster%" + courseId + "%" + version;
+    }
+
+    /**
+     * The form in which a roster is cached. The indexes of the roster are rebuilt from it when it is read,
+     * which is cheaper than caching the same students several times over.
+     */
+    private static class CachedCourseRoster {
+
+        private final List<StudentAttributes> students;
+        private final List<InstructorAttributes> instructors;
+
+        CachedCourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
+            this.students = students;
+            this.instructors = instructors;
+        }
+
+    }
+
+}
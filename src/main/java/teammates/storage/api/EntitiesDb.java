@@ -6,13 +6,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
@@ -21,6 +25,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.search.SearchDocument;
 import teammates.storage.search.SearchManager;
@@ -164,6 +169,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected void saveEntity(E entityToSave, A entityToSaveAttributesForLogging) {
         ofy().save().entity(entityToSave).now();
+        invalidateCachedQueryResults();
         log.info(entityToSaveAttributesForLogging.getBackupIdentifier());
     }
 
@@ -176,6 +182,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().save().entities(entitiesToSave).now();
+        invalidateCachedQueryResults();
     }
 
     protected void saveEntitiesDeferred(Collection<E> entitiesToSave, Collection<A> entitiesToSaveAttributesForLogging) {
@@ -183,6 +190,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().defer().save().entities(entitiesToSave);
+        invalidateCachedQueryResults();
     }
 
     public static void flush() {
@@ -198,6 +206,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
 
         ofy().delete().keys(getEntityQueryKeys(entityToDelete)).now();
+        invalidateCachedQueryResults();
         log.info(entityToDelete.getBackupIdentifier());
     }
 
@@ -215,6 +224,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
 
         ofy().delete().keys(keysToDelete).now();
+        invalidateCachedQueryResults();
     }
 
     protected void deleteEntityDirect(E entityToDelete) {
@@ -223,6 +233,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected void deleteEntityDirect(E entityToDelete, A entityToDeleteAttributesForLogging) {
         ofy().delete().entity(entityToDelete).now();
+        invalidateCachedQueryResults();
         log.info(entityToDeleteAttributesForLogging.getBackupIdentifier());
     }
 
@@ -231,6 +242,48 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().delete().entities(entitiesToDelete).now();
+        invalidateCachedQueryResults();
+    }
+
+    /**
+     * Deletes up to {@code pageSize} entities matched by the query, without loading them.
+     *
+     * @param cursor where the previous page ended, or null to start from the first page
+     * @return the cursor to pass to delete the next page, or null if there are no more entities to delete
+     */
+    protected String deleteEntitiesPage(Query<E> query, String cursor, int pageSize) {
+        Query<E> pageQuery = query.limit(pageSize);
+        if (cursor != null) {
+            pageQuery = pageQuery.startAt(Cursor.fromWebSafeString(cursor));
+        }
+
+        QueryResultIterator<Key<E>> iterator = pageQuery.keys().iterator();
+        List<Key<E>> keysToDelete = new ArrayList<>();
+        while (iterator.hasNext()) {
+            keysToDelete.add(iterator.next());
+        }
+        ofy().delete().keys(keysToDelete).now();
+        invalidateCachedQueryResults();
+
+        return keysToDelete.size() < pageSize ? null : iterator.getCursor().toWebSafeString();
+    }
+
+    /**
+     * Gets the result of a query from the {@link RequestCache}, running the query only if it has not been run
+     * in the current request since the last write through this class.
+     *
+     * @param queryKey identifies the query and its parameters among the queries of this class
+     */
+    protected <T> T getCachedQueryResult(String queryKey, Supplier<T> query) {
+        return RequestCache.get(getClass().getSimpleName(), queryKey, query);
+    }
+
+    /**
+     * Discards the cached query results of this class. Must be called after every write not done through
+     * the save and delete methods of this class.
+     */
+    protected void invalidateCachedQueryResults() {
+        RequestCache.invalidate(getClass().getSimpleName());
     }
 
     protected abstract LoadType<E> load();
@@ -314,7 +367,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     protected Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query) {
         try {
             if (query.getFilterSize() > 0) {
-                return SearchManager.searchDocuments(indexName, query.toQuery());
+                return SearchManager.searchDocuments(indexName, query);
             }
             return null;
         } catch (SearchQueryException e) {
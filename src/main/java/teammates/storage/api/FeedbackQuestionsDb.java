@@ -2,11 +2,16 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
@@ -70,6 +75,33 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
                 "Trying to get non-existent Question: " + questionNumber + "." + feedbackSessionName + "/" + courseId);
     }
 
+    /**
+     * Gets the questions with the given IDs in one batch read.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return map of question ID to question; questions that are not found are absent from the map.
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        List<Key<FeedbackQuestion>> keys = new ArrayList<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(feedbackQuestionId);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (FeedbackQuestion question : ofy().load().keys(keys).values()) {
+            FeedbackQuestionAttributes questionAttributes = makeAttributes(question);
+            questions.put(questionAttributes.getId(), questionAttributes);
+        }
+        return questions;
+    }
+
     public FeedbackQuestionAttributes createFeedbackQuestionWithoutExistenceCheck(
             FeedbackQuestionAttributes entityToAdd) throws InvalidParametersException {
         return makeAttributes(createEntityWithoutExistenceCheck(entityToAdd));
@@ -85,7 +117,23 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributes(getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId));
+        return getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId).get();
+    }
+
+    /**
+     * Starts getting the questions of a session, without waiting for them.
+     * The questions are waited for when the returned supplier is called.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Supplier<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<FeedbackQuestion> questions = getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId);
+        return () -> makeAttributes(questions);
     }
 
     /**
@@ -141,6 +189,42 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return makeAttributes(feedbackQuestion);
     }
 
+    /**
+     * Updates the question numbers of feedback questions.
+     *
+     * <p>Each question is re-read and saved in a transaction of its own, so that only its question number is changed
+     * even if the question is concurrently edited.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @param questionNumbers the new question number of every question to update, by question ID;
+     *                        questions that are not found are skipped.
+     */
+    public void updateFeedbackQuestionNumbers(Map<String, Integer> questionNumbers) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, questionNumbers);
+
+        questionNumbers.forEach((feedbackQuestionId, questionNumber) -> {
+            Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(feedbackQuestionId);
+            if (key == null) {
+                return;
+            }
+
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackQuestion question = ofy().load().key(key).now();
+                    if (question == null) {
+                        return;
+                    }
+
+                    question.setQuestionNumber(questionNumber);
+                    saveEntity(question);
+                }
+            });
+        });
+    }
+
     public void deleteFeedbackQuestionsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -151,6 +235,18 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+        invalidateCachedQueryResults();
+    }
+
+    /**
+     * Deletes a page of at most {@code pageSize} questions of the course, starting from {@code cursor}.
+     *
+     * @return the cursor of the next page, or null if all questions of the course have been deleted
+     */
+    public String deletePageOfFeedbackQuestionsForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
     }
 
     // Gets a question entity if its Key (feedbackQuestionId) is known.
@@ -177,10 +273,10 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForSession(
             String feedbackSessionName, String courseId) {
-        return load()
+        return getCachedQueryResult("session:" + feedbackSessionName + "%" + courseId, () -> load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
-                .list();
+                .list());
     }
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForGiverType(
@@ -7,8 +7,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -18,6 +20,7 @@ import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -29,7 +32,6 @@ import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
-import teammates.storage.search.SearchDocument;
 
 /**
  * Handles CRUD operations for feedback response comments.
@@ -39,6 +41,11 @@ import teammates.storage.search.SearchDocument;
  */
 public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComment, FeedbackResponseCommentAttributes> {
 
+    /**
+     * Maximum number of values the datastore accepts in one {@code in} filter.
+     */
+    private static final int MAX_VALUES_PER_IN_FILTER = 30;
+
     private static final Logger log = Logger.getLogger();
 
     /**
@@ -106,6 +113,23 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
                 + " created at: " + createdAt);
     }
 
+    /**
+     * Gets the comments with the given IDs in one batch read.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return map of comment ID to comment; comments that are not found are absent from the map.
+     */
+    public Map<Long, FeedbackResponseCommentAttributes> getFeedbackResponseComments(
+            Collection<Long> feedbackResponseCommentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseCommentIds);
+
+        Map<Long, FeedbackResponseCommentAttributes> comments = new HashMap<>();
+        load().ids(feedbackResponseCommentIds).forEach((id, comment) -> comments.put(id, makeAttributes(comment)));
+        return comments;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -136,6 +160,25 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         ofy().delete().keys(getFeedbackResponseCommentsForResponseQuery(responseId).keys()).now();
     }
 
+    /**
+     * Gets all comments on the responses to a feedback question.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return makeAttributes(load().filter("feedbackQuestionId =", feedbackQuestionId).list());
+    }
+
+    /**
+     * Deletes all comments on the responses to a feedback question, without loading them.
+     */
+    public void deleteFeedbackResponseCommentsForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        ofy().delete().keys(load().filter("feedbackQuestionId =", feedbackQuestionId).keys()).now();
+        invalidateCachedQueryResults();
+    }
+
     /*
      * Remove response comments for the course Ids
      */
@@ -151,6 +194,17 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteFeedbackResponseCommentsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} response comments of the course, starting from {@code cursor}.
+     *
+     * @return the cursor of the next page, or null if all response comments of the course have been deleted
+     */
+    public String deletePageOfFeedbackResponseCommentsForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+    }
+
     private Query<FeedbackResponseComment> getFeedbackResponseCommentsForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -164,7 +218,23 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
 
-        return makeAttributes(getFeedbackResponseCommentEntitiesForSession(courseId, feedbackSessionName));
+        return getFeedbackResponseCommentsForSessionAsync(courseId, feedbackSessionName).get();
+    }
+
+    /**
+     * Starts getting the comments of a session, without waiting for them.
+     * The comments are waited for when the returned supplier is called.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Supplier<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForSessionAsync(
+            String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        List<FeedbackResponseComment> comments = getFeedbackResponseCommentEntitiesForSession(courseId, feedbackSessionName);
+        return () -> makeAttributes(comments);
     }
 
     /**
@@ -173,11 +243,25 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      */
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForSessionInSection(
             String courseId, String feedbackSessionName, String section) {
+        return getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, section).get();
+    }
+
+    /**
+     * Starts getting the comments of a session with the giver or the receiver in a section, without waiting for them.
+     * The comments are waited for when the returned supplier is called.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Supplier<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForSessionInSectionAsync(
+            String courseId, String feedbackSessionName, String section) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
 
-        return makeAttributes(getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section));
+        Supplier<Collection<FeedbackResponseComment>> comments =
+                getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section);
+        return () -> makeAttributes(comments.get());
     }
 
     /**
@@ -222,6 +306,57 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return newAttributes;
     }
 
+    /**
+     * Moves the comments of the given responses in a course to the updated responses in batch.
+     *
+     * <p>The response ID and sections of each comment are set to those of its updated response.
+     *
+     * @param updatedResponses map of the original ID of each response to the updated response
+     */
+    public void updateFeedbackResponseCommentsForResponses(
+            String courseId, Map<String, FeedbackResponseAttributes> updatedResponses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, updatedResponses);
+
+        if (updatedResponses.isEmpty()) {
+            return;
+        }
+
+        List<FeedbackResponseComment> commentsToSave =
+                getFeedbackResponseCommentEntitiesForResponses(courseId, updatedResponses.keySet());
+        for (FeedbackResponseComment comment : commentsToSave) {
+            FeedbackResponseAttributes response = updatedResponses.get(comment.getFeedbackResponseId());
+            comment.setFeedbackResponseId(response.getId());
+            comment.setGiverSection(response.giverSection);
+            comment.setReceiverSection(response.recipientSection);
+        }
+
+        if (commentsToSave.isEmpty()) {
+            return;
+        }
+
+        List<FeedbackResponseCommentAttributes> savedComments = makeAttributes(commentsToSave);
+        saveEntities(commentsToSave, savedComments);
+        putDocuments(savedComments);
+    }
+
+    /**
+     * Deletes the comments of the given responses in a course in a single batch.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(String courseId, Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        if (responseIds.isEmpty()) {
+            return;
+        }
+
+        List<FeedbackResponseComment> commentsToDelete =
+                getFeedbackResponseCommentEntitiesForResponses(courseId, responseIds);
+
+        deleteEntitiesDirect(commentsToDelete, makeAttributes(commentsToDelete));
+    }
+
     /*
      * Update giver email (normally an instructor email) with the new one
      */
@@ -279,11 +414,8 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      * Batch creates or updates search documents for the given comments
      */
     public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
-        List<SearchDocument> frcSearchDocuments = new ArrayList<>();
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment));
-        }
-        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments);
+        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                FeedbackResponseCommentSearchDocument.fromComments(comments));
     }
 
     /**
@@ -358,6 +490,26 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return getFeedbackResponseCommentsForResponseQuery(feedbackResponseId).list();
     }
 
+    /**
+     * Gets the comments in a course of the given responses, querying the responses in batches
+     * instead of loading every comment in the course.
+     */
+    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForResponses(
+            String courseId, Collection<String> responseIds) {
+        List<String> distinctResponseIds = new ArrayList<>(new LinkedHashSet<>(responseIds));
+        List<FeedbackResponseComment> comments = new ArrayList<>();
+        for (int i = 0; i < distinctResponseIds.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            List<String> batch = distinctResponseIds.subList(
+                    i, Math.min(i + MAX_VALUES_PER_IN_FILTER, distinctResponseIds.size()));
+            for (FeedbackResponseComment comment : load().filter("feedbackResponseId in", batch).list()) {
+                if (courseId.equals(comment.getCourseId())) {
+                    comments.add(comment);
+                }
+            }
+        }
+        return comments;
+    }
+
     private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSession(
             String courseId, String feedbackSessionName) {
         return load()
@@ -366,31 +518,34 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
                 .list();
     }
 
-    private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSessionInSection(
+    private Supplier<Collection<FeedbackResponseComment>> getFeedbackResponseCommentEntitiesForSessionInSection(
             String courseId, String feedbackSessionName, String section) {
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
-
+        // both queries are started before either is waited for, so that they run in parallel
         List<FeedbackResponseComment> firstQueryResponseComments = load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("giverSection =", section)
                 .list();
 
-        for (FeedbackResponseComment comment : firstQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
         List<FeedbackResponseComment> secondQueryResponseComments = load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("receiverSection =", section)
                 .list();
 
-        for (FeedbackResponseComment comment : secondQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
+        return () -> {
+            Map<Long, FeedbackResponseComment> comments = new HashMap<>();
+
+            for (FeedbackResponseComment comment : firstQueryResponseComments) {
+                comments.put(comment.getFeedbackResponseCommentId(), comment);
+            }
+
+            for (FeedbackResponseComment comment : secondQueryResponseComments) {
+                comments.put(comment.getFeedbackResponseCommentId(), comment);
+            }
 
-        return comments.values();
+            return comments.values();
+        };
     }
 
     @Override
@@ -10,12 +10,18 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.FeedbackResponsesQuery;
+import teammates.common.datatransfer.Page;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -34,6 +40,11 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackResponseAttributes> {
 
+    /**
+     * Number of responses fetched in each batch when streaming responses.
+     */
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private static final Logger log = Logger.getLogger();
 
     /**
@@ -55,6 +66,22 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(getFeedbackResponseEntityWithCheck(feedbackQuestionId, giverEmail, receiverEmail));
     }
 
+    /**
+     * Gets the responses with the given IDs in one batch read.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return map of response ID to response; responses that are not found are absent from the map.
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponses(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        load().ids(feedbackResponseIds).forEach((id, response) -> responses.put(id, makeAttributes(response)));
+        return responses;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -326,6 +353,35 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 giverEmail, feedbackSessionName, courseId, range));
     }
 
+    /**
+     * Gets the givers among {@code giverEmails} who have given a response in the feedback session.
+     *
+     * <p>One keys-only query is made per giver, and all of them are started before any is waited for.
+     */
+    public Set<String> getGiversWithResponsesForSession(
+            Collection<String> giverEmails, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Map<String, List<Key<FeedbackResponse>>> responseKeysOfGivers = new HashMap<>();
+        for (String giverEmail : giverEmails) {
+            responseKeysOfGivers.put(giverEmail, load()
+                    .filter("giverEmail =", giverEmail)
+                    .filter("feedbackSessionName =", feedbackSessionName)
+                    .filter("courseId =", courseId)
+                    .limit(1).keys().list());
+        }
+
+        Set<String> giversWithResponses = new HashSet<>();
+        responseKeysOfGivers.forEach((giverEmail, responseKeys) -> {
+            if (!responseKeys.isEmpty()) {
+                giversWithResponses.add(giverEmail);
+            }
+        });
+        return giversWithResponses;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -352,6 +408,49 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourse(courseId, giverEmail));
     }
 
+    /**
+     * Gets a page of the responses matched by the query.
+     *
+     * <p>Unlike the methods which get the responses within a range, the query can be continued
+     * past the page with the cursor of the page.
+     *
+     * @param cursor where the previous page ended, or null to get the first page
+     * @return at most {@code pageSize} responses, with the cursor of the next page if there are more responses
+     */
+    public Page<FeedbackResponseAttributes> getFeedbackResponsesPage(
+            FeedbackResponsesQuery query, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+        Assumption.assertTrue("Page size must be positive", pageSize > 0);
+
+        // one more response than needed is queried to know whether there is a next page
+        Query<FeedbackResponse> pageQuery = getFeedbackResponsesQuery(query).limit(pageSize + 1);
+        if (cursor != null) {
+            pageQuery = pageQuery.startAt(Cursor.fromWebSafeString(cursor));
+        }
+
+        QueryResultIterator<FeedbackResponse> iterator = pageQuery.iterator();
+        List<FeedbackResponse> feedbackResponses = new ArrayList<>();
+        while (feedbackResponses.size() < pageSize && iterator.hasNext()) {
+            feedbackResponses.add(iterator.next());
+        }
+        Cursor endOfPage = iterator.getCursor();
+        String nextCursor = iterator.hasNext() ? endOfPage.toWebSafeString() : null;
+
+        return new Page<>(makeAttributes(feedbackResponses), nextCursor);
+    }
+
+    /**
+     * Gets the responses matched by the query as a stream which fetches the responses in batches
+     * only as the stream is consumed, so that all the responses are never held in memory at once.
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponses(FeedbackResponsesQuery query) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        Iterable<FeedbackResponse> feedbackResponses =
+                getFeedbackResponsesQuery(query).chunk(STREAM_BATCH_SIZE).iterable();
+        return StreamSupport.stream(feedbackResponses.spliterator(), false).map(this::makeAttributes);
+    }
+
     /**
      * Updates a feedback response with {@link FeedbackResponseAttributes.UpdateOptions}.
      *
@@ -402,6 +501,145 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         }
     }
 
+    /**
+     * Updates the given feedback responses in batch.
+     *
+     * <p>Each response is identified by its ID and takes the giver, recipient and sections of the given attributes.
+     * Responses whose giver or recipient is changed are recreated as question-giver-recipient is the primary key.
+     * Responses that no longer exist are skipped.
+     *
+     * @return map of the original ID of each updated response to the updated response
+     * @throws InvalidParametersException if any of the responses is not valid; nothing is updated in that case
+     * @throws EntityAlreadyExistsException if a recreated response would replace another response that is not
+     *         recreated itself; nothing is updated in that case
+     */
+    public Map<String, FeedbackResponseAttributes> updateFeedbackResponses(
+            Collection<FeedbackResponseAttributes> responsesToUpdate)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToUpdate);
+
+        List<String> ids = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, response.getId());
+            response.sanitizeForSaving();
+            if (!response.isValid()) {
+                throw new InvalidParametersException(response.getInvalidityInfo());
+            }
+            ids.add(response.getId());
+        }
+
+        Map<String, FeedbackResponse> oldResponses = load().ids(ids);
+
+        Map<String, FeedbackResponse> responsesToSave = new HashMap<>();
+        List<FeedbackResponse> responsesToDelete = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesUpdatedInPlace = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            FeedbackResponse oldResponse = oldResponses.get(response.getId());
+            if (oldResponse == null) {
+                continue;
+            }
+
+            if (response.recipient.equals(oldResponse.getRecipientEmail())
+                    && response.giver.equals(oldResponse.getGiverEmail())) {
+                responsesToSave.put(response.getId(), oldResponse);
+                responsesUpdatedInPlace.add(response);
+            } else {
+                // need to recreate the entity
+                FeedbackResponse recreatedResponse = response.toEntity();
+                recreatedResponse.setCreatedAt(oldResponse.getCreatedAt());
+                responsesToSave.put(response.getId(), recreatedResponse);
+                responsesToDelete.add(oldResponse);
+            }
+        }
+
+        verifyNoRecreatedResponseExists(responsesToSave, responsesToDelete);
+
+        // the loaded entities are only modified once nothing can fail, as they are shared through the session cache
+        for (FeedbackResponseAttributes response : responsesUpdatedInPlace) {
+            FeedbackResponse oldResponse = responsesToSave.get(response.getId());
+            oldResponse.setGiverSection(response.giverSection);
+            oldResponse.setRecipientSection(response.recipientSection);
+        }
+
+        // a recreated response may take the ID of another response recreated in this batch,
+        // in which case saving it replaces that response and the ID must not be deleted afterwards
+        Set<String> savedIds = new HashSet<>();
+        responsesToSave.values().forEach(entity -> savedIds.add(entity.getId()));
+        responsesToDelete.removeIf(entity -> savedIds.contains(entity.getId()));
+
+        saveEntities(responsesToSave.values());
+        deleteEntitiesDirect(responsesToDelete, makeAttributes(responsesToDelete));
+
+        Map<String, FeedbackResponseAttributes> updatedResponses = new HashMap<>();
+        responsesToSave.forEach((id, entity) -> updatedResponses.put(id, makeAttributes(entity)));
+        return updatedResponses;
+    }
+
+    /**
+     * Checks in a single batch get that no recreated response takes the ID of an existing response,
+     * unless that response is itself recreated under another ID, and that no two responses take the same ID.
+     */
+    private void verifyNoRecreatedResponseExists(
+            Map<String, FeedbackResponse> responsesToSave, List<FeedbackResponse> recreatedResponses)
+            throws EntityAlreadyExistsException {
+        Set<String> idsMovedAway = new HashSet<>();
+        recreatedResponses.forEach(entity -> idsMovedAway.add(entity.getId()));
+
+        Set<String> newIds = new HashSet<>();
+        for (Map.Entry<String, FeedbackResponse> entry : responsesToSave.entrySet()) {
+            String newId = entry.getValue().getId();
+            if (!newId.equals(entry.getKey()) && !newIds.add(newId)) {
+                throw makeEntityAlreadyExistsException(entry.getValue());
+            }
+        }
+        newIds.removeAll(idsMovedAway);
+        if (newIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, FeedbackResponse> existingResponses = load().ids(newIds);
+        for (FeedbackResponse entity : responsesToSave.values()) {
+            if (existingResponses.containsKey(entity.getId())) {
+                throw makeEntityAlreadyExistsException(entity);
+            }
+        }
+    }
+
+    private EntityAlreadyExistsException makeEntityAlreadyExistsException(FeedbackResponse entity) {
+        FeedbackResponseAttributes attributes = makeAttributes(entity);
+        String error = String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, attributes.getEntityTypeAsString())
+                + attributes.getIdentificationString();
+        log.info(error);
+        return new EntityAlreadyExistsException(error);
+    }
+
+    /**
+     * Deletes the given feedback responses in a single batch.
+     *
+     * <p>Fails silently if a response does not exist.
+     */
+    public void deleteFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToDelete) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToDelete);
+
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            keysToDelete.add(Key.create(FeedbackResponse.class, response.getId()));
+            log.info(response.getBackupIdentifier());
+        }
+
+        ofy().delete().keys(keysToDelete).now();
+    }
+
+    /**
+     * Deletes all responses to a feedback question, without loading them.
+     */
+    public void deleteFeedbackResponsesForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        ofy().delete().keys(load().filter("feedbackQuestionId =", feedbackQuestionId).keys()).now();
+        invalidateCachedQueryResults();
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -414,6 +652,17 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         ofy().delete().keys(getFeedbackResponsesForCoursesQuery(courseIds).keys()).now();
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} responses of the course, starting from {@code cursor}.
+     *
+     * @return the cursor of the next page, or null if all responses of the course have been deleted
+     */
+    public String deletePageOfFeedbackResponsesForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+    }
+
     private Query<FeedbackResponse> getFeedbackResponsesForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -430,6 +679,32 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return load().filter("courseId =", courseId).limit(range).list();
     }
 
+    private Query<FeedbackResponse> getFeedbackResponsesQuery(FeedbackResponsesQuery query) {
+        Query<FeedbackResponse> datastoreQuery = load();
+        if (query.getCourseId() != null) {
+            datastoreQuery = datastoreQuery.filter("courseId =", query.getCourseId());
+        }
+        if (query.getFeedbackSessionName() != null) {
+            datastoreQuery = datastoreQuery.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+        if (query.getFeedbackQuestionId() != null) {
+            datastoreQuery = datastoreQuery.filter("feedbackQuestionId =", query.getFeedbackQuestionId());
+        }
+        if (query.getGiver() != null) {
+            datastoreQuery = datastoreQuery.filter("giverEmail =", query.getGiver());
+        }
+        if (query.getRecipient() != null) {
+            datastoreQuery = datastoreQuery.filter("receiver =", query.getRecipient());
+        }
+        if (query.getGiverSection() != null) {
+            datastoreQuery = datastoreQuery.filter("giverSection =", query.getGiverSection());
+        }
+        if (query.getRecipientSection() != null) {
+            datastoreQuery = datastoreQuery.filter("receiverSection =", query.getRecipientSection());
+        }
+        return datastoreQuery;
+    }
+
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
         return load().id(feedbackResponseId).now();
     }
@@ -443,46 +718,62 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .first().now();
     }
 
-    private Set<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
                 String feedbackQuestionId, String section, SectionDetail sectionDetail) {
-        Set<FeedbackResponse> feedbackResponses = new HashSet<>();
+        List<Query<FeedbackResponse>> queries = new ArrayList<>();
         if (sectionDetail == SectionDetail.BOTH) {
             // responses in section with giver or recipient as None are added to respective section selected
-            feedbackResponses.addAll(load()
+            queries.add(load()
                     .filter("feedbackQuestionId =", feedbackQuestionId)
                     .filter("giverSection =", section)
-                    .filter("receiverSection =", "None")
-                    .list());
+                    .filter("receiverSection =", "None"));
 
-            feedbackResponses.addAll(load()
+            queries.add(load()
                     .filter("feedbackQuestionId =", feedbackQuestionId)
                     .filter("giverSection =", "None")
-                    .filter("receiverSection =", section)
-                    .list());
+                    .filter("receiverSection =", section));
 
-            feedbackResponses.addAll(load()
+            queries.add(load()
                     .filter("feedbackQuestionId =", feedbackQuestionId)
                     .filter("giverSection =", section)
-                    .filter("receiverSection =", section)
-                    .list());
+                    .filter("receiverSection =", section));
 
         }
         if (sectionDetail == SectionDetail.GIVER || sectionDetail == SectionDetail.EITHER) {
-            feedbackResponses.addAll(load()
+            queries.add(load()
                     .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("giverSection =", section)
-                    .list());
+                    .filter("giverSection =", section));
 
         }
         if (sectionDetail == SectionDetail.EVALUEE || sectionDetail == SectionDetail.EITHER) {
-            feedbackResponses.addAll(load()
+            queries.add(load()
                     .filter("feedbackQuestionId =", feedbackQuestionId)
-                    .filter("receiverSection =", section)
-                    .list());
+                    .filter("receiverSection =", section));
 
         }
 
-        return feedbackResponses;
+        return getUnionOfResults(queries);
+    }
+
+    /**
+     * Runs the queries in parallel and returns the union of their results.
+     *
+     * <p>Objectify starts running a query asynchronously as soon as its {@code list()} is called,
+     * so all queries are started before the results of any of them are waited for.
+     */
+    private Collection<FeedbackResponse> getUnionOfResults(List<Query<FeedbackResponse>> queries) {
+        List<List<FeedbackResponse>> results = new ArrayList<>();
+        for (Query<FeedbackResponse> query : queries) {
+            results.add(query.list());
+        }
+
+        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
+        for (List<FeedbackResponse> result : results) {
+            for (FeedbackResponse response : result) {
+                feedbackResponses.put(response.getId(), response);
+            }
+        }
+        return feedbackResponses.values();
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
@@ -510,19 +801,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInGiverAndRecipientSection(
@@ -543,59 +822,60 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getUnionOfResults(Arrays.asList(
+                getFeedbackResponsesForSessionFromSectionQuery(feedbackSessionName, courseId, section, range),
+                getFeedbackResponsesForSessionToSectionQuery(feedbackSessionName, courseId, section, range)));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInGiverAndRecipientSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
-        List<FeedbackResponse> feedbackResponses = new ArrayList<>();
-
-        feedbackResponses.addAll(load()
+        // both queries are started before either is waited for, so that they run in parallel
+        List<FeedbackResponse> responsesInSection = load()
                 .filter("feedbackSessionName = ", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("giverSection =", section)
                 .filter("receiverSection =", section)
-                .limit(range + 1).list());
+                .limit(range + 1).list();
 
         // also show responses in section with giver but without recipient
-        feedbackResponses.addAll(load()
+        List<FeedbackResponse> responsesWithoutRecipientSection = load()
                 .filter("feedbackSessionName = ", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("giverSection =", section)
                 .filter("receiverSection =", "None")
-                .limit(range + 1).list());
+                .limit(range + 1).list();
 
+        List<FeedbackResponse> feedbackResponses = new ArrayList<>(responsesInSection);
+        feedbackResponses.addAll(responsesWithoutRecipientSection);
         return feedbackResponses;
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
+        return getFeedbackResponsesForSessionFromSectionQuery(feedbackSessionName, courseId, section, range).list();
+    }
+
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionToSectionWithinRange(
+            String feedbackSessionName, String courseId, String section, int range) {
+        return getFeedbackResponsesForSessionToSectionQuery(feedbackSessionName, courseId, section, range).list();
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponsesForSessionFromSectionQuery(
+            String feedbackSessionName, String courseId, String section, int range) {
         return load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("giverSection =", section)
-                .limit(range + 1).list();
+                .limit(range + 1);
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionToSectionWithinRange(
+    private Query<FeedbackResponse> getFeedbackResponsesForSessionToSectionQuery(
             String feedbackSessionName, String courseId, String section, int range) {
         return load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .filter("receiverSection =", section)
-                .limit(range + 1).list();
+                .limit(range + 1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestion(
@@ -608,29 +888,15 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
+        return getUnionOfResults(Arrays.asList(
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("receiver =", receiver)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("receiver =", receiver)
+                        .filter("receiverSection =", section)));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -643,29 +909,15 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
+        return getUnionOfResults(Arrays.asList(
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("giverEmail =", giverEmail)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("giverEmail =", giverEmail)
+                        .filter("receiverSection =", section)));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSessionWithinRange(
@@ -0,0 +1,304 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.cmd.LoadType;
+
+import teammates.common.datatransfer.FeedbackSessionRespondents;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.FeedbackSessionRespondentShard;
+
+/**
+ * Handles CRUD operations for the respondents of feedback sessions.
+ *
+ * <p>The respondents of a session are spread over {@link #NUMBER_OF_SHARDS} shards by email,
+ * so adding a respondent only locks the shard that the email belongs to.
+ *
+ * @see FeedbackSessionRespondentShard
+ * @see FeedbackSessionRespondents
+ */
+public class FeedbackSessionRespondentsDb {
+
+    /**
+     * Number of shards the respondents of a single feedback session are spread over.
+     */
+    public static final int NUMBER_OF_SHARDS = 20;
+
+    /**
+     * Gets all respondents of a feedback session.
+     *
+     * <p>All shards of the session are fetched in a single batch get.
+     */
+    public FeedbackSessionRespondents getRespondents(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Set<String> studentRespondents = new HashSet<>();
+        Set<String> instructorRespondents = new HashSet<>();
+        for (FeedbackSessionRespondentShard shard
+                : ofy().load().keys(getShardKeys(feedbackSessionName, courseId)).values()) {
+            studentRespondents.addAll(shard.getStudentRespondents());
+            instructorRespondents.addAll(shard.getInstructorRespondents());
+        }
+
+        return new FeedbackSessionRespondents(feedbackSessionName, courseId, studentRespondents, instructorRespondents);
+    }
+
+    /**
+     * Checks whether the student with {@code email} has responded to the feedback session.
+     *
+     * <p>Only the shard that the email belongs to is fetched.
+     */
+    public boolean isStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        FeedbackSessionRespondentShard shard = getShardEntity(email, feedbackSessionName, courseId);
+        return shard != null && shard.getStudentRespondents().contains(email);
+    }
+
+    /**
+     * Checks whether the instructor with {@code email} has responded to the feedback session.
+     *
+     * <p>Only the shard that the email belongs to is fetched.
+     */
+    public boolean isInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        FeedbackSessionRespondentShard shard = getShardEntity(email, feedbackSessionName, courseId);
+        return shard != null && shard.getInstructorRespondents().contains(email);
+    }
+
+    /**
+     * Adds a student to the respondents of a feedback session.
+     */
+    public void addStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        updateRespondents(Collections.singleton(email), feedbackSessionName, courseId, false, false);
+    }
+
+    /**
+     * Adds an instructor to the respondents of a feedback session.
+     */
+    public void addInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        updateRespondents(Collections.singleton(email), feedbackSessionName, courseId, true, false);
+    }
+
+    /**
+     * Removes a student from the respondents of a feedback session.
+     */
+    public void deleteStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        updateRespondents(Collections.singleton(email), feedbackSessionName, courseId, false, true);
+    }
+
+    /**
+     * Removes an instructor from the respondents of a feedback session.
+     */
+    public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        updateRespondents(Collections.singleton(email), feedbackSessionName, courseId, true, true);
+    }
+
+    /**
+     * Adds students to the respondents of a feedback session.
+     *
+     * <p>Every shard is updated at most once, in one transaction, however many of the students belong to it.
+     */
+    public void addStudentRespondents(Collection<String> emails, String feedbackSessionName, String courseId) {
+        updateRespondents(emails, feedbackSessionName, courseId, false, false);
+    }
+
+    /**
+     * Adds instructors to the respondents of a feedback session.
+     *
+     * <p>Every shard is updated at most once, in one transaction, however many of the instructors belong to it.
+     */
+    public void addInstructorRespondents(Collection<String> emails, String feedbackSessionName, String courseId) {
+        updateRespondents(emails, feedbackSessionName, courseId, true, false);
+    }
+
+    /**
+     * Removes students from the respondents of a feedback session.
+     *
+     * <p>Every shard is updated at most once, in one transaction, however many of the students belong to it.
+     */
+    public void deleteStudentRespondents(Collection<String> emails, String feedbackSessionName, String courseId) {
+        updateRespondents(emails, feedbackSessionName, courseId, false, true);
+    }
+
+    /**
+     * Removes instructors from the respondents of a feedback session.
+     *
+     * <p>Every shard is updated at most once, in one transaction, however many of the instructors belong to it.
+     */
+    public void deleteInstructorRespondents(Collection<String> emails, String feedbackSessionName, String courseId) {
+        updateRespondents(emails, feedbackSessionName, courseId, true, true);
+    }
+
+    /**
+     * Replaces the student respondent with {@code oldEmail} by {@code newEmail}, if the student has responded.
+     *
+     * <p>The check and the replacement are done in one transaction over the shards of the two emails.
+     */
+    public void replaceStudentRespondent(String oldEmail, String newEmail, String feedbackSessionName, String courseId) {
+        replaceRespondent(oldEmail, newEmail, feedbackSessionName, courseId, false);
+    }
+
+    /**
+     * Replaces the instructor respondent with {@code oldEmail} by {@code newEmail}, if the instructor has responded.
+     *
+     * <p>The check and the replacement are done in one transaction over the shards of the two emails.
+     */
+    public void replaceInstructorRespondent(String oldEmail, String newEmail, String feedbackSessionName,
+                                            String courseId) {
+        replaceRespondent(oldEmail, newEmail, feedbackSessionName, courseId, true);
+    }
+
+    /**
+     * Replaces the respondents of a feedback session with {@code respondents}.
+     * No actual writes are done until {@link EntitiesDb#flush()} is called.
+     */
+    public void putRespondentsDeferred(FeedbackSessionRespondents respondents) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, respondents);
+
+        String feedbackSessionName = respondents.getFeedbackSessionName();
+        String courseId = respondents.getCourseId();
+        List<FeedbackSessionRespondentShard> shards = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SHARDS; i++) {
+            shards.add(new FeedbackSessionRespondentShard(feedbackSessionName, courseId, i));
+        }
+        for (String email : respondents.getStudentRespondents()) {
+            shards.get(getShardIndex(email)).getStudentRespondents().add(email);
+        }
+        for (String email : respondents.getInstructorRespondents()) {
+            shards.get(getShardIndex(email)).getInstructorRespondents().add(email);
+        }
+
+        for (FeedbackSessionRespondentShard shard : shards) {
+            if (shard.getStudentRespondents().isEmpty() && shard.getInstructorRespondents().isEmpty()) {
+                ofy().defer().delete().entity(shard);
+            } else {
+                ofy().defer().save().entity(shard);
+            }
+        }
+    }
+
+    /**
+     * Deletes all respondents of a feedback session.
+     */
+    public void deleteRespondentsForSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().delete().keys(getShardKeys(feedbackSessionName, courseId)).now();
+    }
+
+    /**
+     * Deletes all respondents of all feedback sessions in the given courses.
+     */
+    public void deleteRespondentsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+    }
+
+    private void updateRespondents(Collection<String> emails, String feedbackSessionName, String courseId,
+                                   boolean isInstructor, boolean isToBeRemoved) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Map<Integer, Set<String>> emailsInShard = new HashMap<>();
+        for (String email : emails) {
+            Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+            emailsInShard.computeIfAbsent(getShardIndex(email), index -> new HashSet<>()).add(email);
+        }
+
+        emailsInShard.forEach((shardIndex, emailsToUpdate) -> ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                FeedbackSessionRespondentShard shard = load().id(FeedbackSessionRespondentShard.generateId(
+                        feedbackSessionName, courseId, shardIndex)).now();
+                if (shard == null) {
+                    if (isToBeRemoved) {
+                        return;
+                    }
+                    shard = new FeedbackSessionRespondentShard(feedbackSessionName, courseId, shardIndex);
+                }
+
+                Set<String> respondents = getRespondentSet(shard, isInstructor);
+                boolean isChanged = isToBeRemoved ? respondents.removeAll(emailsToUpdate)
+                        : respondents.addAll(emailsToUpdate);
+                if (isChanged) {
+                    ofy().save().entity(shard).now();
+                }
+            }
+        }));
+    }
+
+    private void replaceRespondent(String oldEmail, String newEmail, String feedbackSessionName, String courseId,
+                                   boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                FeedbackSessionRespondentShard oldShard = getShardEntity(oldEmail, feedbackSessionName, courseId);
+                if (oldShard == null || !getRespondentSet(oldShard, isInstructor).remove(oldEmail)) {
+                    return;
+                }
+
+                if (getShardIndex(newEmail) == oldShard.getShardIndex()) {
+                    getRespondentSet(oldShard, isInstructor).add(newEmail);
+                    ofy().save().entity(oldShard).now();
+                    return;
+                }
+
+                FeedbackSessionRespondentShard newShard = getShardEntity(newEmail, feedbackSessionName, courseId);
+                if (newShard == null) {
+                    newShard = new FeedbackSessionRespondentShard(feedbackSessionName, courseId, getShardIndex(newEmail));
+                }
+                getRespondentSet(newShard, isInstructor).add(newEmail);
+                ofy().save().entities(oldShard, newShard).now();
+            }
+        });
+    }
+
+    private Set<String> getRespondentSet(FeedbackSessionRespondentShard shard, boolean isInstructor) {
+        return isInstructor ? shard.getInstructorRespondents() : shard.getStudentRespondents();
+    }
+
+    private FeedbackSessionRespondentShard getShardEntity(String email, String feedbackSessionName, String courseId) {
+        return load().id(FeedbackSessionRespondentShard.generateId(
+                feedbackSessionName, courseId, getShardIndex(email))).now();
+    }
+
+    private List<Key<FeedbackSessionRespondentShard>> getShardKeys(String feedbackSessionName, String courseId) {
+        List<Key<FeedbackSessionRespondentShard>> keys = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SHARDS; i++) {
+            keys.add(Key.create(FeedbackSessionRespondentShard.class,
+                    FeedbackSessionRespondentShard.generateId(feedbackSessionName, courseId, i)));
+        }
+        return keys;
+    }
+
+    private int getShardIndex(String email) {
+        return Math.floorMod(email.hashCode(), NUMBER_OF_SHARDS);
+    }
+
+    private LoadType<FeedbackSessionRespondentShard> load() {
+        return ofy().load().type(FeedbackSessionRespondentShard.class);
+    }
+}
@@ -6,6 +6,8 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.VoidWork;
@@ -65,18 +67,37 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
      * @return null if not found or soft-deleted.
      */
     public FeedbackSessionAttributes getFeedbackSession(String courseId, String feedbackSessionName) {
+        return getFeedbackSessionAsync(courseId, feedbackSessionName).get();
+    }
+
+    /**
+     * Starts getting a feedback session that is not soft-deleted, without waiting for it.
+     * The session is waited for when the returned supplier is called.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return a supplier of the session, which supplies null if it is not found or soft-deleted.
+     */
+    public Supplier<FeedbackSessionAttributes> getFeedbackSessionAsync(String courseId, String feedbackSessionName) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId),
-                "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
+        // batch loads are started right away, unlike single loads which are only started when waited for
+        String id = feedbackSessionName + "%" + courseId;
+        Map<String, FeedbackSession> feedbackSessionEntities = load().ids(id);
 
-        if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
-            log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
-            return null;
-        }
-        return feedbackSession;
+        return () -> {
+            FeedbackSessionAttributes feedbackSession =
+                    makeAttributesOrNull(feedbackSessionEntities.get(id),
+                    "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
+
+            if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
+                log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
+                return null;
+            }
+            return feedbackSession;
+        };
     }
 
     /**
@@ -222,9 +243,6 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                     feedbackSession.setSendClosingEmail(newAttributes.isClosingEmailEnabled());
                     feedbackSession.setSendPublishedEmail(newAttributes.isPublishedEmailEnabled());
 
-                    feedbackSession.setRespondingStudentList(newAttributes.getRespondingStudentList());
-                    feedbackSession.setRespondingInstructorList(newAttributes.getRespondingInstructorList());
-
                     saveEntity(feedbackSession, newAttributes);
 
                     newAttributesFinal[0] = makeAttributes(feedbackSession);
@@ -293,6 +311,17 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
     }
 
+    /**
+     * Deletes a page of at most {@code pageSize} sessions of the course, starting from {@code cursor}.
+     *
+     * @return the cursor of the next page, or null if all sessions of the course have been deleted
+     */
+    public String deletePageOfFeedbackSessionsForCourse(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize);
+    }
+
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
         return load().filter("courseId =", courseId).list();
     }
@@ -310,20 +310,21 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
             deleteDocumentByEncryptedInstructorKey(StringHelper.encrypt(instructor.getRegistrationKey()));
         }
         ofy().delete().entities(instructors).now();
+        invalidateCachedQueryResults();
     }
 
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
-        return load()
+        return getCachedQueryResult("googleId:" + googleId + "%" + courseId, () -> load()
                 .filter("courseId =", courseId)
                 .filter("googleId =", googleId)
-                .first().now();
+                .first().now());
     }
 
     private Instructor getInstructorEntityForEmail(String courseId, String email) {
-        return load()
+        return getCachedQueryResult("email:" + email + "%" + courseId, () -> load()
                 .filter("courseId =", courseId)
                 .filter("email =", email)
-                .first().now();
+                .first().now());
     }
 
     private Instructor getInstructorEntityById(String courseId, String email) {
@@ -357,7 +358,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     }
 
     private List<Instructor> getInstructorEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        return getCachedQueryResult("course:" + courseId, () -> load().filter("courseId =", courseId).list());
     }
 
     @Override
@@ -8,11 +8,13 @@ import com.googlecode.objectify.ObjectifyService;
 import teammates.storage.entity.Account;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseDeletion;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondentShard;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -27,11 +29,13 @@ public class OfyHelper implements ServletContextListener {
     public static void registerEntityClasses() {
         ObjectifyService.register(Account.class);
         ObjectifyService.register(Course.class);
+        ObjectifyService.register(CourseDeletion.class);
         ObjectifyService.register(CourseStudent.class);
         ObjectifyService.register(FeedbackQuestion.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionRespondentShard.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
         // enable the ability to use java.time.Instant to issue query
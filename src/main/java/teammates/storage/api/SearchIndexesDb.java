@@ -0,0 +1,23 @@
+package teammates.storage.api;
+
+import teammates.storage.search.SearchManager;
+
+/**
+ * Handles the maintenance of the search indexes as a whole, as opposed to the documents of each kind of entity,
+ * which are handled by the corresponding {@link EntitiesDb}.
+ *
+ * @see SearchManager
+ */
+public class SearchIndexesDb {
+
+    /**
+     * Saves the snapshot of the in-memory search indexes if they have changed since the last save.
+     * Does nothing if the indexes are not kept in memory or no snapshot path is configured.
+     *
+     * @return true if the snapshot was saved
+     */
+    public boolean saveSnapshotIfChanged() {
+        return SearchManager.saveSnapshotIfChanged();
+    }
+
+}
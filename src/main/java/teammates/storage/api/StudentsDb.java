@@ -4,6 +4,7 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -101,6 +102,52 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     }
 
+    /**
+     * Creates or updates the given students in batch.
+     *
+     * <p>Existing students keep their registration key and Google ID; only their name, comments,
+     * team and section are updated. All students are written with a single batch save and
+     * their search documents are put in a single batch.
+     *
+     * @return the students as saved
+     * @throws InvalidParametersException if any of the students is not valid; nothing is saved in that case
+     */
+    public List<StudentAttributes> putStudents(List<StudentAttributes> students) throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        List<String> ids = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            student.sanitizeForSaving();
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
+            ids.add(generateId(student.course, student.email));
+        }
+
+        Map<String, CourseStudent> existingStudents = load().ids(ids);
+
+        List<CourseStudent> studentsToSave = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            CourseStudent studentToSave = existingStudents.get(generateId(student.course, student.email));
+            if (studentToSave == null) {
+                studentToSave = student.toEntity();
+            } else {
+                studentToSave.setName(student.name);
+                studentToSave.setLastName(student.lastName);
+                studentToSave.setComments(student.comments);
+                studentToSave.setTeamName(student.team);
+                studentToSave.setSectionName(student.section);
+            }
+            studentsToSave.add(studentToSave);
+        }
+
+        List<StudentAttributes> savedStudents = makeAttributes(studentsToSave);
+        saveEntities(studentsToSave, savedStudents);
+        putDocuments(savedStudents);
+
+        return savedStudents;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -124,10 +171,10 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        CourseStudent student = load()
+        CourseStudent student = getCachedQueryResult("googleId:" + googleId + "%" + courseId, () -> load()
                 .filter("courseId =", courseId)
                 .filter("googleId =", googleId)
-                .first().now();
+                .first().now());
 
         return makeAttributesOrNull(student);
     }
@@ -328,6 +375,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys());
+        invalidateCachedQueryResults();
     }
 
     private Query<CourseStudent> getCourseStudentForEmailQuery(String courseId, String email) {
@@ -337,7 +385,11 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
-        return load().id(email + '%' + courseId).now();
+        return load().id(generateId(courseId, email)).now();
+    }
+
+    private String generateId(String courseId, String email) {
+        return email + '%' + courseId;
     }
 
     private CourseStudent getCourseStudentEntityForRegistrationKey(String registrationKey) {
@@ -364,7 +416,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     public List<CourseStudent> getCourseStudentEntitiesForCourse(String courseId) {
-        return getCourseStudentsForCourseQuery(courseId).list();
+        return getCachedQueryResult("course:" + courseId, () -> getCourseStudentsForCourseQuery(courseId).list());
     }
 
     private Query<CourseStudent> getCourseStudentsForCoursesQuery(List<String> courseIds) {
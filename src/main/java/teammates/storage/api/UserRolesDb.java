@@ -0,0 +1,116 @@
+package teammates.storage.api;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.datatransfer.UserInfo;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Handles the caching of the roles of users in Memcache, which is shared by all instances of the application.
+ *
+ * <p>Each user has a roles version number, which is bumped whenever the account of the user or the students
+ * linked to the user change. Roles are cached under the version they were read at, as done for course rosters
+ * in {@link CourseRostersDb}. Roles also expire after {@link #ROLES_EXPIRATION_SECONDS}.
+ */
+public class UserRolesDb {
+
+    /**
+     * Number of seconds the roles of a user are kept in Memcache after they are cached.
+     */
+    public static final int ROLES_EXPIRATION_SECONDS = 60;
+
+    private static final String NAMESPACE = "UserRoles";
+
+    private MemcacheService getMemcache() {
+        return MemcacheServiceFactory.getMemcacheService(NAMESPACE);
+    }
+
+    /**
+     * Gets the current roles version of a user.
+     *
+     * @return null if Memcache is not available.
+     */
+    public Long getRolesVersion(String googleId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+
+        MemcacheService memcache = getMemcache();
+        String versionKey = getVersionKey(googleId);
+        Object version = memcache.get(versionKey);
+        if (version == null) {
+            // start from the current time so that roles cached before the version was evicted are not reused
+            memcache.put(versionKey, System.currentTimeMillis(), null,
+                    MemcacheService.SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+            version = memcache.get(versionKey);
+        }
+        return (Long) version;
+    }
+
+    /**
+     * Gets the roles of a user cached at the given version.
+     * Only the instructor and student flags of the returned {@link UserInfo} are set.
+     *
+     * @return null if there are no such roles in the cache.
+     */
+    public UserInfo getUserRoles(String googleId, long version) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+
+        Object json = getMemcache().get(getRolesKey(googleId, version));
+        if (json == null) {
+            return null;
+        }
+        CachedUserRoles cachedRoles = JsonUtils.fromJson((String) json, CachedUserRoles.class);
+        UserInfo roles = new UserInfo(googleId);
+        roles.isInstructor = cachedRoles.isInstructor;
+        roles.isStudent = cachedRoles.isStudent;
+        return roles;
+    }
+
+    /**
+     * Caches the instructor and student flags of a user read at the given version.
+     */
+    public void putUserRoles(long version, UserInfo roles) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, roles);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, roles.id);
+
+        String json = JsonUtils.toCompactJson(new CachedUserRoles(roles.isInstructor, roles.isStudent));
+        getMemcache().put(getRolesKey(roles.id, version), json,
+                Expiration.byDeltaSeconds(ROLES_EXPIRATION_SECONDS));
+    }
+
+    /**
+     * Invalidates the cached roles of a user by bumping its roles version.
+     */
+    public void invalidateUserRoles(String googleId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+
+        getMemcache().increment(getVersionKey(googleId), 1, System.currentTimeMillis());
+    }
+
+    private String getVersionKey(String googleId) {
+        return "version%" + googleId;
+    }
+
+    private String getRolesKey(String googleId, long version) {
+        return "roles%" + googleId + "%" + version;
+    }
+
+    /**
+     * The form in which the roles of a user are cached.
+     */
+    private static class CachedUserRoles {
+
+        private final boolean isInstructor;
+        private final boolean isStudent;
+
+        CachedUserRoles(boolean isInstructor, boolean isStudent) {
+            this.isInstructor = isInstructor;
+            this.isStudent = isStudent;
+        }
+
+    }
+
+}
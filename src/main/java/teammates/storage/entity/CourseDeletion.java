@@ -0,0 +1,73 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the last saved progress of the permanent deletion of a course.
+ *
+ * <p>The entity is kept after the course is deleted, so that the instructor who requested the deletion
+ * can still see how it ended.
+ */
+@Entity
+@Unindex
+public class CourseDeletion extends BaseEntity {
+
+    @Id
+    private String courseId;
+
+    private String requesterId;
+
+    private String stage;
+
+    private String cursor;
+
+    private int numberOfSteps;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private CourseDeletion() {
+        // required by Objectify
+    }
+
+    public CourseDeletion(String courseId, String requesterId, String stage, String cursor, int numberOfSteps,
+                          Instant updatedAt) {
+        this.courseId = courseId;
+        this.requesterId = requesterId;
+        this.stage = stage;
+        this.cursor = cursor;
+        this.numberOfSteps = numberOfSteps;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getRequesterId() {
+        return requesterId;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public int getNumberOfSteps() {
+        return numberOfSteps;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
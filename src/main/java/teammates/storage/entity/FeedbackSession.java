@@ -31,6 +31,8 @@ public class FeedbackSession extends BaseEntity {
 
     private String creatorEmail; //TODO: should this be googleId?
 
+    // Respondents are now tracked in FeedbackSessionRespondentShard.
+    // These legacy fields are only kept so that existing data can be migrated.
     @Unindex
     private Set<String> respondingInstructorList = new HashSet<>();
 
@@ -91,19 +93,6 @@ public class FeedbackSession extends BaseEntity {
             boolean sentOpenEmail,
             boolean sentClosingEmail, boolean sentClosedEmail, boolean sentPublishedEmail,
             boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled) {
-        this(feedbackSessionName, courseId, creatorEmail, instructions, createdTime, deletedTime, startTime, endTime,
-                sessionVisibleFromTime, resultsVisibleFromTime, timeZone, gracePeriod,
-                sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail, isOpeningEmailEnabled,
-                isClosingEmailEnabled, isPublishedEmailEnabled, new HashSet<String>(), new HashSet<String>());
-    }
-
-    public FeedbackSession(String feedbackSessionName, String courseId, String creatorEmail,
-            String instructions, Instant createdTime, Instant deletedTime, Instant startTime, Instant endTime,
-            Instant sessionVisibleFromTime, Instant resultsVisibleFromTime, String timeZone, long gracePeriod,
-            boolean sentOpenEmail, boolean sentClosingEmail,
-            boolean sentClosedEmail, boolean sentPublishedEmail,
-            boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled,
-            Set<String> instructorList, Set<String> studentList) {
         this.feedbackSessionName = feedbackSessionName;
         this.courseId = courseId;
         this.creatorEmail = creatorEmail;
@@ -124,8 +113,6 @@ public class FeedbackSession extends BaseEntity {
         this.isClosingEmailEnabled = isClosingEmailEnabled;
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
         this.feedbackSessionId = this.feedbackSessionName + "%" + this.courseId;
-        this.respondingInstructorList = instructorList == null ? new HashSet<String>() : instructorList;
-        this.respondingStudentList = studentList == null ? new HashSet<String>() : studentList;
     }
 
     public String getFeedbackSessionName() {
@@ -0,0 +1,91 @@
+package teammates.storage.entity;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.googlecode.objectify.annotation.Cache;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents one shard of the set of respondents of a feedback session.
+ *
+ * <p>Respondents are distributed across a fixed number of shards per session so that concurrent
+ * submissions do not contend on a single entity group. The shards are cached by Objectify so that
+ * reading all shards of a session is usually served from memcache.
+ */
+@Entity
+@Index
+@Cache
+public class FeedbackSessionRespondentShard extends BaseEntity {
+
+    // Format is feedbackSessionName%courseId%shardIndex
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as id is persisted to the database
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private transient String id;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private int shardIndex;
+
+    @Unindex
+    private Set<String> studentRespondents = new HashSet<>();
+
+    @Unindex
+    private Set<String> instructorRespondents = new HashSet<>();
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondentShard() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondentShard(String feedbackSessionName, String courseId, int shardIndex) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.shardIndex = shardIndex;
+        this.id = generateId(feedbackSessionName, courseId, shardIndex);
+    }
+
+    /**
+     * Generates the unique ID of the shard with index {@code shardIndex} of the given feedback session.
+     */
+    public static String generateId(String feedbackSessionName, String courseId, int shardIndex) {
+        return feedbackSessionName + "%" + courseId + "%" + shardIndex;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public Set<String> getStudentRespondents() {
+        return studentRespondents;
+    }
+
+    public Set<String> getInstructorRespondents() {
+        return instructorRespondents;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSessionRespondentShard [feedbackSessionName=" + feedbackSessionName
+                + ", courseId=" + courseId + ", shardIndex=" + shardIndex
+                + ", studentRespondents=" + studentRespondents
+                + ", instructorRespondents=" + instructorRespondents + "]";
+    }
+
+}
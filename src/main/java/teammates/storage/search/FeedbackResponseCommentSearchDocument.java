@@ -1,6 +1,8 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -42,9 +44,31 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private String commentGiverDisplayedName;
     private List<InstructorAttributes> relatedInstructors;
     private List<StudentAttributes> relatedStudents;
+    private final RelatedEntities relatedEntities;
 
     public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment) {
+        this(comment, new RelatedEntities());
+    }
+
+    private FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment,
+                                                  RelatedEntities relatedEntities) {
         this.comment = comment;
+        this.relatedEntities = relatedEntities;
+    }
+
+    /**
+     * Creates the search documents for {@code comments}.
+     *
+     * <p>The responses and questions of all the comments are read in batches, and the sessions, courses,
+     * students and instructors once per course, so the number of reads does not grow with the number of comments.
+     */
+    public static List<SearchDocument> fromComments(List<FeedbackResponseCommentAttributes> comments) {
+        RelatedEntities relatedEntities = RelatedEntities.prefetch(comments);
+        List<SearchDocument> documents = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            documents.add(new FeedbackResponseCommentSearchDocument(comment, relatedEntities));
+        }
+        return documents;
     }
 
     @Override
@@ -53,10 +77,10 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
+        relatedSession = relatedEntities.getSession(comment.courseId, comment.feedbackSessionName);
+        relatedQuestion = relatedEntities.getQuestion(comment.feedbackQuestionId);
+        relatedResponse = relatedEntities.getResponse(comment.feedbackResponseId);
+        course = relatedEntities.getCourse(comment.courseId);
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
         setCommentGiverNameAndDisplayedName();
@@ -65,7 +89,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> addedEmailSet = new HashSet<>();
         if (relatedQuestion.giverType == FeedbackParticipantType.INSTRUCTORS
                 || relatedQuestion.giverType == FeedbackParticipantType.SELF) {
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.giver);
+            InstructorAttributes ins = relatedEntities.getInstructor(comment.courseId, relatedResponse.giver);
             if (ins == null || addedEmailSet.contains(ins.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -76,7 +100,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS) {
             responseGiverName = relatedResponse.giver;
         } else {
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.giver);
+            StudentAttributes stu = relatedEntities.getStudent(comment.courseId, relatedResponse.giver);
             if (stu == null || addedEmailSet.contains(stu.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -88,7 +112,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         switch (relatedQuestion.recipientType) {
         case INSTRUCTORS:
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.recipient);
+            InstructorAttributes ins = relatedEntities.getInstructor(comment.courseId, relatedResponse.recipient);
             if (ins != null && !addedEmailSet.contains(ins.email)) {
                 relatedInstructors.add(ins);
                 addedEmailSet.add(ins.email);
@@ -105,7 +129,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             responseRecipientName = relatedResponse.recipient;
             break;
         default:
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.recipient);
+            StudentAttributes stu = relatedEntities.getStudent(comment.courseId, relatedResponse.recipient);
 
             if (stu != null && !addedEmailSet.contains(stu.email)) {
                 relatedStudents.add(stu);
@@ -113,7 +137,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseRecipientName = stu.name + " (" + stu.team + ")";
             }
 
-            List<StudentAttributes> team = studentsDb.getStudentsForTeam(relatedResponse.recipient, comment.courseId);
+            List<StudentAttributes> team = relatedEntities.getStudentsForTeam(comment.courseId, relatedResponse.recipient);
             if (team != null) {
                 responseRecipientName = relatedResponse.recipient; // it's actually a team name here
                 for (StudentAttributes studentInTeam : team) {
@@ -212,10 +236,20 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> isAdded = new HashSet<>();
 
         List<ScoredDocument> filteredResults = filterOutCourseId(results, instructors);
+
+        // read the comments of all the results, and then their related entities, in batches
+        List<Long> feedbackResponseCommentIds = new ArrayList<>();
+        for (ScoredDocument doc : filteredResults) {
+            feedbackResponseCommentIds.add(Long.parseLong(doc.getId()));
+        }
+        Map<Long, FeedbackResponseCommentAttributes> commentsById =
+                frcDb.getFeedbackResponseComments(feedbackResponseCommentIds);
+        RelatedEntities relatedEntities = RelatedEntities.prefetch(commentsById.values());
+
         for (ScoredDocument doc : filteredResults) {
             // get FeedbackResponseComment from results
             long feedbackResponseCommentId = Long.parseLong(doc.getId());
-            FeedbackResponseCommentAttributes comment = frcDb.getFeedbackResponseComment(feedbackResponseCommentId);
+            FeedbackResponseCommentAttributes comment = commentsById.get(feedbackResponseCommentId);
             if (comment == null) {
                 // search engine out of sync as SearchManager may fail to delete documents due to GAE error
                 // the chance is low and it is generally not a big problem
@@ -223,17 +257,18 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 continue;
             }
             // get related response from results
-            FeedbackResponseAttributes response = frDb.getFeedbackResponse(comment.feedbackResponseId);
+            FeedbackResponseAttributes response = relatedEntities.getResponse(comment.feedbackResponseId);
             if (response == null) {
                 continue;
             }
             // get related question from results
-            FeedbackQuestionAttributes question = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
+            FeedbackQuestionAttributes question = relatedEntities.getQuestion(comment.feedbackQuestionId);
             if (question == null) {
                 continue;
             }
             // get related session from results
-            FeedbackSessionAttributes session = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
+            FeedbackSessionAttributes session =
+                    relatedEntities.getSession(comment.courseId, comment.feedbackSessionName);
             if (session == null) {
                 continue;
             }
@@ -283,7 +318,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                     && bundle.commentGiverEmailToNameTable.containsKey(comment.lastEditorEmail);
             if (!isLastEditorEmailInMap) {
                 InstructorAttributes instructor =
-                        instructorsDb.getInstructorForEmail(response.courseId, comment.lastEditorEmail);
+                        relatedEntities.getInstructor(response.courseId, comment.lastEditorEmail);
                 String commentLastEditorName = instructor.displayedName + " " + instructor.name;
                 bundle.commentGiverEmailToNameTable.put(comment.lastEditorEmail, commentLastEditorName);
             }
@@ -320,7 +355,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         switch (comment.commentGiverType) {
         case INSTRUCTORS:
             InstructorAttributes instructor =
-                    instructorsDb.getInstructorForEmail(comment.courseId, comment.commentGiver);
+                    relatedEntities.getInstructor(comment.courseId, comment.commentGiver);
             if (instructor == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -330,7 +365,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             commentGiverName = instructor.name;
             break;
         case STUDENTS:
-            StudentAttributes student = studentsDb.getStudentForEmail(comment.courseId, comment.commentGiver);
+            StudentAttributes student = relatedEntities.getStudent(comment.courseId, comment.commentGiver);
             if (student == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -526,4 +561,119 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         frCommentSearchResults.questions.forEach((fsName, questionList) -> questionList.removeIf(fq ->
                 frCommentSearchResults.responses.get(fq.getId()).isEmpty()));
     }
+
+    /**
+     * Gets the entities related to comments.
+     *
+     * <p>By default, each entity is read when it is asked for, which suits a single comment.
+     * When prefetched for many comments, their responses and questions are read upfront in batches,
+     * and everything else is read once per course.
+     */
+    private static final class RelatedEntities {
+
+        private final boolean isPrefetched;
+        private final Map<String, FeedbackResponseAttributes> responses;
+        private final Map<String, FeedbackQuestionAttributes> questions;
+        private final Map<String, CourseAttributes> courses = new HashMap<>();
+        private final Map<String, Map<String, FeedbackSessionAttributes>> sessionsByCourse = new HashMap<>();
+        private final Map<String, Map<String, StudentAttributes>> studentsByCourse = new HashMap<>();
+        private final Map<String, Map<String, List<StudentAttributes>>> teamsByCourse = new HashMap<>();
+        private final Map<String, Map<String, InstructorAttributes>> instructorsByCourse = new HashMap<>();
+
+        RelatedEntities() {
+            this.isPrefetched = false;
+            this.responses = null;
+            this.questions = null;
+        }
+
+        private RelatedEntities(Map<String, FeedbackResponseAttributes> responses,
+                                Map<String, FeedbackQuestionAttributes> questions) {
+            this.isPrefetched = true;
+            this.responses = responses;
+            this.questions = questions;
+        }
+
+        static RelatedEntities prefetch(Collection<FeedbackResponseCommentAttributes> comments) {
+            Set<String> responseIds = new HashSet<>();
+            Set<String> questionIds = new HashSet<>();
+            for (FeedbackResponseCommentAttributes comment : comments) {
+                responseIds.add(comment.feedbackResponseId);
+                questionIds.add(comment.feedbackQuestionId);
+            }
+            return new RelatedEntities(frDb.getFeedbackResponses(responseIds), fqDb.getFeedbackQuestions(questionIds));
+        }
+
+        FeedbackResponseAttributes getResponse(String feedbackResponseId) {
+            return isPrefetched ? responses.get(feedbackResponseId) : frDb.getFeedbackResponse(feedbackResponseId);
+        }
+
+        FeedbackQuestionAttributes getQuestion(String feedbackQuestionId) {
+            return isPrefetched ? questions.get(feedbackQuestionId) : fqDb.getFeedbackQuestion(feedbackQuestionId);
+        }
+
+        CourseAttributes getCourse(String courseId) {
+            if (!isPrefetched) {
+                return coursesDb.getCourse(courseId);
+            }
+            return courses.computeIfAbsent(courseId, coursesDb::getCourse);
+        }
+
+        FeedbackSessionAttributes getSession(String courseId, String feedbackSessionName) {
+            if (!isPrefetched) {
+                return fsDb.getFeedbackSession(courseId, feedbackSessionName);
+            }
+            return sessionsByCourse.computeIfAbsent(courseId, id -> {
+                Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+                for (FeedbackSessionAttributes session : fsDb.getFeedbackSessionsForCourse(id)) {
+                    sessions.put(session.getFeedbackSessionName(), session);
+                }
+                return sessions;
+            }).get(feedbackSessionName);
+        }
+
+        StudentAttributes getStudent(String courseId, String email) {
+            if (!isPrefetched) {
+                return studentsDb.getStudentForEmail(courseId, email);
+            }
+            readStudentsOfCourse(courseId);
+            return studentsByCourse.get(courseId).get(email);
+        }
+
+        List<StudentAttributes> getStudentsForTeam(String courseId, String teamName) {
+            if (!isPrefetched) {
+                return studentsDb.getStudentsForTeam(teamName, courseId);
+            }
+            readStudentsOfCourse(courseId);
+            return teamsByCourse.get(courseId).getOrDefault(teamName, new ArrayList<>());
+        }
+
+        private void readStudentsOfCourse(String courseId) {
+            if (studentsByCourse.containsKey(courseId)) {
+                return;
+            }
+            Map<String, StudentAttributes> students = new HashMap<>();
+            Map<String, List<StudentAttributes>> teams = new HashMap<>();
+            for (StudentAttributes student : studentsDb.getStudentsForCourse(courseId)) {
+                students.put(student.email, student);
+                teams.computeIfAbsent(student.team, team -> new ArrayList<>()).add(student);
+            }
+            studentsByCourse.put(courseId, students);
+            teamsByCourse.put(courseId, teams);
+        }
+
+        InstructorAttributes getInstructor(String courseId, String email) {
+            if (!isPrefetched) {
+                return instructorsDb.getInstructorForEmail(courseId, email);
+            }
+            return instructorsByCourse.computeIfAbsent(courseId, id -> {
+                Map<String, InstructorAttributes> instructors = new HashMap<>();
+                for (InstructorAttributes instructor : instructorsDb.getInstructorsForCourse(id)) {
+                    instructors.put(instructor.email, instructor);
+                }
+                return instructors;
+            }).get(email);
+        }
+
+    }
+
 }
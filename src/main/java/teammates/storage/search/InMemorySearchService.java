@@ -0,0 +1,290 @@
+package teammates.storage.search;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Field;
+import com.google.appengine.api.search.OperationResult;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+import com.google.appengine.api.search.StatusCode;
+
+import teammates.common.util.Const;
+
+/**
+ * Search service backed by inverted indexes held in the memory of the current instance.
+ *
+ * <p>Only the {@link Const.SearchDocumentField#SEARCHABLE_TEXT} and {@link Const.SearchDocumentField#COURSE_ID}
+ * fields of documents are indexed. The searchable text is split into lower-case tokens of letters and digits.
+ * A keyword or quoted phrase of the query matches a document if its tokens are prefixes of consecutive tokens
+ * of the searchable text, e.g. {@code "stud in cour"} matches {@code "Student In Course1"}.
+ * Matching documents are returned newest first, as the App Engine Search API does by default.
+ *
+ * <p>Each instance of the application has its own indexes, which can be saved to and restored from a snapshot.
+ * It is therefore meant for the dev server, load testing, and deployments served by a single instance.
+ */
+public class InMemorySearchService implements SearchService {
+
+    private final Map<String, InMemoryIndex> indexes = new HashMap<>();
+
+    private InMemoryIndex getIndex(String indexName) {
+        synchronized (this) {
+            return indexes.computeIfAbsent(indexName, name -> new InMemoryIndex());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putDocument(String indexName, Document document) {
+        getIndex(indexName).put(document);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putDocuments(String indexName, List<Document> documents) {
+        InMemoryIndex index = getIndex(indexName);
+        for (Document document : documents) {
+            index.put(document);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query) {
+        List<ScoredDocument> documents = getIndex(indexName).search(query);
+        return new InMemoryResults(documents);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteDocument(String indexName, String documentId) {
+        getIndex(indexName).delete(documentId);
+    }
+
+    /**
+     * Writes the documents of all indexes to {@code out}, from which they can be restored by {@link #loadSnapshot}.
+     */
+    public void saveSnapshot(OutputStream out) throws IOException {
+        Map<String, List<Document>> documentsByIndex = new HashMap<>();
+        synchronized (this) {
+            indexes.forEach((indexName, index) -> documentsByIndex.put(indexName, index.getDocuments()));
+        }
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(documentsByIndex);
+        }
+    }
+
+    /**
+     * Adds the documents of a snapshot written by {@link #saveSnapshot} to the indexes.
+     */
+    @SuppressWarnings("unchecked")
+    public void loadSnapshot(InputStream in) throws IOException {
+        Map<String, List<Document>> documentsByIndex;
+        try (ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            documentsByIndex = (Map<String, List<Document>>) objectIn.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+        documentsByIndex.forEach(this::putDocuments);
+    }
+
+    /**
+     * Splits {@code text} into lower-case tokens of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * An inverted index of documents, from each token of their searchable text to the IDs of the documents.
+     */
+    private static class InMemoryIndex {
+
+        private final Map<String, IndexedDocument> documents = new HashMap<>();
+        private final NavigableMap<String, Set<String>> documentIdsByToken = new TreeMap<>();
+        private long nextSequenceNumber;
+
+        void put(Document document) {
+            synchronized (this) {
+                delete(document.getId());
+
+                IndexedDocument indexedDocument = new IndexedDocument(document, nextSequenceNumber++);
+                documents.put(document.getId(), indexedDocument);
+                for (String token : indexedDocument.tokens) {
+                    documentIdsByToken.computeIfAbsent(token, key -> new HashSet<>()).add(document.getId());
+                }
+            }
+        }
+
+        void delete(String documentId) {
+            synchronized (this) {
+                IndexedDocument indexedDocument = documents.remove(documentId);
+                if (indexedDocument == null) {
+                    return;
+                }
+                for (String token : indexedDocument.tokens) {
+                    Set<String> documentIds = documentIdsByToken.get(token);
+                    if (documentIds != null) {
+                        documentIds.remove(documentId);
+                        if (documentIds.isEmpty()) {
+                            documentIdsByToken.remove(token);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Document> getDocuments() {
+            synchronized (this) {
+                List<Document> documentList = new ArrayList<>();
+                documents.values().stream()
+                        .sorted((a, b) -> Long.compare(a.sequenceNumber, b.sequenceNumber))
+                        .forEach(indexedDocument -> documentList.add(indexedDocument.document));
+                return documentList;
+            }
+        }
+
+        List<ScoredDocument> search(SearchQuery query) {
+            synchronized (this) {
+                Set<String> matchingIds = new HashSet<>();
+                for (String keyword : query.getKeywords()) {
+                    matchingIds.addAll(getIdsMatchingPhrase(tokenize(keyword)));
+                }
+
+                List<String> visibleCourseIds = query.getVisibleCourseIds();
+                List<IndexedDocument> matches = new ArrayList<>();
+                for (String id : matchingIds) {
+                    IndexedDocument indexedDocument = documents.get(id);
+                    if (visibleCourseIds == null || visibleCourseIds.contains(indexedDocument.courseId)) {
+                        matches.add(indexedDocument);
+                    }
+                }
+                matches.sort((a, b) -> Long.compare(b.sequenceNumber, a.sequenceNumber));
+
+                List<ScoredDocument> results = new ArrayList<>();
+                for (IndexedDocument match : matches.subList(0, Math.min(query.getLimit(), matches.size()))) {
+                    results.add(match.toScoredDocument());
+                }
+                return results;
+            }
+        }
+
+        private Set<String> getIdsMatchingPhrase(List<String> phraseTokens) {
+            if (phraseTokens.isEmpty()) {
+                return new HashSet<>();
+            }
+
+            // narrow down to documents containing every token of the phrase before checking their order
+            Set<String> candidateIds = null;
+            for (String phraseToken : phraseTokens) {
+                Set<String> idsWithToken = getIdsWithTokenPrefix(phraseToken);
+                if (candidateIds == null) {
+                    candidateIds = idsWithToken;
+                } else {
+                    candidateIds.retainAll(idsWithToken);
+                }
+            }
+
+            candidateIds.removeIf(id -> !documents.get(id).containsPhrase(phraseTokens));
+            return candidateIds;
+        }
+
+        private Set<String> getIdsWithTokenPrefix(String prefix) {
+            Set<String> ids = new HashSet<>();
+            Collection<Set<String>> idsOfMatchingTokens =
+                    documentIdsByToken.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values();
+            for (Set<String> idsOfToken : idsOfMatchingTokens) {
+                ids.addAll(idsOfToken);
+            }
+            return ids;
+        }
+
+    }
+
+    /**
+     * A document together with the data extracted from it for indexing.
+     */
+    private static class IndexedDocument {
+
+        final Document document;
+        final long sequenceNumber;
+        final String courseId;
+        final List<String> tokens;
+
+        IndexedDocument(Document document, long sequenceNumber) {
+            this.document = document;
+            this.sequenceNumber = sequenceNumber;
+            this.courseId = getFieldText(document, Const.SearchDocumentField.COURSE_ID);
+            String searchableText = getFieldText(document, Const.SearchDocumentField.SEARCHABLE_TEXT);
+            this.tokens = searchableText == null ? new ArrayList<>() : tokenize(searchableText);
+        }
+
+        private static String getFieldText(Document document, String fieldName) {
+            return document.getFieldCount(fieldName) == 0 ? null : document.getOnlyField(fieldName).getText();
+        }
+
+        boolean containsPhrase(List<String> phraseTokens) {
+            for (int start = 0; start + phraseTokens.size() <= tokens.size(); start++) {
+                boolean isMatch = true;
+                for (int i = 0; i < phraseTokens.size() && isMatch; i++) {
+                    isMatch = tokens.get(start + i).startsWith(phraseTokens.get(i));
+                }
+                if (isMatch) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ScoredDocument toScoredDocument() {
+            ScoredDocument.Builder builder = ScoredDocument.newBuilder();
+            builder.setId(document.getId());
+            for (Field field : document.getFields()) {
+                builder.addField(field);
+            }
+            return builder.build();
+        }
+
+    }
+
+    /**
+     * Results of a search in an in-memory index, all of which are returned at once.
+     */
+    private static class InMemoryResults extends Results<ScoredDocument> {
+
+        private static final long serialVersionUID = 1L;
+
+        InMemoryResults(List<ScoredDocument> documents) {
+            super(new OperationResult(StatusCode.OK, null), documents, documents.size(), documents.size(), null);
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.google.appengine.api.search.Query;
@@ -27,11 +28,21 @@ public abstract class SearchQuery {
 
     private List<String> textQueryStrings = new ArrayList<>();
 
+    private List<String> visibleCourseIds;
+
+    private List<String> keywords = new ArrayList<>();
+
     protected SearchQuery(List<InstructorAttributes> instructors, String queryString) {
         options = QueryOptions.newBuilder()
                 .setLimit(20)
                 .build();
         visibilityQueryString = instructors == null ? "" : prepareVisibilityQueryString(instructors);
+        if (instructors != null) {
+            visibleCourseIds = new ArrayList<>();
+            for (InstructorAttributes instructor : instructors) {
+                visibleCourseIds.add(instructor.courseId);
+            }
+        }
         setTextFilter(Const.SearchDocumentField.SEARCHABLE_TEXT, queryString);
     }
 
@@ -60,10 +71,30 @@ public abstract class SearchQuery {
         textQueryStrings.add(textField + ":" + preparedOrQueryString);
     }
 
+    /**
+     * Returns the IDs of the courses whose documents may be returned, or null if documents of all courses may be returned.
+     */
+    public List<String> getVisibleCourseIds() {
+        return visibleCourseIds == null ? null : Collections.unmodifiableList(visibleCourseIds);
+    }
+
+    /**
+     * Returns the keywords and quoted phrases to search for, in lower case. A document matches if it matches any of them.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
+    /**
+     * Returns the maximum number of documents to return.
+     */
+    public int getLimit() {
+        return options.getLimit();
+    }
+
     private String prepareOrQueryString(String queryString) {
         String[] splitStrings = queryString.replaceAll("\"", " \" ").trim().split("\\s+");
 
-        List<String> keywords = new ArrayList<>();
         StringBuilder key = new StringBuilder();
         boolean isStartQuote = false;
         for (String splitString : splitStrings) {
@@ -0,0 +1,36 @@
+package teammates.storage.search;
+
+import java.util.List;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+
+/**
+ * A backend which stores {@link Document}s in named indexes and searches them.
+ *
+ * @see SearchManager
+ */
+public interface SearchService {
+
+    /**
+     * Creates or updates the given document in the given index.
+     */
+    void putDocument(String indexName, Document document);
+
+    /**
+     * Batch creates or updates the given documents in the given index.
+     */
+    void putDocuments(String indexName, List<Document> documents);
+
+    /**
+     * Searches the given index for documents matching the query.
+     */
+    Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query);
+
+    /**
+     * Deletes the document with the given ID from the given index.
+     */
+    void deleteDocument(String indexName, String documentId);
+
+}
@@ -14,6 +14,7 @@ import teammates.common.exception.InvalidHttpParameterException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -37,6 +38,7 @@ abstract class AutomatedServlet extends HttpServlet {
                     + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(req));
         }
 
+        RequestCache.begin();
         try {
             AutomatedAction action = new AutomatedActionFactory().getAction(req, resp);
             action.execute();
@@ -60,6 +62,8 @@ abstract class AutomatedServlet extends HttpServlet {
 
             // Task will be recognised as failed and GAE retry mechanism can kick in
             resp.setStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        } finally {
+            RequestCache.end();
         }
     }
 
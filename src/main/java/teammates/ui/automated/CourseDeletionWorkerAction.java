@@ -0,0 +1,23 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Task queue worker action: continues the permanent deletion of a course for a bounded number of pages,
+ * and schedules itself again until the course is deleted or the deletion is cancelled.
+ */
+public class CourseDeletionWorkerAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        String checkpoint = getNonNullRequestParamValue(ParamsNames.COURSE_DELETION_CHECKPOINT);
+
+        CourseDeletionProgress progress =
+                logic.continueCourseDeletion(JsonUtils.fromJson(checkpoint, CourseDeletionProgress.class));
+        if (!progress.isFinished()) {
+            taskQueuer.scheduleCourseDeletion(progress);
+        }
+    }
+}
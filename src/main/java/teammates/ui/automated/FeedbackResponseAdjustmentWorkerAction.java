@@ -0,0 +1,36 @@
+package teammates.ui.automated;
+
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: adjusts the responses of students whose team or section were changed by an enrollment.
+ */
+public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String enrollmentDetails = getNonNullRequestParamValue(ParamsNames.ENROLLMENT_DETAILS);
+
+        List<StudentEnrollDetails> enrollmentList =
+                JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
+
+        try {
+            logic.adjustFeedbackResponsesForEnrollment(enrollmentList);
+        } catch (InvalidParametersException e) {
+            log.severe("Failed to adjust responses for enrollment in course " + courseId + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+}
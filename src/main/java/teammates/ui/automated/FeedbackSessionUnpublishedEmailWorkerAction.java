@@ -1,11 +1,14 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Const.ParamsNames;
-import teammates.common.util.EmailWrapper;
+import teammates.common.util.EmailType;
 import teammates.common.util.Logger;
 
 /**
@@ -26,9 +29,13 @@ public class FeedbackSessionUnpublishedEmailWorkerAction extends AutomatedAction
                        + " for course: " + courseId + " could not be fetched.");
             return;
         }
-        List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionUnpublishedEmails(session);
+        boolean isEmailNeeded = logic.isFeedbackSessionViewableToStudents(session);
+        List<StudentAttributes> students = isEmailNeeded ? logic.getStudentsForCourse(courseId) : new ArrayList<>();
+        List<InstructorAttributes> instructors =
+                isEmailNeeded ? logic.getInstructorsForCourse(courseId) : new ArrayList<>();
         try {
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            taskQueuer.scheduleFeedbackSessionEmailsForSending(
+                    session, EmailType.FEEDBACK_UNPUBLISHED, students, instructors);
             logic.updateFeedbackSession(
                     FeedbackSessionAttributes
                             .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
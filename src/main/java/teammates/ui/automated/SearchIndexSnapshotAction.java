@@ -0,0 +1,21 @@
+package teammates.ui.automated;
+
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: saves the snapshot of the in-memory search indexes if they have changed.
+ *
+ * <p>Saving the snapshot here keeps the serialization of the indexes out of the requests that change them.
+ */
+public class SearchIndexSnapshotAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        if (logic.saveSearchIndexSnapshotIfChanged()) {
+            log.info("Saved search index snapshot");
+        }
+    }
+
+}
@@ -1,12 +1,20 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends queued email, or a queued batch of emails generated from the same template.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
@@ -18,21 +26,42 @@ public class SendEmailWorkerAction extends AutomatedAction {
         String emailContent = getNonNullRequestParamValue(ParamsNames.EMAIL_CONTENT);
         String emailSenderEmail = getNonNullRequestParamValue(ParamsNames.EMAIL_SENDER);
         String emailSenderName = getRequestParamValue(ParamsNames.EMAIL_SENDERNAME);
-        String emailReceiver = getNonNullRequestParamValue(ParamsNames.EMAIL_RECEIVER);
         String emailReply = getNonNullRequestParamValue(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
+        String emailSubstitutions = getRequestParamValue(ParamsNames.EMAIL_SUBSTITUTIONS);
+
+        List<EmailWrapper> messages = new ArrayList<>();
+        if (emailSubstitutions == null) {
+            EmailWrapper message = new EmailWrapper();
+            message.setRecipient(getNonNullRequestParamValue(ParamsNames.EMAIL_RECEIVER));
+            message.setContent(emailContent);
+            messages.add(message);
+        } else {
+            // the content is the template shared by the emails
+            Map<String, Map<String, String>> substitutionsByRecipient = JsonUtils.fromJson(emailSubstitutions,
+                    new TypeToken<LinkedHashMap<String, LinkedHashMap<String, String>>>(){}.getType());
+            substitutionsByRecipient.forEach((recipient, substitutions) -> {
+                EmailWrapper message = new EmailWrapper();
+                message.setRecipient(recipient);
+                message.setContentFromTemplate(emailContent, substitutions);
+                messages.add(message);
+            });
+        }
 
-        EmailWrapper message = new EmailWrapper();
-        message.setRecipient(emailReceiver);
-        message.setSenderEmail(emailSenderEmail);
-        if (emailSenderName != null) {
-            message.setSenderName(emailSenderName);
+        for (EmailWrapper message : messages) {
+            message.setSenderEmail(emailSenderEmail);
+            if (emailSenderName != null) {
+                message.setSenderName(emailSenderName);
+            }
+            message.setSubject(emailSubject);
+            message.setReplyTo(emailReply);
         }
-        message.setContent(emailContent);
-        message.setSubject(emailSubject);
-        message.setReplyTo(emailReply);
 
         try {
-            emailSender.sendEmail(message);
+            if (messages.size() == 1) {
+                emailSender.sendEmail(messages.get(0));
+            } else {
+                emailSender.sendEmails(messages);
+            }
         } catch (Exception e) {
             log.severe("Error while sending email via servlet: " + TeammatesException.toStringWithStackTrace(e));
             setForRetry();
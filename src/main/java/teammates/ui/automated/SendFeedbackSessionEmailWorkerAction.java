@@ -0,0 +1,70 @@
+package teammates.ui.automated;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: generates and sends a queued feedback session email to a batch of
+ * students or a batch of instructors.
+ */
+public class SendFeedbackSessionEmailWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.EMAIL_FEEDBACK);
+        String courseId = getNonNullRequestParamValue(ParamsNames.EMAIL_COURSE);
+        FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                       + " for course: " + courseId + " could not be fetched.");
+            return;
+        }
+
+        EmailType emailType = EmailType.valueOf(getNonNullRequestParamValue(ParamsNames.EMAIL_TYPE));
+        boolean isReceiverInstructor = getBooleanRequestParamValue(ParamsNames.EMAIL_RECEIVER_IS_INSTRUCTOR);
+        List<EmailWrapper> messages = new ArrayList<>();
+        for (String emailReceiver : getEmailReceivers()) {
+            EmailWrapper message =
+                    emailGenerator.generateFeedbackSessionEmailForRecipient(session, emailType, emailReceiver,
+                            isReceiverInstructor);
+            if (message == null) {
+                log.info("Email receiver " + emailReceiver + " is no longer in course " + courseId);
+            } else {
+                messages.add(message);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            emailSender.sendEmails(messages);
+        } catch (Exception e) {
+            log.severe("Error while sending email via servlet: " + TeammatesException.toStringWithStackTrace(e));
+            setForRetry();
+        }
+    }
+
+    private List<String> getEmailReceivers() {
+        String emailReceivers = getRequestParamValue(ParamsNames.EMAIL_RECEIVERS);
+        if (emailReceivers == null) {
+            // queued for a single receiver
+            return Collections.singletonList(getNonNullRequestParamValue(ParamsNames.EMAIL_RECEIVER));
+        }
+        return JsonUtils.fromJson(emailReceivers, new TypeToken<List<String>>(){}.getType());
+    }
+
+}
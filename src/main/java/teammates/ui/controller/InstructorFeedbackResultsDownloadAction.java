@@ -3,17 +3,14 @@ package teammates.ui.controller;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.ExceedingRangeException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.SectionDetail;
-import teammates.common.util.StatusMessage;
-import teammates.common.util.StatusMessageColor;
 
 public class InstructorFeedbackResultsDownloadAction extends Action {
 
     @Override
-    protected ActionResult execute() throws EntityDoesNotExistException {
+    protected ActionResult execute() {
         String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
         String feedbackSessionName = getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
         String section = getRequestParamValue(Const.ParamsNames.SECTION_NAME);
@@ -24,8 +21,6 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
         boolean isStatsShown = getRequestParamAsBoolean(Const.ParamsNames.FEEDBACK_RESULTS_SHOWSTATS);
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String questionNumber = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_NUMBER);
-        // Parameter is used to throw the exceeding range exception in test
-        String simulateExcessDataForTesting = getRequestParamValue("simulateExcessDataForTesting");
 
         Assumption.assertPostParamNotNull(Const.ParamsNames.COURSE_ID, courseId);
         Assumption.assertPostParamNotNull(Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
@@ -35,7 +30,6 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
 
         gateKeeper.verifyAccessible(instructor, session);
 
-        String fileContent;
         String fileName;
 
         // initialize SectionDetail correctly
@@ -44,49 +38,40 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
             sectionDetail = SectionDetail.valueOf(sectionDetailValue);
         }
 
-        try {
-            if ("true".equals(simulateExcessDataForTesting)) {
-                throw new ExceedingRangeException("This session has more responses than that can be downloaded at one go.");
-            }
-
-            String questionName = "";
-            if (questionNumber != null) {
-                questionName = "_question" + questionNumber;
-            }
-
-            if (section == null || "All".equals(section)) {
-                fileContent = logic.getFeedbackSessionResultSummaryAsCsv(
-                        courseId, feedbackSessionName, instructor.email,
-                        isMissingResponsesShown, isStatsShown, questionId);
+        String questionName = "";
+        if (questionNumber != null) {
+            questionName = "_question" + questionNumber;
+        }
 
-                fileName = courseId + "_" + feedbackSessionName + questionName;
-                statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
-                              + " in Course " + courseId + " was downloaded";
-            } else {
-                fileContent = logic.getFeedbackSessionResultSummaryInSectionAsCsv(
-                        courseId, feedbackSessionName, instructor.email, section, sectionDetail,
-                        questionId, isMissingResponsesShown, isStatsShown);
-                fileName = courseId + "_" + feedbackSessionName + "_" + section + "_"
-                            + sectionDetail.getSectionDetail() + questionName;
-                statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName + " in Course " + courseId
-                                + " within " + section + " in " + sectionDetail + " was downloaded";
-            }
-        } catch (ExceedingRangeException e) {
-            // not tested as the test file is not large enough to reach this catch block
-            statusToUser.add(new StatusMessage("This session has more responses than that can be downloaded in one go. "
-                        + "Please download responses for "
-                        + (questionNumber == null ? "one question at a time instead. "
-                        + "To download responses for a specific question, click on the corresponding question number."
-                                                 : "section instead."),
-                                                 StatusMessageColor.DANGER));
-            isError = true;
-            RedirectResult result = createRedirectResult(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE);
-            result.addResponseParam(Const.ParamsNames.COURSE_ID, courseId);
-            result.addResponseParam(Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
-            return result;
+        String sectionToDownload;
+        SectionDetail sectionDetailToDownload;
+        if (section == null || "All".equals(section)) {
+            sectionToDownload = null;
+            sectionDetailToDownload = SectionDetail.NOT_APPLICABLE;
+            fileName = courseId + "_" + feedbackSessionName + questionName;
+            statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
+                          + " in Course " + courseId + " was downloaded";
+        } else {
+            sectionToDownload = section;
+            sectionDetailToDownload = sectionDetail;
+            fileName = courseId + "_" + feedbackSessionName + "_" + section + "_"
+                        + sectionDetail.getSectionDetail() + questionName;
+            statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName + " in Course " + courseId
+                            + " within " + section + " in " + sectionDetail + " was downloaded";
         }
 
-        return createFileDownloadResult(fileName, fileContent);
+        // the results are written to the response one question at a time,
+        // so there is no limit on the number of responses that can be downloaded in one go
+        return createFileDownloadResult(fileName, writer -> {
+            try {
+                logic.writeFeedbackSessionResultSummaryInSectionAsCsv(
+                        courseId, feedbackSessionName, instructor.email, sectionToDownload, sectionDetailToDownload,
+                        questionId, isMissingResponsesShown, isStatsShown, writer);
+            } catch (EntityDoesNotExistException e) {
+                // the existence of the session has been verified by the gatekeeper
+                Assumption.fail("Feedback session " + courseId + "/" + feedbackSessionName + " does not exist");
+            }
+        });
     }
 
 }
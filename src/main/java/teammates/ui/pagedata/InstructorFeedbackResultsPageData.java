@@ -57,6 +57,8 @@ public class InstructorFeedbackResultsPageData extends PageData {
     // isLargeNumberOfRespondents is an attribute used for testing the ui, for ViewType.Question
     private boolean isLargeNumberOfRespondents;
 
+    private int numRespondents;
+
     private FeedbackSessionResultsBundle bundle;
     private InstructorAttributes instructor;
     private List<String> sections;
@@ -1777,12 +1779,14 @@ public class InstructorFeedbackResultsPageData extends PageData {
     }
 
     public boolean isLargeNumberOfRespondents() {
-        int numRespondents = bundle.feedbackSession.getRespondingInstructorList().size()
-                           + bundle.feedbackSession.getRespondingStudentList().size();
         return isLargeNumberOfRespondents
             || numRespondents > RESPONDENTS_LIMIT_FOR_AUTOLOADING;
     }
 
+    public void setNumRespondents(int numRespondents) {
+        this.numRespondents = numRespondents;
+    }
+
     // Only used for testing the ui
     public void setLargeNumberOfRespondents(boolean needAjax) {
         this.isLargeNumberOfRespondents = needAjax;
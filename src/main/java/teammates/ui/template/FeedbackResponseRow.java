@@ -76,10 +76,13 @@ public class FeedbackResponseRow {
 
     private String getNewResponseText(FeedbackResponseAttributes response, FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle results) {
-        response.giver = response.recipient;
-        response.giverSection = response.recipientSection;
+        // the response is shared with the results bundle, which also uses it for the contribution statistics,
+        // so the perceived contribution is shown through a copy given by the recipient instead
+        FeedbackResponseAttributes perceivedResponse = new FeedbackResponseAttributes(response);
+        perceivedResponse.giver = response.recipient;
+        perceivedResponse.giverSection = response.recipientSection;
 
-        String responseText = results.getResponseAnswerHtml(response, question);
+        String responseText = results.getResponseAnswerHtml(perceivedResponse, question);
         return "No Response" + responseText.substring(responseText.indexOf("</span>") + "</span>".length());
     }
 
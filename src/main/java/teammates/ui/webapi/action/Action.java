@@ -1,7 +1,10 @@
 package teammates.ui.webapi.action;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -15,6 +18,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.StringHelper;
 import teammates.logic.api.EmailGenerator;
 import teammates.logic.api.EmailSender;
 import teammates.logic.api.GateKeeper;
@@ -195,6 +199,41 @@ public abstract class Action {
         return Optional.empty();
     }
 
+    /**
+     * Returns a strong entity tag of the output of the action for the current request, or null if the action
+     * does not support conditional requests. To be called only after access control is checked.
+     *
+     * <p>The tag covers the action, the request parameters, the requesting user and whether the output is sent
+     * compressed as well as the version returned by {@link #getResourceVersion()}, so that it changes
+     * whenever the output may change.
+     */
+    public String getETag() {
+        String version = getResourceVersion();
+        if (version == null) {
+            return null;
+        }
+
+        StringBuilder validator = new StringBuilder(getClass().getName())
+                .append('|').append(authType)
+                .append('|').append(userInfo == null ? "" : userInfo.id)
+                .append('|').append(HttpRequestHelper.isGzipAccepted(req));
+        Map<String, String[]> params = new TreeMap<>(req.getParameterMap());
+        params.forEach((key, values) -> validator.append('|').append(key).append('=').append(Arrays.toString(values)));
+        validator.append('|').append(version);
+        return '"' + StringHelper.computeHmac(validator.toString()) + '"';
+    }
+
+    /**
+     * Returns the version of the data the output of the action is built from, which must change whenever
+     * the output changes for any user. It must be much cheaper to get than executing the action.
+     *
+     * <p>Actions return null by default, which means that they do not support conditional requests.
+     */
+    @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract") // optional for actions
+    protected String getResourceVersion() {
+        return null;
+    }
+
     /**
      * Gets the minimum access control level required to access the resource.
      */
@@ -2,6 +2,7 @@ package teammates.ui.webapi.action;
 
 import java.io.IOException;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 /**
@@ -20,6 +21,15 @@ public abstract class ActionResult {
      */
     public abstract void send(HttpServletResponse resp) throws IOException;
 
+    /**
+     * Packages and forwards the action result to the HTTP response, in a form negotiated with the HTTP request.
+     *
+     * <p>By default, the request is not taken into account.
+     */
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        send(resp);
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
@@ -1,7 +1,10 @@
 package teammates.ui.webapi.action;
 
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -21,6 +24,36 @@ import teammates.common.util.StringHelper;
  */
 public abstract class BasicFeedbackSubmissionAction extends Action {
 
+    private CourseRoster courseRoster;
+
+    /**
+     * Gets the roster of the course involved in the submission process.
+     *
+     * <p>The roster is only fetched once per request so that access control and execution share it.
+     */
+    protected CourseRoster getCourseRoster(String courseId) {
+        if (courseRoster == null) {
+            courseRoster = logic.getCourseRoster(courseId);
+        }
+        return courseRoster;
+    }
+
+    /**
+     * Gets the version of some entities of the course from their number and the last time any of them was updated,
+     * together with the roster version of the course, which covers the identity and privileges of the submitter.
+     *
+     * @param updateTimes the times the entities were last updated
+     * @return null if the roster version of the course cannot be tracked
+     */
+    protected String getVersionOfCourseEntities(String courseId, List<Instant> updateTimes) {
+        Long rosterVersion = logic.getCourseRosterVersion(courseId);
+        if (rosterVersion == null) {
+            return null;
+        }
+        Instant lastUpdateTime = updateTimes.stream().max(Comparator.naturalOrder()).orElse(Instant.EPOCH);
+        return rosterVersion + "|" + updateTimes.size() + "|" + lastUpdateTime.toEpochMilli();
+    }
+
     /**
      * Checks whether instructors can see the question.
      */
@@ -160,11 +193,11 @@ public abstract class BasicFeedbackSubmissionAction extends Action {
             return Const.DEFAULT_SECTION;
         case TEAMS:
         case OWN_TEAM:
-            return logic.getSectionForTeam(courseId, recipientIdentifier);
+            return getCourseRoster(courseId).getSectionForTeam(recipientIdentifier);
         case STUDENTS:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            StudentAttributes student = logic.getStudentForEmail(courseId, recipientIdentifier);
+            StudentAttributes student = getCourseRoster(courseId).getStudentForEmail(recipientIdentifier);
             return student == null ? Const.DEFAULT_SECTION : student.section;
         default:
             Assumption.fail("Unknown recipient type " + recipientType);
@@ -50,14 +50,15 @@ public class CreateFeedbackResponseAction extends BasicFeedbackSubmissionAction
             gateKeeper.verifyAnswerableForStudent(feedbackQuestion);
             StudentAttributes studentAttributes = getStudentOfCourseFromRequest(feedbackQuestion.getCourseId());
             recipientsOfTheQuestion =
-                    logic.getRecipientsOfQuestionForStudent(
-                            feedbackQuestion, studentAttributes.getEmail(), studentAttributes.getTeam());
+                    logic.getRecipientsOfQuestionForStudent(feedbackQuestion, studentAttributes.getEmail(),
+                            studentAttributes.getTeam(), getCourseRoster(feedbackQuestion.getCourseId()));
             break;
         case INSTRUCTOR_SUBMISSION:
             gateKeeper.verifyAnswerableForInstructor(feedbackQuestion);
             InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(feedbackQuestion.getCourseId());
             recipientsOfTheQuestion =
-                    logic.getRecipientsOfQuestionForInstructor(feedbackQuestion, instructorAttributes.getEmail());
+                    logic.getRecipientsOfQuestionForInstructor(feedbackQuestion, instructorAttributes.getEmail(),
+                            getCourseRoster(feedbackQuestion.getCourseId()));
             break;
         default:
             throw new InvalidHttpParameterException("Unknown intent " + intent);
@@ -1,6 +1,8 @@
 package teammates.ui.webapi.action;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -9,6 +11,8 @@ import teammates.common.util.Const;
 
 /**
  * Action: Permanently deletes all courses in Recycle Bin.
+ *
+ * <p>The courses are deleted by task queue workers, so the action returns before the courses are deleted.
  */
 public class DeleteAllInstructorSoftDeletedCoursesAction extends Action {
 
@@ -25,13 +29,12 @@ public class DeleteAllInstructorSoftDeletedCoursesAction extends Action {
             throw new UnauthorizedAccessException("Instructor privilege is required to access this resource.");
         }
         instructorList = logic.getInstructorsForGoogleId(userInfo.id);
-        for (InstructorAttributes instructor : instructorList) {
-            CourseAttributes course = logic.getSoftDeletedCourseForInstructor(instructor);
-            if (course != null) {
-                gateKeeper.verifyAccessible(instructor,
-                        course,
-                        Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
-            }
+        Map<String, InstructorAttributes> instructorsByCourse = instructorList.stream()
+                .collect(Collectors.toMap(InstructorAttributes::getCourseId, instructor -> instructor));
+        for (CourseAttributes course : logic.getSoftDeletedCoursesForInstructors(instructorList)) {
+            gateKeeper.verifyAccessible(instructorsByCourse.get(course.getId()),
+                    course,
+                    Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
         }
     }
 
@@ -40,9 +43,11 @@ public class DeleteAllInstructorSoftDeletedCoursesAction extends Action {
 
         instructorList = logic.getInstructorsForGoogleId(userInfo.id);
 
-        logic.deleteAllCourses(instructorList);
+        for (CourseAttributes course : logic.getSoftDeletedCoursesForInstructors(instructorList)) {
+            taskQueuer.scheduleCourseDeletion(logic.startCourseDeletion(course.getId(), userInfo.id));
+        }
 
-        String statusMessage = "All courses in Recycle Bin have been permanently deleted.";
+        String statusMessage = "All courses in Recycle Bin are being permanently deleted.";
         return new JsonResult(statusMessage);
     }
 }
@@ -1,10 +1,14 @@
 package teammates.ui.webapi.action;
 
+import org.apache.http.HttpStatus;
+
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 
 /**
  * Action: Permanently deletes a course from Recycle Bin for an instructor.
+ *
+ * <p>The course is deleted by task queue workers, so the action returns before the course is deleted.
  */
 public class DeleteInstructorSoftDeletedCourseAction extends Action {
 
@@ -31,9 +35,17 @@ public class DeleteInstructorSoftDeletedCourseAction extends Action {
 
         idOfCourseToDelete = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        logic.deleteCourse(idOfCourseToDelete);
+        if (!logic.getCourse(idOfCourseToDelete).isCourseDeleted()) {
+            return new JsonResult("The course " + idOfCourseToDelete + " is not in Recycle Bin.",
+                    HttpStatus.SC_BAD_REQUEST);
+        }
+
+        // a deletion which is already in progress is not started over
+        if (!logic.isCourseBeingDeleted(idOfCourseToDelete)) {
+            taskQueuer.scheduleCourseDeletion(logic.startCourseDeletion(idOfCourseToDelete, userInfo.id));
+        }
 
-        String statusMessage = "The course " + idOfCourseToDelete + " has been permanently deleted.";
+        String statusMessage = "The course " + idOfCourseToDelete + " is being permanently deleted.";
         return new JsonResult(statusMessage);
     }
 }
@@ -0,0 +1,106 @@
+package teammates.ui.webapi.action;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Const;
+import teammates.ui.webapi.output.ApiOutput;
+
+/**
+ * Action: gets the progress of the permanent deletion of a course for the instructor.
+ */
+public class GetCourseDeletionProgressAction extends Action {
+
+    @Override
+    protected AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    public void checkSpecificAccessControl() {
+        if (!userInfo.isInstructor) {
+            throw new UnauthorizedAccessException("Instructor privilege is required to access this resource.");
+        }
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        CourseAttributes course = logic.getCourse(courseId);
+        if (course != null) {
+            gateKeeper.verifyAccessible(logic.getInstructorForGoogleId(courseId, userInfo.id), course,
+                    Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
+            return;
+        }
+
+        // once the course is deleted, there are no privileges left to check,
+        // so only the instructor who requested the deletion can see its progress
+        CourseDeletionProgress progress = logic.getCourseDeletionProgress(courseId);
+        if (progress == null || !userInfo.id.equals(progress.getRequesterId())) {
+            throw new UnauthorizedAccessException("Only the instructor who deleted the course can see its deletion.");
+        }
+    }
+
+    @Override
+    public ActionResult execute() {
+
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+
+        CourseDeletionProgress progress = logic.getCourseDeletionProgress(courseId);
+        if (progress == null) {
+            return new JsonResult("No deletion of the course is known.", HttpStatus.SC_NOT_FOUND);
+        }
+
+        return new JsonResult(new CourseDeletionProgressData(progress));
+    }
+
+    /**
+     * Output format for {@link GetCourseDeletionProgressAction}.
+     */
+    public static class CourseDeletionProgressData extends ApiOutput {
+
+        private final String courseId;
+        private final CourseDeletionProgress.Stage stage;
+        private final int stagesCompleted;
+        private final int stagesTotal;
+        private final int pagesDeleted;
+        private final boolean isDone;
+        private final boolean isCancelled;
+
+        public CourseDeletionProgressData(CourseDeletionProgress progress) {
+            this.courseId = progress.getCourseId();
+            this.stage = progress.getStage();
+            this.stagesCompleted = Math.min(progress.getStage().ordinal(), CourseDeletionProgress.Stage.DONE.ordinal());
+            this.stagesTotal = CourseDeletionProgress.Stage.DONE.ordinal();
+            this.pagesDeleted = progress.getNumberOfSteps();
+            this.isDone = progress.isDone();
+            this.isCancelled = progress.isCancelled();
+        }
+
+        public String getCourseId() {
+            return courseId;
+        }
+
+        public CourseDeletionProgress.Stage getStage() {
+            return stage;
+        }
+
+        public int getStagesCompleted() {
+            return stagesCompleted;
+        }
+
+        public int getStagesTotal() {
+            return stagesTotal;
+        }
+
+        public int getPagesDeleted() {
+            return pagesDeleted;
+        }
+
+        public boolean isDone() {
+            return isDone;
+        }
+
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+    }
+}
@@ -29,6 +29,13 @@ public class GetCourseEnrollStudentsAction extends Action {
         gateKeeper.verifyAccessible(instructor, logic.getCourse(courseId));
     }
 
+    @Override
+    protected String getResourceVersion() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        Long rosterVersion = logic.getCourseRosterVersion(courseId);
+        return rosterVersion == null ? null : rosterVersion.toString();
+    }
+
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
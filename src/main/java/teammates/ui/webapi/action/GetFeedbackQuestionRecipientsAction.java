@@ -72,13 +72,15 @@ public class GetFeedbackQuestionRecipientsAction extends BasicFeedbackSubmission
 
             giverEmail = studentAttributes.getEmail();
             giverTeam = studentAttributes.getTeam();
-            recipient = logic.getRecipientsOfQuestionForStudent(question, giverEmail, giverTeam);
+            recipient = logic.getRecipientsOfQuestionForStudent(question, giverEmail, giverTeam,
+                    getCourseRoster(question.getCourseId()));
             break;
         case INSTRUCTOR_SUBMISSION:
             InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(question.getCourseId());
 
             giverEmail = instructorAttributes.getEmail();
-            recipient = logic.getRecipientsOfQuestionForInstructor(question, giverEmail);
+            recipient = logic.getRecipientsOfQuestionForInstructor(question, giverEmail,
+                    getCourseRoster(question.getCourseId()));
             break;
         default:
             throw new InvalidHttpParameterException("Unknown intent " + intent);
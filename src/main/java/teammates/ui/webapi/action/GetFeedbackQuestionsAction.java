@@ -1,6 +1,8 @@
 package teammates.ui.webapi.action;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -47,6 +49,22 @@ public class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
         }
     }
 
+    @Override
+    protected String getResourceVersion() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        if (logic.getFeedbackSession(feedbackSessionName, courseId) == null) {
+            return null;
+        }
+
+        // the questions for every intent are among the questions of the session,
+        // whose query result is reused when the action is executed
+        List<Instant> updateTimes = logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId).stream()
+                .map(FeedbackQuestionAttributes::getUpdatedAt)
+                .collect(Collectors.toList());
+        return getVersionOfCourseEntities(courseId, updateTimes);
+    }
+
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
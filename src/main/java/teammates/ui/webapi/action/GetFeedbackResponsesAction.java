@@ -1,6 +1,14 @@
 package teammates.ui.webapi.action;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesQuery;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -15,6 +23,8 @@ import teammates.ui.webapi.output.FeedbackResponsesData;
  */
 public class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
 
+    private List<FeedbackResponseAttributes> responses;
+
     @Override
     protected AuthType getMinAuthLevel() {
         return AuthType.PUBLIC;
@@ -50,29 +60,62 @@ public class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
         }
     }
 
+    @Override
+    protected String getResourceVersion() {
+        List<Instant> updateTimes = getResponses().stream()
+                .map(FeedbackResponseAttributes::getUpdatedAt)
+                .collect(Collectors.toList());
+        return getVersionOfCourseEntities(getQuestion().getCourseId(), updateTimes);
+    }
+
     @Override
     public ActionResult execute() {
-        String feedbackQuestionId = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        return new JsonResult(new FeedbackResponsesData(getResponses()));
+    }
+
+    private FeedbackQuestionAttributes getQuestion() {
+        return logic.getFeedbackQuestion(getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID));
+    }
+
+    /**
+     * Gets the responses given by the user for the question.
+     *
+     * <p>The responses are only fetched once per request so that the version of the output and the output share them.
+     */
+    private List<FeedbackResponseAttributes> getResponses() {
+        if (responses != null) {
+            return responses;
+        }
+
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
-        FeedbackQuestionAttributes questionAttributes = logic.getFeedbackQuestion(feedbackQuestionId);
+        FeedbackQuestionAttributes questionAttributes = getQuestion();
 
-        FeedbackResponsesData result;
+        List<String> givers = new ArrayList<>();
         switch (intent) {
         case STUDENT_SUBMISSION:
             StudentAttributes studentAttributes = getStudentOfCourseFromRequest(questionAttributes.getCourseId());
-            result = new FeedbackResponsesData(
-                    logic.getFeedbackResponsesFromStudentOrTeamForQuestion(questionAttributes, studentAttributes));
+            if (questionAttributes.getGiverType() == FeedbackParticipantType.TEAMS) {
+                // responses to a team question may have been given by the team or by any of its members
+                logic.getStudentsForTeam(studentAttributes.getTeam(), questionAttributes.getCourseId())
+                        .forEach(student -> givers.add(student.getEmail()));
+                givers.add(studentAttributes.getTeam());
+            } else {
+                givers.add(studentAttributes.getEmail());
+            }
             break;
         case INSTRUCTOR_SUBMISSION:
             InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(questionAttributes.getCourseId());
-            result = new FeedbackResponsesData(
-                    logic.getFeedbackResponsesFromInstructorForQuestion(questionAttributes, instructorAttributes));
+            givers.add(instructorAttributes.getEmail());
             break;
         default:
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        return new JsonResult(result);
+        responses = givers.stream()
+                .flatMap(giver -> logic.streamFeedbackResponses(
+                        FeedbackResponsesQuery.forQuestion(questionAttributes.getId()).withGiver(giver).build()))
+                .collect(Collectors.toList());
+        return responses;
     }
 
 }
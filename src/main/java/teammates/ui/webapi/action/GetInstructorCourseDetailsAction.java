@@ -16,6 +16,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.ui.webapi.output.ApiOutput;
 
 /**
@@ -45,6 +46,17 @@ public class GetInstructorCourseDetailsAction extends Action {
         gateKeeper.verifyAccessible(instructor, logic.getCourse(courseId));
     }
 
+    @Override
+    protected String getResourceVersion() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        Long rosterVersion = logic.getCourseRosterVersion(courseId);
+        if (rosterVersion == null) {
+            return null;
+        }
+        // the course itself is not versioned, but is small enough to be part of the version as is
+        return rosterVersion + "|" + JsonUtils.toCompactJson(logic.getCourse(courseId));
+    }
+
     @Override
     public ActionResult execute() {
 
@@ -1,13 +1,19 @@
 package teammates.ui.webapi.action;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
 
 import teammates.common.util.Config;
+import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.JsonUtils;
 import teammates.ui.webapi.output.ApiOutput;
 import teammates.ui.webapi.output.MessageOutput;
@@ -16,9 +22,17 @@ import teammates.ui.webapi.output.MessageOutput;
  * Action result in form of JSON object.
  *
  * <p>This is the most common format for REST-ful back-end API response.
+ *
+ * <p>The output is serialized in compact form directly to the HTTP response, so that it is never held in memory
+ * as a whole. It is compressed with gzip if the client accepts it. The response is only committed once the first
+ * {@value #RESPONSE_BUFFER_SIZE} bytes are written, so that an error in serializing a smaller output can still be
+ * sent in place of it.
  */
 public class JsonResult extends ActionResult {
 
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final int RESPONSE_BUFFER_SIZE = 64 * 1024;
+
     private final ApiOutput output;
 
     public JsonResult(ApiOutput output) {
@@ -41,11 +55,31 @@ public class JsonResult extends ActionResult {
 
     @Override
     public void send(HttpServletResponse resp) throws IOException {
+        send(resp, false);
+    }
+
+    @Override
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        send(resp, HttpRequestHelper.isGzipAccepted(req));
+    }
+
+    private void send(HttpServletResponse resp, boolean isGzipped) throws IOException {
         output.setRequestId(Config.getRequestId());
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
-        PrintWriter pw = resp.getWriter();
-        pw.print(JsonUtils.toJson(output));
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resp.setHeader("Vary", "Accept-Encoding");
+        resp.setBufferSize(RESPONSE_BUFFER_SIZE);
+
+        OutputStream out = resp.getOutputStream();
+        if (isGzipped) {
+            resp.setHeader("Content-Encoding", "gzip");
+            out = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+        }
+        // closing the writer also finishes the gzip stream, if any
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            JsonUtils.toCompactJson(output, writer);
+        }
     }
 
 }
@@ -3,15 +3,16 @@ package teammates.ui.webapi.action;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.http.HttpStatus;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidParametersException;
@@ -61,20 +62,14 @@ public class PostCourseEnrollSaveAction extends Action {
 
         } catch (EnrollException | InvalidParametersException e) {
             return new JsonResult(e.getMessage(), HttpStatus.SC_BAD_REQUEST);
-
-        } catch (EntityAlreadyExistsException e) {
-            log.severe("Entity already exists exception occurred when updating student: " + e.getMessage());
-
-            return new JsonResult("The enrollment failed, possibly because some students were re-enrolled before "
-                            + "the previous enrollment action was still being processed by TEAMMATES database "
-                            + "servers. Please try again after about 10 minutes. If the problem persists, "
-                            + "please contact TEAMMATES support", HttpStatus.SC_CONFLICT);
         }
     }
 
     private List<StudentAttributes>[] enrollAndProcessResultForDisplay(String studentsInfo, String courseId)
-            throws EnrollException, EntityDoesNotExistException, InvalidParametersException, EntityAlreadyExistsException {
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException {
         CourseEnrollmentResult enrollResult = logic.enrollStudents(studentsInfo, courseId);
+        scheduleFeedbackResponseAdjustment(courseId, enrollResult.enrollmentList);
+
         List<StudentAttributes> students = enrollResult.studentList;
 
         students.sort(Comparator.comparing(obj -> obj.updateStatus.numericRepresentation));
@@ -82,6 +77,18 @@ public class PostCourseEnrollSaveAction extends Action {
         return separateStudents(students);
     }
 
+    /**
+     * Schedules the responses of students who changed team or section to be adjusted asynchronously.
+     */
+    private void scheduleFeedbackResponseAdjustment(String courseId, List<StudentEnrollDetails> enrollmentList) {
+        List<StudentEnrollDetails> modifiedEnrollmentList = enrollmentList.stream()
+                .filter(details -> details.oldTeam != null || details.oldSection != null)
+                .collect(Collectors.toList());
+        if (!modifiedEnrollmentList.isEmpty()) {
+            taskQueuer.scheduleFeedbackResponseAdjustmentForEnrollment(courseId, modifiedEnrollmentList);
+        }
+    }
+
     /**
      * Separate the StudentData objects in the list into different categories based
      * on their updateStatus. Each category is put into a separate list.
@@ -50,15 +50,16 @@ public class SaveFeedbackResponseAction extends BasicFeedbackSubmissionAction {
             StudentAttributes studentAttributes = getStudentOfCourseFromRequest(feedbackQuestion.getCourseId());
             checkAccessControlForStudentFeedbackSubmission(studentAttributes, feedbackSession);
             recipientsOfTheQuestion =
-                    logic.getRecipientsOfQuestionForStudent(
-                            feedbackQuestion, studentAttributes.getEmail(), studentAttributes.getTeam());
+                    logic.getRecipientsOfQuestionForStudent(feedbackQuestion, studentAttributes.getEmail(),
+                            studentAttributes.getTeam(), getCourseRoster(feedbackQuestion.getCourseId()));
             break;
         case INSTRUCTOR_SUBMISSION:
             gateKeeper.verifyAnswerableForInstructor(feedbackQuestion);
             InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(feedbackQuestion.getCourseId());
             checkAccessControlForInstructorFeedbackSubmission(instructorAttributes, feedbackSession);
             recipientsOfTheQuestion =
-                    logic.getRecipientsOfQuestionForInstructor(feedbackQuestion, instructorAttributes.getEmail());
+                    logic.getRecipientsOfQuestionForInstructor(feedbackQuestion, instructorAttributes.getEmail(),
+                            getCourseRoster(feedbackQuestion.getCourseId()));
             break;
         default:
             throw new InvalidHttpParameterException("Unknown intent " + intent);
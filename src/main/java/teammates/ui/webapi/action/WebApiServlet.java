@@ -7,6 +7,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
 
 import com.google.appengine.api.datastore.DatastoreTimeoutException;
 import com.google.apphosting.api.DeadlineExceededException;
@@ -20,6 +21,7 @@ import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Config;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.common.util.TimeHelper;
 
 /**
@@ -57,21 +59,29 @@ public class WebApiServlet extends HttpServlet {
 
     @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
     private void invokeServlet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setHeader("Strict-Transport-Security", "max-age=31536000");
-        resp.setHeader("Cache-Control", "no-store");
-        resp.setHeader("Pragma", "no-cache");
+        setSecurityHeaders(resp);
 
         log.info("Request received: [" + req.getMethod() + "] " + req.getRequestURL().toString()
                 + ", Params: " + HttpRequestHelper.getRequestParametersAsString(req)
                 + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(req)
                 + ", Request ID: " + Config.getRequestId());
 
+        RequestCache.begin();
         try {
             Action action = new ActionFactory().getAction(req, req.getMethod(), resp);
             action.checkAccessControl();
 
+            String eTag = HttpGet.METHOD_NAME.equals(req.getMethod()) ? action.getETag() : null;
+            if (eTag != null && isETagMatched(req.getHeader("If-None-Match"), eTag)) {
+                setCacheHeaders(resp, eTag);
+                resp.setStatus(HttpStatus.SC_NOT_MODIFIED);
+                return;
+            }
+
             ActionResult result = action.execute();
-            result.send(resp);
+            // only a successful output is tagged, as an error is not a version of the resource
+            setCacheHeaders(resp, result.getStatusCode() == HttpStatus.SC_OK ? eTag : null);
+            result.send(req, resp);
         } catch (ActionMappingException e) {
             throwError(resp, e.getStatusCode(), e.getMessage());
         } catch (InvalidHttpParameterException | InvalidHttpRequestBodyException e) {
@@ -93,10 +103,59 @@ public class WebApiServlet extends HttpServlet {
             log.severe(t.getClass().getSimpleName() + " caught by WebApiServlet: "
                     + TeammatesException.toStringWithStackTrace(t));
             throwError(resp, HttpStatus.SC_INTERNAL_SERVER_ERROR, t.getMessage());
+        } finally {
+            RequestCache.end();
+        }
+    }
+
+    /**
+     * Returns true if the entity tag matches any of the tags in the value of the If-None-Match header.
+     * Tags are compared weakly as required for If-None-Match.
+     */
+    private static boolean isETagMatched(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || eTag.equals(tag.startsWith("W/") ? tag.substring(2) : tag)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private static void setSecurityHeaders(HttpServletResponse resp) {
+        resp.setHeader("Strict-Transport-Security", "max-age=31536000");
+    }
+
+    /**
+     * Sets the headers for caching the response, which is tagged with {@code eTag} unless it is null.
+     */
+    private static void setCacheHeaders(HttpServletResponse resp, String eTag) {
+        if (eTag == null) {
+            resp.setHeader("Cache-Control", "no-store");
+            resp.setHeader("Pragma", "no-cache");
+            return;
+        }
+
+        // the response can be cached by the browser, but must be revalidated before every use;
+        // Pragma is left out as HTTP/1.0 caches would apply it in place of Cache-Control
+        resp.setHeader("Cache-Control", "private, no-cache");
+        resp.setHeader("ETag", eTag);
     }
 
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        if (resp.isCommitted()) {
+            // part of the output has already been sent, so it can no longer be replaced by the error
+            log.severe("Error not sent as the response is already committed: " + statusCode + " " + message);
+            return;
+        }
+
+        // discards any buffered output together with the headers set for it, e.g. Content-Encoding
+        resp.reset();
+        setSecurityHeaders(resp);
+        setCacheHeaders(resp, null);
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
@@ -1,12 +1,20 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -51,6 +59,32 @@ public abstract class BaseAutomatedActionTest<T extends AutomatedAction> extends
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Gets the recipients of the emails to be sent by an email sending {@code task}.
+     */
+    protected List<String> getEmailRecipients(TaskWrapper task) {
+        Map<String, String[]> paramMap = task.getParamMap();
+        if (paramMap.containsKey(ParamsNames.EMAIL_SUBSTITUTIONS)) {
+            Map<String, Map<String, String>> substitutionsByRecipient =
+                    JsonUtils.fromJson(paramMap.get(ParamsNames.EMAIL_SUBSTITUTIONS)[0],
+                            new TypeToken<LinkedHashMap<String, Map<String, String>>>(){}.getType());
+            return new ArrayList<>(substitutionsByRecipient.keySet());
+        }
+        if (paramMap.containsKey(ParamsNames.EMAIL_RECEIVERS)) {
+            return JsonUtils.fromJson(paramMap.get(ParamsNames.EMAIL_RECEIVERS)[0],
+                    new TypeToken<List<String>>(){}.getType());
+        }
+        return Collections.singletonList(paramMap.get(ParamsNames.EMAIL_RECEIVER)[0]);
+    }
+
+    protected void verifySpecifiedEmailsQueued(AutomatedAction action, int emailCount) {
+        int emailsQueued = 0;
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            emailsQueued += getEmailRecipients(task).size();
+        }
+        assertEquals(emailCount, emailsQueued);
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
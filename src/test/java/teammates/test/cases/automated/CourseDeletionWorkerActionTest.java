@@ -0,0 +1,80 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.storage.api.CoursesDb;
+import teammates.ui.automated.CourseDeletionWorkerAction;
+
+/**
+ * SUT: {@link CourseDeletionWorkerAction}.
+ */
+public class CourseDeletionWorkerActionTest extends BaseAutomatedActionTest<CourseDeletionWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+
+        ______TS("typical case: course deleted in one task");
+
+        assertFalse(logic.getFeedbackSessionsForCourse(courseId).isEmpty());
+        assertFalse(logic.getStudentsForCourse(courseId).isEmpty());
+
+        logic.moveCourseToRecycleBin(courseId);
+        CourseDeletionProgress checkpoint = logic.startCourseDeletion(courseId, "idOfInstructor1OfCourse1");
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.COURSE_DELETION_CHECKPOINT, JsonUtils.toCompactJson(checkpoint),
+        };
+
+        CourseDeletionWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertNull(logic.getCourse(courseId));
+        assertTrue(logic.getFeedbackSessionsForCourse(courseId).isEmpty());
+        assertTrue(logic.getStudentsForCourse(courseId).isEmpty());
+        assertTrue(logic.getInstructorsForCourse(courseId).isEmpty());
+
+        CourseDeletionProgress progress = logic.getCourseDeletionProgress(courseId);
+        assertTrue(progress.isDone());
+        assertTrue(progress.isAfter(checkpoint));
+
+        ______TS("retried task: resumes from the saved progress");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertEquals(progress.getNumberOfSteps(), logic.getCourseDeletionProgress(courseId).getNumberOfSteps());
+
+        ______TS("course restored during the deletion: deletion cancelled");
+
+        String restoredCourseId = dataBundle.courses.get("typicalCourse2").getId();
+        logic.moveCourseToRecycleBin(restoredCourseId);
+        checkpoint = logic.startCourseDeletion(restoredCourseId, "idOfInstructor1OfCourse2");
+        // the course is restored in the storage directly, as a course being deleted cannot be restored otherwise
+        new CoursesDb().restoreDeletedCourse(restoredCourseId);
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, restoredCourseId,
+                ParamsNames.COURSE_DELETION_CHECKPOINT, JsonUtils.toCompactJson(checkpoint),
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertTrue(logic.getCourseDeletionProgress(restoredCourseId).isCancelled());
+        assertFalse(logic.getCourse(restoredCourseId).isCourseDeleted());
+        assertFalse(logic.getFeedbackSessionsForCourse(restoredCourseId).isEmpty());
+    }
+
+}
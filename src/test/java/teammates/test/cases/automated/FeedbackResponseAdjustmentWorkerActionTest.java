@@ -0,0 +1,74 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.ui.automated.FeedbackResponseAdjustmentWorkerAction;
+
+/**
+ * SUT: {@link FeedbackResponseAdjustmentWorkerAction}.
+ */
+public class FeedbackResponseAdjustmentWorkerActionTest
+        extends BaseAutomatedActionTest<FeedbackResponseAdjustmentWorkerAction> {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        ______TS("typical case: student changed team and section");
+
+        FeedbackResponseAttributes responseToTeamMember = getResponseFromDb("response2ForQ2S2C1");
+        assertNotNull(responseToTeamMember);
+
+        StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED,
+                student.course, student.email, student.team, "Team 1.3", student.section, "Section 2");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toCompactJson(Arrays.asList(enrollmentDetails)),
+        };
+
+        FeedbackResponseAdjustmentWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        // responses to the old team members are deleted
+        assertNull(getResponseFromDb("response2ForQ2S2C1"));
+
+        // remaining responses are moved to the new section
+        for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesFromGiverForCourse(
+                student.course, student.email)) {
+            assertEquals("Section 2", response.giverSection);
+        }
+        for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForReceiverForCourse(
+                student.course, student.email)) {
+            assertEquals("Section 2", response.recipientSection);
+        }
+    }
+
+    private FeedbackResponseAttributes getResponseFromDb(String responseKey) {
+        FeedbackResponseAttributes response = dataBundle.feedbackResponses.get(responseKey);
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.feedbackSessionName,
+                response.courseId, Integer.parseInt(response.feedbackQuestionId));
+        return frLogic.getFeedbackResponse(question.getId(), response.giver, response.recipient);
+    }
+
+}
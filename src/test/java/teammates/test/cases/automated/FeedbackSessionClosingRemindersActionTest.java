@@ -98,7 +98,8 @@ public class FeedbackSessionClosingRemindersActionTest
         action.execute();
 
         // 5 students and 5 instructors in course1, 1 student has completed the feedback session
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 9);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        verifySpecifiedEmailsQueued(action, 9);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
         List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
@@ -80,8 +80,9 @@ public class FeedbackSessionOpeningRemindersActionTest
         action = getAction();
         action.execute();
 
-        // 5 students and 5 instructors in course1
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 20);
+        // 5 students and 5 instructors in course1, in one batch of students and one of instructors per session
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 4);
+        verifySpecifiedEmailsQueued(action, 20);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
         List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
@@ -10,7 +10,6 @@ import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
 import teammates.common.util.TaskWrapper;
-import teammates.logic.core.CoursesLogic;
 import teammates.ui.automated.FeedbackSessionPublishedEmailWorkerAction;
 
 /**
@@ -19,8 +18,6 @@ import teammates.ui.automated.FeedbackSessionPublishedEmailWorkerAction;
 public class FeedbackSessionPublishedEmailWorkerActionTest
         extends BaseAutomatedActionTest<FeedbackSessionPublishedEmailWorkerAction> {
 
-    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
-
     @Override
     protected String getActionUri() {
         return Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL;
@@ -38,16 +35,19 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         FeedbackSessionPublishedEmailWorkerAction action = getAction(submissionParams);
         action.execute();
 
-        // 5 students and 5 instructors in course1
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 10);
+        // 5 students and 5 instructors in course1, in one batch of students and one of instructors
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        verifySpecifiedEmailsQueued(action, 10);
 
-        String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
         List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
         for (TaskWrapper task : tasksAdded) {
+            // only the recipients of the emails are queued
+            assertEquals(Const.TaskQueue.SEND_FEEDBACK_SESSION_EMAIL_WORKER_URL, task.getWorkerUrl());
             Map<String, String[]> paramMap = task.getParamMap();
-            assertEquals(String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(), courseName,
-                                       session1.getFeedbackSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+            assertEquals(EmailType.FEEDBACK_PUBLISHED.name(), paramMap.get(ParamsNames.EMAIL_TYPE)[0]);
+            assertEquals(session1.getCourseId(), paramMap.get(ParamsNames.EMAIL_COURSE)[0]);
+            assertEquals(session1.getFeedbackSessionName(), paramMap.get(ParamsNames.EMAIL_FEEDBACK)[0]);
+            assertNull(paramMap.get(ParamsNames.EMAIL_CONTENT));
         }
     }
 
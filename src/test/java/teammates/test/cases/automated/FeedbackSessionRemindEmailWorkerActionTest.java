@@ -55,8 +55,9 @@ public class FeedbackSessionRemindEmailWorkerActionTest
         FeedbackSessionRemindEmailWorkerAction action = getAction(submissionParams);
         action.execute();
 
-        // 1 student and 4 instructors sent reminder, 1 instructor notified
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 6);
+        // 1 student and 4 instructors sent reminder, 1 instructor notified, each in a batch of their own kind
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifySpecifiedEmailsQueued(action, 6);
 
         List<String> studentRecipientList = new ArrayList<>();
         for (StudentAttributes student : studentsLogic.getStudentsForCourse(session1.getCourseId())) {
@@ -85,22 +86,23 @@ public class FeedbackSessionRemindEmailWorkerActionTest
 
             String header = "The email below has been sent to students of course: [" + session1.getCourseId() + "]";
             String content = paramMap.get(ParamsNames.EMAIL_CONTENT)[0];
-            String recipient = paramMap.get(ParamsNames.EMAIL_RECEIVER)[0];
 
-            if (content.contains(header)) { // notification to only requesting instructors
-                assertTrue(instructorNotifiedList.contains(recipient));
-                instructorNotifiedList.remove(recipient);
-                continue;
+            for (String recipient : getEmailRecipients(task)) {
+                if (content.contains(header)) { // notification to only requesting instructors
+                    assertTrue(instructorNotifiedList.contains(recipient));
+                    instructorNotifiedList.remove(recipient);
+                    continue;
+                }
+                if (studentRecipientList.contains(recipient)) {
+                    studentRecipientList.remove(recipient);
+                    continue;
+                }
+                if (instructorRecipientList.contains(recipient)) {
+                    instructorRecipientList.remove(recipient);
+                    continue;
+                }
+                fail("Email recipient " + recipient + " is not in the list!");
             }
-            if (studentRecipientList.contains(recipient)) {
-                studentRecipientList.remove(recipient);
-                continue;
-            }
-            if (instructorRecipientList.contains(recipient)) {
-                instructorRecipientList.remove(recipient);
-                continue;
-            }
-            fail("Email recipient " + recipient + " is not in the list!");
         }
 
         // Ensure that every email recipient is accounted for
@@ -0,0 +1,36 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.logic.core.SearchIndexesLogic;
+import teammates.ui.automated.SearchIndexSnapshotAction;
+
+/**
+ * SUT: {@link SearchIndexSnapshotAction}.
+ */
+public class SearchIndexSnapshotActionTest extends BaseAutomatedActionTest<SearchIndexSnapshotAction> {
+
+    private static final SearchIndexesLogic searchIndexesLogic = SearchIndexesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_SEARCH_INDEX_SNAPSHOT;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("indexes not kept in memory: no snapshot is saved, even after documents are put");
+
+        putDocuments(dataBundle);
+        assertFalse(searchIndexesLogic.saveSearchIndexSnapshotIfChanged());
+
+        SearchIndexSnapshotAction action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        verifyNoEmailsSent(action);
+    }
+
+}
@@ -0,0 +1,92 @@
+package teammates.test.cases.automated;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.ui.automated.SendEmailWorkerAction;
+
+/**
+ * SUT: {@link SendEmailWorkerAction}.
+ */
+public class SendEmailWorkerActionTest extends BaseAutomatedActionTest<SendEmailWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("typical case: single email");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.EMAIL_SUBJECT, "Test subject",
+                ParamsNames.EMAIL_CONTENT, "<p>This is a test content</p>",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_SENDERNAME, "Sender Name",
+                ParamsNames.EMAIL_RECEIVER, "recipient@email.tmt",
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "replyto@email.tmt",
+        };
+
+        SendEmailWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+
+        EmailWrapper email = getEmailsSent(action).get(0);
+        assertEquals("recipient@email.tmt", email.getRecipient());
+        assertEquals("Test subject", email.getSubject());
+        assertEquals("<p>This is a test content</p>", email.getContent());
+        assertEquals("sender@email.tmt", email.getSenderEmail());
+        assertEquals("Sender Name", email.getSenderName());
+        assertEquals("replyto@email.tmt", email.getReplyTo());
+        assertNull(email.getTemplate());
+
+        ______TS("typical case: batch of emails generated from the same template");
+
+        Map<String, Map<String, String>> substitutionsByRecipient = new LinkedHashMap<>();
+        substitutionsByRecipient.put("recipient1@email.tmt", getSubstitutions("Alice"));
+        substitutionsByRecipient.put("recipient2@email.tmt", getSubstitutions("Bob"));
+
+        submissionParams = new String[] {
+                ParamsNames.EMAIL_SUBJECT, "Test subject",
+                ParamsNames.EMAIL_CONTENT, "<p>Dear ${userName}, this is a test content</p>",
+                ParamsNames.EMAIL_SENDER, "sender@email.tmt",
+                ParamsNames.EMAIL_SUBSTITUTIONS, JsonUtils.toCompactJson(substitutionsByRecipient),
+                ParamsNames.EMAIL_REPLY_TO_ADDRESS, "replyto@email.tmt",
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 2);
+
+        email = getEmailsSent(action).get(0);
+        assertEquals("recipient1@email.tmt", email.getRecipient());
+        assertEquals("Test subject", email.getSubject());
+        assertEquals("<p>Dear Alice, this is a test content</p>", email.getContent());
+        assertEquals("<p>Dear ${userName}, this is a test content</p>", email.getTemplate());
+        assertEquals(getSubstitutions("Alice"), email.getSubstitutions());
+        assertEquals("sender@email.tmt", email.getSenderEmail());
+        assertNull(email.getSenderName());
+        assertEquals("replyto@email.tmt", email.getReplyTo());
+
+        email = getEmailsSent(action).get(1);
+        assertEquals("recipient2@email.tmt", email.getRecipient());
+        assertEquals("<p>Dear Bob, this is a test content</p>", email.getContent());
+    }
+
+    private Map<String, String> getSubstitutions(String userName) {
+        Map<String, String> substitutions = new LinkedHashMap<>();
+        substitutions.put("${userName}", userName);
+        return substitutions;
+    }
+
+}
@@ -0,0 +1,103 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.ui.automated.SendFeedbackSessionEmailWorkerAction;
+
+/**
+ * SUT: {@link SendFeedbackSessionEmailWorkerAction}.
+ */
+public class SendFeedbackSessionEmailWorkerActionTest
+        extends BaseAutomatedActionTest<SendFeedbackSessionEmailWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_FEEDBACK_SESSION_EMAIL_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        FeedbackSessionAttributes session1 = dataBundle.feedbackSessions.get("session1InCourse1");
+        CourseAttributes course1 = dataBundle.courses.get("typicalCourse1");
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student2 = dataBundle.students.get("student2InCourse1");
+        InstructorAttributes instructor1 = dataBundle.instructors.get("instructor1OfCourse1");
+        String expectedSubject = String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(), course1.getName(),
+                session1.getFeedbackSessionName());
+
+        ______TS("emails to students");
+
+        SendFeedbackSessionEmailWorkerAction action =
+                getAction(getParams(session1, Arrays.asList(student1.email, student2.email), false));
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 2);
+        EmailWrapper email = getEmailsSent(action).get(0);
+        assertEquals(student1.email, email.getRecipient());
+        assertEquals(expectedSubject, email.getSubject());
+        EmailWrapper otherEmail = getEmailsSent(action).get(1);
+        assertEquals(student2.email, otherEmail.getRecipient());
+        // generated from the same template, so that they can be sent in one batch
+        assertEquals(email.getTemplate(), otherEmail.getTemplate());
+
+        ______TS("email to instructor");
+
+        action = getAction(getParams(session1, Arrays.asList(instructor1.email), true));
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        email = getEmailsSent(action).get(0);
+        assertEquals(instructor1.email, email.getRecipient());
+        assertEquals(expectedSubject, email.getSubject());
+
+        ______TS("email queued for a single receiver");
+
+        action = getAction(
+                ParamsNames.EMAIL_COURSE, session1.getCourseId(),
+                ParamsNames.EMAIL_FEEDBACK, session1.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_PUBLISHED.name(),
+                ParamsNames.EMAIL_RECEIVER, student1.email,
+                ParamsNames.EMAIL_RECEIVER_IS_INSTRUCTOR, "false");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        assertEquals(student1.email, getEmailsSent(action).get(0).getRecipient());
+
+        ______TS("receiver no longer in course: no email sent to the receiver");
+
+        action = getAction(getParams(session1, Arrays.asList("non-existent@email.tmt", student1.email), false));
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        assertEquals(student1.email, getEmailsSent(action).get(0).getRecipient());
+
+        action = getAction(getParams(session1, Arrays.asList("non-existent@email.tmt"), false));
+        action.execute();
+
+        verifyNoEmailsSent(action);
+    }
+
+    private String[] getParams(FeedbackSessionAttributes session, List<String> receivers,
+                               boolean isReceiverInstructor) {
+        return new String[] {
+                ParamsNames.EMAIL_COURSE, session.getCourseId(),
+                ParamsNames.EMAIL_FEEDBACK, session.getFeedbackSessionName(),
+                ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_PUBLISHED.name(),
+                ParamsNames.EMAIL_RECEIVERS, JsonUtils.toCompactJson(receivers),
+                ParamsNames.EMAIL_RECEIVER_IS_INSTRUCTOR, String.valueOf(isReceiverInstructor),
+        };
+    }
+
+}
@@ -0,0 +1,91 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CompiledInstructorPrivileges;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledInstructorPrivileges}.
+ */
+public class CompiledInstructorPrivilegesTest extends BaseTestCase {
+
+    private static final long MODIFY_COURSE =
+            CompiledInstructorPrivileges.getPrivilegeBit(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
+    private static final long VIEW_SESSION =
+            CompiledInstructorPrivileges.getPrivilegeBit(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+    private static final long SUBMIT_SESSION =
+            CompiledInstructorPrivileges.getPrivilegeBit(Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
+
+    @Test
+    public void testGetPrivilegeBit() {
+        assertNotEquals(MODIFY_COURSE, VIEW_SESSION);
+        assertEquals(1, Long.bitCount(VIEW_SESSION));
+
+        assertThrows(AssertionError.class, () -> CompiledInstructorPrivileges.getPrivilegeBit("invalidPrivilege"));
+    }
+
+    @Test
+    public void testIsAllowed() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        privileges.updatePrivilege("Section A", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        privileges.updatePrivilege("Section B", "Session 1",
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, false);
+        CompiledInstructorPrivileges compiled = privileges.getCompiledPrivileges();
+
+        ______TS("course level");
+
+        assertFalse(compiled.isAllowed(MODIFY_COURSE));
+        assertTrue(compiled.isAllowed(VIEW_SESSION));
+
+        ______TS("sections without special privileges fall back to course level");
+
+        assertEquals(CompiledInstructorPrivileges.NOT_SPECIAL, compiled.getSectionId("Section C"));
+        assertTrue(compiled.isAllowed(CompiledInstructorPrivileges.NOT_SPECIAL, VIEW_SESSION));
+        assertTrue(compiled.isAllowed("Section C", compiled.getSessionId("Session 1"), SUBMIT_SESSION));
+
+        ______TS("special section");
+
+        int sectionA = compiled.getSectionId("Section A");
+        assertNotEquals(CompiledInstructorPrivileges.NOT_SPECIAL, sectionA);
+        assertFalse(compiled.isAllowed(sectionA, VIEW_SESSION));
+        assertFalse(compiled.isAllowed("Section A", CompiledInstructorPrivileges.NOT_SPECIAL, VIEW_SESSION));
+
+        ______TS("special session falls back to section level in other sections and sessions");
+
+        int session1 = compiled.getSessionId("Session 1");
+        assertEquals(CompiledInstructorPrivileges.NOT_SPECIAL, compiled.getSessionId("Session 2"));
+        assertFalse(compiled.isAllowed("Section B", session1, SUBMIT_SESSION));
+        assertTrue(compiled.isAllowed("Section B", compiled.getSessionId("Session 2"), SUBMIT_SESSION));
+        assertFalse(compiled.isAllowed(sectionA, session1, VIEW_SESSION));
+
+        ______TS("any special section");
+
+        assertTrue(compiled.isAllowedInAnySpecialSection(compiled.getSessionId("Session 2"), VIEW_SESSION));
+        assertFalse(compiled.isAllowedInAnySpecialSection(session1, VIEW_SESSION));
+    }
+
+    @Test
+    public void testGetCompiledPrivileges() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+
+        ______TS("compiled privileges are reused while the privileges are unchanged");
+
+        CompiledInstructorPrivileges compiled = privileges.getCompiledPrivileges();
+        assertSame(compiled, privileges.getCompiledPrivileges());
+        privileges.isAllowedForPrivilege("Section A", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+        assertSame(compiled, privileges.getCompiledPrivileges());
+
+        ______TS("compiled privileges are recompiled after the privileges change");
+
+        privileges.updatePrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE, false);
+        assertNotSame(compiled, privileges.getCompiledPrivileges());
+        assertTrue(compiled.isAllowed(MODIFY_COURSE));
+        assertFalse(privileges.getCompiledPrivileges().isAllowed(MODIFY_COURSE));
+    }
+
+}
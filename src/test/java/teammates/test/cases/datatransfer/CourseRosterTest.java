@@ -1,15 +1,20 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -79,6 +84,57 @@ public class CourseRosterTest extends BaseTestCase {
 
     }
 
+    @Test
+    public void testTeamIndexes() {
+        CourseRoster roster = new CourseRoster(createStudentList("team 1", "s1@gmail.com",
+                                                                 "team 1", "s2@gmail.com",
+                                                                 "team 2", "s3@gmail.com"), null);
+        roster.getStudentForEmail("s1@gmail.com").section = "section 1";
+        roster.getStudentForEmail("s2@gmail.com").section = "section 1";
+        roster.getStudentForEmail("s3@gmail.com").section = "section 2";
+
+        ______TS("team to members");
+
+        assertEquals(2, roster.getTeamToMembersTable().size());
+        assertEquals(2, roster.getTeamMembers("team 1").size());
+        assertEquals("s3@gmail.com", roster.getTeamMembers("team 2").get(0).email);
+        assertTrue(roster.getTeamMembers("non-existent team").isEmpty());
+
+        ______TS("section of team");
+
+        assertEquals("section 1", roster.getSectionForTeam("team 1"));
+        assertEquals("section 2", roster.getSectionForTeam("team 2"));
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("non-existent team"));
+    }
+
+    @Test
+    public void testTeamAndSectionTables() {
+        List<StudentAttributes> students = new ArrayList<>();
+        students.add(StudentAttributes.builder("", "student 2", "s2@gmail.com")
+                .withSection("section 1").withTeam("team 1").build());
+        students.add(StudentAttributes.builder("", "student 1", "s1@gmail.com")
+                .withSection("section 1").withTeam("team 1").build());
+        students.add(StudentAttributes.builder("", "student 3", "s3@gmail.com")
+                .withSection("section 1").withTeam("team 2").build());
+        students.add(StudentAttributes.builder("", "student 4", "s4@gmail.com")
+                .withSection("section 2").withTeam("team 3").build());
+        CourseRoster roster = new CourseRoster(students, createInstructorList("Jess", "ins1@email.com"));
+
+        ______TS("team to member emails, sorted");
+
+        Map<String, Set<String>> teamToMemberEmails = roster.getTeamToMemberEmailsTable();
+        assertEquals(3, teamToMemberEmails.size());
+        assertEquals(Arrays.asList("s1@gmail.com", "s2@gmail.com"), new ArrayList<>(teamToMemberEmails.get("team 1")));
+        assertEquals(Collections.singleton("s4@gmail.com"), teamToMemberEmails.get("team 3"));
+
+        ______TS("section to teams");
+
+        Map<String, Set<String>> sectionToTeams = roster.getSectionToTeamsTable();
+        assertEquals(2, sectionToTeams.size());
+        assertEquals(new HashSet<>(Arrays.asList("team 1", "team 2")), sectionToTeams.get("section 1"));
+        assertEquals(Collections.singleton("team 3"), sectionToTeams.get("section 2"));
+    }
+
     @Test
     public void testGetEmailToNameTableFromRoster() {
         Map<String, String> emailToNameTableExpected = new HashMap<>();
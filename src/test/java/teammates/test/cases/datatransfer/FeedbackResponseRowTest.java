@@ -0,0 +1,62 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.template.FeedbackResponseRow;
+
+/**
+ * SUT: {@link FeedbackResponseRow}.
+ */
+public class FeedbackResponseRowTest extends BaseComponentTestCase {
+
+    private DataBundle questionTypeBundle;
+
+    @BeforeClass
+    public void classSetup() {
+        questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(questionTypeBundle);
+    }
+
+    @Test
+    public void testPerceivedContributionRowOfGiver() throws Exception {
+        FeedbackSessionAttributes session = questionTypeBundle.feedbackSessions.get("contribSession");
+        InstructorAttributes instructor = questionTypeBundle.instructors.get("instructor1OfCourse1");
+        FeedbackSessionResultsBundle results = logic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+
+        FeedbackResponseAttributes responseToOther = null;
+        FeedbackResponseAttributes otherResponse = null;
+        for (FeedbackResponseAttributes response : results.responses) {
+            if ("student2InCourse1@gmail.tmt".equals(response.recipient)) {
+                responseToOther = response;
+            } else if ("student3InCourse1@gmail.tmt".equals(response.recipient)) {
+                otherResponse = response;
+            }
+        }
+        assertNotNull(responseToOther);
+        assertNotNull(otherResponse);
+        FeedbackQuestionAttributes question = results.questions.get(responseToOther.feedbackQuestionId);
+        String otherResponseText = results.getResponseAnswerHtml(otherResponse, question);
+
+        ______TS("perceived contribution row does not change the responses of the bundle");
+
+        FeedbackResponseRow row = new FeedbackResponseRow(0, 0, "giver", responseToOther, results, true);
+
+        assertTrue(row.getResponseText().startsWith("No Response"));
+        assertEquals("student1InCourse1@gmail.tmt", responseToOther.giver);
+        assertEquals("student1InCourse1@gmail.tmt", results.getActualResponse(responseToOther).giver);
+
+        ______TS("later rows show the same contribution values");
+
+        assertEquals(otherResponseText, results.getResponseAnswerHtml(otherResponse, question));
+    }
+
+}
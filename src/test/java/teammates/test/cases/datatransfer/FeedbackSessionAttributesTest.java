@@ -10,8 +10,6 @@ import java.util.List;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
-import com.google.common.collect.Sets;
-
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.TimeHelper;
 import teammates.test.cases.BaseTestCase;
@@ -110,8 +108,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
         assertTrue(fsa.isClosingEmailEnabled());
         assertTrue(fsa.isPublishedEmailEnabled());
         assertEquals("", fsa.getInstructions());
-        assertNotNull(fsa.getRespondingInstructorList());
-        assertNotNull(fsa.getRespondingStudentList());
         assertNull(fsa.getDeletedTime());
     }
 
@@ -150,8 +146,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
         assertEquals(original.isSentClosingEmail(), copy.isSentClosingEmail());
         assertEquals(original.isSentOpenEmail(), copy.isSentOpenEmail());
         assertEquals(original.isSentPublishedEmail(), copy.isSentPublishedEmail());
-        assertEquals(original.getRespondingInstructorList(), copy.getRespondingInstructorList());
-        assertEquals(original.getRespondingStudentList(), copy.getRespondingStudentList());
     }
 
     @Test
@@ -235,12 +229,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
                         .withSentPublishedEmail(false)
                         .withIsClosingEmailEnabled(true)
                         .withIsPublishedEmailEnabled(false)
-                        .withAddingInstructorRespondent("instructor@email.com")
-                        .withAddingStudentRespondent("student@email.com")
-                        .withUpdatingStudentRespondent("studentA@email.com", "studentB@email.com")
-                        .withUpdatingInstructorRespondent("insturctorA@email.com", "insturctorB@email.com")
-                        .withRemovingStudentRespondent("studentF@email.com")
-                        .withRemovingInstructorRespondent("instructorF@email.com")
                         .build();
 
         assertEquals("sessionName", updateOptions.getFeedbackSessionName());
@@ -263,8 +251,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
                         .withOpeningEmailEnabled(true)
                         .withClosingEmailEnabled(false)
                         .withPublishedEmailEnabled(false)
-                        .withRespondingInstructorList(Sets.newHashSet("insturctorA@email.com"))
-                        .withRespondingStudentList(Sets.newHashSet("studentA@email.com", "studentF@email.com"))
                         .build();
 
         feedbackSessionAttributes.update(updateOptions);
@@ -283,10 +269,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
         assertTrue(feedbackSessionAttributes.isOpeningEmailEnabled());
         assertTrue(feedbackSessionAttributes.isClosingEmailEnabled());
         assertFalse(feedbackSessionAttributes.isPublishedEmailEnabled());
-        assertEquals(Sets.newHashSet("student@email.com", "studentB@email.com"),
-                feedbackSessionAttributes.getRespondingStudentList());
-        assertEquals(Sets.newHashSet("instructor@email.com", "insturctorB@email.com"),
-                feedbackSessionAttributes.getRespondingInstructorList());
 
         // constructor update option based on existing update option
         FeedbackSessionAttributes.UpdateOptions newUpdateOptions =
@@ -326,30 +308,6 @@ public class FeedbackSessionAttributesTest extends BaseTestCase {
         assertThrows(AssertionError.class, () ->
                 FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
                         .withGracePeriod(null));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withAddingInstructorRespondent(null));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withAddingStudentRespondent(null));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withUpdatingStudentRespondent(null, "email@email.com"));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withUpdatingStudentRespondent("email@email.com", null));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withUpdatingInstructorRespondent(null, "email@email.com"));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withUpdatingInstructorRespondent("email@email.com", null));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withRemovingStudentRespondent(null));
-        assertThrows(AssertionError.class, () ->
-                FeedbackSessionAttributes.updateOptionsBuilder("session", "courseId")
-                        .withRemovingInstructorRespondent(null));
     }
 
 }
@@ -9,6 +9,8 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponseVisibility;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -32,8 +34,8 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
         emailNameTable.put("student2InCourse1@gmail.tmt", "Student in two courses");
         emailNameTable.put("student3InCourse1@gmail.tmt", "student3 In Course1");
 
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
-        boolean[] visibility = new boolean[2];
+        Map<String, FeedbackResponseVisibility> visibilityTable = new HashMap<>();
+        FeedbackResponseVisibility visibility = FeedbackResponseVisibility.NONE;
         visibilityTable.put("response1ForQ1S1C1", visibility);
         visibilityTable.put("response2ForQ1S1C1", visibility);
         visibilityTable.put("response1ForQ2S1C1", visibility);
@@ -66,6 +68,59 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
         assertEquals(0, allResponses.size());
     }
 
+    @Test
+    public void testHideResponsesGiverRecipient() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("session1InCourse1");
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        emailNameTable.put("student1InCourse1@gmail.tmt", "Student 1 in course 1");
+        emailNameTable.put("student2InCourse1@gmail.tmt", "Student in two courses");
+        emailNameTable.put("student3InCourse1@gmail.tmt", "student3 In Course1");
+
+        Map<String, FeedbackResponseVisibility> visibilityTable = new HashMap<>();
+        visibilityTable.put("response1ForQ1S1C1", FeedbackResponseVisibility.GIVER_AND_RECIPIENT);
+        visibilityTable.put("response2ForQ1S1C1", FeedbackResponseVisibility.GIVER_AND_RECIPIENT);
+        visibilityTable.put("response1ForQ2S1C1", FeedbackResponseVisibility.GIVER_ONLY);
+        visibilityTable.put("response2ForQ2S1C1", FeedbackResponseVisibility.GIVER_ONLY);
+        visibilityTable.put("response3ForQ2S1C1", FeedbackResponseVisibility.GIVER_ONLY);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        responses.add(responseBundle.feedbackResponses.get("response1ForQ1S1C1"));
+        responses.add(responseBundle.feedbackResponses.get("response2ForQ2S1C1"));
+        responses.add(responseBundle.feedbackResponses.get("response3ForQ2S1C1"));
+
+        FeedbackSessionResultsBundle bundle =
+                new FeedbackSessionResultsBundle(session, responses,
+                        responseBundle.feedbackQuestions, emailNameTable, new HashMap<>(),
+                        new HashMap<>(), null, visibilityTable, null,
+                        new CourseRoster(new ArrayList<>(responseBundle.students.values()),
+                        new ArrayList<>(responseBundle.instructors.values())), null);
+
+        ______TS("response with nothing hidden is not copied");
+
+        assertSame(responses.get(0), bundle.actualResponses.get(0));
+        assertEquals("student1InCourse1@gmail.tmt", bundle.responses.get(0).recipient);
+
+        ______TS("responses with hidden recipient keep the actual recipient in their copies");
+
+        String anonEmail = FeedbackSessionResultsBundle.getAnonEmail(
+                FeedbackParticipantType.STUDENTS, "Student in two courses");
+        for (int i = 1; i < 3; i++) {
+            assertEquals(anonEmail, bundle.responses.get(i).recipient);
+            assertEquals("student2InCourse1@gmail.tmt", bundle.actualResponses.get(i).recipient);
+            assertEquals(bundle.responses.get(i).giver, bundle.actualResponses.get(i).giver);
+            assertSame(bundle.responses.get(i).responseDetails, bundle.actualResponses.get(i).responseDetails);
+        }
+        assertEquals(FeedbackSessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, "Student in two courses"),
+                bundle.emailNameTable.get(anonEmail));
+
+        ______TS("responses of the same hidden participant share the anonymous email");
+
+        assertSame(bundle.responses.get(1).recipient, bundle.responses.get(2).recipient);
+    }
+
     @Test
     public void testGetCsvDetailedFeedbackResponseCommentsString() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
@@ -77,8 +132,8 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
         emailNameTable.put("student2InCourse1@gmail.tmt", "Student in two courses");
         emailNameTable.put("student3InCourse1@gmail.tmt", "student3 In Course1");
 
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
-        boolean[] visibility = new boolean[2];
+        Map<String, FeedbackResponseVisibility> visibilityTable = new HashMap<>();
+        FeedbackResponseVisibility visibility = FeedbackResponseVisibility.NONE;
         visibilityTable.put("response1ForQ1S1C1", visibility);
         visibilityTable.put("response2ForQ1S1C1", visibility);
         visibilityTable.put("response1ForQ2S1C1", visibility);
@@ -10,6 +10,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -67,6 +68,53 @@ public class CoursesLogicTest extends BaseLogicTest {
         assertTrue(sessionsOfCourse.stream().allMatch(s -> s.getTimeZone().equals(ZoneId.of("UTC"))));
     }
 
+    @Test
+    public void testGetCourseRoster_afterRosterChanges_shouldNotReturnCachedRoster() throws Exception {
+        CourseAttributes typicalCourse1 = dataBundle.courses.get("typicalCourse1");
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructor1OfCourse1 = dataBundle.instructors.get("instructor1OfCourse1");
+
+        CourseRoster roster = coursesLogic.getCourseRoster(typicalCourse1.getId());
+        int numberOfStudents = roster.getStudents().size();
+        assertEquals(student1InCourse1.name, roster.getStudentForEmail(student1InCourse1.email).name);
+
+        ______TS("cached roster");
+
+        roster = coursesLogic.getCourseRoster(typicalCourse1.getId());
+        assertEquals(numberOfStudents, roster.getStudents().size());
+        assertEquals(student1InCourse1.team, roster.getStudentForEmail(student1InCourse1.email).team);
+        assertTrue(roster.isInstructorOfCourse(instructor1OfCourse1.email));
+        assertEquals(instructor1OfCourse1.privileges,
+                roster.getInstructorForEmail(instructor1OfCourse1.email).privileges);
+
+        ______TS("after student update");
+
+        StudentsLogic.inst().updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(typicalCourse1.getId(), student1InCourse1.email)
+                        .withName("New Name")
+                        .build());
+        roster = coursesLogic.getCourseRoster(typicalCourse1.getId());
+        assertEquals("New Name", roster.getStudentForEmail(student1InCourse1.email).name);
+
+        ______TS("after enrollment");
+
+        String enrollLines = "Section | Team | Name | Email" + System.lineSeparator()
+                + "Section New | Team New | New Student | newstudent@email.tmt";
+        StudentsLogic.inst().enrollStudents(enrollLines, typicalCourse1.getId());
+        roster = coursesLogic.getCourseRoster(typicalCourse1.getId());
+        assertEquals(numberOfStudents + 1, roster.getStudents().size());
+        assertEquals("Team New", roster.getStudentForEmail("newstudent@email.tmt").team);
+
+        ______TS("after student and instructor deletion");
+
+        StudentsLogic.inst().deleteStudentCascade(typicalCourse1.getId(), student1InCourse1.email);
+        InstructorsLogic.inst().deleteInstructorCascade(typicalCourse1.getId(), instructor1OfCourse1.email);
+        roster = coursesLogic.getCourseRoster(typicalCourse1.getId());
+        assertEquals(numberOfStudents, roster.getStudents().size());
+        assertFalse(roster.isStudentInCourse(student1InCourse1.email));
+        assertFalse(roster.isInstructorOfCourse(instructor1OfCourse1.email));
+    }
+
     @Test
     public void testAll() throws Exception {
         testGetCourse();
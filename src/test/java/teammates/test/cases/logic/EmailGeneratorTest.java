@@ -145,31 +145,39 @@ public class EmailGeneratorTest extends BaseLogicTest {
 
         ______TS("feedback session published alerts");
 
-        emails = new EmailGenerator().generateFeedbackSessionPublishedEmails(session);
-        assertEquals(11, emails.size());
-
         subject = String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(),
                                 course.getName(), session.getFeedbackSessionName());
 
-        verifyEmailReceivedCorrectly(emails, student1.email, subject, "/sessionPublishedEmailForStudent.html");
-        verifyEmailReceivedCorrectly(emails, instructor1.email, subject, "/sessionPublishedEmailForInstructor.html");
+        EmailWrapper email = new EmailGenerator().generateFeedbackSessionEmailForRecipient(
+                session, EmailType.FEEDBACK_PUBLISHED, student1.email, false);
+        verifyEmail(email, student1.email, subject, "/sessionPublishedEmailForStudent.html");
+        email = new EmailGenerator().generateFeedbackSessionEmailForRecipient(
+                session, EmailType.FEEDBACK_PUBLISHED, instructor1.email, true);
+        verifyEmail(email, instructor1.email, subject, "/sessionPublishedEmailForInstructor.html");
 
         ______TS("feedback session unpublished alerts");
 
-        emails = new EmailGenerator().generateFeedbackSessionUnpublishedEmails(session);
-        assertEquals(11, emails.size());
-
         subject = String.format(EmailType.FEEDBACK_UNPUBLISHED.getSubject(),
                                 course.getName(), session.getFeedbackSessionName());
 
-        verifyEmailReceivedCorrectly(emails, student1.email, subject, "/sessionUnpublishedEmailForStudent.html");
-        verifyEmailReceivedCorrectly(emails, instructor1.email, subject, "/sessionUnpublishedEmailForInstructor.html");
+        email = new EmailGenerator().generateFeedbackSessionEmailForRecipient(
+                session, EmailType.FEEDBACK_UNPUBLISHED, student1.email, false);
+        verifyEmail(email, student1.email, subject, "/sessionUnpublishedEmailForStudent.html");
+        email = new EmailGenerator().generateFeedbackSessionEmailForRecipient(
+                session, EmailType.FEEDBACK_UNPUBLISHED, instructor1.email, true);
+        verifyEmail(email, instructor1.email, subject, "/sessionUnpublishedEmailForInstructor.html");
+
+        ______TS("no published alert for a recipient no longer in the course");
+
+        assertNull(new EmailGenerator().generateFeedbackSessionEmailForRecipient(
+                session, EmailType.FEEDBACK_PUBLISHED, "non-existent@email.tmt", false));
+        assertNull(new EmailGenerator().generateFeedbackSessionEmailForRecipient(
+                session, EmailType.FEEDBACK_PUBLISHED, "non-existent@email.tmt", true));
 
         ______TS("send summary of all feedback sessions of course email to new student. "
                 + "Edited student has joined the course");
 
-        EmailWrapper email =
-                new EmailGenerator().generateFeedbackSessionSummaryOfCourse(session.getCourseId(), student1.email);
+        email = new EmailGenerator().generateFeedbackSessionSummaryOfCourse(session.getCourseId(), student1.email);
         subject = String.format(EmailType.STUDENT_EMAIL_CHANGED.getSubject(), course.getName(), course.getId());
 
         verifyEmail(email, student1.email, subject, "/summaryOfFeedbackSessionsOfCourseEmailForStudent.html");
@@ -218,12 +226,6 @@ public class EmailGeneratorTest extends BaseLogicTest {
         emails = new EmailGenerator().generateFeedbackSessionClosedEmails(notAnswerableSession);
         assertTrue(emails.isEmpty());
 
-        emails = new EmailGenerator().generateFeedbackSessionPublishedEmails(notAnswerableSession);
-        assertTrue(emails.isEmpty());
-
-        emails = new EmailGenerator().generateFeedbackSessionUnpublishedEmails(notAnswerableSession);
-        assertTrue(emails.isEmpty());
-
     }
 
     @Test
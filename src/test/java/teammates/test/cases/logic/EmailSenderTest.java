@@ -1,5 +1,16 @@
 package teammates.test.cases.logic;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -7,12 +18,21 @@ import javax.mail.internet.MimeMessage;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
 import com.sendgrid.Mail;
+import com.sendgrid.SendGrid;
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.multipart.FormDataBodyPart;
 import com.sun.jersey.multipart.FormDataMultiPart;
+import com.sun.net.httpserver.HttpServer;
 
 import teammates.common.util.EmailWrapper;
 import teammates.logic.core.JavamailService;
@@ -28,11 +48,55 @@ import teammates.logic.core.SendgridService;
  */
 public class EmailSenderTest extends BaseLogicTest {
 
+    /** Request bodies received by the stub email service. */
+    private final List<String> stubRequestBodies = new ArrayList<>();
+
+    private HttpServer stubServer;
+
     @Override
     protected void prepareTestData() {
         // no test data used in this test
     }
 
+    @BeforeClass
+    public void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", exchange -> {
+            synchronized (stubRequestBodies) {
+                stubRequestBodies.add(readFully(exchange.getRequestBody()));
+            }
+            exchange.sendResponseHeaders(202, -1);
+            exchange.close();
+        });
+        stubServer.start();
+    }
+
+    @AfterClass
+    public void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int length = in.read(buffer);
+        while (length != -1) {
+            out.write(buffer, 0, length);
+            length = in.read(buffer);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private String getStubServerHost() {
+        return "localhost:" + stubServer.getAddress().getPort();
+    }
+
+    private EmailWrapper getTypicalEmailWrapper(String recipient) {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        wrapper.setRecipient(recipient);
+        return wrapper;
+    }
+
     private EmailWrapper getTypicalEmailWrapper() {
         String senderName = "Sender Name";
         String senderEmail = "sender@email.com";
@@ -53,6 +117,15 @@ public class EmailSenderTest extends BaseLogicTest {
         return wrapper;
     }
 
+    private EmailWrapper getTemplatedEmailWrapper(String recipient, String userName) {
+        Map<String, String> substitutions = new LinkedHashMap<>();
+        substitutions.put("${userName}", userName);
+
+        EmailWrapper wrapper = getTypicalEmailWrapper(recipient);
+        wrapper.setContentFromTemplate("<p>Dear ${userName}, this is a test content</p>", substitutions);
+        return wrapper;
+    }
+
     @Test
     public void testConvertToMimeMessage() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -116,4 +189,126 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testSendEmailWithSendgrid_shouldSendEachEmailThroughSharedClient() throws Exception {
+        SendGrid sendgrid = new SendGrid("apikey", true);
+        sendgrid.setHost(getStubServerHost());
+        SendgridService service = new SendgridService(sendgrid);
+
+        synchronized (stubRequestBodies) {
+            stubRequestBodies.clear();
+        }
+        service.sendEmail(getTypicalEmailWrapper("recipient1@email.com"));
+        service.sendEmail(getTypicalEmailWrapper("recipient2@email.com"));
+
+        assertEquals(2, stubRequestBodies.size());
+        JsonObject firstEmail = new JsonParser().parse(stubRequestBodies.get(0)).getAsJsonObject();
+        assertEquals("recipient1@email.com", firstEmail.getAsJsonArray("personalizations").get(0).getAsJsonObject()
+                .getAsJsonArray("to").get(0).getAsJsonObject().get("email").getAsString());
+        JsonObject secondEmail = new JsonParser().parse(stubRequestBodies.get(1)).getAsJsonObject();
+        assertEquals("recipient2@email.com", secondEmail.getAsJsonArray("personalizations").get(0).getAsJsonObject()
+                .getAsJsonArray("to").get(0).getAsJsonObject().get("email").getAsString());
+    }
+
+    @Test
+    public void testSendEmailWithMailgun_shouldSendEachEmailThroughSharedClient() throws Exception {
+        MailgunService service = new MailgunService(Client.create(), "http://" + getStubServerHost() + "/messages");
+
+        synchronized (stubRequestBodies) {
+            stubRequestBodies.clear();
+        }
+        service.sendEmail(getTypicalEmailWrapper("recipient1@email.com"));
+        service.sendEmail(getTypicalEmailWrapper("recipient2@email.com"));
+
+        assertEquals(2, stubRequestBodies.size());
+        assertTrue(stubRequestBodies.get(0).contains("recipient1@email.com"));
+        assertTrue(stubRequestBodies.get(1).contains("recipient2@email.com"));
+    }
+
+    @Test
+    public void testConvertToSendgrid_emailsFromSameTemplate_shouldHaveOnePersonalizationWithSubstitutionsEach() {
+        List<EmailWrapper> batch = Arrays.asList(getTemplatedEmailWrapper("recipient1@email.com", "Alice"),
+                getTemplatedEmailWrapper("recipient2@email.com", "Bob"));
+        Mail email = new SendgridService().parseToEmail(batch);
+
+        assertEquals(2, email.personalization.size());
+        assertEquals("recipient1@email.com", email.personalization.get(0).getTos().get(0).getEmail());
+        assertEquals("Alice", email.personalization.get(0).getSubstitutions().get("${userName}"));
+        assertEquals("recipient2@email.com", email.personalization.get(1).getTos().get(0).getEmail());
+        assertEquals("Bob", email.personalization.get(1).getSubstitutions().get("${userName}"));
+        assertEquals(batch.get(0).getBcc(), email.personalization.get(1).getBccs().get(0).getEmail());
+        assertEquals(batch.get(0).getSubject(), email.getSubject());
+        assertEquals("Dear ${userName}, this is a test content", email.getContent().get(0).getValue());
+        assertEquals(batch.get(0).getTemplate(), email.getContent().get(1).getValue());
+    }
+
+    @Test
+    public void testConvertToMailgun_emailsFromSameTemplate_shouldHaveRecipientVariables() throws Exception {
+        List<EmailWrapper> batch = Arrays.asList(getTemplatedEmailWrapper("recipient1@email.com", "Alice"),
+                getTemplatedEmailWrapper("recipient2@email.com", "Bob"));
+        try (FormDataMultiPart formData = new MailgunService(Client.create(), "http://localhost").parseToEmail(batch)) {
+
+            List<FormDataBodyPart> tos = formData.getFields("to");
+            assertEquals(2, tos.size());
+            assertEquals("recipient1@email.com", tos.get(0).getValue());
+            assertEquals("recipient2@email.com", tos.get(1).getValue());
+
+            JsonObject recipientVariables =
+                    new JsonParser().parse(formData.getField("recipient-variables").getValue()).getAsJsonObject();
+            assertEquals(2, recipientVariables.size());
+            assertEquals("Alice", recipientVariables.getAsJsonObject("recipient1@email.com")
+                    .get("userName").getAsString());
+            assertEquals("Bob", recipientVariables.getAsJsonObject("recipient2@email.com")
+                    .get("userName").getAsString());
+            assertEquals("<p>Dear %recipient.userName%, this is a test content</p>",
+                    formData.getField("html").getValue());
+        }
+    }
+
+    @Test
+    public void testSendEmailsWithSendgrid_shouldSendEmailsFromSameTemplateInOneCall() throws Exception {
+        SendGrid sendgrid = new SendGrid("apikey", true);
+        sendgrid.setHost(getStubServerHost());
+        EmailWrapper otherEmail = getTypicalEmailWrapper("recipient3@email.com");
+
+        synchronized (stubRequestBodies) {
+            stubRequestBodies.clear();
+        }
+        new SendgridService(sendgrid).sendEmails(Arrays.asList(getTemplatedEmailWrapper("recipient1@email.com", "Alice"),
+                otherEmail, getTemplatedEmailWrapper("recipient2@email.com", "Bob")));
+
+        assertEquals(2, stubRequestBodies.size());
+        JsonObject batchedEmail = new JsonParser().parse(stubRequestBodies.get(0)).getAsJsonObject();
+        JsonArray personalizations = batchedEmail.getAsJsonArray("personalizations");
+        assertEquals(2, personalizations.size());
+        assertEquals("Alice", personalizations.get(0).getAsJsonObject().getAsJsonObject("substitutions")
+                .get("${userName}").getAsString());
+        assertEquals("Bob", personalizations.get(1).getAsJsonObject().getAsJsonObject("substitutions")
+                .get("${userName}").getAsString());
+        assertEquals("<p>Dear ${userName}, this is a test content</p>", batchedEmail.getAsJsonArray("content")
+                .get(1).getAsJsonObject().get("value").getAsString());
+
+        JsonObject otherEmailSent = new JsonParser().parse(stubRequestBodies.get(1)).getAsJsonObject();
+        assertEquals(1, otherEmailSent.getAsJsonArray("personalizations").size());
+        assertEquals(otherEmail.getContent(), otherEmailSent.getAsJsonArray("content")
+                .get(1).getAsJsonObject().get("value").getAsString());
+    }
+
+    @Test
+    public void testSendEmailsWithMailgun_shouldSendEmailsFromSameTemplateInOneCall() throws Exception {
+        MailgunService service = new MailgunService(Client.create(), "http://" + getStubServerHost() + "/messages");
+
+        synchronized (stubRequestBodies) {
+            stubRequestBodies.clear();
+        }
+        service.sendEmails(Arrays.asList(getTemplatedEmailWrapper("recipient1@email.com", "Alice"),
+                getTemplatedEmailWrapper("recipient2@email.com", "Bob")));
+
+        assertEquals(1, stubRequestBodies.size());
+        String batchedEmail = stubRequestBodies.get(0);
+        assertTrue(batchedEmail.contains("{\"recipient1@email.com\":{\"userName\":\"Alice\"},"
+                + "\"recipient2@email.com\":{\"userName\":\"Bob\"}}"));
+        assertTrue(batchedEmail.contains("<p>Dear %recipient.userName%, this is a test content</p>"));
+    }
+
 }
@@ -417,7 +417,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         FeedbackQuestionAttributes questionToUpdate = getQuestionFromDatastore("qn2InSession1InCourse2");
 
         FeedbackQuestionDetails fqd = new FeedbackTextQuestionDetails("new question text");
-        questionToUpdate.questionMetaData = JsonUtils.toJson(fqd);
+        questionToUpdate.questionMetaData = JsonUtils.toCompactJson(fqd);
         questionToUpdate.questionNumber = 3;
         List<FeedbackParticipantType> newVisibility = new LinkedList<>();
         newVisibility.add(FeedbackParticipantType.INSTRUCTORS);
@@ -438,7 +438,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         ______TS("cascading update, non-destructive changes, existing responses are preserved");
         questionToUpdate = getQuestionFromDatastore("qn2InSession1InCourse1");
         fqd = new FeedbackTextQuestionDetails("new question text 2");
-        questionToUpdate.questionMetaData = JsonUtils.toJson(fqd);
+        questionToUpdate.questionMetaData = JsonUtils.toCompactJson(fqd);
         questionToUpdate.numberOfEntitiesToGiveFeedbackTo = 2;
 
         int numberOfResponses =
@@ -460,7 +460,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         ______TS("cascading update, destructive changes, delete all existing responses");
         questionToUpdate = getQuestionFromDatastore("qn2InSession1InCourse1");
         fqd = new FeedbackTextQuestionDetails("new question text 3");
-        questionToUpdate.questionMetaData = JsonUtils.toJson(fqd);
+        questionToUpdate.questionMetaData = JsonUtils.toCompactJson(fqd);
         questionToUpdate.recipientType = FeedbackParticipantType.INSTRUCTORS;
 
         assertFalse(frLogic.getFeedbackResponsesForQuestion(questionToUpdate.getId()).isEmpty());
@@ -17,7 +17,6 @@ import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
-import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -349,9 +348,33 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     }
 
     private int getResponseRate(String sessionName, String courseId) {
-        FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
-        return sessionFromDataStore.getRespondingInstructorList().size()
-                + sessionFromDataStore.getRespondingStudentList().size();
+        return fsLogic.getFeedbackSessionRespondents(sessionName, courseId).getNumberOfRespondents();
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingSection() throws Exception {
+        StudentAttributes studentToUpdate = questionTypeBundle.students.get("student2InCourse1");
+
+        frLogic.updateFeedbackResponsesForChangingSection(
+                studentToUpdate.course, studentToUpdate.email, studentToUpdate.section, "New Section");
+
+        List<FeedbackResponseAttributes> responsesForReceiver =
+                frLogic.getFeedbackResponsesForReceiverForCourse(studentToUpdate.course, studentToUpdate.email);
+        List<FeedbackResponseAttributes> responsesFromGiver =
+                frLogic.getFeedbackResponsesFromGiverForCourse(studentToUpdate.course, studentToUpdate.email);
+        assertEquals(11, responsesForReceiver.size());
+        assertEquals(8, responsesFromGiver.size());
+        assertTrue(responsesForReceiver.stream().allMatch(r -> "New Section".equals(r.recipientSection)));
+        assertTrue(responsesFromGiver.stream().allMatch(r -> "New Section".equals(r.giverSection)));
+
+        Set<String> responseIdsForReceiver =
+                responsesForReceiver.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet());
+        Set<String> responseIdsFromGiver =
+                responsesFromGiver.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet());
+        assertTrue(getFeedbackResponseCommentsForResponsesFromDatastore(responseIdsForReceiver).stream()
+                .allMatch(c -> "New Section".equals(c.receiverSection)));
+        assertTrue(getFeedbackResponseCommentsForResponsesFromDatastore(responseIdsFromGiver).stream()
+                .allMatch(c -> "New Section".equals(c.giverSection)));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -15,6 +16,8 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponseVisibility;
+import teammates.common.datatransfer.FeedbackSessionCompletionMatrix;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -140,6 +143,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
         testGetFeedbackSessionResultsSummaryAsCsv();
+        testWriteFeedbackSessionResultsSummaryAsCsv();
         testIsFeedbackSessionViewableToStudents();
 
         testCreateAndDeleteFeedbackSession();
@@ -152,6 +156,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetFeedbackSessionCompletionMatrixForStudents();
 
         testMoveFeedbackSessionToRecycleBin();
         testRestoreFeedbackSessionFromRecycleBin();
@@ -539,8 +544,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
             assertEquals(question1.questionType, question2.questionType);
             assertEquals(question1.numberOfEntitiesToGiveFeedbackTo, question2.numberOfEntitiesToGiveFeedbackTo);
         }
-        assertEquals(0, copiedSession.getRespondingInstructorList().size());
-        assertEquals(0, copiedSession.getRespondingStudentList().size());
+        assertEquals(0, fsLogic.getFeedbackSessionRespondents(
+                copiedSession.getFeedbackSessionName(), copiedSession.getCourseId()).getNumberOfRespondents());
 
         ______TS("Failure case: duplicate session");
 
@@ -1333,6 +1338,45 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 ednee.getMessage());
     }
 
+    private void testWriteFeedbackSessionResultsSummaryAsCsv() throws Exception {
+
+        ______TS("typical case: written results are the same as the results generated in one go");
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        StringWriter writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                null, SectionDetail.NOT_APPLICABLE, null, true, true, writer);
+
+        CsvChecker.verifyCsvContent(writer.toString(), "/feedbackSessionResultsAllResults.csv");
+
+        ______TS("typical case: results for single question in section");
+
+        int questionNum = dataBundle.feedbackQuestions.get("qn2InSession1InCourse1").getQuestionNumber();
+        String questionId = fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(),
+                session.getCourseId(), questionNum).getId();
+
+        writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                "Section 1", SectionDetail.EITHER, questionId, true, true, writer);
+
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                "Section 1", SectionDetail.EITHER, questionId, true, true), writer.toString());
+
+        ______TS("Non-existent Course/Session");
+
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                        "non.existent", "no course", instructor.email, null, SectionDetail.NOT_APPLICABLE,
+                        null, true, true, new StringWriter()));
+        assertEquals("Trying to view a non-existent feedback session: no course/non.existent",
+                ednee.getMessage());
+    }
+
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
         return FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS,
                                                          dataBundle.students.get(studentKey).name);
@@ -1608,6 +1652,34 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetFeedbackSessionCompletionMatrixForStudents() throws Exception {
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        StudentAttributes student1OfCourse1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student3OfCourse1 = dataBundle.students.get("student3InCourse1");
+
+        ______TS("failure: non-existent feedback session");
+
+        EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
+                () -> fsLogic.getFeedbackSessionCompletionMatrixForStudents("nonExistentFSName", fs.getCourseId()));
+        assertEquals("Trying to check a non-existent feedback session: " + fs.getCourseId() + "/nonExistentFSName",
+                ednee.getMessage());
+
+        ______TS("success case: same completion as checking students one by one");
+
+        FeedbackSessionCompletionMatrix matrix =
+                fsLogic.getFeedbackSessionCompletionMatrixForStudents(fs.getFeedbackSessionName(), fs.getCourseId());
+        assertTrue(matrix.isFullyCompletedBy(student1OfCourse1.email));
+        assertFalse(matrix.isFullyCompletedBy(student3OfCourse1.email));
+        assertTrue(matrix.getParticipantsNotFullyCompleted().contains(student3OfCourse1.email));
+
+        for (StudentAttributes student : coursesLogic.getCourseRoster(fs.getCourseId()).getStudents()) {
+            assertEquals(fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                            fs.getFeedbackSessionName(), fs.getCourseId(), student.email),
+                    matrix.isFullyCompletedBy(student.email));
+        }
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withCreatedTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-2))
@@ -1668,9 +1740,10 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     }
 
     // Stringifies the visibility table for easy testing/comparison.
-    private String tableToString(Map<String, boolean[]> table) {
+    private String tableToString(Map<String, FeedbackResponseVisibility> table) {
         return table.entrySet().stream()
-                .map(entry -> "{" + entry.getKey() + "={" + entry.getValue()[0] + ',' + entry.getValue()[1] + "}}")
+                .map(entry -> "{" + entry.getKey() + "={" + entry.getValue().isGiverVisible() + ','
+                        + entry.getValue().isRecipientVisible() + "}}")
                 .collect(Collectors.joining(","));
     }
 
@@ -53,6 +53,25 @@ public class GateKeeperTest extends BaseLogicTest {
         assertTrue(user.isInstructor);
         assertTrue(user.isStudent);
 
+        ______TS("cached roles are discarded when the roles change");
+
+        logic.deleteStudent(instructorAsStudent.course, instructorAsStudent.email);
+        user = gateKeeper.getCurrentUser();
+        assertTrue(user.isInstructor);
+        assertFalse(user.isStudent);
+
+        logic.downgradeInstructorToStudentCascade(instructor.googleId);
+        user = gateKeeper.getCurrentUser();
+        assertTrue(user.isAdmin);
+        assertFalse(user.isInstructor);
+
+        ______TS("masquerade user");
+
+        user = gateKeeper.getMasqueradeUser(dataBundle.students.get("student1InCourse1").googleId);
+        assertFalse(user.isAdmin);
+        assertFalse(user.isInstructor);
+        assertTrue(user.isStudent);
+
         ______TS("unregistered");
 
         gaeSimulation.loginAsUnregistered("unknown");
@@ -463,9 +463,11 @@ public class InstructorsLogicTest extends BaseLogicTest {
         List<FeedbackSessionAttributes> sessionsInCourse =
                 fsLogic.getFeedbackSessionsForCourse(instructorToBeUpdated.getCourseId());
         assertTrue(sessionsInCourse.stream()
-                .anyMatch(s -> s.getRespondingInstructorList().contains("new@email.tmt")));
+                .anyMatch(s -> fsLogic.getFeedbackSessionRespondents(s.getFeedbackSessionName(), s.getCourseId())
+                        .getInstructorRespondents().contains("new@email.tmt")));
         assertFalse(sessionsInCourse.stream()
-                .anyMatch(s -> s.getRespondingInstructorList().contains(instructorToBeUpdated.getEmail())));
+                .anyMatch(s -> fsLogic.getFeedbackSessionRespondents(s.getFeedbackSessionName(), s.getCourseId())
+                        .getInstructorRespondents().contains(instructorToBeUpdated.getEmail())));
     }
 
     private void testUpdateInstructorByGoogleIdCascade() throws Exception {
@@ -1049,9 +1049,14 @@ public class StudentsLogicTest extends BaseLogicTest {
     }
 
     private static StudentEnrollDetails enrollStudent(StudentAttributes student) throws Exception {
-        return (StudentEnrollDetails) invokeMethod(StudentsLogic.class, "enrollStudent",
-                                                   new Class<?>[] { StudentAttributes.class},
-                                                   StudentsLogic.inst(), new Object[] { student });
+        String enrollLines = "Section | Team | Name | Email | Comment" + System.lineSeparator()
+                + student.section + " | " + student.team + " | " + student.name + " | " + student.email
+                + " | " + student.comments;
+        CourseEnrollmentResult enrollResult = StudentsLogic.inst().enrollStudents(enrollLines, student.course);
+        return enrollResult.enrollmentList.stream()
+                .filter(details -> student.email.equals(details.email))
+                .findFirst()
+                .orElse(null);
     }
 
     @AfterClass
@@ -0,0 +1,45 @@
+package teammates.test.cases.logic;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.UserInfo;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.UserRolesLogic;
+import teammates.storage.api.UserRolesDb;
+
+/**
+ * SUT: {@link UserRolesLogic}.
+ */
+public class UserRolesLogicTest extends BaseLogicTest {
+
+    private static final UserRolesLogic userRolesLogic = UserRolesLogic.inst();
+    private static final UserRolesDb userRolesDb = new UserRolesDb();
+
+    @Test
+    public void testGetUserRoles() {
+
+        ______TS("roles of a student are cached");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        UserInfo roles = userRolesLogic.getUserRoles(student.googleId);
+        assertTrue(roles.isStudent);
+        assertFalse(roles.isInstructor);
+
+        long version = userRolesDb.getRolesVersion(student.googleId);
+        assertTrue(userRolesDb.getUserRoles(student.googleId, version).isStudent);
+
+        ______TS("roles of a user who is not a student are not cached");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        roles = userRolesLogic.getUserRoles(instructor.googleId);
+        assertFalse(roles.isStudent);
+        assertTrue(roles.isInstructor);
+
+        version = userRolesDb.getRolesVersion(instructor.googleId);
+        assertNull(userRolesDb.getUserRoles(instructor.googleId, version));
+    }
+
+}
@@ -0,0 +1,137 @@
+package teammates.test.cases.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Field;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.storage.search.InMemorySearchService;
+import teammates.storage.search.StudentSearchQuery;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link InMemorySearchService}.
+ */
+public class InMemorySearchServiceTest extends BaseTestCase {
+
+    private static final String INDEX_NAME = "student";
+
+    @Test
+    public void testSearchDocuments() {
+        InMemorySearchService searchService = new InMemorySearchService();
+        searchService.putDocuments(INDEX_NAME, Arrays.asList(
+                createDocument("alice", "course-1", "Alice Betsy alice.b@gmail.tmt Team 1.1 course-1"),
+                createDocument("benny", "course-1", "Benny Charles benny.c@gmail.tmt Team 1.2 course-1"),
+                createDocument("charlie", "course-2", "Charlie Davis charlie.d@gmail.tmt Team 2.1 course-2")));
+
+        List<InstructorAttributes> instructorsOfCourse1 = Arrays.asList(
+                InstructorAttributes.builder("instr", "course-1", "Instructor", "instr@gmail.tmt").build());
+        List<InstructorAttributes> instructorsOfBothCourses = Arrays.asList(
+                InstructorAttributes.builder("instr", "course-1", "Instructor", "instr@gmail.tmt").build(),
+                InstructorAttributes.builder("instr", "course-2", "Instructor", "instr@gmail.tmt").build());
+
+        ______TS("keyword matches whole and prefix tokens, case-insensitively");
+
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery(instructorsOfBothCourses, "alice")), "alice");
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery(instructorsOfBothCourses, "CHAR")), "charlie", "benny");
+
+        ______TS("keywords are ORed, phrases must match consecutive tokens");
+
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery(instructorsOfBothCourses, "alice davis")), "charlie", "alice");
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery(instructorsOfBothCourses, "\"team 1\"")), "benny", "alice");
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery(instructorsOfBothCourses, "\"1 team\"")));
+
+        ______TS("only documents of visible courses are returned");
+
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery(instructorsOfCourse1, "team")), "benny", "alice");
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery("team")), "charlie", "benny", "alice");
+
+        ______TS("updated and deleted documents");
+
+        searchService.putDocument(INDEX_NAME,
+                createDocument("alice", "course-1", "Alicia Betsy alice.b@gmail.tmt Team 1.1 course-1"));
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery("alicia")), "alice");
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery("team")), "alice", "charlie", "benny");
+
+        searchService.deleteDocument(INDEX_NAME, "benny");
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME,
+                new StudentSearchQuery("team")), "alice", "charlie");
+
+        ______TS("other indexes are unaffected");
+
+        verifySearchResults(searchService.searchDocuments("instructor", new StudentSearchQuery("team")));
+    }
+
+    @Test
+    public void testSearchDocuments_moreMatchesThanLimit_newestReturned() {
+        InMemorySearchService searchService = new InMemorySearchService();
+        List<String> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            searchService.putDocument(INDEX_NAME, createDocument("student" + i, "course-1", "Student " + i));
+            expectedIds.add(0, "student" + i);
+        }
+
+        verifySearchResults(searchService.searchDocuments(INDEX_NAME, new StudentSearchQuery("student")),
+                expectedIds.subList(0, 20).toArray(new String[0]));
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        InMemorySearchService searchService = new InMemorySearchService();
+        searchService.putDocument(INDEX_NAME, createDocument("alice", "course-1", "Alice Betsy"));
+        searchService.putDocument(INDEX_NAME, createDocument("benny", "course-1", "Benny Betsy"));
+        searchService.putDocument("instructor", createDocument("instr", "course-1", "Instructor Betsy"));
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        searchService.saveSnapshot(snapshot);
+
+        InMemorySearchService restoredSearchService = new InMemorySearchService();
+        restoredSearchService.loadSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        Results<ScoredDocument> results =
+                restoredSearchService.searchDocuments(INDEX_NAME, new StudentSearchQuery("betsy"));
+        verifySearchResults(results, "benny", "alice");
+        assertEquals("course-1", results.getResults().iterator().next()
+                .getOnlyField(Const.SearchDocumentField.COURSE_ID).getText());
+        verifySearchResults(restoredSearchService.searchDocuments("instructor", new StudentSearchQuery("betsy")),
+                "instr");
+    }
+
+    private Document createDocument(String id, String courseId, String searchableText) {
+        return Document.newBuilder()
+                .setId(id)
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.SEARCHABLE_TEXT)
+                        .setText(searchableText))
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.COURSE_ID).setText(courseId))
+                .build();
+    }
+
+    private void verifySearchResults(Results<ScoredDocument> results, String... expectedIds) {
+        List<String> actualIds = new ArrayList<>();
+        for (ScoredDocument document : results) {
+            actualIds.add(document.getId());
+        }
+        assertEquals(Arrays.asList(expectedIds), actualIds);
+        assertEquals(expectedIds.length, results.getNumberFound());
+    }
+
+}
@@ -0,0 +1,60 @@
+package teammates.test.cases.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.storage.api.CourseDeletionsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link CourseDeletionsDb}.
+ */
+public class CourseDeletionsDbTest extends BaseComponentTestCase {
+
+    private static final CourseDeletionsDb courseDeletionsDb = new CourseDeletionsDb();
+
+    @Test
+    public void testPutAndGetCourseDeletionProgress() {
+
+        ______TS("course never deleted");
+
+        assertNull(courseDeletionsDb.getCourseDeletionProgress("CDDbT.never-deleted"));
+
+        ______TS("progress saved and replaced");
+
+        String courseId = "CDDbT.course";
+        CourseDeletionProgress progress = CourseDeletionProgress.start(courseId, "CDDbT.instructor");
+        courseDeletionsDb.putCourseDeletionProgress(progress);
+
+        CourseDeletionProgress savedProgress = courseDeletionsDb.getCourseDeletionProgress(courseId);
+        assertEquals(courseId, savedProgress.getCourseId());
+        assertEquals("CDDbT.instructor", savedProgress.getRequesterId());
+        assertEquals(CourseDeletionProgress.Stage.COMMENTS, savedProgress.getStage());
+        assertNull(savedProgress.getCursor());
+        assertEquals(0, savedProgress.getNumberOfSteps());
+
+        progress = progress.afterPage("cursor-of-next-page").afterPage(null);
+        courseDeletionsDb.putCourseDeletionProgress(progress);
+
+        savedProgress = courseDeletionsDb.getCourseDeletionProgress(courseId);
+        assertEquals(CourseDeletionProgress.Stage.RESPONSES, savedProgress.getStage());
+        assertNull(savedProgress.getCursor());
+        assertEquals(2, savedProgress.getNumberOfSteps());
+
+        progress = progress.afterPage("cursor-of-next-page");
+        courseDeletionsDb.putCourseDeletionProgress(progress);
+        assertEquals("cursor-of-next-page", courseDeletionsDb.getCourseDeletionProgress(courseId).getCursor());
+
+        ______TS("progress saved since a given time");
+
+        assertEquals(3, courseDeletionsDb.getCourseDeletionProgressSavedSince(
+                courseId, Instant.now().minus(Duration.ofHours(1))).getNumberOfSteps());
+        assertNull(courseDeletionsDb.getCourseDeletionProgressSavedSince(
+                courseId, Instant.now().plus(Duration.ofHours(1))));
+        assertNull(courseDeletionsDb.getCourseDeletionProgressSavedSince("CDDbT.never-deleted", Instant.now()));
+    }
+
+}
@@ -0,0 +1,63 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.CourseRostersDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link CourseRostersDb}.
+ */
+public class CourseRostersDbTest extends BaseComponentTestCase {
+
+    private static final CourseRostersDb courseRostersDb = new CourseRostersDb();
+
+    private static final String COURSE_ID = "CRDbT.course";
+
+    @Test
+    public void testCacheAndInvalidateRoster() {
+        List<StudentAttributes> students = Arrays.asList(
+                StudentAttributes.builder(COURSE_ID, "Student 1", "student1@email.tmt")
+                        .withSection("Section 1").withTeam("Team 1").withComments("").build(),
+                StudentAttributes.builder(COURSE_ID, "Student 2", "student2@email.tmt")
+                        .withSection("Section 1").withTeam("Team 1").withComments("").build());
+        InstructorAttributes instructor = InstructorAttributes
+                .builder("CRDbT.instructor", COURSE_ID, "Instructor", "instructor@email.tmt")
+                .withPrivileges(
+                        new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR))
+                .build();
+
+        ______TS("no cached roster");
+
+        long version = courseRostersDb.getRosterVersion(COURSE_ID);
+        assertEquals(version, (long) courseRostersDb.getRosterVersion(COURSE_ID));
+        assertNull(courseRostersDb.getCourseRoster(COURSE_ID, version));
+
+        ______TS("cached roster");
+
+        courseRostersDb.putCourseRoster(COURSE_ID, version, new CourseRoster(students, Arrays.asList(instructor)));
+
+        CourseRoster roster = courseRostersDb.getCourseRoster(COURSE_ID, version);
+        assertEquals(2, roster.getStudents().size());
+        assertEquals("Team 1", roster.getStudentForEmail("student2@email.tmt").team);
+        assertEquals(2, roster.getTeamToMemberEmailsTable().get("Team 1").size());
+        assertEquals(instructor.privileges, roster.getInstructorForEmail("instructor@email.tmt").privileges);
+
+        ______TS("invalidated roster");
+
+        courseRostersDb.invalidateCourseRoster(COURSE_ID);
+
+        long newVersion = courseRostersDb.getRosterVersion(COURSE_ID);
+        assertNotEquals(version, newVersion);
+        assertNull(courseRostersDb.getCourseRoster(COURSE_ID, newVersion));
+    }
+
+}
@@ -3,7 +3,10 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.PARTICIPANT_TYPE_TEAM_ERROR_MESSAGE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -151,6 +154,16 @@ public class FeedbackQuestionsDbTest extends BaseComponentTestCase {
         actual = fqDb.getFeedbackQuestion("non-existent id");
 
         assertNull(actual);
+
+        ______TS("batch get by ids; non-existent questions are absent");
+
+        String id = fqDb.getFeedbackQuestion(expected.feedbackSessionName, expected.courseId,
+                                             expected.questionNumber).getId();
+        Map<String, FeedbackQuestionAttributes> questions =
+                fqDb.getFeedbackQuestions(Arrays.asList(id, "non-existent id"));
+
+        assertEquals(1, questions.size());
+        assertEquals(expected.toString(), questions.get(id).toString());
     }
 
     @Test
@@ -315,6 +328,58 @@ public class FeedbackQuestionsDbTest extends BaseComponentTestCase {
         fqDb.deleteEntity(modifiedQuestion);
     }
 
+    @Test
+    public void testUpdateFeedbackQuestionNumbers() throws Exception {
+        int numToCreate = 3;
+        createFeedbackQuestions(numToCreate);
+        FeedbackQuestionAttributes fqa = getNewFeedbackQuestionAttributes();
+
+        List<FeedbackQuestionAttributes> questions =
+                fqDb.getFeedbackQuestionsForSession(fqa.feedbackSessionName, fqa.courseId);
+        String firstQuestionId = questions.get(0).getId();
+        String secondQuestionId = questions.get(1).getId();
+        String thirdQuestionId = questions.get(2).getId();
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> fqDb.updateFeedbackQuestionNumbers(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ______TS("no questions to update");
+
+        fqDb.updateFeedbackQuestionNumbers(new HashMap<>());
+
+        assertEquals(1, fqDb.getFeedbackQuestion(firstQuestionId).getQuestionNumber());
+
+        ______TS("standard success case: only the given questions are renumbered");
+
+        Map<String, Integer> questionNumbers = new HashMap<>();
+        questionNumbers.put(firstQuestionId, 2);
+        questionNumbers.put(secondQuestionId, 1);
+        questionNumbers.put("non-existent question", 3);
+        fqDb.updateFeedbackQuestionNumbers(questionNumbers);
+
+        assertEquals(2, fqDb.getFeedbackQuestion(firstQuestionId).getQuestionNumber());
+        assertEquals(1, fqDb.getFeedbackQuestion(secondQuestionId).getQuestionNumber());
+        assertEquals(3, fqDb.getFeedbackQuestion(thirdQuestionId).getQuestionNumber());
+
+        ______TS("other fields of a renumbered question are kept");
+
+        fqDb.updateFeedbackQuestion(
+                FeedbackQuestionAttributes.updateOptionsBuilder(thirdQuestionId)
+                        .withQuestionDescription("edited description")
+                        .build());
+        questionNumbers = new HashMap<>();
+        questionNumbers.put(thirdQuestionId, 4);
+        fqDb.updateFeedbackQuestionNumbers(questionNumbers);
+
+        FeedbackQuestionAttributes thirdQuestion = fqDb.getFeedbackQuestion(thirdQuestionId);
+        assertEquals(4, thirdQuestion.getQuestionNumber());
+        assertEquals("edited description", thirdQuestion.getQuestionDescription());
+
+        deleteFeedbackQuestions(numToCreate);
+    }
+
     private FeedbackQuestionAttributes getNewFeedbackQuestionAttributes() {
         FeedbackTextQuestionDetails questionDetails = new FeedbackTextQuestionDetails("Question text.");
 
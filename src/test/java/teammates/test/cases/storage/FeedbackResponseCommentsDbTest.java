@@ -2,7 +2,9 @@ package teammates.test.cases.storage;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -56,6 +58,8 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testGetFeedbackResponseCommentForGiver();
 
+        testGetFeedbackResponseCommentsForQuestion();
+
         testGetFeedbackResponseCommentForResponse();
 
         testUpdateFeedbackResponseComment();
@@ -66,6 +70,8 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testDeleteFeedbackResponseCommentsForResponse();
 
+        testDeleteFeedbackResponseCommentsForResponses();
+
     }
 
     private void testEntityCreationAndDeletion() throws Exception {
@@ -105,6 +111,14 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         ______TS("non-existent comment");
 
         assertNull(frcDb.getFeedbackResponseComment(-1L));
+
+        ______TS("batch read; non-existent comments are absent");
+
+        Map<Long, FeedbackResponseCommentAttributes> frcasActual =
+                frcDb.getFeedbackResponseComments(Arrays.asList(frcaExpected.getId(), -1L));
+
+        assertEquals(1, frcasActual.size());
+        assertEquals(frcaExpected.toString(), frcasActual.get(frcaExpected.getId()).toString());
     }
 
     private void testGetFeedbackResponseCommentFromCommentDetails() {
@@ -176,6 +190,24 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         assertTrue(frcas.isEmpty());
     }
 
+    private void testGetFeedbackResponseCommentsForQuestion() {
+
+        ______TS("typical success case");
+
+        List<FeedbackResponseCommentAttributes> frcas = frcDb.getFeedbackResponseCommentsForQuestion("1");
+        assertEquals(1, frcas.size());
+        assertEquals("1%student1InCourse1@gmail.tmt%student1InCourse1@gmail.tmt", frcas.get(0).feedbackResponseId);
+
+        ______TS("question without comments");
+
+        assertTrue(frcDb.getFeedbackResponseCommentsForQuestion("non-existent-question").isEmpty());
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> frcDb.getFeedbackResponseCommentsForQuestion(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
     private void testGetFeedbackResponseCommentForResponse() {
         String responseId = "1%student1InCourse1@gmail.tmt%student1InCourse1@gmail.tmt";
         ArrayList<FeedbackResponseCommentAttributes> frcasExpected = new ArrayList<>();
@@ -332,6 +364,43 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    private void testDeleteFeedbackResponseCommentsForResponses()
+            throws InvalidParametersException, EntityAlreadyExistsException {
+
+        FeedbackResponseCommentAttributes tempFrcaData =
+                dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q2S1C1");
+        tempFrcaData.createdAt = Instant.now();
+        tempFrcaData.commentText = "comment to be deleted with many other responses";
+        tempFrcaData.setId(null);
+        String responseId = "1%student2InCourse1@gmail.com%student2InCourse1@gmail.com";
+        tempFrcaData.feedbackResponseId = responseId;
+        frcDb.createEntity(tempFrcaData);
+
+        // enough response IDs to take more than one query, with the one that has a comment in the last query
+        List<String> responseIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            responseIds.add("non-existent-response-" + i);
+        }
+        responseIds.add(responseId);
+
+        ______TS("comments of another course are not deleted");
+
+        frcDb.deleteFeedbackResponseCommentsForResponses("non-existent-course", responseIds);
+        assertEquals(1, frcDb.getFeedbackResponseCommentsForResponse(responseId).size());
+
+        ______TS("typical success case");
+
+        frcDb.deleteFeedbackResponseCommentsForResponses(tempFrcaData.courseId, responseIds);
+        assertEquals(0, frcDb.getFeedbackResponseCommentsForResponse(responseId).size());
+        assertFalse(frcDb.getFeedbackResponseCommentsForResponse(frId).isEmpty());
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frcDb.deleteFeedbackResponseCommentsForResponses(null, responseIds));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
     private void verifyListsContainSameResponseCommentAttributes(
             List<FeedbackResponseCommentAttributes> expectedFrcas,
             List<FeedbackResponseCommentAttributes> actualFrcas) {
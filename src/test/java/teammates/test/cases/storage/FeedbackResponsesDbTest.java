@@ -1,14 +1,19 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackResponsesQuery;
+import teammates.common.datatransfer.Page;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -195,6 +200,20 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         actual = frDb.getFeedbackResponse("non-existent id");
 
         assertNull(actual);
+
+        ______TS("batch get by ids; non-existent responses are absent");
+
+        FeedbackResponseAttributes anotherExpected = getResponseAttributes("response2ForQ1S1C1");
+        String anotherId = frDb.getFeedbackResponse(
+                anotherExpected.feedbackQuestionId, anotherExpected.giver, anotherExpected.recipient).getId();
+        String id = frDb.getFeedbackResponse(expected.feedbackQuestionId, expected.giver, expected.recipient).getId();
+
+        Map<String, FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponses(Arrays.asList(id, anotherId, "non-existent id"));
+
+        assertEquals(2, responses.size());
+        assertEquals(expected.toString(), responses.get(id).toString());
+        assertEquals(anotherExpected.toString(), responses.get(anotherId).toString());
     }
 
     @Test
@@ -671,6 +690,113 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 "Empty feedback session", "idOfTypicalCourse1", "Section 1").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesPage() {
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        FeedbackResponsesQuery sessionQuery = FeedbackResponsesQuery.forSession(feedbackSessionName, courseId).build();
+
+        ______TS("standard success case: pages cover all responses once");
+
+        List<String> expectedIds = frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId).stream()
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toList());
+        assertTrue(expectedIds.size() > 2);
+
+        List<String> pagedIds = new ArrayList<>();
+        String cursor = null;
+        int numberOfPages = 0;
+        do {
+            Page<FeedbackResponseAttributes> page = frDb.getFeedbackResponsesPage(sessionQuery, cursor, 2);
+            assertTrue(page.getItems().size() <= 2);
+            assertFalse(page.getItems().isEmpty());
+            page.getItems().forEach(response -> pagedIds.add(response.getId()));
+            cursor = page.getNextCursor();
+            numberOfPages++;
+        } while (cursor != null);
+
+        assertEquals((expectedIds.size() + 1) / 2, numberOfPages);
+        AssertHelper.assertSameContentIgnoreOrder(expectedIds, pagedIds);
+
+        ______TS("page larger than the results: no next page");
+
+        Page<FeedbackResponseAttributes> page = frDb.getFeedbackResponsesPage(sessionQuery, null, expectedIds.size());
+
+        assertEquals(expectedIds.size(), page.getItems().size());
+        assertFalse(page.hasNextPage());
+
+        ______TS("filters are combined");
+
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+        FeedbackResponsesQuery giverQuery = FeedbackResponsesQuery.forSession(feedbackSessionName, courseId)
+                .withGiver(response.giver)
+                .withGiverSection(response.giverSection)
+                .build();
+        List<FeedbackResponseAttributes> expected =
+                frDb.getFeedbackResponsesFromGiverForCourse(courseId, response.giver).stream()
+                        .filter(r -> r.feedbackSessionName.equals(feedbackSessionName))
+                        .collect(Collectors.toList());
+
+        page = frDb.getFeedbackResponsesPage(giverQuery, null, 100);
+
+        AssertHelper.assertSameContentIgnoreOrder(expected, page.getItems());
+
+        FeedbackResponsesQuery questionQuery = FeedbackResponsesQuery.forQuestion(response.feedbackQuestionId)
+                .withRecipient(response.recipient)
+                .withRecipientSection(response.recipientSection)
+                .build();
+
+        page = frDb.getFeedbackResponsesPage(questionQuery, null, 100);
+
+        AssertHelper.assertSameContentIgnoreOrder(
+                frDb.getFeedbackResponsesForReceiverForQuestion(response.feedbackQuestionId, response.recipient),
+                page.getItems());
+
+        ______TS("no matching responses");
+
+        page = frDb.getFeedbackResponsesPage(
+                FeedbackResponsesQuery.forSession("non-existent feedback session", courseId).build(), null, 2);
+
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.hasNextPage());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> frDb.getFeedbackResponsesPage(null, null, 2));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
+    @Test
+    public void testStreamFeedbackResponses() {
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+
+        ______TS("standard success case");
+
+        List<FeedbackResponseAttributes> streamed =
+                frDb.streamFeedbackResponses(FeedbackResponsesQuery.forCourse(courseId).build())
+                        .collect(Collectors.toList());
+
+        List<FeedbackResponseAttributes> expected = fras.values().stream()
+                .filter(response -> response.courseId.equals(courseId))
+                .collect(Collectors.toList());
+        assertEquals(expected.size(), streamed.size());
+
+        ______TS("stream is only consumed as far as needed");
+
+        assertEquals(1, frDb.streamFeedbackResponses(FeedbackResponsesQuery.forCourse(courseId).build())
+                .limit(1).count());
+
+        ______TS("no matching responses");
+
+        assertEquals(0, frDb.streamFeedbackResponses(FeedbackResponsesQuery.forCourse("non-existent courseId").build())
+                .count());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> frDb.streamFeedbackResponses(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     @Test
     public void testUpdateFeedbackResponse() throws Exception {
 
@@ -730,6 +856,156 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         assertEquals(modifiedResponse.getFeedbackQuestionType(), updatedResponse.getFeedbackQuestionType());
     }
 
+    @Test
+    public void testUpdateAndDeleteFeedbackResponsesInBatch() throws Exception {
+        FeedbackResponseAttributes sectionChangedResponse = getNewFeedbackResponseAttributes();
+        sectionChangedResponse.recipient = "batch-recipient1@email.tmt";
+        FeedbackResponseAttributes giverChangedResponse = getNewFeedbackResponseAttributes();
+        giverChangedResponse.recipient = "batch-recipient2@email.tmt";
+        frDb.createEntity(sectionChangedResponse);
+        frDb.createEntity(giverChangedResponse);
+        sectionChangedResponse = frDb.getFeedbackResponse(sectionChangedResponse.feedbackQuestionId,
+                sectionChangedResponse.giver, sectionChangedResponse.recipient);
+        giverChangedResponse = frDb.getFeedbackResponse(giverChangedResponse.feedbackQuestionId,
+                giverChangedResponse.giver, giverChangedResponse.recipient);
+        String oldGiverChangedResponseId = giverChangedResponse.getId();
+
+        ______TS("success : sections updated in place and responses recreated when giver changes");
+
+        sectionChangedResponse.giverSection = "Section A";
+        sectionChangedResponse.recipientSection = "Section B";
+        giverChangedResponse.giver = "new-giver@email.tmt";
+
+        Map<String, FeedbackResponseAttributes> updatedResponses =
+                frDb.updateFeedbackResponses(Arrays.asList(sectionChangedResponse, giverChangedResponse));
+
+        assertEquals(2, updatedResponses.size());
+        FeedbackResponseAttributes actualResponse = frDb.getFeedbackResponse(sectionChangedResponse.getId());
+        assertEquals(sectionChangedResponse.getId(), updatedResponses.get(sectionChangedResponse.getId()).getId());
+        assertEquals("Section A", actualResponse.giverSection);
+        assertEquals("Section B", actualResponse.recipientSection);
+
+        assertNull(frDb.getFeedbackResponse(oldGiverChangedResponseId));
+        FeedbackResponseAttributes recreatedResponse = updatedResponses.get(oldGiverChangedResponseId);
+        actualResponse = frDb.getFeedbackResponse(recreatedResponse.getId());
+        assertEquals("new-giver@email.tmt", actualResponse.giver);
+        assertEquals(giverChangedResponse.recipient, actualResponse.recipient);
+
+        ______TS("failure : invalid response, nothing is updated");
+
+        FeedbackResponseAttributes invalidResponse = frDb.getFeedbackResponse(sectionChangedResponse.getId());
+        invalidResponse.feedbackSessionName = "";
+        assertThrows(InvalidParametersException.class,
+                () -> frDb.updateFeedbackResponses(Arrays.asList(invalidResponse)));
+
+        ______TS("success : delete responses in batch");
+
+        frDb.deleteFeedbackResponses(Arrays.asList(actualResponse, sectionChangedResponse));
+
+        assertNull(frDb.getFeedbackResponse(actualResponse.getId()));
+        assertNull(frDb.getFeedbackResponse(sectionChangedResponse.getId()));
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> frDb.updateFeedbackResponses(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+        ae = assertThrows(AssertionError.class, () -> frDb.deleteFeedbackResponses(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesInBatchWithCollidingIds() throws Exception {
+        FeedbackResponseAttributes existingResponse = createNewFeedbackResponse(
+                "collision-giver1@email.tmt", "collision-recipient@email.tmt", "Existing response");
+        FeedbackResponseAttributes movedResponse = createNewFeedbackResponse(
+                "collision-giver2@email.tmt", "collision-recipient@email.tmt", "Moved response");
+        String oldMovedResponseId = movedResponse.getId();
+
+        ______TS("failure : recreated response takes the ID of an existing response, nothing is updated");
+
+        movedResponse.giver = existingResponse.giver;
+        FeedbackResponseAttributes unchangedResponse = frDb.getFeedbackResponse(existingResponse.getId());
+        unchangedResponse.giverSection = "Section A";
+
+        EntityAlreadyExistsException eaee = assertThrows(EntityAlreadyExistsException.class,
+                () -> frDb.updateFeedbackResponses(Arrays.asList(unchangedResponse, movedResponse)));
+        AssertHelper.assertContains(
+                String.format(FeedbackResponsesDb.ERROR_CREATE_ENTITY_ALREADY_EXISTS,
+                        existingResponse.getEntityTypeAsString()) + existingResponse.getIdentificationString(),
+                eaee.getMessage());
+
+        FeedbackResponseAttributes actualResponse = frDb.getFeedbackResponse(existingResponse.getId());
+        assertEquals("Existing response", actualResponse.getResponseDetails().getAnswerString());
+        assertEquals("None", actualResponse.giverSection);
+        assertEquals("Moved response", frDb.getFeedbackResponse(oldMovedResponseId).getResponseDetails().getAnswerString());
+
+        ______TS("failure : two recreated responses take the same ID, nothing is updated");
+
+        FeedbackResponseAttributes otherMovedResponse = createNewFeedbackResponse(
+                "collision-giver3@email.tmt", "collision-recipient@email.tmt", "Other moved response");
+        FeedbackResponseAttributes movedToSameIdResponse = frDb.getFeedbackResponse(oldMovedResponseId);
+        movedToSameIdResponse.giver = "collision-giver4@email.tmt";
+        otherMovedResponse.giver = "collision-giver4@email.tmt";
+
+        assertThrows(EntityAlreadyExistsException.class,
+                () -> frDb.updateFeedbackResponses(Arrays.asList(movedToSameIdResponse, otherMovedResponse)));
+        assertNotNull(frDb.getFeedbackResponse(oldMovedResponseId));
+        assertNotNull(frDb.getFeedbackResponse(otherMovedResponse.getId()));
+
+        ______TS("success : recreated response takes the ID of a response recreated in the same batch");
+
+        // giver1 -> giver2 while giver2 -> giver5
+        FeedbackResponseAttributes firstResponse = frDb.getFeedbackResponse(existingResponse.getId());
+        firstResponse.giver = "collision-giver2@email.tmt";
+        FeedbackResponseAttributes secondResponse = frDb.getFeedbackResponse(oldMovedResponseId);
+        secondResponse.giver = "collision-giver5@email.tmt";
+
+        Map<String, FeedbackResponseAttributes> updatedResponses =
+                frDb.updateFeedbackResponses(Arrays.asList(firstResponse, secondResponse));
+
+        assertNull(frDb.getFeedbackResponse(existingResponse.getId()));
+        actualResponse = frDb.getFeedbackResponse(updatedResponses.get(existingResponse.getId()).getId());
+        assertEquals(oldMovedResponseId, actualResponse.getId());
+        assertEquals("Existing response", actualResponse.getResponseDetails().getAnswerString());
+        actualResponse = frDb.getFeedbackResponse(updatedResponses.get(oldMovedResponseId).getId());
+        assertEquals("collision-giver5@email.tmt", actualResponse.giver);
+        assertEquals("Moved response", actualResponse.getResponseDetails().getAnswerString());
+    }
+
+    @Test
+    public void testDeletePageOfFeedbackResponsesForCourse() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            FeedbackResponseAttributes response = getNewFeedbackResponseAttributes();
+            response.courseId = "pagedDeletionCourse";
+            response.recipient = "paged-recipient" + i + "@email.tmt";
+            frDb.createEntity(response);
+        }
+        FeedbackResponseAttributes otherResponse = fras.get("response1ForQ1S1C1");
+        int numberOfOtherResponses = frDb.getFeedbackResponsesForSession(
+                otherResponse.feedbackSessionName, otherResponse.courseId).size();
+
+        ______TS("success : full page deleted, with a cursor to the next page");
+
+        String cursor = frDb.deletePageOfFeedbackResponsesForCourse("pagedDeletionCourse", null, 2);
+
+        assertNotNull(cursor);
+        assertEquals(1, frDb.getFeedbackResponsesForSession("fsTest1", "pagedDeletionCourse").size());
+
+        ______TS("success : last page deleted from the cursor");
+
+        assertNull(frDb.deletePageOfFeedbackResponsesForCourse("pagedDeletionCourse", cursor, 2));
+
+        assertTrue(frDb.getFeedbackResponsesForSession("fsTest1", "pagedDeletionCourse").isEmpty());
+        assertEquals(numberOfOtherResponses, frDb.getFeedbackResponsesForSession(
+                otherResponse.feedbackSessionName, otherResponse.courseId).size());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.deletePageOfFeedbackResponsesForCourse(null, null, 2));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
 
@@ -747,6 +1023,16 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         return fra;
     }
 
+    private FeedbackResponseAttributes createNewFeedbackResponse(String giver, String recipient, String answer)
+            throws Exception {
+        FeedbackResponseAttributes fra = getNewFeedbackResponseAttributes();
+        fra.giver = giver;
+        fra.recipient = recipient;
+        fra.responseDetails = new FeedbackTextResponseDetails(answer);
+        frDb.createEntity(fra);
+        return frDb.getFeedbackResponse(fra.feedbackQuestionId, giver, recipient);
+    }
+
     private FeedbackResponseAttributes getResponseAttributes(String id) {
         FeedbackResponseAttributes result = fras.get(id);
         return new FeedbackResponseAttributes(result.feedbackSessionName,
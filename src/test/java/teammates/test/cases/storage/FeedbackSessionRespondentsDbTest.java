@@ -0,0 +1,158 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackSessionRespondents;
+import teammates.storage.api.EntitiesDb;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link FeedbackSessionRespondentsDb}.
+ */
+public class FeedbackSessionRespondentsDbTest extends BaseComponentTestCase {
+
+    private static final FeedbackSessionRespondentsDb fsrDb = new FeedbackSessionRespondentsDb();
+
+    private static final String SESSION_NAME = "FSRDbT session";
+    private static final String COURSE_ID = "FSRDbT.course";
+
+    @AfterMethod
+    public void deleteRespondentsFromDb() {
+        fsrDb.deleteRespondentsForCourses(Arrays.asList(COURSE_ID));
+    }
+
+    @Test
+    public void testAddAndDeleteRespondents() {
+
+        ______TS("no respondents");
+
+        FeedbackSessionRespondents respondents = fsrDb.getRespondents(SESSION_NAME, COURSE_ID);
+        assertEquals(0, respondents.getNumberOfRespondents());
+        assertFalse(fsrDb.isStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID));
+
+        ______TS("add respondents");
+
+        for (int i = 0; i < 50; i++) {
+            fsrDb.addStudentRespondent("student" + i + "@email.tmt", SESSION_NAME, COURSE_ID);
+        }
+        fsrDb.addInstructorRespondent("instructor1@email.tmt", SESSION_NAME, COURSE_ID);
+        // adding an existing respondent has no effect
+        fsrDb.addStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID);
+
+        respondents = fsrDb.getRespondents(SESSION_NAME, COURSE_ID);
+        assertEquals(50, respondents.getStudentRespondents().size());
+        assertEquals(1, respondents.getInstructorRespondents().size());
+        assertEquals(51, respondents.getNumberOfRespondents());
+        assertTrue(fsrDb.isStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID));
+        assertFalse(fsrDb.isInstructorRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID));
+        assertTrue(fsrDb.isInstructorRespondent("instructor1@email.tmt", SESSION_NAME, COURSE_ID));
+        assertEquals(0, fsrDb.getRespondents("other session", COURSE_ID).getNumberOfRespondents());
+
+        ______TS("delete respondents");
+
+        fsrDb.deleteStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID);
+        fsrDb.deleteInstructorRespondent("instructor1@email.tmt", SESSION_NAME, COURSE_ID);
+        // deleting a non-existent respondent has no effect
+        fsrDb.deleteInstructorRespondent("non-existent@email.tmt", SESSION_NAME, COURSE_ID);
+
+        respondents = fsrDb.getRespondents(SESSION_NAME, COURSE_ID);
+        assertEquals(49, respondents.getNumberOfRespondents());
+        assertFalse(fsrDb.isStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID));
+        assertFalse(fsrDb.isInstructorRespondent("instructor1@email.tmt", SESSION_NAME, COURSE_ID));
+
+        ______TS("delete respondents for session");
+
+        fsrDb.deleteRespondentsForSession(SESSION_NAME, COURSE_ID);
+
+        assertEquals(0, fsrDb.getRespondents(SESSION_NAME, COURSE_ID).getNumberOfRespondents());
+    }
+
+    @Test
+    public void testAddAndDeleteRespondentsInBatch() {
+        Set<String> students = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            students.add("student" + i + "@email.tmt");
+        }
+
+        fsrDb.addStudentRespondents(students, SESSION_NAME, COURSE_ID);
+        fsrDb.addInstructorRespondents(Arrays.asList("instructor1@email.tmt"), SESSION_NAME, COURSE_ID);
+
+        FeedbackSessionRespondents respondents = fsrDb.getRespondents(SESSION_NAME, COURSE_ID);
+        assertEquals(students, respondents.getStudentRespondents());
+        assertEquals(new HashSet<>(Arrays.asList("instructor1@email.tmt")), respondents.getInstructorRespondents());
+
+        fsrDb.deleteStudentRespondents(Arrays.asList("student1@email.tmt", "non-existent@email.tmt"),
+                SESSION_NAME, COURSE_ID);
+
+        assertEquals(49, fsrDb.getRespondents(SESSION_NAME, COURSE_ID).getStudentRespondents().size());
+        assertFalse(fsrDb.isStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID));
+    }
+
+    @Test
+    public void testReplaceRespondents() {
+        fsrDb.addStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID);
+        fsrDb.addInstructorRespondent("instructor1@email.tmt", SESSION_NAME, COURSE_ID);
+
+        ______TS("respondents replaced, whether or not the emails are in the same shard");
+
+        for (int i = 0; i < FeedbackSessionRespondentsDb.NUMBER_OF_SHARDS; i++) {
+            String oldEmail = i == 0 ? "student1@email.tmt" : "new" + (i - 1) + "@email.tmt";
+            String newEmail = "new" + i + "@email.tmt";
+            fsrDb.replaceStudentRespondent(oldEmail, newEmail, SESSION_NAME, COURSE_ID);
+
+            assertFalse(fsrDb.isStudentRespondent(oldEmail, SESSION_NAME, COURSE_ID));
+            assertTrue(fsrDb.isStudentRespondent(newEmail, SESSION_NAME, COURSE_ID));
+        }
+        assertEquals(1, fsrDb.getRespondents(SESSION_NAME, COURSE_ID).getStudentRespondents().size());
+
+        fsrDb.replaceInstructorRespondent("instructor1@email.tmt", "instructor2@email.tmt", SESSION_NAME, COURSE_ID);
+
+        assertFalse(fsrDb.isInstructorRespondent("instructor1@email.tmt", SESSION_NAME, COURSE_ID));
+        assertTrue(fsrDb.isInstructorRespondent("instructor2@email.tmt", SESSION_NAME, COURSE_ID));
+
+        ______TS("non-respondent not added");
+
+        fsrDb.replaceStudentRespondent("non-respondent@email.tmt", "other@email.tmt", SESSION_NAME, COURSE_ID);
+        // an instructor respondent is not replaced as a student
+        fsrDb.replaceStudentRespondent("instructor2@email.tmt", "other@email.tmt", SESSION_NAME, COURSE_ID);
+
+        assertFalse(fsrDb.isStudentRespondent("other@email.tmt", SESSION_NAME, COURSE_ID));
+        assertTrue(fsrDb.isInstructorRespondent("instructor2@email.tmt", SESSION_NAME, COURSE_ID));
+        assertEquals(2, fsrDb.getRespondents(SESSION_NAME, COURSE_ID).getNumberOfRespondents());
+    }
+
+    @Test
+    public void testPutRespondentsDeferred() {
+        fsrDb.addStudentRespondent("old@email.tmt", SESSION_NAME, COURSE_ID);
+
+        fsrDb.putRespondentsDeferred(new FeedbackSessionRespondents(SESSION_NAME, COURSE_ID,
+                new HashSet<>(Arrays.asList("student1@email.tmt", "student2@email.tmt")),
+                new HashSet<>(Arrays.asList("instructor1@email.tmt"))));
+        EntitiesDb.flush();
+
+        FeedbackSessionRespondents respondents = fsrDb.getRespondents(SESSION_NAME, COURSE_ID);
+        assertEquals(new HashSet<>(Arrays.asList("student1@email.tmt", "student2@email.tmt")),
+                respondents.getStudentRespondents());
+        assertEquals(new HashSet<>(Arrays.asList("instructor1@email.tmt")), respondents.getInstructorRespondents());
+    }
+
+    @Test
+    public void testDeleteRespondentsForCourses() {
+        fsrDb.addStudentRespondent("student1@email.tmt", SESSION_NAME, COURSE_ID);
+        fsrDb.addStudentRespondent("student1@email.tmt", SESSION_NAME, "FSRDbT.other.course");
+
+        fsrDb.deleteRespondentsForCourses(Arrays.asList(COURSE_ID));
+
+        assertEquals(0, fsrDb.getRespondents(SESSION_NAME, COURSE_ID).getNumberOfRespondents());
+        assertEquals(1, fsrDb.getRespondents(SESSION_NAME, "FSRDbT.other.course").getNumberOfRespondents());
+
+        fsrDb.deleteRespondentsForCourses(Arrays.asList("FSRDbT.other.course"));
+    }
+
+}
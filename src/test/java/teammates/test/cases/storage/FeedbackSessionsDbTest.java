@@ -8,6 +8,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -132,6 +133,15 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         assertNotNull(fsDb.getSoftDeletedFeedbackSession("idOfTypicalCourse4", "First feedback session"));
         assertNull(fsDb.getFeedbackSession("idOfTypicalCourse4", "First feedback session"));
 
+        ______TS("sessions read in parallel");
+
+        Supplier<FeedbackSessionAttributes> typicalSession =
+                fsDb.getFeedbackSessionAsync("idOfTypicalCourse2", "Instructor feedback session");
+        Supplier<FeedbackSessionAttributes> softDeletedSession =
+                fsDb.getFeedbackSessionAsync("idOfTypicalCourse4", "First feedback session");
+        assertNull(softDeletedSession.get());
+        assertEquals(expected.toString(), typicalSession.get().toString());
+
         ______TS("null fsName");
 
         AssertionError ae = assertThrows(AssertionError.class,
@@ -16,6 +16,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.RequestCache;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.InstructorsLogic;
 import teammates.storage.api.EntitiesDb;
@@ -246,6 +247,41 @@ public class InstructorsDbTest extends BaseComponentTestCase {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    @Test
+    public void testGetInstructorsForCourse_withRequestCache_shouldReflectWrites() throws Exception {
+        String courseId = "idOfTypicalCourse1";
+        InstructorAttributes newInstructor = InstructorAttributes
+                .builder("InsDbT.newInstructor", courseId, "New Instructor", "InsDbT.newInstructor@email.tmt")
+                .build();
+
+        RequestCache.begin();
+        try {
+            ______TS("repeated queries return the same results");
+
+            assertEquals(5, instructorsDb.getInstructorsForCourse(courseId).size());
+            assertEquals(5, instructorsDb.getInstructorsForCourse(courseId).size());
+            assertNull(instructorsDb.getInstructorForGoogleId(courseId, newInstructor.googleId));
+
+            ______TS("create instructor: cached results are discarded");
+
+            instructorsDb.createEntity(newInstructor);
+
+            assertEquals(6, instructorsDb.getInstructorsForCourse(courseId).size());
+            assertEquals(newInstructor.email,
+                    instructorsDb.getInstructorForGoogleId(courseId, newInstructor.googleId).email);
+
+            ______TS("delete instructor: cached results are discarded");
+
+            instructorsDb.deleteInstructor(courseId, newInstructor.email);
+
+            assertEquals(5, instructorsDb.getInstructorsForCourse(courseId).size());
+            assertNull(instructorsDb.getInstructorForGoogleId(courseId, newInstructor.googleId));
+        } finally {
+            RequestCache.end();
+            instructorsDb.deleteInstructor(courseId, newInstructor.email);
+        }
+    }
+
     @Test
     public void testUpdateInstructorByGoogleId() throws Exception {
 
@@ -3,6 +3,9 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -235,6 +238,72 @@ public class StudentsDbTest extends BaseComponentTestCase {
         assertEquals("this are new comments", updatedStudent.getComments());
     }
 
+    @Test
+    public void testPutStudents() throws Exception {
+        StudentAttributes existingStudent = createNewStudent();
+        existingStudent.googleId = "validGoogleId";
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(existingStudent.course, existingStudent.email)
+                        .withGoogleId(existingStudent.googleId)
+                        .build());
+        String key = studentsDb.getStudentForEmail(existingStudent.course, existingStudent.email).key;
+
+        ______TS("success : new and existing students are saved together");
+
+        StudentAttributes modifiedStudent = StudentAttributes
+                .builder(existingStudent.course, "new name", existingStudent.email)
+                .withComments("new comments")
+                .withTeam("newTeamName")
+                .withSection("newSectionName")
+                .build();
+        StudentAttributes newStudent = StudentAttributes
+                .builder(existingStudent.course, "new student", "putStudents@email.com")
+                .withComments("")
+                .withTeam("newTeamName")
+                .withSection("newSectionName")
+                .build();
+
+        List<StudentAttributes> savedStudents = studentsDb.putStudents(Arrays.asList(modifiedStudent, newStudent));
+        assertEquals(2, savedStudents.size());
+
+        StudentAttributes updatedStudent = studentsDb.getStudentForEmail(existingStudent.course, existingStudent.email);
+        assertEquals("new name", updatedStudent.name);
+        assertEquals("new comments", updatedStudent.comments);
+        assertEquals("newTeamName", updatedStudent.team);
+        assertEquals("newSectionName", updatedStudent.section);
+        // registration details are kept
+        assertEquals(existingStudent.googleId, updatedStudent.googleId);
+        assertEquals(key, updatedStudent.key);
+
+        assertNotNull(studentsDb.getStudentForEmail(newStudent.course, newStudent.email));
+
+        ______TS("failure : invalid student, nothing is saved");
+
+        StudentAttributes invalidStudent = StudentAttributes
+                .builder(existingStudent.course, "invalid student", "invalid-email")
+                .withComments("")
+                .withTeam("newTeamName")
+                .withSection("newSectionName")
+                .build();
+        StudentAttributes anotherNewStudent = StudentAttributes
+                .builder(existingStudent.course, "another student", "putStudents2@email.com")
+                .withComments("")
+                .withTeam("newTeamName")
+                .withSection("newSectionName")
+                .build();
+
+        assertThrows(InvalidParametersException.class,
+                () -> studentsDb.putStudents(Arrays.asList(anotherNewStudent, invalidStudent)));
+        assertNull(studentsDb.getStudentForEmail(anotherNewStudent.course, anotherNewStudent.email));
+
+        ______TS("failure : null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> studentsDb.putStudents(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        studentsDb.deleteStudentsForCourse(existingStudent.course);
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void testDeleteStudent() throws Exception {
@@ -0,0 +1,49 @@
+package teammates.test.cases.storage;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.UserInfo;
+import teammates.storage.api.UserRolesDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link UserRolesDb}.
+ */
+public class UserRolesDbTest extends BaseComponentTestCase {
+
+    private static final UserRolesDb userRolesDb = new UserRolesDb();
+
+    private static final String GOOGLE_ID = "URDbT.user";
+
+    @Test
+    public void testCacheAndInvalidateRoles() {
+
+        ______TS("no cached roles");
+
+        long version = userRolesDb.getRolesVersion(GOOGLE_ID);
+        assertEquals(version, (long) userRolesDb.getRolesVersion(GOOGLE_ID));
+        assertNull(userRolesDb.getUserRoles(GOOGLE_ID, version));
+
+        ______TS("cached roles");
+
+        UserInfo roles = new UserInfo(GOOGLE_ID);
+        roles.isInstructor = true;
+        roles.isStudent = false;
+        userRolesDb.putUserRoles(version, roles);
+
+        UserInfo cachedRoles = userRolesDb.getUserRoles(GOOGLE_ID, version);
+        assertEquals(GOOGLE_ID, cachedRoles.id);
+        assertFalse(cachedRoles.isAdmin);
+        assertTrue(cachedRoles.isInstructor);
+        assertFalse(cachedRoles.isStudent);
+
+        ______TS("invalidated roles");
+
+        userRolesDb.invalidateUserRoles(GOOGLE_ID);
+
+        long newVersion = userRolesDb.getRolesVersion(GOOGLE_ID);
+        assertNotEquals(version, newVersion);
+        assertNull(userRolesDb.getUserRoles(GOOGLE_ID, newVersion));
+    }
+
+}
@@ -1,10 +1,18 @@
 package teammates.test.cases.util;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.testng.annotations.Test;
 
 import com.google.gson.JsonParseException;
 
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.JsonUtils;
 import teammates.test.cases.BaseTestCase;
@@ -41,4 +49,60 @@ public class JsonUtilsTest extends BaseTestCase {
             fail("error detected during serializing");
         }
     }
+
+    @Test
+    public void testToCompactJson_withComposedResponseDetails_shouldSerializeWithoutWhitespace() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes(
+                "Session1", "CS3281",
+                "questionId", "giver@email.com", "giverSection",
+                "recipient@email.com", "recipientSection",
+                new FeedbackTextResponseDetails("My answer"));
+
+        assertEquals("{\"feedbackSessionName\":\"Session1\",\"courseId\":\"CS3281\","
+                + "\"feedbackQuestionId\":\"questionId\",\"giver\":\"giver@email.com\","
+                + "\"recipient\":\"recipient@email.com\","
+                + "\"responseDetails\":{\"answer\":\"My answer\",\"questionType\":\"TEXT\"},"
+                + "\"giverSection\":\"giverSection\",\"recipientSection\":\"recipientSection\"}",
+                JsonUtils.toCompactJson(fra));
+    }
+
+    @Test
+    public void testToCompactJson_withWriter_shouldStreamSameJson() throws IOException {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes(
+                "Session1", "CS3281",
+                "questionId", "giver@email.com", "giverSection",
+                "recipient@email.com", "recipientSection",
+                new FeedbackTextResponseDetails("My answer </td>é"));
+
+        StringWriter writer = new StringWriter();
+        JsonUtils.toCompactJson(fra, writer);
+        assertEquals(JsonUtils.toCompactJson(fra), writer.toString());
+    }
+
+    @Test
+    public void testFeedbackDetailsAdaptor_withAbstractType_shouldDeserializeToConcreteClass() {
+        FeedbackResponseDetails responseDetails = JsonUtils.fromJson(
+                "{\"answer\":\"My answer\",\"questionType\":\"TEXT\"}", FeedbackResponseDetails.class);
+        assertTrue(responseDetails instanceof FeedbackTextResponseDetails);
+        assertEquals("My answer", responseDetails.getAnswerString());
+
+        FeedbackMcqResponseDetails mcqDetails = new FeedbackMcqResponseDetails();
+        mcqDetails.extractResponseDetails(FeedbackQuestionType.MCQ, null, new String[] { "A" });
+        FeedbackResponseDetails mcqDetailsCopy = JsonUtils.fromJson(
+                JsonUtils.toCompactJson(mcqDetails, FeedbackResponseDetails.class), FeedbackResponseDetails.class);
+        assertTrue(mcqDetailsCopy instanceof FeedbackMcqResponseDetails);
+        assertEquals("A", mcqDetailsCopy.getAnswerString());
+
+        FeedbackQuestionDetails questionDetails = JsonUtils.fromJson(
+                JsonUtils.toJson(new FeedbackTextQuestionDetails("Question text"), FeedbackQuestionDetails.class),
+                FeedbackQuestionDetails.class);
+        assertTrue(questionDetails instanceof FeedbackTextQuestionDetails);
+        assertEquals(FeedbackQuestionType.TEXT, questionDetails.getQuestionType());
+        assertEquals("Question text", questionDetails.getQuestionText());
+
+        ______TS("missing question type");
+
+        assertThrows(JsonParseException.class,
+                () -> JsonUtils.fromJson("{\"answer\":\"My answer\"}", FeedbackResponseDetails.class));
+    }
 }
@@ -0,0 +1,46 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Pseudonymizer;
+import teammates.common.util.StringHelper;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link Pseudonymizer}.
+ */
+public class PseudonymizerTest extends BaseTestCase {
+
+    @Test
+    public void testGetPseudonym_encryptionMode() {
+        Pseudonymizer pseudonymizer = new Pseudonymizer(Pseudonymizer.Mode.ENCRYPTION);
+
+        ______TS("pseudonym is the hash of the encrypted name");
+
+        String expectedPseudonym = Long.toString(Math.abs((long) StringHelper.encrypt("Alice Betsy").hashCode()));
+        assertEquals(expectedPseudonym, pseudonymizer.getPseudonym("Alice Betsy"));
+
+        ______TS("pseudonyms are stable across calls and instances, and differ between names");
+
+        assertEquals(expectedPseudonym, pseudonymizer.getPseudonym("Alice Betsy"));
+        assertEquals(expectedPseudonym, new Pseudonymizer(Pseudonymizer.Mode.ENCRYPTION).getPseudonym("Alice Betsy"));
+        assertNotEquals(expectedPseudonym, pseudonymizer.getPseudonym("Benny Charles"));
+    }
+
+    @Test
+    public void testGetPseudonym_hmacMode() {
+        Pseudonymizer pseudonymizer = new Pseudonymizer(Pseudonymizer.Mode.HMAC);
+
+        String pseudonym = pseudonymizer.getPseudonym("Alice Betsy");
+        assertTrue(pseudonym.matches("\\d+"));
+        assertEquals(pseudonym, new Pseudonymizer(Pseudonymizer.Mode.HMAC).getPseudonym("Alice Betsy"));
+        assertNotEquals(pseudonym, pseudonymizer.getPseudonym("Benny Charles"));
+        assertNotEquals(new Pseudonymizer(Pseudonymizer.Mode.ENCRYPTION).getPseudonym("Alice Betsy"), pseudonym);
+    }
+
+    @Test
+    public void testDerivePseudonym() {
+        assertEquals(new Pseudonymizer().getPseudonym("Alice Betsy"), Pseudonymizer.derivePseudonym("Alice Betsy"));
+    }
+
+}
@@ -0,0 +1,82 @@
+package teammates.test.cases.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.RequestCache;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link RequestCache}.
+ */
+public class RequestCacheTest extends BaseTestCase {
+
+    private final AtomicInteger numberOfQueries = new AtomicInteger();
+
+    @AfterMethod
+    public void endRequest() {
+        RequestCache.end();
+        numberOfQueries.set(0);
+    }
+
+    @Test
+    public void testGet() {
+
+        ______TS("no request: query is always run");
+
+        assertEquals("result1", RequestCache.get("Kind", "query", this::runQuery));
+        assertEquals("result2", RequestCache.get("Kind", "query", this::runQuery));
+
+        ______TS("in request: query is run once");
+
+        RequestCache.begin();
+
+        assertEquals("result3", RequestCache.get("Kind", "query", this::runQuery));
+        assertEquals("result3", RequestCache.get("Kind", "query", this::runQuery));
+        assertEquals(3, numberOfQueries.get());
+
+        ______TS("in request: null results are cached");
+
+        assertNull(RequestCache.get("Kind", "nullQuery", () -> null));
+        assertNull(RequestCache.get("Kind", "nullQuery", this::runQuery));
+        assertEquals(3, numberOfQueries.get());
+
+        ______TS("in request: different queries and kinds are cached separately");
+
+        assertEquals("result4", RequestCache.get("Kind", "otherQuery", this::runQuery));
+        assertEquals("result5", RequestCache.get("OtherKind", "query", this::runQuery));
+        assertEquals("result3", RequestCache.get("Kind", "query", this::runQuery));
+
+        ______TS("new request: previous results are discarded");
+
+        RequestCache.end();
+        RequestCache.begin();
+
+        assertEquals("result6", RequestCache.get("Kind", "query", this::runQuery));
+    }
+
+    @Test
+    public void testInvalidate() {
+        RequestCache.begin();
+
+        assertEquals("result1", RequestCache.get("Kind", "query", this::runQuery));
+        assertEquals("result2", RequestCache.get("OtherKind", "query", this::runQuery));
+
+        RequestCache.invalidate("Kind");
+
+        assertEquals("result3", RequestCache.get("Kind", "query", this::runQuery));
+        assertEquals("result2", RequestCache.get("OtherKind", "query", this::runQuery));
+
+        ______TS("no request: invalidation is ignored");
+
+        RequestCache.end();
+        RequestCache.invalidate("Kind");
+    }
+
+    private String runQuery() {
+        return "result" + numberOfQueries.incrementAndGet();
+    }
+
+}
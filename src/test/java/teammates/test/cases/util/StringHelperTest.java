@@ -155,6 +155,25 @@ public class StringHelperTest extends BaseTestCase {
         assertEquals(msg, decrptedMsg);
     }
 
+    @Test
+    public void testKeyEncryption_afterInvalidCiphertext_stillDecrypts() throws InvalidParametersException {
+        String msg = "Test decryption";
+        String ciphertext = StringHelper.encrypt(msg);
+        assertEquals(ciphertext, StringHelper.encrypt(msg));
+
+        assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt(ciphertext.substring(2)));
+        assertEquals(msg, StringHelper.decrypt(ciphertext));
+    }
+
+    @Test
+    public void testComputeHmac() {
+        String hmac = StringHelper.computeHmac("Test hmac");
+
+        assertEquals(64, hmac.length());
+        assertEquals(hmac, StringHelper.computeHmac("Test hmac"));
+        assertNotEquals(hmac, StringHelper.computeHmac("Test hmac 2"));
+    }
+
     @Test
     public void testDefaultAesCipherParams() throws Exception {
         //plaintext is less than 1 block long
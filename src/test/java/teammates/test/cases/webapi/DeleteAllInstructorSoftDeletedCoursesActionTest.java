@@ -56,7 +56,10 @@ public class DeleteAllInstructorSoftDeletedCoursesActionTest
         MessageOutput message = (MessageOutput) result.getOutput();
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
-        assertEquals("All courses in Recycle Bin have been permanently deleted.", message.getMessage());
+        assertEquals("All courses in Recycle Bin are being permanently deleted.", message.getMessage());
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 2);
+        assertEquals(0, logic.getCourseDeletionProgress(courseId).getNumberOfSteps());
+        assertEquals(0, logic.getCourseDeletionProgress("new-course").getNumberOfSteps());
 
     }
 
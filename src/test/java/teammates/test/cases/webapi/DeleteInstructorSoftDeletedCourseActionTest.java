@@ -3,6 +3,7 @@ package teammates.test.cases.webapi;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 import teammates.logic.core.CoursesLogic;
@@ -50,7 +51,39 @@ public class DeleteInstructorSoftDeletedCourseActionTest
         MessageOutput message = (MessageOutput) result.getOutput();
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
-        assertEquals("The course " + courseId + " has been permanently deleted.", message.getMessage());
+        assertEquals("The course " + courseId + " is being permanently deleted.", message.getMessage());
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+
+        CourseDeletionProgress progress = logic.getCourseDeletionProgress(courseId);
+        assertFalse(progress.isDone());
+        assertEquals(0, progress.getNumberOfSteps());
+        assertEquals(instructorId, progress.getRequesterId());
+
+        ______TS("Course already being deleted, deletion not started over");
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+        message = (MessageOutput) result.getOutput();
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertEquals("The course " + courseId + " is being permanently deleted.", message.getMessage());
+        verifyNoTasksAdded(action);
+
+        ______TS("Course not in Recycle Bin");
+
+        String otherCourseId = typicalBundle.instructors.get("instructor1OfCourse2").courseId;
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, otherCourseId,
+        };
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+        message = (MessageOutput) result.getOutput();
+
+        assertEquals(HttpStatus.SC_BAD_REQUEST, result.getStatusCode());
+        assertEquals("The course " + otherCourseId + " is not in Recycle Bin.", message.getMessage());
+        verifyNoTasksAdded(action);
+        assertNull(logic.getCourseDeletionProgress(otherCourseId));
 
     }
 
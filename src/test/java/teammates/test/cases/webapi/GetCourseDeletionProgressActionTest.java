@@ -0,0 +1,124 @@
+package teammates.test.cases.webapi;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.webapi.action.GetCourseDeletionProgressAction;
+import teammates.ui.webapi.action.GetCourseDeletionProgressAction.CourseDeletionProgressData;
+import teammates.ui.webapi.action.JsonResult;
+
+/**
+ * SUT: {@link GetCourseDeletionProgressAction}.
+ */
+public class GetCourseDeletionProgressActionTest extends BaseActionTest<GetCourseDeletionProgressAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.COURSE_DELETION_PROGRESS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+
+        InstructorAttributes instructor1OfCourse2 = typicalBundle.instructors.get("instructor1OfCourse2");
+        String instructorId = instructor1OfCourse2.googleId;
+        String courseId = instructor1OfCourse2.courseId;
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+
+        loginAsInstructor(instructorId);
+
+        ______TS("Typical case, deletion just started");
+
+        logic.moveCourseToRecycleBin(courseId);
+        logic.startCourseDeletion(courseId, instructorId);
+
+        GetCourseDeletionProgressAction action = getAction(submissionParams);
+        JsonResult result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+
+        CourseDeletionProgressData output = (CourseDeletionProgressData) result.getOutput();
+        assertEquals(courseId, output.getCourseId());
+        assertEquals(CourseDeletionProgress.Stage.COMMENTS, output.getStage());
+        assertEquals(0, output.getStagesCompleted());
+        assertEquals(5, output.getStagesTotal());
+        assertEquals(0, output.getPagesDeleted());
+        assertFalse(output.isDone());
+
+        ______TS("Typical case, deletion done");
+
+        logic.continueCourseDeletion(logic.getCourseDeletionProgress(courseId));
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+
+        output = (CourseDeletionProgressData) result.getOutput();
+        assertEquals(CourseDeletionProgress.Stage.DONE, output.getStage());
+        assertEquals(5, output.getStagesCompleted());
+        assertTrue(output.isDone());
+        assertFalse(output.isCancelled());
+
+        ______TS("Course not being deleted");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, "idOfUnknownCourse",
+        };
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_NOT_FOUND, result.getStatusCode());
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, "idOfTypicalCourse1",
+        };
+
+        verifyOnlyInstructorsCanAccess(submissionParams);
+        verifyInaccessibleWithoutModifyCoursePrivilege(submissionParams);
+
+        ______TS("Course deleted, only the instructor who deleted it can access");
+
+        InstructorAttributes instructor1OfCourse2 = typicalBundle.instructors.get("instructor1OfCourse2");
+        String courseId = instructor1OfCourse2.courseId;
+        logic.moveCourseToRecycleBin(courseId);
+        logic.continueCourseDeletion(logic.startCourseDeletion(courseId, instructor1OfCourse2.googleId));
+        assertNull(logic.getCourse(courseId));
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+
+        loginAsInstructor(instructor1OfCourse2.googleId);
+        verifyCanAccess(submissionParams);
+
+        loginAsInstructor(typicalBundle.instructors.get("instructor2OfCourse2").googleId);
+        verifyCannotAccess(submissionParams);
+
+        loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").googleId);
+        verifyCannotAccess(submissionParams);
+
+        ______TS("Course not being deleted and not existing, no instructor can access");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, "idOfUnknownCourse",
+        };
+
+        verifyCannotAccess(submissionParams);
+    }
+}
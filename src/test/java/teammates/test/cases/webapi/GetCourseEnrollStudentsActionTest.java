@@ -60,6 +60,33 @@ public class GetCourseEnrollStudentsActionTest extends BaseActionTest<GetCourseE
         assertEquals(expectedString, resultString.toString());
     }
 
+    @Test
+    public void testGetETag() {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        InstructorAttributes instructor2OfCourse1 = typicalBundle.instructors.get("instructor2OfCourse1");
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, instructor1OfCourse1.courseId,
+        };
+
+        ______TS("tag is strong and stable while the roster is unchanged");
+
+        loginAsInstructor(instructor1OfCourse1.googleId);
+        String eTag = getAction(submissionParams).getETag();
+        assertTrue(eTag.matches("\"[0-9A-F]+\""));
+        assertEquals(eTag, getAction(submissionParams).getETag());
+
+        ______TS("tag differs between users");
+
+        loginAsInstructor(instructor2OfCourse1.googleId);
+        assertNotEquals(eTag, getAction(submissionParams).getETag());
+
+        ______TS("tag changes when the roster changes");
+
+        loginAsInstructor(instructor1OfCourse1.googleId);
+        logic.deleteStudent(instructor1OfCourse1.courseId, typicalBundle.students.get("student1InCourse1").email);
+        assertNotEquals(eTag, getAction(submissionParams).getETag());
+    }
+
     @Test
     @Override
     protected void testAccessControl() throws Exception {
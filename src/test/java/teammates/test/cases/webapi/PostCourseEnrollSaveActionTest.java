@@ -84,6 +84,9 @@ public class PostCourseEnrollSaveActionTest extends BaseActionTest<PostCourseEnr
 
         EnrollResults output = (EnrollResults) r.getOutput();
 
+        // only the student who changed team and section needs the responses adjusted
+        verifySpecifiedTasksAdded(a, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 1);
+
         List<TaskWrapper> tasksAdded = a.getTaskQueuer().getTasksAdded();
         for (TaskWrapper task : tasksAdded) {
             Map<String, String[]> paramMap = task.getParamMap();
@@ -52,6 +52,21 @@ public class RestoreInstructorSoftDeletedCourseActionTest
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
         assertEquals("The course " + courseId + " has been restored.", message.getMessage());
 
+        ______TS("Course being permanently deleted cannot be restored");
+
+        CoursesLogic.inst().moveCourseToRecycleBin(courseId);
+        logic.startCourseDeletion(courseId, instructorId);
+        assertNull(CoursesLogic.inst().getSoftDeletedCourseForInstructor(instructor1OfCourse1));
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+        message = (MessageOutput) result.getOutput();
+
+        assertEquals(HttpStatus.SC_BAD_REQUEST, result.getStatusCode());
+        assertEquals("The course " + courseId + " is being permanently deleted and can no longer be restored.",
+                message.getMessage());
+        assertTrue(logic.getCourse(courseId).isCourseDeleted());
+
     }
 
     @Override
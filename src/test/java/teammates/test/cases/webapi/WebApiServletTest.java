@@ -1,5 +1,10 @@
 package teammates.test.cases.webapi;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -7,20 +12,24 @@ import org.testng.annotations.Test;
 
 import com.google.appengine.api.datastore.DatastoreTimeoutException;
 import com.google.apphosting.api.DeadlineExceededException;
+import com.google.common.io.ByteStreams;
 
+import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidHttpParameterException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
-import teammates.test.cases.BaseTestCaseWithObjectifyAccess;
+import teammates.common.util.JsonUtils;
+import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.MockHttpServletRequest;
 import teammates.test.driver.MockHttpServletResponse;
 import teammates.ui.webapi.action.WebApiServlet;
+import teammates.ui.webapi.output.MessageOutput;
 
 /**
  * SUT: {@link WebApiServlet}.
  */
-public class WebApiServletTest extends BaseTestCaseWithObjectifyAccess {
+public class WebApiServletTest extends BaseComponentTestCase {
 
     private static final WebApiServlet SERVLET = new WebApiServlet();
 
@@ -42,6 +51,9 @@ public class WebApiServletTest extends BaseTestCaseWithObjectifyAccess {
 
         SERVLET.doGet(mockRequest, mockResponse);
         assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertEquals("no-store", mockResponse.getHeader("Cache-Control"));
+        assertEquals("no-cache", mockResponse.getHeader("Pragma"));
+        assertNull(mockResponse.getHeader("ETag"));
 
         ______TS("Failure case: invalid action mapping");
 
@@ -109,6 +121,10 @@ public class WebApiServletTest extends BaseTestCaseWithObjectifyAccess {
 
         SERVLET.doGet(mockRequest, mockResponse);
         assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, mockResponse.getStatus());
+        assertEquals("no-store", mockResponse.getHeader("Cache-Control"));
+        MessageOutput errorOutput = JsonUtils.fromJson(
+                new String(mockResponse.getOutputBytes(), StandardCharsets.UTF_8), MessageOutput.class);
+        assertEquals("NullPointerException testing", errorOutput.getMessage());
 
         ______TS("Failure case: AssertionError");
 
@@ -120,4 +136,93 @@ public class WebApiServletTest extends BaseTestCaseWithObjectifyAccess {
 
     }
 
+    @Test
+    public void testJsonOutput() throws Exception {
+
+        ______TS("Typical case: output is sent uncompressed by default");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertNull(mockResponse.getHeader("Content-Encoding"));
+        String json = new String(mockResponse.getOutputBytes(), StandardCharsets.UTF_8);
+        MessageOutput output = JsonUtils.fromJson(json, MessageOutput.class);
+        assertEquals("Test output", output.getMessage());
+
+        ______TS("Typical case: output is compressed if the client accepts gzip");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+        mockRequest.addHeader("Accept-Encoding", "deflate, GZIP;q=0.5");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals("gzip", mockResponse.getHeader("Content-Encoding"));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(mockResponse.getOutputBytes()))) {
+            assertEquals(json, new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8));
+        }
+
+        ______TS("Typical case: output is sent uncompressed if the client refuses gzip");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+        mockRequest.addHeader("Accept-Encoding", "deflate, gzip;q=0.0");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertNull(mockResponse.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    public void testConditionalGet() throws Exception {
+        removeAndRestoreTypicalDataBundle();
+        InstructorAttributes instructor = getTypicalDataBundle().instructors.get("instructor1OfCourse1");
+        gaeSimulation.loginUser(instructor.googleId);
+
+        ______TS("Typical case: first request gets the entity tag of the output");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.COURSE_ENROLL_STUDENTS);
+        mockRequest.addParam(Const.ParamsNames.COURSE_ID, instructor.courseId);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertEquals("private, no-cache", mockResponse.getHeader("Cache-Control"));
+        assertNull(mockResponse.getHeader("Pragma"));
+        String eTag = mockResponse.getHeader("ETag");
+        assertNotNull(eTag);
+
+        ______TS("Typical case: output not modified since the last request");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.COURSE_ENROLL_STUDENTS);
+        mockRequest.addParam(Const.ParamsNames.COURSE_ID, instructor.courseId);
+        mockRequest.addHeader("If-None-Match", "\"other\", W/" + eTag);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals(eTag, mockResponse.getHeader("ETag"));
+        assertEquals("private, no-cache", mockResponse.getHeader("Cache-Control"));
+
+        ______TS("Typical case: output modified since the last request");
+
+        logic.deleteStudent(instructor.courseId, getTypicalDataBundle().students.get("student1InCourse1").email);
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.COURSE_ENROLL_STUDENTS);
+        mockRequest.addParam(Const.ParamsNames.COURSE_ID, instructor.courseId);
+        mockRequest.addHeader("If-None-Match", eTag);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertNotEquals(eTag, mockResponse.getHeader("ETag"));
+
+        ______TS("Failure case: access control is checked before the entity tag");
+
+        gaeSimulation.loginUser(getTypicalDataBundle().instructors.get("instructor1OfCourse2").googleId);
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.COURSE_ENROLL_STUDENTS);
+        mockRequest.addParam(Const.ParamsNames.COURSE_ID, instructor.courseId);
+        mockRequest.addHeader("If-None-Match", "*");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_FORBIDDEN, mockResponse.getStatus());
+        assertNull(mockResponse.getHeader("ETag"));
+        assertEquals("no-store", mockResponse.getHeader("Cache-Control"));
+    }
+
 }
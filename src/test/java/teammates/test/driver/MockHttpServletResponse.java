@@ -1,10 +1,14 @@
 package teammates.test.driver;
 
+import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 
@@ -19,6 +23,8 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
+    private Map<String, String> headers = new HashMap<>();
+    private ByteArrayOutputStream output = new ByteArrayOutputStream();
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -27,7 +33,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public boolean containsHeader(String name) {
-        return false;
+        return headers.containsKey(name);
     }
 
     @Override
@@ -81,7 +87,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setHeader(String name, String value) {
-        // not used
+        headers.put(name, value);
     }
 
     @Override
@@ -116,7 +122,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public String getHeader(String s) {
-        return null;
+        return headers.get(s);
     }
 
     @Override
@@ -141,7 +147,29 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public ServletOutputStream getOutputStream() {
-        return null;
+        return new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // not used
+            }
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+        };
+    }
+
+    /**
+     * Returns the bytes written to the output stream of the response.
+     */
+    public byte[] getOutputBytes() {
+        return output.toByteArray();
     }
 
     @Override
@@ -196,7 +224,9 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void reset() {
-        // not used
+        statusCode = HttpStatus.SC_OK;
+        headers.clear();
+        output.reset();
     }
 
     @Override
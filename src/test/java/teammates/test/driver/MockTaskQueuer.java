@@ -33,6 +33,13 @@ public class MockTaskQueuer extends TaskQueuer {
         addTask(queueName, workerUrl, paramMap);
     }
 
+    @Override
+    protected void addDeferredTasks(String queueName, String workerUrl, List<Map<String, String>> paramMaps,
+                                    List<Long> countdownTimes) {
+        // countdown time not tested, thus fallback to another method
+        paramMaps.forEach(paramMap -> addTask(queueName, workerUrl, paramMap));
+    }
+
     @Override
     protected void addTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap) {
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);